@@ -0,0 +1,132 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.db.protocol.mysql.packet.binlog.row;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufUtil;
+import org.apache.shardingsphere.db.protocol.mysql.packet.binlog.row.column.MySQLBinlogColumnDef;
+import org.apache.shardingsphere.db.protocol.mysql.packet.binlog.row.column.value.MySQLBinlogProtocolValueFactory;
+import org.apache.shardingsphere.db.protocol.mysql.payload.MySQLPacketPayload;
+
+import java.io.Serializable;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * MySQL binlog row image.
+ *
+ * <p>
+ * Column values are kept as slices of the rows event buffer located by precomputed offsets, and decoded only when they are read.
+ * Row image created by decoded values is supported too.
+ * </p>
+ */
+public final class MySQLBinlogRowImage {
+    
+    private final List<MySQLBinlogColumnDef> columnDefs;
+    
+    private final ByteBuf byteBuf;
+    
+    private final int[] offsets;
+    
+    private final int[] lengths;
+    
+    private final Serializable[] values;
+    
+    public MySQLBinlogRowImage(final List<MySQLBinlogColumnDef> columnDefs, final ByteBuf byteBuf, final int[] offsets, final int[] lengths) {
+        this.columnDefs = columnDefs;
+        this.byteBuf = byteBuf;
+        this.offsets = offsets;
+        this.lengths = lengths;
+        values = null;
+    }
+    
+    public MySQLBinlogRowImage(final Serializable[] values) {
+        columnDefs = null;
+        byteBuf = null;
+        offsets = null;
+        lengths = null;
+        this.values = values;
+    }
+    
+    /**
+     * Get column count.
+     *
+     * @return column count
+     */
+    public int getColumnCount() {
+        return null == values ? offsets.length : values.length;
+    }
+    
+    /**
+     * Judge whether column value is null.
+     *
+     * @param columnIndex column index, start from 0
+     * @return column value is null or not
+     */
+    public boolean isNull(final int columnIndex) {
+        return null == values ? offsets[columnIndex] < 0 : null == values[columnIndex];
+    }
+    
+    /**
+     * Get length of column value in rows event, which is known without decoding.
+     *
+     * @param columnIndex column index, start from 0
+     * @return length of column value, 0 if value is null, -1 if row image is created by decoded values
+     */
+    public int getValueLength(final int columnIndex) {
+        if (null != values) {
+            return -1;
+        }
+        return isNull(columnIndex) ? 0 : lengths[columnIndex];
+    }
+    
+    /**
+     * Decode column value.
+     *
+     * @param columnIndex column index, start from 0
+     * @return column value
+     */
+    public Serializable getValue(final int columnIndex) {
+        if (null != values) {
+            return values[columnIndex];
+        }
+        if (isNull(columnIndex)) {
+            return null;
+        }
+        MySQLBinlogColumnDef columnDef = columnDefs.get(columnIndex);
+        MySQLPacketPayload payload = new MySQLPacketPayload(byteBuf.slice(offsets[columnIndex], lengths[columnIndex]));
+        return MySQLBinlogProtocolValueFactory.getBinlogProtocolValue(columnDef.getColumnType()).read(columnDef, payload);
+    }
+    
+    /**
+     * Judge whether column value is the same as the one of another row image, raw bytes are compared without decoding.
+     *
+     * @param other other row image
+     * @param columnIndex column index, start from 0
+     * @return same or not
+     */
+    public boolean isSameValue(final MySQLBinlogRowImage other, final int columnIndex) {
+        if (null != values || null != other.values) {
+            return Objects.equals(getValue(columnIndex), other.getValue(columnIndex));
+        }
+        if (isNull(columnIndex) || other.isNull(columnIndex)) {
+            return isNull(columnIndex) && other.isNull(columnIndex);
+        }
+        return lengths[columnIndex] == other.lengths[columnIndex] && ByteBufUtil.equals(byteBuf, offsets[columnIndex], other.byteBuf, other.offsets[columnIndex], lengths[columnIndex]);
+    }
+}
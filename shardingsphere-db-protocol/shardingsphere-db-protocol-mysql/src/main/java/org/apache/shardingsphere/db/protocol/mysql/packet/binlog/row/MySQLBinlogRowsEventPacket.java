@@ -17,16 +17,17 @@
 
 package org.apache.shardingsphere.db.protocol.mysql.packet.binlog.row;
 
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
 import lombok.Getter;
 import org.apache.shardingsphere.db.protocol.mysql.constant.MySQLBinlogEventType;
 import org.apache.shardingsphere.db.protocol.mysql.packet.binlog.AbstractMySQLBinlogEventPacket;
 import org.apache.shardingsphere.db.protocol.mysql.packet.binlog.MySQLBinlogEventHeader;
 import org.apache.shardingsphere.db.protocol.mysql.packet.binlog.row.column.MySQLBinlogColumnDef;
-import org.apache.shardingsphere.db.protocol.mysql.packet.binlog.row.column.value.MySQLBinlogProtocolValueFactory;
+import org.apache.shardingsphere.db.protocol.mysql.packet.binlog.row.column.value.MySQLBinlogProtocolValueLengthUtil;
 import org.apache.shardingsphere.db.protocol.mysql.packet.command.query.binary.execute.MySQLNullBitmap;
 import org.apache.shardingsphere.db.protocol.mysql.payload.MySQLPacketPayload;
 
-import java.io.Serializable;
 import java.util.LinkedList;
 import java.util.List;
 
@@ -48,9 +49,9 @@ public final class MySQLBinlogRowsEventPacket extends AbstractMySQLBinlogEventPa
     
     private final MySQLNullBitmap columnsPresentBitmap2;
     
-    private final List<Serializable[]> rows = new LinkedList<>();
+    private final List<MySQLBinlogRowImage> rowImages = new LinkedList<>();
     
-    private final List<Serializable[]> rows2 = new LinkedList<>();
+    private final List<MySQLBinlogRowImage> rowImages2 = new LinkedList<>();
     
     public MySQLBinlogRowsEventPacket(final MySQLBinlogEventHeader binlogEventHeader, final MySQLPacketPayload payload) {
         super(binlogEventHeader);
@@ -82,34 +83,48 @@ public final class MySQLBinlogRowsEventPacket extends AbstractMySQLBinlogEventPa
         return MySQLBinlogEventType.UPDATE_ROWS_EVENTv2.getValue() == eventType || MySQLBinlogEventType.UPDATE_ROWS_EVENTv1.getValue() == eventType;
     }
     
+    private boolean hasNextRow(final MySQLPacketPayload payload) {
+        return payload.getByteBuf().isReadable();
+    }
+    
     /**
-     * Read rows in binlog.
+     * Read rows in binlog as row images, column values are located but not decoded.
+     *
+     * <p>
+     * Rows are copied out of the payload once, so that row images can be decoded after the payload is released.
+     * </p>
      *
      * @param tableMapEventPacket TABLE_MAP_EVENT packet before this ROWS_EVENT
      * @param payload ROWS_EVENT packet payload
      */
-    public void readRows(final MySQLBinlogTableMapEventPacket tableMapEventPacket, final MySQLPacketPayload payload) {
+    public void readRowImages(final MySQLBinlogTableMapEventPacket tableMapEventPacket, final MySQLPacketPayload payload) {
+        byte[] rowsBytes = new byte[payload.getByteBuf().readableBytes()];
+        payload.getByteBuf().readBytes(rowsBytes);
+        MySQLPacketPayload rowsPayload = new MySQLPacketPayload(Unpooled.wrappedBuffer(rowsBytes));
         List<MySQLBinlogColumnDef> columnDefs = tableMapEventPacket.getColumnDefs();
-        while (hasNextRow(payload)) {
-            rows.add(readRow(columnDefs, payload));
+        while (hasNextRow(rowsPayload)) {
+            rowImages.add(readRowImage(columnDefs, rowsPayload));
             if (isUpdateRowsEvent(getBinlogEventHeader().getEventType())) {
-                rows2.add(readRow(columnDefs, payload));
+                rowImages2.add(readRowImage(columnDefs, rowsPayload));
             }
         }
     }
     
-    private boolean hasNextRow(final MySQLPacketPayload payload) {
-        return payload.getByteBuf().isReadable();
-    }
-    
-    private Serializable[] readRow(final List<MySQLBinlogColumnDef> columnDefs, final MySQLPacketPayload payload) {
+    private MySQLBinlogRowImage readRowImage(final List<MySQLBinlogColumnDef> columnDefs, final MySQLPacketPayload payload) {
         MySQLNullBitmap nullBitmap = new MySQLNullBitmap(columnNumber, payload);
-        Serializable[] result = new Serializable[columnNumber];
+        ByteBuf byteBuf = payload.getByteBuf();
+        int[] offsets = new int[columnNumber];
+        int[] lengths = new int[columnNumber];
         for (int i = 0; i < columnNumber; i++) {
-            MySQLBinlogColumnDef columnDef = columnDefs.get(i);
-            result[i] = nullBitmap.isNullParameter(i) ? null : MySQLBinlogProtocolValueFactory.getBinlogProtocolValue(columnDef.getColumnType()).read(columnDef, payload);
+            if (nullBitmap.isNullParameter(i)) {
+                offsets[i] = -1;
+                continue;
+            }
+            offsets[i] = byteBuf.readerIndex();
+            lengths[i] = MySQLBinlogProtocolValueLengthUtil.getLength(columnDefs.get(i), byteBuf);
+            byteBuf.skipBytes(lengths[i]);
         }
-        return result;
+        return new MySQLBinlogRowImage(columnDefs, byteBuf, offsets, lengths);
     }
     
     @Override
@@ -0,0 +1,135 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.db.protocol.mysql.packet.binlog.row.column.value;
+
+import io.netty.buffer.ByteBuf;
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+import org.apache.shardingsphere.db.protocol.mysql.constant.MySQLBinaryColumnType;
+import org.apache.shardingsphere.db.protocol.mysql.packet.binlog.row.column.MySQLBinlogColumnDef;
+import org.apache.shardingsphere.db.protocol.mysql.packet.binlog.row.column.value.decimal.MySQLDecimalBinlogProtocolValue;
+import org.apache.shardingsphere.db.protocol.mysql.payload.MySQLPacketPayload;
+
+/**
+ * Binlog protocol value length utility of MySQL, which measures a value without decoding it.
+ * Values of types without a known length rule are decoded once to be measured.
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class MySQLBinlogProtocolValueLengthUtil {
+    
+    private static final int LENGTH_META_POINT = 256;
+    
+    /**
+     * Get byte length of the value at reader index, including its length prefix, reader index is not changed.
+     *
+     * @param columnDef column definition
+     * @param byteBuf byte buffer
+     * @return byte length
+     */
+    public static int getLength(final MySQLBinlogColumnDef columnDef, final ByteBuf byteBuf) {
+        int meta = columnDef.getColumnMeta();
+        switch (columnDef.getColumnType()) {
+            case MYSQL_TYPE_TINY:
+            case MYSQL_TYPE_YEAR:
+                return 1;
+            case MYSQL_TYPE_SHORT:
+                return 2;
+            case MYSQL_TYPE_INT24:
+            case MYSQL_TYPE_DATE:
+            case MYSQL_TYPE_TIME:
+                return 3;
+            case MYSQL_TYPE_LONG:
+            case MYSQL_TYPE_FLOAT:
+            case MYSQL_TYPE_TIMESTAMP:
+                return 4;
+            case MYSQL_TYPE_LONGLONG:
+            case MYSQL_TYPE_DOUBLE:
+            case MYSQL_TYPE_DATETIME:
+                return 8;
+            case MYSQL_TYPE_BIT:
+                return ((meta >> 8) * 8 + (meta & 0xff) + 7) / 8;
+            case MYSQL_TYPE_NEWDECIMAL:
+                return MySQLDecimalBinlogProtocolValue.getByteLength(meta);
+            case MYSQL_TYPE_TIME2:
+                return 3 + getFractionalSecondsLength(meta);
+            case MYSQL_TYPE_TIMESTAMP2:
+                return 4 + getFractionalSecondsLength(meta);
+            case MYSQL_TYPE_DATETIME2:
+                return 5 + getFractionalSecondsLength(meta);
+            case MYSQL_TYPE_VARCHAR:
+            case MYSQL_TYPE_VAR_STRING:
+                return getLengthPrefixedLength(meta, byteBuf);
+            case MYSQL_TYPE_BLOB:
+            case MySQL_TYPE_JSON:
+                return meta + getLengthFromMeta(meta, byteBuf);
+            case MYSQL_TYPE_STRING:
+                return getStringLength(meta, byteBuf);
+            default:
+                return getDecodedLength(columnDef, byteBuf);
+        }
+    }
+    
+    private static int getDecodedLength(final MySQLBinlogColumnDef columnDef, final ByteBuf byteBuf) {
+        ByteBuf duplicate = byteBuf.duplicate();
+        MySQLBinlogProtocolValueFactory.getBinlogProtocolValue(columnDef.getColumnType()).read(columnDef, new MySQLPacketPayload(duplicate));
+        return duplicate.readerIndex() - byteBuf.readerIndex();
+    }
+    
+    private static int getFractionalSecondsLength(final int fractionalSecondsPrecision) {
+        return fractionalSecondsPrecision > 0 && fractionalSecondsPrecision <= 6 ? (fractionalSecondsPrecision + 1) / 2 : 0;
+    }
+    
+    private static int getLengthPrefixedLength(final int maxLength, final ByteBuf byteBuf) {
+        int index = byteBuf.readerIndex();
+        return LENGTH_META_POINT > maxLength ? 1 + byteBuf.getUnsignedByte(index) : 2 + byteBuf.getUnsignedShortLE(index);
+    }
+    
+    private static int getLengthFromMeta(final int columnMeta, final ByteBuf byteBuf) {
+        int index = byteBuf.readerIndex();
+        switch (columnMeta) {
+            case 1:
+                return byteBuf.getUnsignedByte(index);
+            case 2:
+                return byteBuf.getUnsignedShortLE(index);
+            case 3:
+                return byteBuf.getUnsignedMediumLE(index);
+            case 4:
+                return byteBuf.getIntLE(index);
+            default:
+                throw new UnsupportedOperationException(String.format("Unsupported length meta '%d' in binlog", columnMeta));
+        }
+    }
+    
+    private static int getStringLength(final int columnMeta, final ByteBuf byteBuf) {
+        int type = columnMeta >> 8;
+        int length = columnMeta & 0xff;
+        if ((type & 0x30) != 0x30) {
+            length += ((type & 0x30) ^ 0x30) << 4;
+            type |= 0x30;
+        }
+        switch (MySQLBinaryColumnType.valueOf(type)) {
+            case MYSQL_TYPE_ENUM:
+            case MYSQL_TYPE_SET:
+                return length;
+            case MYSQL_TYPE_STRING:
+                return getLengthPrefixedLength(length, byteBuf);
+            default:
+                throw new UnsupportedOperationException(String.format("Cannot get length of MySQL string type '%d' in binlog", type));
+        }
+    }
+}
@@ -44,6 +44,16 @@ public final class MySQLDecimalBinlogProtocolValue implements MySQLBinlogProtoco
         return toDecimal(decimalMetaData, payload.readStringFixByBytes(decimalMetaData.getTotalByteLength()));
     }
     
+    /**
+     * Get byte length of NEWDECIMAL value.
+     *
+     * @param columnMeta column meta
+     * @return byte length
+     */
+    public static int getByteLength(final int columnMeta) {
+        return new DecimalMetaData(columnMeta).getTotalByteLength();
+    }
+    
     private static BigDecimal toDecimal(final DecimalMetaData metaData, final byte[] value) {
         boolean positive = (value[0] & 0x80) == 0x80;
         value[0] ^= 0x80;
@@ -0,0 +1,117 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.db.protocol.mysql.packet.binlog.row;
+
+import io.netty.buffer.Unpooled;
+import org.apache.shardingsphere.db.protocol.mysql.constant.MySQLBinaryColumnType;
+import org.apache.shardingsphere.db.protocol.mysql.constant.MySQLBinlogEventType;
+import org.apache.shardingsphere.db.protocol.mysql.packet.binlog.MySQLBinlogEventHeader;
+import org.apache.shardingsphere.db.protocol.mysql.packet.binlog.row.column.MySQLBinlogColumnDef;
+import org.apache.shardingsphere.db.protocol.mysql.payload.MySQLPacketPayload;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+
+import java.io.Serializable;
+import java.util.Arrays;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.when;
+
+@RunWith(MockitoJUnitRunner.class)
+public final class MySQLBinlogRowImageTest {
+    
+    @Mock
+    private MySQLBinlogEventHeader binlogEventHeader;
+    
+    @Mock
+    private MySQLBinlogTableMapEventPacket tableMapEventPacket;
+    
+    @Before
+    public void setUp() {
+        MySQLBinlogColumnDef varcharColumnDef = new MySQLBinlogColumnDef(MySQLBinaryColumnType.MYSQL_TYPE_VARCHAR);
+        varcharColumnDef.setColumnMeta(10);
+        when(tableMapEventPacket.getColumnDefs()).thenReturn(Arrays.asList(new MySQLBinlogColumnDef(MySQLBinaryColumnType.MYSQL_TYPE_LONGLONG), varcharColumnDef));
+        when(binlogEventHeader.getEventType()).thenReturn(MySQLBinlogEventType.UPDATE_ROWS_EVENTv1.getValue());
+    }
+    
+    @Test
+    public void assertReadRowImages() {
+        MySQLPacketPayload payload = createUpdateRowsPayload();
+        MySQLBinlogRowsEventPacket actual = new MySQLBinlogRowsEventPacket(binlogEventHeader, payload);
+        actual.readRowImages(tableMapEventPacket, payload);
+        assertFalse(payload.getByteBuf().isReadable());
+        assertThat(actual.getRowImages().size(), is(2));
+        assertThat(actual.getRowImages2().size(), is(2));
+        MySQLBinlogRowImage beforeRow = actual.getRowImages().get(0);
+        assertThat(beforeRow.getColumnCount(), is(2));
+        assertThat(beforeRow.getValueLength(0), is(8));
+        assertThat(beforeRow.getValueLength(1), is(4));
+        assertThat(beforeRow.getValue(0), is(1L));
+        assertThat(beforeRow.getValue(1), is("abc"));
+        MySQLBinlogRowImage afterRow = actual.getRowImages2().get(0);
+        assertThat(afterRow.getValue(1), is("xyz"));
+        assertTrue(beforeRow.isSameValue(afterRow, 0));
+        assertFalse(beforeRow.isSameValue(afterRow, 1));
+        assertTrue(actual.getRowImages().get(1).isNull(1));
+        assertNull(actual.getRowImages().get(1).getValue(1));
+        assertThat(actual.getRowImages().get(1).getValueLength(1), is(0));
+        assertFalse(actual.getRowImages().get(1).isSameValue(actual.getRowImages2().get(1), 1));
+    }
+    
+    private MySQLPacketPayload createUpdateRowsPayload() {
+        MySQLPacketPayload result = new MySQLPacketPayload(Unpooled.buffer());
+        result.writeInt4(1);
+        result.writeInt2(0);
+        result.writeInt2(0);
+        result.writeIntLenenc(2);
+        result.writeInt1(0x03);
+        result.writeInt1(0x03);
+        writeRow(result, 1L, "abc");
+        writeRow(result, 1L, "xyz");
+        writeRow(result, 2L, null);
+        writeRow(result, 2L, "abc");
+        return result;
+    }
+    
+    private void writeRow(final MySQLPacketPayload payload, final long id, final String name) {
+        payload.writeInt1(null == name ? 0x02 : 0x00);
+        payload.writeInt8(id);
+        if (null != name) {
+            payload.writeInt1(name.length());
+            payload.writeStringFix(name);
+        }
+    }
+    
+    @Test
+    public void assertDecodedValues() {
+        MySQLBinlogRowImage rowImage = new MySQLBinlogRowImage(new Serializable[]{1L, null});
+        assertThat(rowImage.getColumnCount(), is(2));
+        assertThat(rowImage.getValueLength(0), is(-1));
+        assertThat(rowImage.getValue(0), is(1L));
+        assertTrue(rowImage.isNull(1));
+        assertTrue(rowImage.isSameValue(new MySQLBinlogRowImage(new Serializable[]{1L, null}), 0));
+        assertFalse(rowImage.isSameValue(new MySQLBinlogRowImage(new Serializable[]{1L, "abc"}), 1));
+    }
+}
@@ -17,9 +17,9 @@
 
 package org.apache.shardingsphere.db.protocol.mysql.packet.binlog.row;
 
-import io.netty.buffer.ByteBuf;
-import org.apache.shardingsphere.db.protocol.mysql.constant.MySQLBinlogEventType;
+import io.netty.buffer.Unpooled;
 import org.apache.shardingsphere.db.protocol.mysql.constant.MySQLBinaryColumnType;
+import org.apache.shardingsphere.db.protocol.mysql.constant.MySQLBinlogEventType;
 import org.apache.shardingsphere.db.protocol.mysql.packet.binlog.MySQLBinlogEventHeader;
 import org.apache.shardingsphere.db.protocol.mysql.packet.binlog.row.column.MySQLBinlogColumnDef;
 import org.apache.shardingsphere.db.protocol.mysql.payload.MySQLPacketPayload;
@@ -29,148 +29,140 @@ import org.junit.runner.RunWith;
 import org.mockito.Mock;
 import org.mockito.junit.MockitoJUnitRunner;
 
-import java.util.ArrayList;
-import java.util.List;
+import java.util.Collections;
 
 import static org.hamcrest.CoreMatchers.is;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertThat;
 import static org.junit.Assert.assertTrue;
-import static org.mockito.Mockito.never;
-import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 @RunWith(MockitoJUnitRunner.class)
 public final class MySQLBinlogRowsEventPacketTest {
     
-    @Mock
-    private MySQLPacketPayload payload;
-    
-    @Mock
-    private ByteBuf byteBuf;
-    
     @Mock
     private MySQLBinlogEventHeader binlogEventHeader;
     
     @Mock
     private MySQLBinlogTableMapEventPacket tableMapEventPacket;
     
-    private List<MySQLBinlogColumnDef> columnDefs;
-    
     @Before
     public void setUp() {
-        mockColumnDefs();
-        when(tableMapEventPacket.getColumnDefs()).thenReturn(columnDefs);
-        when(payload.readInt6()).thenReturn(1L);
-        when(payload.readInt2()).thenReturn(2);
-        when(payload.readIntLenenc()).thenReturn(1L);
-        when(payload.getByteBuf()).thenReturn(byteBuf);
-        when(byteBuf.isReadable()).thenReturn(true, false);
-    }
-    
-    private void mockColumnDefs() {
-        columnDefs = new ArrayList<>();
-        columnDefs.add(new MySQLBinlogColumnDef(MySQLBinaryColumnType.MYSQL_TYPE_LONGLONG));
+        when(tableMapEventPacket.getColumnDefs()).thenReturn(Collections.singletonList(new MySQLBinlogColumnDef(MySQLBinaryColumnType.MYSQL_TYPE_LONGLONG)));
     }
     
     @Test
     public void assertReadWriteRowV1WithoutNullValue() {
         when(binlogEventHeader.getEventType()).thenReturn(MySQLBinlogEventType.WRITE_ROWS_EVENTv1.getValue());
-        when(payload.readInt8()).thenReturn(Long.MAX_VALUE);
+        MySQLPacketPayload payload = createPayload(false, 0x00, Long.MAX_VALUE);
         MySQLBinlogRowsEventPacket actual = new MySQLBinlogRowsEventPacket(binlogEventHeader, payload);
-        actual.readRows(tableMapEventPacket, payload);
-        assertBinlogRowsEventV1BeforeRows(actual);
+        actual.readRowImages(tableMapEventPacket, payload);
+        assertBinlogRowsEventBeforeRows(actual);
         assertFalse(actual.getColumnsPresentBitmap().isNullParameter(0));
         assertNull(actual.getColumnsPresentBitmap2());
-        assertThat(actual.getRows().size(), is(1));
-        assertThat(actual.getRows().get(0)[0], is(Long.MAX_VALUE));
-        assertTrue(actual.getRows2().isEmpty());
+        assertThat(actual.getRowImages().size(), is(1));
+        assertThat(actual.getRowImages().get(0).getValue(0), is(Long.MAX_VALUE));
+        assertTrue(actual.getRowImages2().isEmpty());
     }
     
     @Test
     public void assertReadWriteRowV1WithNullValue() {
-        when(payload.readInt1()).thenReturn(0x01);
         when(binlogEventHeader.getEventType()).thenReturn(MySQLBinlogEventType.WRITE_ROWS_EVENTv1.getValue());
+        MySQLPacketPayload payload = createPayload(false, 0x01, new Long[]{null});
         MySQLBinlogRowsEventPacket actual = new MySQLBinlogRowsEventPacket(binlogEventHeader, payload);
-        actual.readRows(tableMapEventPacket, payload);
-        assertBinlogRowsEventV1BeforeRows(actual);
+        actual.readRowImages(tableMapEventPacket, payload);
+        assertBinlogRowsEventBeforeRows(actual);
         assertTrue(actual.getColumnsPresentBitmap().isNullParameter(0));
         assertNull(actual.getColumnsPresentBitmap2());
-        assertThat(actual.getRows().size(), is(1));
-        assertNull(actual.getRows().get(0)[0]);
-        assertTrue(actual.getRows2().isEmpty());
+        assertThat(actual.getRowImages().size(), is(1));
+        assertNull(actual.getRowImages().get(0).getValue(0));
+        assertTrue(actual.getRowImages2().isEmpty());
     }
     
     @Test
     public void assertReadUpdateRowV1WithoutNullValue() {
         when(binlogEventHeader.getEventType()).thenReturn(MySQLBinlogEventType.UPDATE_ROWS_EVENTv1.getValue());
-        when(payload.readInt8()).thenReturn(Long.MAX_VALUE, Long.MIN_VALUE);
+        MySQLPacketPayload payload = createPayload(false, 0x00, Long.MAX_VALUE, Long.MIN_VALUE);
         MySQLBinlogRowsEventPacket actual = new MySQLBinlogRowsEventPacket(binlogEventHeader, payload);
-        actual.readRows(tableMapEventPacket, payload);
-        assertBinlogRowsEventV1BeforeRows(actual);
+        actual.readRowImages(tableMapEventPacket, payload);
+        assertBinlogRowsEventBeforeRows(actual);
         assertFalse(actual.getColumnsPresentBitmap().isNullParameter(0));
         assertFalse(actual.getColumnsPresentBitmap2().isNullParameter(0));
-        assertThat(actual.getRows().size(), is(1));
-        assertThat(actual.getRows().get(0)[0], is(Long.MAX_VALUE));
-        assertThat(actual.getRows2().size(), is(1));
-        assertThat(actual.getRows2().get(0)[0], is(Long.MIN_VALUE));
-    }
-    
-    private void assertBinlogRowsEventV1BeforeRows(final MySQLBinlogRowsEventPacket actual) {
-        assertThat(actual.getTableId(), is(1L));
-        assertThat(actual.getFlags(), is(2));
-        verify(payload, never()).skipReserved(2);
-        assertThat(actual.getColumnNumber(), is(1));
+        assertThat(actual.getRowImages().size(), is(1));
+        assertThat(actual.getRowImages().get(0).getValue(0), is(Long.MAX_VALUE));
+        assertThat(actual.getRowImages2().size(), is(1));
+        assertThat(actual.getRowImages2().get(0).getValue(0), is(Long.MIN_VALUE));
     }
     
     @Test
     public void assertReadWriteRowV2WithoutNullValue() {
         when(binlogEventHeader.getEventType()).thenReturn(MySQLBinlogEventType.WRITE_ROWS_EVENTv2.getValue());
-        when(payload.readInt8()).thenReturn(Long.MAX_VALUE);
+        MySQLPacketPayload payload = createPayload(true, 0x00, Long.MAX_VALUE);
         MySQLBinlogRowsEventPacket actual = new MySQLBinlogRowsEventPacket(binlogEventHeader, payload);
-        actual.readRows(tableMapEventPacket, payload);
-        assertBinlogRowsEventV2BeforeRows(actual);
+        actual.readRowImages(tableMapEventPacket, payload);
+        assertBinlogRowsEventBeforeRows(actual);
         assertFalse(actual.getColumnsPresentBitmap().isNullParameter(0));
         assertNull(actual.getColumnsPresentBitmap2());
-        assertThat(actual.getRows().size(), is(1));
-        assertThat(actual.getRows().get(0)[0], is(Long.MAX_VALUE));
-        assertTrue(actual.getRows2().isEmpty());
+        assertThat(actual.getRowImages().size(), is(1));
+        assertThat(actual.getRowImages().get(0).getValue(0), is(Long.MAX_VALUE));
+        assertTrue(actual.getRowImages2().isEmpty());
     }
     
     @Test
     public void assertReadWriteRowV2WithNullValue() {
-        when(payload.readInt1()).thenReturn(0x01);
         when(binlogEventHeader.getEventType()).thenReturn(MySQLBinlogEventType.WRITE_ROWS_EVENTv2.getValue());
+        MySQLPacketPayload payload = createPayload(true, 0x01, new Long[]{null});
         MySQLBinlogRowsEventPacket actual = new MySQLBinlogRowsEventPacket(binlogEventHeader, payload);
-        actual.readRows(tableMapEventPacket, payload);
-        assertBinlogRowsEventV2BeforeRows(actual);
+        actual.readRowImages(tableMapEventPacket, payload);
+        assertBinlogRowsEventBeforeRows(actual);
         assertTrue(actual.getColumnsPresentBitmap().isNullParameter(0));
         assertNull(actual.getColumnsPresentBitmap2());
-        assertThat(actual.getRows().size(), is(1));
-        assertNull(actual.getRows().get(0)[0]);
-        assertTrue(actual.getRows2().isEmpty());
+        assertThat(actual.getRowImages().size(), is(1));
+        assertNull(actual.getRowImages().get(0).getValue(0));
+        assertTrue(actual.getRowImages2().isEmpty());
     }
     
     @Test
     public void assertReadUpdateRowV2WithoutNullValue() {
         when(binlogEventHeader.getEventType()).thenReturn(MySQLBinlogEventType.UPDATE_ROWS_EVENTv2.getValue());
-        when(payload.readInt8()).thenReturn(Long.MAX_VALUE, Long.MIN_VALUE);
+        MySQLPacketPayload payload = createPayload(true, 0x00, Long.MAX_VALUE, Long.MIN_VALUE);
         MySQLBinlogRowsEventPacket actual = new MySQLBinlogRowsEventPacket(binlogEventHeader, payload);
-        actual.readRows(tableMapEventPacket, payload);
-        assertBinlogRowsEventV2BeforeRows(actual);
+        actual.readRowImages(tableMapEventPacket, payload);
+        assertBinlogRowsEventBeforeRows(actual);
         assertFalse(actual.getColumnsPresentBitmap().isNullParameter(0));
         assertFalse(actual.getColumnsPresentBitmap2().isNullParameter(0));
-        assertThat(actual.getRows().size(), is(1));
-        assertThat(actual.getRows().get(0)[0], is(Long.MAX_VALUE));
-        assertThat(actual.getRows2().size(), is(1));
-        assertThat(actual.getRows2().get(0)[0], is(Long.MIN_VALUE));
+        assertThat(actual.getRowImages().size(), is(1));
+        assertThat(actual.getRowImages().get(0).getValue(0), is(Long.MAX_VALUE));
+        assertThat(actual.getRowImages2().size(), is(1));
+        assertThat(actual.getRowImages2().get(0).getValue(0), is(Long.MIN_VALUE));
+    }
+    
+    private MySQLPacketPayload createPayload(final boolean isVersion2, final int bitmap, final Long... values) {
+        MySQLPacketPayload result = new MySQLPacketPayload(Unpooled.buffer());
+        result.writeInt4(1);
+        result.writeInt2(0);
+        result.writeInt2(2);
+        if (isVersion2) {
+            result.writeInt2(2);
+        }
+        result.writeIntLenenc(1);
+        result.writeInt1(bitmap);
+        if (values.length > 1) {
+            result.writeInt1(bitmap);
+        }
+        for (Long each : values) {
+            result.writeInt1(null == each ? 0x01 : 0x00);
+            if (null != each) {
+                result.writeInt8(each);
+            }
+        }
+        return result;
     }
     
-    private void assertBinlogRowsEventV2BeforeRows(final MySQLBinlogRowsEventPacket actual) {
+    private void assertBinlogRowsEventBeforeRows(final MySQLBinlogRowsEventPacket actual) {
         assertThat(actual.getTableId(), is(1L));
         assertThat(actual.getFlags(), is(2));
-        verify(payload).skipReserved(0);
         assertThat(actual.getColumnNumber(), is(1));
     }
 }
@@ -0,0 +1,86 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.db.protocol.mysql.packet.binlog.row.column.value;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+import org.apache.shardingsphere.db.protocol.mysql.constant.MySQLBinaryColumnType;
+import org.apache.shardingsphere.db.protocol.mysql.packet.binlog.row.column.MySQLBinlogColumnDef;
+import org.junit.Test;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+
+public final class MySQLBinlogProtocolValueLengthUtilTest {
+    
+    @Test
+    public void assertGetFixedLength() {
+        ByteBuf byteBuf = Unpooled.buffer();
+        assertThat(MySQLBinlogProtocolValueLengthUtil.getLength(createColumnDef(MySQLBinaryColumnType.MYSQL_TYPE_TINY, 0), byteBuf), is(1));
+        assertThat(MySQLBinlogProtocolValueLengthUtil.getLength(createColumnDef(MySQLBinaryColumnType.MYSQL_TYPE_INT24, 0), byteBuf), is(3));
+        assertThat(MySQLBinlogProtocolValueLengthUtil.getLength(createColumnDef(MySQLBinaryColumnType.MYSQL_TYPE_LONGLONG, 0), byteBuf), is(8));
+        assertThat(MySQLBinlogProtocolValueLengthUtil.getLength(createColumnDef(MySQLBinaryColumnType.MYSQL_TYPE_BIT, (1 << 8) + 1), byteBuf), is(2));
+        assertThat(MySQLBinlogProtocolValueLengthUtil.getLength(createColumnDef(MySQLBinaryColumnType.MYSQL_TYPE_NEWDECIMAL, (10 << 8) + 2), byteBuf), is(5));
+    }
+    
+    @Test
+    public void assertGetTimeLengthWithFractionalSeconds() {
+        ByteBuf byteBuf = Unpooled.buffer();
+        assertThat(MySQLBinlogProtocolValueLengthUtil.getLength(createColumnDef(MySQLBinaryColumnType.MYSQL_TYPE_TIME2, 0), byteBuf), is(3));
+        assertThat(MySQLBinlogProtocolValueLengthUtil.getLength(createColumnDef(MySQLBinaryColumnType.MYSQL_TYPE_TIMESTAMP2, 3), byteBuf), is(6));
+        assertThat(MySQLBinlogProtocolValueLengthUtil.getLength(createColumnDef(MySQLBinaryColumnType.MYSQL_TYPE_DATETIME2, 6), byteBuf), is(8));
+    }
+    
+    @Test
+    public void assertGetVarcharLength() {
+        ByteBuf byteBuf = Unpooled.buffer();
+        byteBuf.writeByte(5);
+        assertThat(MySQLBinlogProtocolValueLengthUtil.getLength(createColumnDef(MySQLBinaryColumnType.MYSQL_TYPE_VARCHAR, 10), byteBuf), is(6));
+        byteBuf.clear().writeShortLE(300);
+        assertThat(MySQLBinlogProtocolValueLengthUtil.getLength(createColumnDef(MySQLBinaryColumnType.MYSQL_TYPE_VARCHAR, 1000), byteBuf), is(302));
+        assertThat(byteBuf.readerIndex(), is(0));
+    }
+    
+    @Test
+    public void assertGetBlobLength() {
+        ByteBuf byteBuf = Unpooled.buffer();
+        byteBuf.writeShortLE(1000);
+        assertThat(MySQLBinlogProtocolValueLengthUtil.getLength(createColumnDef(MySQLBinaryColumnType.MYSQL_TYPE_BLOB, 2), byteBuf), is(1002));
+    }
+    
+    @Test
+    public void assertGetStringLength() {
+        ByteBuf byteBuf = Unpooled.buffer();
+        byteBuf.writeByte(3);
+        MySQLBinlogColumnDef stringColumnDef = createColumnDef(MySQLBinaryColumnType.MYSQL_TYPE_STRING, (MySQLBinaryColumnType.MYSQL_TYPE_STRING.getValue() << 8) + 10);
+        assertThat(MySQLBinlogProtocolValueLengthUtil.getLength(stringColumnDef, byteBuf), is(4));
+        MySQLBinlogColumnDef enumColumnDef = createColumnDef(MySQLBinaryColumnType.MYSQL_TYPE_STRING, (MySQLBinaryColumnType.MYSQL_TYPE_ENUM.getValue() << 8) + 2);
+        assertThat(MySQLBinlogProtocolValueLengthUtil.getLength(enumColumnDef, byteBuf), is(2));
+    }
+    
+    @Test(expected = IllegalArgumentException.class)
+    public void assertGetLengthWithUnsupportedType() {
+        MySQLBinlogProtocolValueLengthUtil.getLength(createColumnDef(MySQLBinaryColumnType.MYSQL_TYPE_GEOMETRY, 0), Unpooled.buffer());
+    }
+    
+    private MySQLBinlogColumnDef createColumnDef(final MySQLBinaryColumnType columnType, final int columnMeta) {
+        MySQLBinlogColumnDef result = new MySQLBinlogColumnDef(columnType);
+        result.setColumnMeta(columnMeta);
+        return result;
+    }
+}
@@ -23,5 +23,5 @@ execute
     : (addResource
     | dropResource
     | showResources
-    ) SEMI?
+    ) (SEMI EOF? | EOF)
     ;
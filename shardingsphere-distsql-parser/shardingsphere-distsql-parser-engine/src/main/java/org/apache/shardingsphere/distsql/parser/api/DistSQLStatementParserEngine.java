@@ -28,6 +28,24 @@ import org.apache.shardingsphere.sql.parser.sql.common.statement.SQLStatement;
  */
 public final class DistSQLStatementParserEngine {
     
+    private final ResourceSQLStatementParserEngine resourceSQLStatementParserEngine = new ResourceSQLStatementParserEngine();
+    
+    private final RuleSQLStatementParserEngine ruleSQLStatementParserEngine = new RuleSQLStatementParserEngine();
+    
+    /**
+     * Judge whether SQL starts with leading tokens of dist SQL.
+     * 
+     * <p>
+     * SQL which does not match can never be parsed as dist SQL.
+     * </p>
+     *
+     * @param sql SQL
+     * @return SQL starts with leading tokens of dist SQL or not
+     */
+    public boolean matches(final String sql) {
+        return resourceSQLStatementParserEngine.matches(sql) || ruleSQLStatementParserEngine.matches(sql);
+    }
+    
     /**
      * Parse SQL.
      *
@@ -35,10 +53,12 @@ public final class DistSQLStatementParserEngine {
      * @return SQL statement
      */
     public SQLStatement parse(final String sql) {
-        try {
-            return new ResourceSQLStatementParserEngine().parse(sql);
-        } catch (final ParseCancellationException | SQLParsingException ignored) {
-            return new RuleSQLStatementParserEngine().parse(sql);
+        if (resourceSQLStatementParserEngine.matches(sql)) {
+            try {
+                return resourceSQLStatementParserEngine.parse(sql);
+            } catch (final ParseCancellationException | SQLParsingException ignored) {
+            }
         }
+        return ruleSQLStatementParserEngine.parse(sql);
     }
 }
@@ -0,0 +1,162 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.distsql.parser.core;
+
+import org.antlr.v4.runtime.Parser;
+import org.antlr.v4.runtime.Token;
+import org.antlr.v4.runtime.TokenStream;
+import org.antlr.v4.runtime.atn.ATN;
+import org.antlr.v4.runtime.atn.ATNState;
+import org.antlr.v4.runtime.atn.NotSetTransition;
+import org.antlr.v4.runtime.atn.RuleStopState;
+import org.antlr.v4.runtime.atn.RuleTransition;
+import org.antlr.v4.runtime.atn.Transition;
+import org.antlr.v4.runtime.atn.WildcardTransition;
+import org.antlr.v4.runtime.misc.IntervalSet;
+import org.apache.shardingsphere.sql.parser.api.parser.SQLLexer;
+import org.apache.shardingsphere.sql.parser.api.parser.SQLParser;
+import org.apache.shardingsphere.sql.parser.core.SQLParserFactory;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedList;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Leading token matcher of dist SQL.
+ * 
+ * <p>
+ * Possible first two tokens of dist SQL statements are collected from ATN of dist SQL parser,
+ * SQL which does not start with them can never be parsed by this dist SQL parser.
+ * </p>
+ */
+public final class DistSQLLeadingTokenMatcher {
+    
+    private static final String ROOT_RULE_NAME = "execute";
+    
+    private static final int ANY_TOKEN = Token.INVALID_TYPE;
+    
+    private static final int MAX_CACHED_WORD_SIZE = 4096;
+    
+    private final Class<? extends SQLLexer> lexerClass;
+    
+    private final Class<? extends SQLParser> parserClass;
+    
+    private final Map<Integer, Collection<Integer>> leadingTokens = new HashMap<>();
+    
+    private final Map<String, Boolean> leadingWords = new ConcurrentHashMap<>();
+    
+    public DistSQLLeadingTokenMatcher(final Class<? extends SQLLexer> lexerClass, final Class<? extends SQLParser> parserClass) {
+        this.lexerClass = lexerClass;
+        this.parserClass = parserClass;
+        Parser parser = (Parser) SQLParserFactory.newInstance("", lexerClass, parserClass);
+        ATN atn = parser.getATN();
+        collectLeadingTokens(atn.ruleToStartState[parser.getRuleIndex(ROOT_RULE_NAME)], new LinkedList<>(), ANY_TOKEN, new HashSet<>());
+    }
+    
+    private void collectLeadingTokens(final ATNState state, final LinkedList<ATNState> followStates, final int firstToken, final Collection<String> visitedStates) {
+        if (!visitedStates.add(state.stateNumber + ":" + firstToken + ":" + followStates)) {
+            return;
+        }
+        if (state instanceof RuleStopState) {
+            if (followStates.isEmpty()) {
+                addLeadingTokens(firstToken, Token.EOF);
+            } else {
+                LinkedList<ATNState> remainFollowStates = new LinkedList<>(followStates);
+                collectLeadingTokens(remainFollowStates.removeLast(), remainFollowStates, firstToken, visitedStates);
+            }
+            return;
+        }
+        for (Transition each : state.getTransitions()) {
+            if (each instanceof RuleTransition) {
+                LinkedList<ATNState> nextFollowStates = new LinkedList<>(followStates);
+                nextFollowStates.add(((RuleTransition) each).followState);
+                collectLeadingTokens(each.target, nextFollowStates, firstToken, visitedStates);
+            } else if (each.isEpsilon()) {
+                collectLeadingTokens(each.target, followStates, firstToken, visitedStates);
+            } else {
+                for (int token : getTokens(each)) {
+                    if (ANY_TOKEN == firstToken) {
+                        collectLeadingTokens(each.target, followStates, token, visitedStates);
+                    } else {
+                        addLeadingTokens(firstToken, token);
+                    }
+                }
+            }
+        }
+    }
+    
+    private Collection<Integer> getTokens(final Transition transition) {
+        IntervalSet label = transition.label();
+        return transition instanceof WildcardTransition || transition instanceof NotSetTransition || null == label ? Collections.singleton(ANY_TOKEN) : label.toList();
+    }
+    
+    private void addLeadingTokens(final int firstToken, final int secondToken) {
+        leadingTokens.computeIfAbsent(firstToken, key -> new HashSet<>()).add(secondToken);
+    }
+    
+    /**
+     * Judge whether SQL starts with leading tokens of dist SQL.
+     * 
+     * @param sql SQL
+     * @return SQL starts with leading tokens of dist SQL or not
+     */
+    public boolean matches(final String sql) {
+        String firstWord = getFirstWord(sql);
+        if (!firstWord.isEmpty() && !isLeadingWord(firstWord)) {
+            return false;
+        }
+        TokenStream tokenStream = ((Parser) SQLParserFactory.newInstance(sql, lexerClass, parserClass)).getTokenStream();
+        return matches(tokenStream.LA(1), tokenStream.LA(2));
+    }
+    
+    private boolean matches(final int firstToken, final int secondToken) {
+        return matches(leadingTokens.get(firstToken), secondToken) || matches(leadingTokens.get(ANY_TOKEN), secondToken);
+    }
+    
+    private boolean matches(final Collection<Integer> secondTokens, final int secondToken) {
+        return null != secondTokens && (secondTokens.contains(secondToken) || secondTokens.contains(ANY_TOKEN));
+    }
+    
+    private String getFirstWord(final String sql) {
+        int startIndex = 0;
+        while (startIndex < sql.length() && Character.isWhitespace(sql.charAt(startIndex))) {
+            startIndex++;
+        }
+        int endIndex = startIndex;
+        while (endIndex < sql.length() && Character.isLetter(sql.charAt(endIndex))) {
+            endIndex++;
+        }
+        return endIndex < sql.length() && !Character.isWhitespace(sql.charAt(endIndex)) ? "" : sql.substring(startIndex, endIndex).toUpperCase();
+    }
+    
+    private boolean isLeadingWord(final String word) {
+        Boolean result = leadingWords.get(word);
+        if (null == result) {
+            int token = ((Parser) SQLParserFactory.newInstance(word, lexerClass, parserClass)).getTokenStream().LA(1);
+            result = leadingTokens.containsKey(token) || leadingTokens.containsKey(ANY_TOKEN);
+            if (leadingWords.size() < MAX_CACHED_WORD_SIZE) {
+                leadingWords.put(word, result);
+            }
+        }
+        return result;
+    }
+}
@@ -18,6 +18,7 @@
 package org.apache.shardingsphere.distsql.parser.core.resource;
 
 import org.antlr.v4.runtime.tree.ErrorNode;
+import org.apache.shardingsphere.distsql.parser.core.DistSQLLeadingTokenMatcher;
 import org.apache.shardingsphere.sql.parser.api.visitor.ASTNode;
 import org.apache.shardingsphere.sql.parser.core.ParseASTNode;
 import org.apache.shardingsphere.sql.parser.core.SQLParserFactory;
@@ -29,6 +30,18 @@ import org.apache.shardingsphere.sql.parser.sql.common.statement.SQLStatement;
  */
 public final class ResourceSQLStatementParserEngine {
     
+    private static final DistSQLLeadingTokenMatcher MATCHER = new DistSQLLeadingTokenMatcher(ResourceDistSQLLexer.class, ResourceDistSQLParser.class);
+    
+    /**
+     * Judge whether SQL starts with leading tokens of resource dist SQL.
+     *
+     * @param sql SQL
+     * @return SQL starts with leading tokens of resource dist SQL or not
+     */
+    public boolean matches(final String sql) {
+        return MATCHER.matches(sql);
+    }
+    
     /**
      * Parse SQL.
      *
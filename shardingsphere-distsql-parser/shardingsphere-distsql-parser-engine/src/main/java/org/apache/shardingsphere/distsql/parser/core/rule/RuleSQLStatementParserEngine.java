@@ -21,6 +21,7 @@ import lombok.SneakyThrows;
 import org.antlr.v4.runtime.misc.ParseCancellationException;
 import org.antlr.v4.runtime.tree.ErrorNode;
 import org.antlr.v4.runtime.tree.ParseTreeVisitor;
+import org.apache.shardingsphere.distsql.parser.core.DistSQLLeadingTokenMatcher;
 import org.apache.shardingsphere.distsql.parser.spi.RuleSQLStatementParserFacade;
 import org.apache.shardingsphere.sql.parser.api.visitor.SQLVisitor;
 import org.apache.shardingsphere.sql.parser.core.ParseASTNode;
@@ -39,12 +40,25 @@ public final class RuleSQLStatementParserEngine {
     
     private static final Map<String, RuleSQLStatementParserFacade> FACADES = new HashMap<>();
     
+    private static final Map<String, DistSQLLeadingTokenMatcher> MATCHERS = new HashMap<>();
+    
     static {
         for (RuleSQLStatementParserFacade each : ServiceLoader.load(RuleSQLStatementParserFacade.class)) {
             FACADES.put(each.getRuleType(), each);
+            MATCHERS.put(each.getRuleType(), new DistSQLLeadingTokenMatcher(each.getLexerClass(), each.getParserClass()));
         }
     }
     
+    /**
+     * Judge whether SQL starts with leading tokens of any rule dist SQL.
+     *
+     * @param sql SQL
+     * @return SQL starts with leading tokens of any rule dist SQL or not
+     */
+    public boolean matches(final String sql) {
+        return MATCHERS.values().stream().anyMatch(each -> each.matches(sql));
+    }
+    
     /**
      * Parse SQL.
      *
@@ -58,6 +72,9 @@ public final class RuleSQLStatementParserEngine {
     
     private RuleParseASTNode parseToASTNode(final String sql) {
         for (RuleSQLStatementParserFacade each : FACADES.values()) {
+            if (!MATCHERS.get(each.getRuleType()).matches(sql)) {
+                continue;
+            }
             try {
                 ParseASTNode parseASTNode = (ParseASTNode) SQLParserFactory.newInstance(sql, each.getLexerClass(), each.getParserClass()).parse();
                 return new RuleParseASTNode(each.getRuleType(), parseASTNode);
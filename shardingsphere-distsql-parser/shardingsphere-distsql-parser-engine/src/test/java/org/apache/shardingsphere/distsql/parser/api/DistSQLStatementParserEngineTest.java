@@ -20,6 +20,7 @@ package org.apache.shardingsphere.distsql.parser.api;
 import org.apache.shardingsphere.distsql.parser.segment.DataSourceSegment;
 import org.apache.shardingsphere.distsql.parser.statement.rdl.create.AddResourceStatement;
 import org.apache.shardingsphere.distsql.parser.statement.rdl.drop.DropResourceStatement;
+import org.apache.shardingsphere.sql.parser.exception.SQLParsingException;
 import org.apache.shardingsphere.sql.parser.sql.common.statement.SQLStatement;
 import org.junit.Test;
 
@@ -198,4 +199,9 @@ public final class DistSQLStatementParserEngineTest {
         assertThat(dataSourceSegment.getProperties().size(), is(1));
         assertThat(dataSourceSegment.getProperties().getProperty("maxPoolSize"), is("30"));
     }
+    
+    @Test(expected = SQLParsingException.class)
+    public void assertParseWithTrailingTokens() {
+        engine.parse("DROP RESOURCE GROUP rg");
+    }
 }
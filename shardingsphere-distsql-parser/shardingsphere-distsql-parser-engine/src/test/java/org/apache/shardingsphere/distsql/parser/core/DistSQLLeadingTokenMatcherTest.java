@@ -0,0 +1,49 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.distsql.parser.core;
+
+import org.apache.shardingsphere.distsql.parser.core.resource.ResourceDistSQLLexer;
+import org.apache.shardingsphere.distsql.parser.core.resource.ResourceDistSQLParser;
+import org.junit.Test;
+
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public final class DistSQLLeadingTokenMatcherTest {
+    
+    private final DistSQLLeadingTokenMatcher matcher = new DistSQLLeadingTokenMatcher(ResourceDistSQLLexer.class, ResourceDistSQLParser.class);
+    
+    @Test
+    public void assertMatches() {
+        assertTrue(matcher.matches("ADD RESOURCE ds_0(HOST=127.0.0.1,PORT=3306,DB=test0,USER=ROOT)"));
+        assertTrue(matcher.matches("drop resource ds_0"));
+        assertTrue(matcher.matches("  SHOW RESOURCES;"));
+        assertTrue(matcher.matches("\n\tSHOW RESOURCES FROM sharding_db"));
+        assertTrue(matcher.matches("SHOW RESOURCES"));
+    }
+    
+    @Test
+    public void assertNotMatches() {
+        assertFalse(matcher.matches("SELECT * FROM t_order"));
+        assertFalse(matcher.matches("SHOW TABLES"));
+        assertFalse(matcher.matches("DROP TABLE t_order"));
+        assertFalse(matcher.matches("/* comment */ SHOW RESOURCES"));
+        assertFalse(matcher.matches("ADD"));
+        assertFalse(matcher.matches(""));
+    }
+}
@@ -76,4 +76,13 @@ public interface DatabaseDiscoveryType extends ShardingSphereAlgorithm {
      */
     String getPrimaryDataSource();
     
+    /**
+     * Get replication delay of replica data source.
+     *
+     * @param dataSourceName replica data source name
+     * @return replication delay in milliseconds, negative if unknown
+     */
+    default long getReplicationDelayMilliseconds(String dataSourceName) {
+        return -1L;
+    }
 }
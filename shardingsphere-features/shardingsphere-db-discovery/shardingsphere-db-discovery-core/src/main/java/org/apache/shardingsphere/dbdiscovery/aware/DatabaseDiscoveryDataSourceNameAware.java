@@ -17,6 +17,7 @@
 
 package org.apache.shardingsphere.dbdiscovery.aware;
 
+import org.apache.shardingsphere.dbdiscovery.rule.DatabaseDiscoveryDataSourceRule;
 import org.apache.shardingsphere.dbdiscovery.rule.DatabaseDiscoveryRule;
 import org.apache.shardingsphere.infra.aware.DataSourceNameAware;
 import org.apache.shardingsphere.infra.rule.ShardingSphereRule;
@@ -45,6 +46,16 @@ public final class DatabaseDiscoveryDataSourceNameAware implements DataSourceNam
         return rule.getDataSourceRules().get(dataSourceName).getReplicaDataSourceNames();
     }
     
+    @Override
+    public long getReplicationDelayMilliseconds(final String replicaDataSourceName) {
+        for (DatabaseDiscoveryDataSourceRule each : rule.getDataSourceRules().values()) {
+            if (each.getDataSourceNames().contains(replicaDataSourceName)) {
+                return each.getDatabaseDiscoveryType().getReplicationDelayMilliseconds(replicaDataSourceName);
+            }
+        }
+        return -1L;
+    }
+    
     @Override
     public String getType() {
         return "database-discovery";
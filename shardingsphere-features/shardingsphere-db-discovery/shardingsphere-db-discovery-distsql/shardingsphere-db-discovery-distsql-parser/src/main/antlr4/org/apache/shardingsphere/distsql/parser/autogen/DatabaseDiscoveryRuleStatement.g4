@@ -24,5 +24,5 @@ execute
     | alterDatabaseDiscoveryRule
     | dropDatabaseDiscoveryRule
     | showDatabaseDiscoveryRules
-    ) SEMI?
+    ) (SEMI EOF? | EOF)
     ;
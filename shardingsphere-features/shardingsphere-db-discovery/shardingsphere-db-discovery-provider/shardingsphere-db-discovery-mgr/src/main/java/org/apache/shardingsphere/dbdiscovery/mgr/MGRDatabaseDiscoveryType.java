@@ -43,6 +43,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Properties;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * MGR data base discovery type.
@@ -60,12 +61,17 @@ public final class MGRDatabaseDiscoveryType implements DatabaseDiscoveryType {
     
     private static final String MEMBER_LIST = "SELECT MEMBER_HOST, MEMBER_PORT, MEMBER_STATE FROM performance_schema.replication_group_members";
     
+    private static final String REPLICATION_DELAY = "SELECT MAX(IF(APPLYING_TRANSACTION = '', 0, TIMESTAMPDIFF(MICROSECOND, APPLYING_TRANSACTION_ORIGINAL_COMMIT_TIMESTAMP, NOW(6)))) "
+            + "FROM performance_schema.replication_applier_status_by_worker WHERE CHANNEL_NAME = 'group_replication_applier'";
+    
     private static CoordinatorRegistryCenter coordinatorRegistryCenter;
     
     private static final Map<String, ScheduleJobBootstrap> SCHEDULE_JOB_BOOTSTRAP_MAP = new HashMap<>(16, 1);
     
     private String oldPrimaryDataSource;
     
+    private final Map<String, Long> replicationDelays = new ConcurrentHashMap<>();
+    
     @Getter
     @Setter
     private Properties props = new Properties();
@@ -196,6 +202,27 @@ public final class MGRDatabaseDiscoveryType implements DatabaseDiscoveryType {
         Map<String, String> dataSourceURLs = new HashMap<>(16, 1);
         determineDisabledDataSource(schemaName, activeDataSourceMap, memberDataSourceURLs, dataSourceURLs);
         determineEnabledDataSource(dataSourceMap, schemaName, memberDataSourceURLs, dataSourceURLs);
+        updateReplicationDelays(activeDataSourceMap);
+    }
+    
+    private void updateReplicationDelays(final Map<String, DataSource> activeDataSourceMap) {
+        replicationDelays.keySet().retainAll(activeDataSourceMap.keySet());
+        for (Entry<String, DataSource> entry : activeDataSourceMap.entrySet()) {
+            if (entry.getKey().equals(oldPrimaryDataSource)) {
+                replicationDelays.remove(entry.getKey());
+                continue;
+            }
+            try (Connection connection = entry.getValue().getConnection();
+                 Statement statement = connection.createStatement();
+                 ResultSet resultSet = statement.executeQuery(REPLICATION_DELAY)) {
+                if (resultSet.next()) {
+                    replicationDelays.put(entry.getKey(), resultSet.getLong(1) / 1000L);
+                }
+            } catch (final SQLException ex) {
+                replicationDelays.remove(entry.getKey());
+                log.error("An exception occurred while find replication delay", ex);
+            }
+        }
     }
     
     private List<String> findMemberDataSourceURLs(final Map<String, DataSource> activeDataSourceMap) {
@@ -288,6 +315,11 @@ public final class MGRDatabaseDiscoveryType implements DatabaseDiscoveryType {
         return oldPrimaryDataSource;
     }
     
+    @Override
+    public long getReplicationDelayMilliseconds(final String dataSourceName) {
+        return replicationDelays.getOrDefault(dataSourceName, -1L);
+    }
+    
     @Override
     public String getType() {
         return "MGR";
@@ -24,5 +24,5 @@ execute
     | alterEncryptRule
     | dropEncryptRule
     | showEncryptRules
-    ) SEMI?
+    ) (SEMI EOF? | EOF)
     ;
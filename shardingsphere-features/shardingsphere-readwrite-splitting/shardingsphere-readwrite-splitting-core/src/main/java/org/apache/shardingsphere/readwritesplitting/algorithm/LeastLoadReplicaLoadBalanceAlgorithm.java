@@ -0,0 +1,115 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.readwritesplitting.algorithm;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.apache.shardingsphere.infra.aware.DataSourceNameAware;
+import org.apache.shardingsphere.infra.aware.DataSourceNameAwareFactory;
+import org.apache.shardingsphere.infra.database.DefaultSchema;
+import org.apache.shardingsphere.infra.executor.kernel.model.ExecutorDataMap;
+import org.apache.shardingsphere.readwritesplitting.algorithm.statistics.ReplicaStatistics;
+import org.apache.shardingsphere.readwritesplitting.algorithm.statistics.ReplicaStatisticsRegistry;
+import org.apache.shardingsphere.readwritesplitting.spi.ReplicaLoadBalanceAlgorithm;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.Properties;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Least load replica load-balance algorithm.
+ * 
+ * <p>Picks two replicas by weighted random and routes to the one with lower load, load is estimated by in-flight requests, average latency and error rate.</p>
+ */
+@Getter
+@Setter
+public final class LeastLoadReplicaLoadBalanceAlgorithm implements ReplicaLoadBalanceAlgorithm {
+    
+    private static final String MAX_REPLICATION_DELAY_MILLISECONDS_KEY = "max-replication-delay-milliseconds";
+    
+    private static final double ERROR_PENALTY = 10D;
+    
+    private Properties props = new Properties();
+    
+    @Override
+    public String getDataSource(final String name, final String writeDataSourceName, final List<String> readDataSourceNames) {
+        List<String> candidates = getAvailableDataSourceNames(readDataSourceNames);
+        if (1 == candidates.size()) {
+            return candidates.get(0);
+        }
+        String first = getWeightedRandomDataSourceName(candidates, null);
+        String second = getWeightedRandomDataSourceName(candidates, first);
+        return getLoad(first) <= getLoad(second) ? first : second;
+    }
+    
+    private List<String> getAvailableDataSourceNames(final List<String> readDataSourceNames) {
+        long maxReplicationDelayMilliseconds = Long.parseLong(props.getProperty(MAX_REPLICATION_DELAY_MILLISECONDS_KEY, "0"));
+        Optional<DataSourceNameAware> dataSourceNameAware = DataSourceNameAwareFactory.getInstance().getDataSourceNameAware();
+        if (maxReplicationDelayMilliseconds <= 0 || !dataSourceNameAware.isPresent()) {
+            return readDataSourceNames;
+        }
+        List<String> result = new ArrayList<>(readDataSourceNames.size());
+        for (String each : readDataSourceNames) {
+            if (dataSourceNameAware.get().getReplicationDelayMilliseconds(each) <= maxReplicationDelayMilliseconds) {
+                result.add(each);
+            }
+        }
+        return result.isEmpty() ? readDataSourceNames : result;
+    }
+    
+    private String getWeightedRandomDataSourceName(final List<String> candidates, final String excludedDataSourceName) {
+        double totalWeight = 0;
+        for (String each : candidates) {
+            if (!each.equals(excludedDataSourceName)) {
+                totalWeight += getWeight(each);
+            }
+        }
+        double random = ThreadLocalRandom.current().nextDouble() * totalWeight;
+        String result = null;
+        for (String each : candidates) {
+            if (each.equals(excludedDataSourceName)) {
+                continue;
+            }
+            result = each;
+            random -= getWeight(each);
+            if (random < 0) {
+                break;
+            }
+        }
+        return result;
+    }
+    
+    private double getWeight(final String dataSourceName) {
+        double result = Double.parseDouble(props.getProperty(dataSourceName, "1"));
+        return result > 0 ? result : Double.MIN_VALUE;
+    }
+    
+    private double getLoad(final String dataSourceName) {
+        Object schemaName = ExecutorDataMap.getValue().getOrDefault(ReplicaStatisticsRegistry.SCHEMA_NAME_KEY, DefaultSchema.LOGIC_NAME);
+        ReplicaStatistics statistics = ReplicaStatisticsRegistry.getInstance().getStatistics(schemaName.toString(), dataSourceName);
+        double latency = Math.max(statistics.getAverageLatencyMilliseconds(), 1D);
+        return (statistics.getInFlightCount() + 1) * latency * (1 + ERROR_PENALTY * statistics.getErrorRate()) / getWeight(dataSourceName);
+    }
+    
+    @Override
+    public String getType() {
+        return "LEAST_LOAD";
+    }
+}
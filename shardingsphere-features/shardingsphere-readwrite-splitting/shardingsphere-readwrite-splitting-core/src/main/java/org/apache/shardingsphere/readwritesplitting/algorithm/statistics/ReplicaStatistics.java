@@ -0,0 +1,111 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.readwritesplitting.algorithm.statistics;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.LongSupplier;
+
+/**
+ * Replica statistics.
+ * 
+ * <p>
+ * Average latency and error rate decay with time since the last finished execution, which halves them every 10 seconds,
+ * so a penalized replica which receives no traffic becomes attractive again and is probed by new executions instead of being avoided forever.
+ * </p>
+ */
+public final class ReplicaStatistics {
+    
+    private static final double SMOOTHING_FACTOR = 0.2D;
+    
+    private static final double DECAY_HALF_LIFE_NANOS = TimeUnit.SECONDS.toNanos(10L);
+    
+    private final AtomicInteger inFlightCount = new AtomicInteger();
+    
+    private final LongSupplier nanoClock;
+    
+    private volatile double averageLatencyMilliseconds;
+    
+    private volatile double errorRate;
+    
+    private volatile long lastFinishedNanoTime;
+    
+    private volatile boolean sampled;
+    
+    public ReplicaStatistics() {
+        this(System::nanoTime);
+    }
+    
+    ReplicaStatistics(final LongSupplier nanoClock) {
+        this.nanoClock = nanoClock;
+    }
+    
+    /**
+     * Record execution started.
+     */
+    public void start() {
+        inFlightCount.incrementAndGet();
+    }
+    
+    /**
+     * Record execution finished.
+     *
+     * @param latencyMilliseconds latency in milliseconds
+     * @param failed whether execution failed
+     */
+    public synchronized void finish(final double latencyMilliseconds, final boolean failed) {
+        inFlightCount.decrementAndGet();
+        long now = nanoClock.getAsLong();
+        double decay = getDecay(now);
+        averageLatencyMilliseconds = sampled ? SMOOTHING_FACTOR * latencyMilliseconds + (1 - SMOOTHING_FACTOR) * averageLatencyMilliseconds * decay : latencyMilliseconds;
+        errorRate = SMOOTHING_FACTOR * (failed ? 1 : 0) + (1 - SMOOTHING_FACTOR) * errorRate * decay;
+        lastFinishedNanoTime = now;
+        sampled = true;
+    }
+    
+    /**
+     * Get in-flight count.
+     *
+     * @return in-flight count
+     */
+    public int getInFlightCount() {
+        return inFlightCount.get();
+    }
+    
+    /**
+     * Get average latency milliseconds, decayed since the last finished execution.
+     *
+     * @return average latency milliseconds
+     */
+    public double getAverageLatencyMilliseconds() {
+        return averageLatencyMilliseconds * getDecay(nanoClock.getAsLong());
+    }
+    
+    /**
+     * Get error rate, decayed since the last finished execution.
+     *
+     * @return error rate
+     */
+    public double getErrorRate() {
+        return errorRate * getDecay(nanoClock.getAsLong());
+    }
+    
+    private double getDecay(final long now) {
+        return sampled ? Math.pow(0.5D, Math.max(now - lastFinishedNanoTime, 0L) / DECAY_HALF_LIFE_NANOS) : 1D;
+    }
+}
@@ -0,0 +1,76 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.readwritesplitting.algorithm.statistics;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Replica statistics registry.
+ * 
+ * <p>
+ * Statistics are kept per schema, because data source names are only unique inside a schema.
+ * The schema of the statement being executed is put into executor data map by readwrite-splitting router with {@code SCHEMA_NAME_KEY}.
+ * </p>
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class ReplicaStatisticsRegistry {
+    
+    public static final String SCHEMA_NAME_KEY = "READWRITE_SPLITTING_SCHEMA_NAME";
+    
+    private static final ReplicaStatisticsRegistry INSTANCE = new ReplicaStatisticsRegistry();
+    
+    private final Map<String, Map<String, ReplicaStatistics>> statistics = new ConcurrentHashMap<>();
+    
+    /**
+     * Get instance.
+     *
+     * @return instance
+     */
+    public static ReplicaStatisticsRegistry getInstance() {
+        return INSTANCE;
+    }
+    
+    /**
+     * Get statistics of data source, statistics are created if absent.
+     *
+     * @param schemaName schema name
+     * @param dataSourceName data source name
+     * @return replica statistics
+     */
+    public ReplicaStatistics getStatistics(final String schemaName, final String dataSourceName) {
+        return statistics.computeIfAbsent(schemaName, key -> new ConcurrentHashMap<>()).computeIfAbsent(dataSourceName, key -> new ReplicaStatistics());
+    }
+    
+    /**
+     * Find statistics of data source.
+     *
+     * @param schemaName schema name
+     * @param dataSourceName data source name
+     * @return replica statistics, empty if data source was never balanced by statistics
+     */
+    public Optional<ReplicaStatistics> findStatistics(final String schemaName, final String dataSourceName) {
+        Map<String, ReplicaStatistics> schemaStatistics = statistics.get(schemaName);
+        return null == schemaStatistics ? Optional.empty() : Optional.ofNullable(schemaStatistics.get(dataSourceName));
+    }
+
+}
@@ -18,17 +18,22 @@
 package org.apache.shardingsphere.readwritesplitting.route;
 
 import org.apache.shardingsphere.infra.config.properties.ConfigurationProperties;
+import org.apache.shardingsphere.infra.config.properties.ConfigurationPropertyKey;
 import org.apache.shardingsphere.infra.database.DefaultSchema;
+import org.apache.shardingsphere.infra.executor.kernel.model.ExecutorDataMap;
 import org.apache.shardingsphere.infra.route.SQLRouter;
+import org.apache.shardingsphere.infra.route.context.HedgedReadRouteStageContext;
 import org.apache.shardingsphere.infra.route.context.RouteContext;
 import org.apache.shardingsphere.infra.route.context.RouteMapper;
 import org.apache.shardingsphere.infra.route.context.RouteUnit;
 import org.apache.shardingsphere.infra.metadata.ShardingSphereMetaData;
 import org.apache.shardingsphere.infra.binder.LogicSQL;
+import org.apache.shardingsphere.readwritesplitting.algorithm.statistics.ReplicaStatisticsRegistry;
 import org.apache.shardingsphere.readwritesplitting.route.impl.ReadwriteSplittingDataSourceRouter;
 import org.apache.shardingsphere.readwritesplitting.constant.ReadwriteSplittingOrder;
 import org.apache.shardingsphere.readwritesplitting.rule.ReadwriteSplittingDataSourceRule;
 import org.apache.shardingsphere.readwritesplitting.rule.ReadwriteSplittingRule;
+import org.apache.shardingsphere.sql.parser.sql.common.statement.SQLStatement;
 
 import java.util.Collection;
 import java.util.Collections;
@@ -42,15 +47,22 @@ public final class ReadwriteSplittingSQLRouter implements SQLRouter<ReadwriteSpl
     
     @Override
     public RouteContext createRouteContext(final LogicSQL logicSQL, final ShardingSphereMetaData metaData, final ReadwriteSplittingRule rule, final ConfigurationProperties props) {
+        ExecutorDataMap.getValue().put(ReplicaStatisticsRegistry.SCHEMA_NAME_KEY, metaData.getName());
         RouteContext result = new RouteContext();
-        String dataSourceName = new ReadwriteSplittingDataSourceRouter(rule.getSingleDataSourceRule()).route(logicSQL.getSqlStatementContext().getSqlStatement());
+        ReadwriteSplittingDataSourceRouter dataSourceRouter = new ReadwriteSplittingDataSourceRouter(rule.getSingleDataSourceRule());
+        SQLStatement sqlStatement = logicSQL.getSqlStatementContext().getSqlStatement();
+        String dataSourceName = dataSourceRouter.route(sqlStatement);
         result.getRouteUnits().add(new RouteUnit(new RouteMapper(DefaultSchema.LOGIC_NAME, dataSourceName), Collections.emptyList()));
+        if (props.<Boolean>getValue(ConfigurationPropertyKey.HEDGED_READ_ENABLED)) {
+            putHedgedDataSourceName(result, dataSourceRouter, sqlStatement, dataSourceName);
+        }
         return result;
     }
     
     @Override
     public void decorateRouteContext(final RouteContext routeContext,
                                      final LogicSQL logicSQL, final ShardingSphereMetaData metaData, final ReadwriteSplittingRule rule, final ConfigurationProperties props) {
+        ExecutorDataMap.getValue().put(ReplicaStatisticsRegistry.SCHEMA_NAME_KEY, metaData.getName());
         Collection<RouteUnit> toBeRemoved = new LinkedList<>();
         Collection<RouteUnit> toBeAdded = new LinkedList<>();
         for (RouteUnit each : routeContext.getRouteUnits()) {
@@ -58,14 +70,29 @@ public final class ReadwriteSplittingSQLRouter implements SQLRouter<ReadwriteSpl
             Optional<ReadwriteSplittingDataSourceRule> dataSourceRule = rule.findDataSourceRule(dataSourceName);
             if (dataSourceRule.isPresent() && dataSourceRule.get().getName().equalsIgnoreCase(each.getDataSourceMapper().getActualName())) {
                 toBeRemoved.add(each);
-                String actualDataSourceName = new ReadwriteSplittingDataSourceRouter(dataSourceRule.get()).route(logicSQL.getSqlStatementContext().getSqlStatement());
+                ReadwriteSplittingDataSourceRouter dataSourceRouter = new ReadwriteSplittingDataSourceRouter(dataSourceRule.get());
+                SQLStatement sqlStatement = logicSQL.getSqlStatementContext().getSqlStatement();
+                String actualDataSourceName = dataSourceRouter.route(sqlStatement);
                 toBeAdded.add(new RouteUnit(new RouteMapper(each.getDataSourceMapper().getLogicName(), actualDataSourceName), each.getTableMappers()));
+                if (props.<Boolean>getValue(ConfigurationPropertyKey.HEDGED_READ_ENABLED)) {
+                    putHedgedDataSourceName(routeContext, dataSourceRouter, sqlStatement, actualDataSourceName);
+                }
             }
         }
         routeContext.getRouteUnits().removeAll(toBeRemoved);
         routeContext.getRouteUnits().addAll(toBeAdded);
     }
     
+    private void putHedgedDataSourceName(final RouteContext routeContext, final ReadwriteSplittingDataSourceRouter dataSourceRouter, 
+                                         final SQLStatement sqlStatement, final String actualDataSourceName) {
+        Optional<String> hedgedDataSourceName = dataSourceRouter.findHedgedDataSourceName(sqlStatement, actualDataSourceName);
+        if (hedgedDataSourceName.isPresent()) {
+            HedgedReadRouteStageContext routeStageContext = (HedgedReadRouteStageContext) routeContext.getRouteStageContexts().computeIfAbsent(
+                    ReadwriteSplittingRule.class, key -> new HedgedReadRouteStageContext());
+            routeStageContext.getHedgedDataSourceNames().put(actualDataSourceName, hedgedDataSourceName.get());
+        }
+    }
+    
     @Override
     public int getOrder() {
         return ReadwriteSplittingOrder.ORDER;
@@ -29,7 +29,7 @@ import org.apache.shardingsphere.sql.parser.sql.common.statement.dml.SelectState
 import org.apache.shardingsphere.sql.parser.sql.dialect.handler.dml.SelectStatementHandler;
 
 import java.util.ArrayList;
-import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 /**
@@ -58,16 +58,52 @@ public final class ReadwriteSplittingDataSourceRouter {
                 return dataSourceNameAware.get().getPrimaryDataSourceName(autoAwareDataSourceName);
             }
         }
+        return rule.getLoadBalancer().getDataSource(rule.getName(), rule.getWriteDataSourceName(), getReadDataSourceNames());
+    }
+    
+    /**
+     * Find hedged data source name.
+     * 
+     * <p>
+     * Only replica routed query can be hedged, the next available replica after the routed one is selected as the hedged data source.
+     * Load balancer is not consulted, so the state of round robin or weighted algorithms is not consumed by hedging.
+     * </p>
+     *
+     * @param sqlStatement SQL statement
+     * @param routedDataSourceName routed data source name
+     * @return hedged data source name
+     */
+    public Optional<String> findHedgedDataSourceName(final SQLStatement sqlStatement, final String routedDataSourceName) {
+        if (isPrimaryRoute(sqlStatement)) {
+            return Optional.empty();
+        }
+        List<String> readDataSourceNames = getReadDataSourceNames();
+        int routedIndex = indexOf(readDataSourceNames, routedDataSourceName);
+        for (int i = 1; i <= readDataSourceNames.size(); i++) {
+            String each = readDataSourceNames.get((routedIndex + i) % readDataSourceNames.size());
+            if (!each.equalsIgnoreCase(routedDataSourceName)) {
+                return Optional.of(each);
+            }
+        }
+        return Optional.empty();
+    }
+    
+    private int indexOf(final List<String> dataSourceNames, final String dataSourceName) {
+        for (int i = 0; i < dataSourceNames.size(); i++) {
+            if (dataSourceNames.get(i).equalsIgnoreCase(dataSourceName)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+    
+    private List<String> getReadDataSourceNames() {
         String autoAwareDataSourceName = rule.getAutoAwareDataSourceName();
         if (Strings.isNullOrEmpty(autoAwareDataSourceName)) {
-            return rule.getLoadBalancer().getDataSource(rule.getName(), rule.getWriteDataSourceName(), rule.getReadDataSourceNames());
+            return rule.getReadDataSourceNames();
         }
         Optional<DataSourceNameAware> dataSourceNameAware = DataSourceNameAwareFactory.getInstance().getDataSourceNameAware();
-        if (dataSourceNameAware.isPresent()) {
-            Collection<String> replicaDataSourceNames = dataSourceNameAware.get().getReplicaDataSourceNames(autoAwareDataSourceName);
-            return rule.getLoadBalancer().getDataSource(rule.getName(), rule.getWriteDataSourceName(), new ArrayList<>(replicaDataSourceNames));
-        }
-        return rule.getLoadBalancer().getDataSource(rule.getName(), rule.getWriteDataSourceName(), rule.getReadDataSourceNames());
+        return dataSourceNameAware.isPresent() ? new ArrayList<>(dataSourceNameAware.get().getReplicaDataSourceNames(autoAwareDataSourceName)) : rule.getReadDataSourceNames();
     }
     
     private boolean isPrimaryRoute(final SQLStatement sqlStatement) {
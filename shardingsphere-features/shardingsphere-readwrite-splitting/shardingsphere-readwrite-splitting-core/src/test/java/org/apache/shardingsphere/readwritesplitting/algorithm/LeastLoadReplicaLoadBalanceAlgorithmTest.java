@@ -0,0 +1,104 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.readwritesplitting.algorithm;
+
+import org.apache.shardingsphere.infra.executor.kernel.model.ExecutorDataMap;
+import org.apache.shardingsphere.readwritesplitting.algorithm.statistics.ReplicaStatistics;
+import org.apache.shardingsphere.readwritesplitting.algorithm.statistics.ReplicaStatisticsRegistry;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Properties;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+
+public final class LeastLoadReplicaLoadBalanceAlgorithmTest {
+    
+    private final LeastLoadReplicaLoadBalanceAlgorithm leastLoadReplicaLoadBalanceAlgorithm = new LeastLoadReplicaLoadBalanceAlgorithm();
+    
+    @Before
+    public void setUp() {
+        ExecutorDataMap.getValue().put(ReplicaStatisticsRegistry.SCHEMA_NAME_KEY, "least_load_schema");
+    }
+    
+    @After
+    public void tearDown() {
+        ExecutorDataMap.getValue().remove(ReplicaStatisticsRegistry.SCHEMA_NAME_KEY);
+    }
+    
+    @Test
+    public void assertGetDataSource() {
+        List<String> readDataSourceNames = Arrays.asList("least_load_replica_ds_0", "least_load_replica_ds_1", "least_load_replica_ds_2");
+        assertTrue(readDataSourceNames.contains(leastLoadReplicaLoadBalanceAlgorithm.getDataSource("ds", "test_write_ds", readDataSourceNames)));
+        assertTrue(readDataSourceNames.contains(leastLoadReplicaLoadBalanceAlgorithm.getDataSource("ds", "test_write_ds", readDataSourceNames)));
+    }
+    
+    @Test
+    public void assertGetDataSourceWithSingleReplica() {
+        assertThat(leastLoadReplicaLoadBalanceAlgorithm.getDataSource("ds", "test_write_ds", Collections.singletonList("single_replica_ds")), is("single_replica_ds"));
+    }
+    
+    @Test
+    public void assertGetDataSourceWithLowerLoad() {
+        ReplicaStatistics slowStatistics = ReplicaStatisticsRegistry.getInstance().getStatistics("least_load_schema", "slow_replica_ds");
+        slowStatistics.finish(1000D, true);
+        slowStatistics.start();
+        slowStatistics.start();
+        ReplicaStatisticsRegistry.getInstance().getStatistics("least_load_schema", "fast_replica_ds").finish(1D, false);
+        List<String> readDataSourceNames = Arrays.asList("slow_replica_ds", "fast_replica_ds");
+        for (int i = 0; i < 10; i++) {
+            assertThat(leastLoadReplicaLoadBalanceAlgorithm.getDataSource("ds", "test_write_ds", readDataSourceNames), is("fast_replica_ds"));
+        }
+    }
+    
+    @Test
+    public void assertGetDataSourceWithStatisticsOfAnotherSchema() {
+        ReplicaStatistics slowStatistics = ReplicaStatisticsRegistry.getInstance().getStatistics("another_schema", "schema_replica_ds_0");
+        slowStatistics.finish(1000D, true);
+        slowStatistics.start();
+        slowStatistics.start();
+        ReplicaStatisticsRegistry.getInstance().getStatistics("another_schema", "schema_replica_ds_1").finish(1D, false);
+        List<String> readDataSourceNames = Arrays.asList("schema_replica_ds_0", "schema_replica_ds_1");
+        Collection<String> actual = new HashSet<>();
+        for (int i = 0; i < 100; i++) {
+            actual.add(leastLoadReplicaLoadBalanceAlgorithm.getDataSource("ds", "test_write_ds", readDataSourceNames));
+        }
+        assertThat(actual.size(), is(2));
+    }
+    
+    @Test
+    public void assertGetDataSourceWithWeight() {
+        Properties props = new Properties();
+        props.setProperty("weighted_replica_ds_0", "0");
+        props.setProperty("weighted_replica_ds_1", "1");
+        props.setProperty("weighted_replica_ds_2", "0");
+        leastLoadReplicaLoadBalanceAlgorithm.setProps(props);
+        List<String> readDataSourceNames = Arrays.asList("weighted_replica_ds_0", "weighted_replica_ds_1", "weighted_replica_ds_2");
+        for (int i = 0; i < 10; i++) {
+            assertThat(leastLoadReplicaLoadBalanceAlgorithm.getDataSource("ds", "test_write_ds", readDataSourceNames), is("weighted_replica_ds_1"));
+        }
+    }
+}
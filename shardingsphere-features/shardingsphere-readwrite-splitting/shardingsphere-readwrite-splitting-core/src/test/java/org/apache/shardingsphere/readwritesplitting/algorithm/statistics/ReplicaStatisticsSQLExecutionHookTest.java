@@ -0,0 +1,57 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.readwritesplitting.algorithm.statistics;
+
+import org.junit.Test;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+
+public final class ReplicaStatisticsSQLExecutionHookTest {
+    
+    @Test
+    public void assertRecordStatisticsOfSchema() {
+        ReplicaStatistics statistics = ReplicaStatisticsRegistry.getInstance().getStatistics("hook_schema_0", "hook_replica_ds");
+        final ReplicaStatistics otherStatistics = ReplicaStatisticsRegistry.getInstance().getStatistics("hook_schema_1", "hook_replica_ds");
+        ReplicaStatisticsSQLExecutionHook hook = new ReplicaStatisticsSQLExecutionHook();
+        hook.start("hook_replica_ds", "SELECT 1", Collections.emptyList(), null, true, Collections.singletonMap(ReplicaStatisticsRegistry.SCHEMA_NAME_KEY, "hook_schema_0"));
+        assertThat(statistics.getInFlightCount(), is(1));
+        hook.finishFailure(new RuntimeException());
+        assertThat(statistics.getInFlightCount(), is(0));
+        assertTrue(statistics.getErrorRate() > 0D);
+        assertThat(otherStatistics.getErrorRate(), is(0D));
+    }
+    
+    @Test
+    public void assertIgnoreDataSourceWithoutStatistics() {
+        Map<String, Object> dataMap = new HashMap<>();
+        ReplicaStatisticsSQLExecutionHook hook = new ReplicaStatisticsSQLExecutionHook();
+        hook.start("hook_primary_ds", "SELECT 1", Collections.emptyList(), null, true, dataMap);
+        hook.finishSuccess();
+        dataMap.put(ReplicaStatisticsRegistry.SCHEMA_NAME_KEY, "hook_schema_0");
+        hook.start("hook_primary_ds", "SELECT 1", Collections.emptyList(), null, true, dataMap);
+        hook.finishSuccess();
+        assertFalse(ReplicaStatisticsRegistry.getInstance().findStatistics("hook_schema_0", "hook_primary_ds").isPresent());
+    }
+}
@@ -0,0 +1,64 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.readwritesplitting.algorithm.statistics;
+
+import org.junit.Test;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+
+public final class ReplicaStatisticsTest {
+    
+    private final AtomicLong nanoTime = new AtomicLong(1L);
+    
+    private final ReplicaStatistics statistics = new ReplicaStatistics(nanoTime::get);
+    
+    @Test
+    public void assertFinish() {
+        statistics.start();
+        assertThat(statistics.getInFlightCount(), is(1));
+        statistics.finish(100D, true);
+        assertThat(statistics.getInFlightCount(), is(0));
+        assertThat(statistics.getAverageLatencyMilliseconds(), is(100D));
+        assertTrue(Math.abs(statistics.getErrorRate() - 0.2D) < 0.000001D);
+    }
+    
+    @Test
+    public void assertDecayWithoutNewExecution() {
+        statistics.finish(100D, true);
+        nanoTime.addAndGet(TimeUnit.SECONDS.toNanos(10L));
+        assertTrue(Math.abs(statistics.getAverageLatencyMilliseconds() - 50D) < 0.000001D);
+        assertTrue(Math.abs(statistics.getErrorRate() - 0.1D) < 0.000001D);
+        nanoTime.addAndGet(TimeUnit.MINUTES.toNanos(10L));
+        assertTrue(statistics.getAverageLatencyMilliseconds() < 0.000001D);
+        assertTrue(statistics.getErrorRate() < 0.000001D);
+    }
+    
+    @Test
+    public void assertFinishAfterDecay() {
+        statistics.finish(100D, true);
+        nanoTime.addAndGet(TimeUnit.SECONDS.toNanos(10L));
+        statistics.finish(100D, false);
+        assertTrue(Math.abs(statistics.getAverageLatencyMilliseconds() - 60D) < 0.000001D);
+        assertTrue(Math.abs(statistics.getErrorRate() - 0.08D) < 0.000001D);
+    }
+}
@@ -0,0 +1,68 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.readwritesplitting.route.impl;
+
+import org.apache.shardingsphere.readwritesplitting.rule.ReadwriteSplittingDataSourceRule;
+import org.apache.shardingsphere.sql.parser.sql.dialect.statement.mysql.dml.MySQLSelectStatement;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Optional;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThat;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@RunWith(MockitoJUnitRunner.class)
+public final class ReadwriteSplittingDataSourceRouterTest {
+    
+    @Mock
+    private ReadwriteSplittingDataSourceRule rule;
+    
+    @Mock
+    private MySQLSelectStatement selectStatement;
+    
+    @Before
+    public void setUp() {
+        when(rule.getAutoAwareDataSourceName()).thenReturn("");
+        when(selectStatement.getLock()).thenReturn(Optional.empty());
+    }
+    
+    @Test
+    public void assertFindHedgedDataSourceNameWithoutConsumingLoadBalancer() {
+        when(rule.getReadDataSourceNames()).thenReturn(Arrays.asList("read_0", "read_1", "read_2"));
+        ReadwriteSplittingDataSourceRouter router = new ReadwriteSplittingDataSourceRouter(rule);
+        assertThat(router.findHedgedDataSourceName(selectStatement, "read_0"), is(Optional.of("read_1")));
+        assertThat(router.findHedgedDataSourceName(selectStatement, "read_2"), is(Optional.of("read_0")));
+        verify(rule, never()).getLoadBalancer();
+    }
+    
+    @Test
+    public void assertFindHedgedDataSourceNameWithSingleReplica() {
+        when(rule.getReadDataSourceNames()).thenReturn(Collections.singletonList("read_0"));
+        assertFalse(new ReadwriteSplittingDataSourceRouter(rule).findHedgedDataSourceName(selectStatement, "read_0").isPresent());
+    }
+}
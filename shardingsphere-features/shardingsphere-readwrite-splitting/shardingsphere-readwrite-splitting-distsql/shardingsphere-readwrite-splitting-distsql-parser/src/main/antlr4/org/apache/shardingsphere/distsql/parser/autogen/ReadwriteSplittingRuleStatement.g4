@@ -24,5 +24,5 @@ execute
     | alterReadwriteSplittingRule
     | dropReadwriteSplittingRule
     | showReadwriteSplittingRules
-    ) SEMI?
+    ) (SEMI EOF? | EOF)
     ;
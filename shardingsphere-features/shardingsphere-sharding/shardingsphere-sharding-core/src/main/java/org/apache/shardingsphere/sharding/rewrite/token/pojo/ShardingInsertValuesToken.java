@@ -35,17 +35,15 @@ public final class ShardingInsertValuesToken extends InsertValuesToken implement
     @Override
     public String toString(final RouteUnit routeUnit) {
         StringBuilder result = new StringBuilder();
-        appendInsertValue(routeUnit, result);
-        result.delete(result.length() - 2, result.length());
-        return result.toString();
-    }
-    
-    private void appendInsertValue(final RouteUnit routeUnit, final StringBuilder stringBuilder) {
         for (InsertValue each : getInsertValues()) {
             if (isAppend(routeUnit, (ShardingInsertValue) each)) {
-                stringBuilder.append(each).append(", ");
+                if (result.length() > 0) {
+                    result.append(", ");
+                }
+                each.appendTo(result);
             }
         }
+        return result.toString();
     }
     
     private boolean isAppend(final RouteUnit routeUnit, final ShardingInsertValue insertValueToken) {
@@ -40,8 +40,11 @@ import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.expr.simple.S
 import java.util.Collection;
 import java.util.Collections;
 import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
 import java.util.Optional;
 import java.util.stream.Collectors;
 import java.util.stream.IntStream;
@@ -67,9 +70,21 @@ public final class InsertClauseShardingConditionEngine implements ShardingCondit
     private List<ShardingCondition> createShardingConditionsWithInsertValues(final InsertStatementContext sqlStatementContext, final List<Object> parameters) {
         List<ShardingCondition> result = new LinkedList<>();
         String tableName = sqlStatementContext.getSqlStatement().getTable().getTableName().getIdentifier().getValue();
-        Collection<String> columnNames = getColumnNames(sqlStatementContext);
+        Map<Integer, String> shardingColumns = getShardingColumns(tableName, getColumnNames(sqlStatementContext));
         for (InsertValueContext each : sqlStatementContext.getInsertValueContexts()) {
-            result.add(createShardingCondition(tableName, columnNames.iterator(), each, parameters));
+            result.add(createShardingCondition(tableName, shardingColumns, each, parameters));
+        }
+        return result;
+    }
+    
+    private Map<Integer, String> getShardingColumns(final String tableName, final Collection<String> columnNames) {
+        Map<Integer, String> result = new LinkedHashMap<>();
+        int index = 0;
+        for (String each : columnNames) {
+            if (shardingRule.isShardingColumn(each, tableName)) {
+                result.put(index, each);
+            }
+            index++;
         }
         return result;
     }
@@ -84,19 +99,22 @@ public final class InsertClauseShardingConditionEngine implements ShardingCondit
         return insertStatementContext.getColumnNames();
     }
     
-    private ShardingCondition createShardingCondition(final String tableName, final Iterator<String> columnNames, final InsertValueContext insertValueContext, final List<Object> parameters) {
+    private ShardingCondition createShardingCondition(final String tableName, final Map<Integer, String> shardingColumns, final InsertValueContext insertValueContext, final List<Object> parameters) {
         ShardingCondition result = new ShardingCondition();
-        DatetimeService datetimeService = RequiredSPIRegistry.getRegisteredService(DatetimeService.class);
-        for (ExpressionSegment each : insertValueContext.getValueExpressions()) {
-            String columnName = columnNames.next();
-            if (shardingRule.isShardingColumn(columnName, tableName)) {
-                if (each instanceof SimpleExpressionSegment) {
-                    result.getValues().add(new ListShardingConditionValue<>(columnName, tableName, Collections.singletonList(getShardingValue((SimpleExpressionSegment) each, parameters))));
-                } else if (ExpressionConditionUtils.isNowExpression(each)) {
-                    result.getValues().add(new ListShardingConditionValue<>(columnName, tableName, Collections.singletonList(datetimeService.getDatetime())));
-                } else if (ExpressionConditionUtils.isNullExpression(each)) {
-                    throw new ShardingSphereException("Insert clause sharding column can't be null.");
-                }
+        List<ExpressionSegment> valueExpressions = insertValueContext.getValueExpressions();
+        for (Entry<Integer, String> entry : shardingColumns.entrySet()) {
+            if (entry.getKey() >= valueExpressions.size()) {
+                break;
+            }
+            ExpressionSegment each = valueExpressions.get(entry.getKey());
+            String columnName = entry.getValue();
+            if (each instanceof SimpleExpressionSegment) {
+                result.getValues().add(new ListShardingConditionValue<>(columnName, tableName, Collections.singletonList(getShardingValue((SimpleExpressionSegment) each, parameters))));
+            } else if (ExpressionConditionUtils.isNowExpression(each)) {
+                DatetimeService datetimeService = RequiredSPIRegistry.getRegisteredService(DatetimeService.class);
+                result.getValues().add(new ListShardingConditionValue<>(columnName, tableName, Collections.singletonList(datetimeService.getDatetime())));
+            } else if (ExpressionConditionUtils.isNullExpression(each)) {
+                throw new ShardingSphereException("Insert clause sharding column can't be null.");
             }
         }
         return result;
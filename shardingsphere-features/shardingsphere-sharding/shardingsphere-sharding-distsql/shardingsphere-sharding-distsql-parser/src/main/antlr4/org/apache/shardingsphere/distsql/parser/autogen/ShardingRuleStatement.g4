@@ -33,5 +33,5 @@ execute
     | showShardingTableRules
     | showShardingBindingTableRules
     | showShardingBroadcastTableRules
-    ) SEMI?
+    ) (SEMI EOF? | EOF)
     ;
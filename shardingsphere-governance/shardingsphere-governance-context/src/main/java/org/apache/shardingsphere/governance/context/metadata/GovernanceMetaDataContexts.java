@@ -39,9 +39,11 @@ import org.apache.shardingsphere.infra.config.datasource.DataSourceConfiguration
 import org.apache.shardingsphere.infra.config.datasource.DataSourceConverter;
 import org.apache.shardingsphere.infra.config.properties.ConfigurationProperties;
 import org.apache.shardingsphere.infra.config.properties.ConfigurationPropertyKey;
+import org.apache.shardingsphere.infra.context.metadata.IncrementalMetaDataBuilder;
 import org.apache.shardingsphere.infra.context.metadata.MetaDataContexts;
 import org.apache.shardingsphere.infra.context.metadata.MetaDataContextsBuilder;
 import org.apache.shardingsphere.infra.context.metadata.impl.StandardMetaDataContexts;
+import org.apache.shardingsphere.infra.database.type.DatabaseTypeRecognizer;
 import org.apache.shardingsphere.infra.eventbus.ShardingSphereEventBus;
 import org.apache.shardingsphere.infra.executor.kernel.ExecutorEngine;
 import org.apache.shardingsphere.infra.lock.InnerLockReleasedEvent;
@@ -50,6 +52,7 @@ import org.apache.shardingsphere.infra.lock.ShardingSphereLock;
 import org.apache.shardingsphere.infra.metadata.ShardingSphereMetaData;
 import org.apache.shardingsphere.infra.metadata.rule.ShardingSphereRuleMetaData;
 import org.apache.shardingsphere.infra.metadata.schema.ShardingSphereSchema;
+import org.apache.shardingsphere.infra.metadata.schema.model.TableMetaData;
 import org.apache.shardingsphere.infra.optimize.context.OptimizeContextFactory;
 import org.apache.shardingsphere.infra.optimize.core.metadata.FederateSchemaMetadata;
 import org.apache.shardingsphere.infra.rule.ShardingSphereRule;
@@ -69,6 +72,7 @@ import java.util.LinkedList;
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.stream.Collectors;
 
 /**
@@ -82,6 +86,8 @@ public final class GovernanceMetaDataContexts implements MetaDataContexts {
     
     private final ShardingSphereLock lock;
     
+    private final Map<String, Long> schemaVersions = new ConcurrentHashMap<>();
+    
     public GovernanceMetaDataContexts(final StandardMetaDataContexts metaDataContexts, final GovernanceFacade governanceFacade) {
         this.governanceFacade = governanceFacade;
         this.metaDataContexts = metaDataContexts;
@@ -106,7 +112,7 @@ public final class GovernanceMetaDataContexts implements MetaDataContexts {
     }
     
     private void persistMetaData() {
-        metaDataContexts.getMetaDataMap().forEach((key, value) -> governanceFacade.getRegistryCenter().getSchemaService().persist(key, value.getSchema()));
+        metaDataContexts.getMetaDataMap().forEach((key, value) -> schemaVersions.put(key, governanceFacade.getRegistryCenter().getSchemaService().persist(key, value.getSchema())));
     }
     
     private ShardingSphereLock createShardingSphereLock() {
@@ -185,7 +191,7 @@ public final class GovernanceMetaDataContexts implements MetaDataContexts {
         metaDataContexts.getOptimizeContextFactory().getSchemaMetadatas().getSchemas().put(event.getSchemaName(), new FederateSchemaMetadata(event.getSchemaName(), metaData.getSchema().getTables()));
         metaDataContexts = new StandardMetaDataContexts(metaDataMap, metaDataContexts.getGlobalRuleMetaData(), metaDataContexts.getExecutorEngine(),
                 metaDataContexts.getProps(), metaDataContexts.getOptimizeContextFactory());
-        governanceFacade.getRegistryCenter().getSchemaService().persist(event.getSchemaName(), metaDataContexts.getMetaDataMap().get(event.getSchemaName()).getSchema());
+        schemaVersions.put(event.getSchemaName(), governanceFacade.getRegistryCenter().getSchemaService().persist(event.getSchemaName(), metaData.getSchema()));
         ShardingSphereEventBus.getInstance().post(new DataSourceChangeCompletedEvent(event.getSchemaName(), 
                 metaDataContexts.getMetaDataMap().get(event.getSchemaName()).getResource().getDatabaseType(), metaDataMap.get(event.getSchemaName()).getResource().getDataSources()));
     }
@@ -199,9 +205,11 @@ public final class GovernanceMetaDataContexts implements MetaDataContexts {
     public synchronized void renew(final SchemaDeletedEvent event) {
         Map<String, ShardingSphereMetaData> metaDataMap = new HashMap<>(metaDataContexts.getMetaDataMap());
         metaDataMap.remove(event.getSchemaName());
+        schemaVersions.remove(event.getSchemaName());
         metaDataContexts.getOptimizeContextFactory().getSchemaMetadatas().getSchemas().remove(event.getSchemaName());
         metaDataContexts = new StandardMetaDataContexts(
                 metaDataMap, metaDataContexts.getGlobalRuleMetaData(), metaDataContexts.getExecutorEngine(), metaDataContexts.getProps(), metaDataContexts.getOptimizeContextFactory());
+        metaDataContexts.getExecutorEngine().getExecutorServiceManager().closePartitions(event.getSchemaName());
         governanceFacade.getRegistryCenter().getSchemaService().delete(event.getSchemaName());
     }
     
@@ -230,23 +238,23 @@ public final class GovernanceMetaDataContexts implements MetaDataContexts {
     
     /**
      * Renew meta data of the schema.
+     * 
+     * <p>
+     * Only altered tables are loaded if no version is missed, versions already applied are ignored, 
+     * otherwise the whole schema is loaded.
+     * </p>
      *
      * @param event meta data changed event
      */
     @Subscribe
     public synchronized void renew(final SchemaChangedEvent event) {
         try {
-            Map<String, ShardingSphereMetaData> newMetaDataMap = new HashMap<>(metaDataContexts.getMetaDataMap().size(), 1);
-            for (Entry<String, ShardingSphereMetaData> entry : metaDataContexts.getMetaDataMap().entrySet()) {
-                String schemaName = entry.getKey();
-                ShardingSphereMetaData oldMetaData = entry.getValue();
-                ShardingSphereMetaData newMetaData = event.getSchemaName().equals(schemaName) ? getChangedMetaData(oldMetaData, event.getSchema(), schemaName) : oldMetaData;
-                newMetaDataMap.put(schemaName, newMetaData);
-                metaDataContexts.getOptimizeContextFactory().getSchemaMetadatas().getSchemas().put(event.getSchemaName(),
-                        new FederateSchemaMetadata(event.getSchemaName(), newMetaData.getSchema().getTables()));
+            String schemaName = event.getSchemaName();
+            ShardingSphereMetaData oldMetaData = metaDataContexts.getMetaDataMap().get(schemaName);
+            if (null != oldMetaData) {
+                metaDataContexts = new StandardMetaDataContexts(getNewMetaData(schemaName, getChangedMetaData(oldMetaData, event)), metaDataContexts.getGlobalRuleMetaData(),
+                        metaDataContexts.getExecutorEngine(), metaDataContexts.getProps(), metaDataContexts.getOptimizeContextFactory());
             }
-            metaDataContexts = new StandardMetaDataContexts(newMetaDataMap, metaDataContexts.getGlobalRuleMetaData(), metaDataContexts.getExecutorEngine(),
-                    metaDataContexts.getProps(), metaDataContexts.getOptimizeContextFactory());
         } finally {
             ShardingSphereEventBus.getInstance().post(new InnerLockReleasedEvent(LockNameUtil.getMetadataRefreshLockName()));
         }
@@ -254,35 +262,64 @@ public final class GovernanceMetaDataContexts implements MetaDataContexts {
     
     /**
      * Renew rule configurations.
+     * 
+     * <p>
+     * Meta data is rebuilt without holding the lock, and swapped only if the schema has not been changed meanwhile.
+     * Rules are built once and reused by retries unless the resource has been changed meanwhile, replaced rules are unregistered from event bus.
+     * </p>
      *
      * @param event rule configurations changed event
      * @throws SQLException SQL exception
      */
     @Subscribe
-    public synchronized void renew(final RuleConfigurationsChangedEvent event) throws SQLException {
+    public void renew(final RuleConfigurationsChangedEvent event) throws SQLException {
         String schemaName = event.getSchemaName();
-        ShardingSphereMetaData metaData = getChangedMetaData(metaDataContexts.getMetaDataMap().get(schemaName), event.getRuleConfigurations());
-        Map<String, ShardingSphereMetaData> newMetaDataMap = getNewMetaData(schemaName, metaData);
-        metaDataContexts = new StandardMetaDataContexts(newMetaDataMap, metaDataContexts.getGlobalRuleMetaData(), metaDataContexts.getExecutorEngine(),
-                metaDataContexts.getProps(), metaDataContexts.getOptimizeContextFactory());
-        governanceFacade.getRegistryCenter().getSchemaService().persist(schemaName, newMetaDataMap.get(schemaName).getSchema());
+        Collection<RuleConfiguration> ruleConfigs = event.getRuleConfigurations();
+        IncrementalMetaDataBuilder metaDataBuilder = new IncrementalMetaDataBuilder(metaDataContexts.getProps());
+        ShardingSphereMetaData oldMetaData = metaDataContexts.getMetaDataMap().get(schemaName);
+        Collection<ShardingSphereRule> rules = ShardingSphereRulesBuilder.buildSchemaRules(
+                schemaName, ruleConfigs, oldMetaData.getResource().getDatabaseType(), oldMetaData.getResource().getDataSources());
+        ShardingSphereMetaData newMetaData = metaDataBuilder.build(oldMetaData, ruleConfigs, rules);
+        while (!swap(schemaName, oldMetaData, newMetaData)) {
+            ShardingSphereMetaData latestMetaData = metaDataContexts.getMetaDataMap().get(schemaName);
+            if (latestMetaData.getResource() != oldMetaData.getResource()) {
+                unregisterRules(rules);
+                rules = ShardingSphereRulesBuilder.buildSchemaRules(
+                        schemaName, ruleConfigs, latestMetaData.getResource().getDatabaseType(), latestMetaData.getResource().getDataSources());
+            }
+            oldMetaData = latestMetaData;
+            newMetaData = metaDataBuilder.build(oldMetaData, ruleConfigs, rules);
+        }
+        unregisterRules(oldMetaData.getRuleMetaData().getRules());
+        governanceFacade.getRegistryCenter().getSchemaService().persist(schemaName, newMetaData.getSchema());
     }
     
     /**
      * Renew data source configuration.
+     * 
+     * <p>
+     * Meta data is rebuilt without holding the lock, and replaced data sources are closed only after the new meta data is swapped in.
+     * Changed data sources are created once and reused by retries, so are rules unless rule configurations or resource have been changed meanwhile.
+     * </p>
      *
      * @param event data source changed event.
      * @throws SQLException SQL exception
      */
     @Subscribe
-    public synchronized void renew(final DataSourceChangedEvent event) throws SQLException {
+    public void renew(final DataSourceChangedEvent event) throws SQLException {
         String schemaName = event.getSchemaName();
-        ShardingSphereMetaData metaData = getChangedMetaData(metaDataContexts.getMetaDataMap().get(schemaName), event.getDataSourceConfigurations());
-        Map<String, ShardingSphereMetaData> newMetaDataMap = getNewMetaData(schemaName, metaData);
-        metaDataContexts = new StandardMetaDataContexts(
-                newMetaDataMap, metaDataContexts.getGlobalRuleMetaData(), metaDataContexts.getExecutorEngine(), metaDataContexts.getProps(), metaDataContexts.getOptimizeContextFactory());
-        ShardingSphereEventBus.getInstance().post(new DataSourceChangeCompletedEvent(event.getSchemaName(),
-                metaDataContexts.getMetaDataMap().get(event.getSchemaName()).getResource().getDatabaseType(), newMetaDataMap.get(event.getSchemaName()).getResource().getDataSources()));
+        ShardingSphereMetaData oldMetaData = metaDataContexts.getMetaDataMap().get(schemaName);
+        Map<String, DataSource> changedDataSources = getChangedDataSources(oldMetaData, event.getDataSourceConfigurations());
+        ShardingSphereMetaData newMetaData;
+        try {
+            newMetaData = renewDataSources(oldMetaData, event.getDataSourceConfigurations().keySet(), changedDataSources);
+            // CHECKSTYLE:OFF
+        } catch (final SQLException | RuntimeException ex) {
+            // CHECKSTYLE:ON
+            closeDataSources(changedDataSources.values());
+            throw ex;
+        }
+        ShardingSphereEventBus.getInstance().post(new DataSourceChangeCompletedEvent(schemaName, newMetaData.getResource().getDatabaseType(), newMetaData.getResource().getDataSources()));
     }
     
     /**
@@ -333,6 +370,68 @@ public final class GovernanceMetaDataContexts implements MetaDataContexts {
         }
     }
 
+    private ShardingSphereMetaData renewDataSources(final ShardingSphereMetaData metaData,
+                                                    final Collection<String> dataSourceNames, final Map<String, DataSource> changedDataSources) throws SQLException {
+        IncrementalMetaDataBuilder metaDataBuilder = new IncrementalMetaDataBuilder(metaDataContexts.getProps());
+        ShardingSphereMetaData oldMetaData = metaData;
+        Map<String, DataSource> newDataSources = getNewDataSources(oldMetaData.getResource().getDataSources(), dataSourceNames, changedDataSources);
+        Collection<ShardingSphereRule> rules = buildSchemaRules(oldMetaData.getName(), oldMetaData.getRuleMetaData().getConfigurations(), newDataSources);
+        ShardingSphereMetaData result = metaDataBuilder.build(oldMetaData, newDataSources, rules);
+        while (!swap(oldMetaData.getName(), oldMetaData, result)) {
+            ShardingSphereMetaData latestMetaData = metaDataContexts.getMetaDataMap().get(oldMetaData.getName());
+            if (latestMetaData.getResource() != oldMetaData.getResource() || latestMetaData.getRuleMetaData() != oldMetaData.getRuleMetaData()) {
+                unregisterRules(rules);
+                newDataSources = getNewDataSources(latestMetaData.getResource().getDataSources(), dataSourceNames, changedDataSources);
+                rules = buildSchemaRules(latestMetaData.getName(), latestMetaData.getRuleMetaData().getConfigurations(), newDataSources);
+            }
+            oldMetaData = latestMetaData;
+            result = metaDataBuilder.build(oldMetaData, newDataSources, rules);
+        }
+        unregisterRules(oldMetaData.getRuleMetaData().getRules());
+        oldMetaData.getResource().close(getReplacedDataSources(oldMetaData.getResource().getDataSources(), newDataSources));
+        metaDataContexts.getExecutorEngine().getExecutorServiceManager().closePartitions(oldMetaData.getName(), getDeletedDataSources(oldMetaData.getResource().getDataSources(), newDataSources));
+        return result;
+    }
+    
+    private Collection<ShardingSphereRule> buildSchemaRules(final String schemaName, final Collection<RuleConfiguration> ruleConfigs, final Map<String, DataSource> dataSources) {
+        return ShardingSphereRulesBuilder.buildSchemaRules(schemaName, ruleConfigs, DatabaseTypeRecognizer.getDatabaseType(dataSources.values()), dataSources);
+    }
+    
+    private void unregisterRules(final Collection<ShardingSphereRule> rules) {
+        rules.forEach(ShardingSphereEventBus.getInstance()::unregister);
+    }
+    
+    private Collection<String> getReplacedDataSources(final Map<String, DataSource> oldDataSources, final Map<String, DataSource> newDataSources) {
+        return oldDataSources.entrySet().stream().filter(entry -> newDataSources.get(entry.getKey()) != entry.getValue()).map(Entry::getKey).collect(Collectors.toList());
+    }
+    
+    private Collection<String> getDeletedDataSources(final Map<String, DataSource> oldDataSources, final Map<String, DataSource> newDataSources) {
+        return oldDataSources.keySet().stream().filter(each -> !newDataSources.containsKey(each)).collect(Collectors.toList());
+    }
+    
+    private void closeDataSources(final Collection<DataSource> dataSources) throws SQLException {
+        for (DataSource each : dataSources) {
+            if (each instanceof AutoCloseable) {
+                try {
+                    ((AutoCloseable) each).close();
+                    // CHECKSTYLE:OFF
+                } catch (final Exception ex) {
+                    // CHECKSTYLE:ON
+                    throw new SQLException(ex);
+                }
+            }
+        }
+    }
+    
+    private synchronized boolean swap(final String schemaName, final ShardingSphereMetaData oldMetaData, final ShardingSphereMetaData newMetaData) {
+        if (metaDataContexts.getMetaDataMap().get(schemaName) != oldMetaData) {
+            return false;
+        }
+        metaDataContexts = new StandardMetaDataContexts(getNewMetaData(schemaName, newMetaData), metaDataContexts.getGlobalRuleMetaData(), metaDataContexts.getExecutorEngine(),
+                metaDataContexts.getProps(), metaDataContexts.getOptimizeContextFactory());
+        return true;
+    }
+    
     private Map<String, ShardingSphereMetaData> getNewMetaData(final String schemaName, final ShardingSphereMetaData metaData) {
         Map<String, ShardingSphereMetaData> newMetaDataMap = new HashMap<>(metaDataContexts.getMetaDataMap());
         newMetaDataMap.remove(schemaName);
@@ -360,43 +459,36 @@ public final class GovernanceMetaDataContexts implements MetaDataContexts {
         return metaDataContextsBuilder.build().getMetaDataMap().get(schemaName);
     }
     
-    private ShardingSphereMetaData getChangedMetaData(final ShardingSphereMetaData oldMetaData, final ShardingSphereSchema schema, final String schemaName) {
+    private ShardingSphereMetaData getChangedMetaData(final ShardingSphereMetaData oldMetaData, final SchemaChangedEvent event) {
         // TODO refresh table addressing mapper
+        String schemaName = event.getSchemaName();
+        Long appliedVersion = schemaVersions.get(schemaName);
+        if (null != appliedVersion && 0 < event.getVersion() && event.getVersion() <= appliedVersion) {
+            return oldMetaData;
+        }
+        schemaVersions.put(schemaName, event.getVersion());
+        ShardingSphereSchema schema;
+        if (null != appliedVersion && event.getVersion() == appliedVersion + 1) {
+            Map<String, TableMetaData> tables = new LinkedHashMap<>(oldMetaData.getSchema().getTables());
+            tables.keySet().removeAll(event.getDroppedTables());
+            tables.putAll(governanceFacade.getRegistryCenter().getSchemaService().loadTables(schemaName, event.getAlteredTables()));
+            schema = new ShardingSphereSchema(tables);
+        } else {
+            schema = governanceFacade.getRegistryCenter().getSchemaService().load(schemaName).orElseGet(ShardingSphereSchema::new);
+        }
         return new ShardingSphereMetaData(schemaName, oldMetaData.getResource(), oldMetaData.getRuleMetaData(), schema);
     }
     
-    private ShardingSphereMetaData getChangedMetaData(final ShardingSphereMetaData oldMetaData, final Collection<RuleConfiguration> ruleConfigs) throws SQLException {
-        // TODO load global schema from reg center
-        MetaDataContextsBuilder builder = new MetaDataContextsBuilder(Collections.singletonMap(oldMetaData.getName(), oldMetaData.getResource().getDataSources()),
-                Collections.singletonMap(oldMetaData.getName(), ruleConfigs), new LinkedList<>(), metaDataContexts.getProps().getProps());
-        return builder.build().getMetaDataMap().values().iterator().next();
-    }
-    
-    private ShardingSphereMetaData getChangedMetaData(final ShardingSphereMetaData oldMetaData, final Map<String, DataSourceConfiguration> newDataSourceConfigs) throws SQLException {
-        Collection<String> deletedDataSources = getDeletedDataSources(oldMetaData, newDataSourceConfigs);
-        Map<String, DataSource> modifiedDataSources = getModifiedDataSources(oldMetaData, newDataSourceConfigs);
-        oldMetaData.getResource().close(deletedDataSources);
-        oldMetaData.getResource().close(modifiedDataSources.keySet());
-        Map<String, Map<String, DataSource>> dataSourcesMap = Collections.singletonMap(oldMetaData.getName(), 
-                getNewDataSources(oldMetaData.getResource().getDataSources(), getAddedDataSources(oldMetaData, newDataSourceConfigs), modifiedDataSources, deletedDataSources));
-        // TODO load global schema from reg center
-        return new MetaDataContextsBuilder(dataSourcesMap, Collections.singletonMap(oldMetaData.getName(), oldMetaData.getRuleMetaData().getConfigurations()), new LinkedList<>(),
-                metaDataContexts.getProps().getProps()).build().getMetaDataMap().get(oldMetaData.getName());
-    }
-    
-    private Map<String, DataSource> getNewDataSources(final Map<String, DataSource> oldDataSources, 
-                                                      final Map<String, DataSource> addedDataSources, final Map<String, DataSource> modifiedDataSources, final Collection<String> deletedDataSources) {
+    private Map<String, DataSource> getNewDataSources(final Map<String, DataSource> oldDataSources, final Collection<String> dataSourceNames, final Map<String, DataSource> changedDataSources) {
         Map<String, DataSource> result = new LinkedHashMap<>(oldDataSources);
-        result.keySet().removeAll(deletedDataSources);
-        result.keySet().removeAll(modifiedDataSources.keySet());
-        result.putAll(modifiedDataSources);
-        result.putAll(addedDataSources);
+        result.keySet().retainAll(dataSourceNames);
+        result.putAll(changedDataSources);
         return result;
     }
     
-    private Collection<String> getDeletedDataSources(final ShardingSphereMetaData oldMetaData, final Map<String, DataSourceConfiguration> newDataSourceConfigs) {
-        Collection<String> result = new LinkedList<>(oldMetaData.getResource().getDataSources().keySet());
-        result.removeAll(newDataSourceConfigs.keySet());
+    private Map<String, DataSource> getChangedDataSources(final ShardingSphereMetaData oldMetaData, final Map<String, DataSourceConfiguration> newDataSourceConfigs) {
+        Map<String, DataSource> result = new LinkedHashMap<>(getModifiedDataSources(oldMetaData, newDataSourceConfigs));
+        result.putAll(getAddedDataSources(oldMetaData, newDataSourceConfigs));
         return result;
     }
     
@@ -17,6 +17,8 @@
 
 package org.apache.shardingsphere.governance.context.metadata;
 
+import com.google.common.eventbus.Subscribe;
+import lombok.Getter;
 import org.apache.shardingsphere.authority.api.config.AuthorityRuleConfiguration;
 import org.apache.shardingsphere.authority.rule.AuthorityRule;
 import org.apache.shardingsphere.governance.context.authority.listener.event.AuthorityChangedEvent;
@@ -38,6 +40,7 @@ import org.apache.shardingsphere.infra.config.datasource.DataSourceConfiguration
 import org.apache.shardingsphere.infra.config.properties.ConfigurationProperties;
 import org.apache.shardingsphere.infra.config.properties.ConfigurationPropertyKey;
 import org.apache.shardingsphere.infra.context.metadata.impl.StandardMetaDataContexts;
+import org.apache.shardingsphere.infra.eventbus.ShardingSphereEventBus;
 import org.apache.shardingsphere.infra.executor.kernel.ExecutorEngine;
 import org.apache.shardingsphere.infra.metadata.ShardingSphereMetaData;
 import org.apache.shardingsphere.infra.metadata.resource.ShardingSphereResource;
@@ -74,6 +77,8 @@ import static org.junit.Assert.assertThat;
 import static org.junit.Assert.assertTrue;
 import static org.mockito.Mockito.RETURNS_DEEP_STUBS;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 @RunWith(MockitoJUnitRunner.class)
@@ -98,13 +103,16 @@ public final class GovernanceMetaDataContextsTest {
     @Mock
     private ShardingSphereRuleMetaData globalRuleMetaData;
     
+    @Mock(answer = Answers.RETURNS_DEEP_STUBS)
+    private ExecutorEngine executorEngine;
+    
     @Before
     public void setUp() {
         when(governanceFacade.getConfigCenter()).thenReturn(configCenter);
         when(governanceFacade.getRegistryCenter()).thenReturn(registryCenter);
         when(registryCenter.getDataSourceStatusService().loadDisabledDataSources("schema")).thenReturn(Collections.singletonList("schema.ds_1"));
         governanceMetaDataContexts = new GovernanceMetaDataContexts(new StandardMetaDataContexts(
-                createMetaDataMap(), globalRuleMetaData, mock(ExecutorEngine.class), props, mockOptimizeContextFactory()), governanceFacade);
+                createMetaDataMap(), globalRuleMetaData, executorEngine, props, mockOptimizeContextFactory()), governanceFacade);
     }
     
     private Map<String, ShardingSphereMetaData> createMetaDataMap() {
@@ -162,6 +170,7 @@ public final class GovernanceMetaDataContextsTest {
         SchemaDeletedEvent event = new SchemaDeletedEvent("schema");
         governanceMetaDataContexts.renew(event);
         assertNull(governanceMetaDataContexts.getMetaData("schema"));
+        verify(executorEngine.getExecutorServiceManager()).closePartitions("schema");
     }
     
     @Test
@@ -175,7 +184,7 @@ public final class GovernanceMetaDataContextsTest {
     
     @Test
     public void assertSchemaChanged() {
-        SchemaChangedEvent event = new SchemaChangedEvent("schema_changed", mock(ShardingSphereSchema.class));
+        SchemaChangedEvent event = new SchemaChangedEvent("schema_changed", 1L, Collections.singleton("t_order"), Collections.emptyList());
         governanceMetaDataContexts.renew(event);
         assertTrue(governanceMetaDataContexts.getAllSchemaNames().contains("schema"));
         assertFalse(governanceMetaDataContexts.getAllSchemaNames().contains("schema_changed"));
@@ -183,11 +192,34 @@ public final class GovernanceMetaDataContextsTest {
     
     @Test
     public void assertSchemaChangedWithExistSchema() {
-        SchemaChangedEvent event = new SchemaChangedEvent("schema", mock(ShardingSphereSchema.class));
+        SchemaChangedEvent event = new SchemaChangedEvent("schema", 1L, Collections.singleton("t_order"), Collections.emptyList());
         governanceMetaDataContexts.renew(event);
         assertThat(governanceMetaDataContexts.getMetaData("schema"), not(metaData));
     }
     
+    @Test
+    public void assertSchemaChangedWithMissedVersion() {
+        governanceMetaDataContexts.renew(new SchemaChangedEvent("schema", 1L, Collections.singleton("t_order"), Collections.emptyList()));
+        verify(registryCenter.getSchemaService(), never()).load("schema");
+        governanceMetaDataContexts.renew(new SchemaChangedEvent("schema", 3L, Collections.singleton("t_order"), Collections.emptyList()));
+        verify(registryCenter.getSchemaService()).load("schema");
+    }
+    
+    @Test
+    public void assertSchemaChangedWithAppliedVersion() {
+        governanceMetaDataContexts.renew(new SchemaChangedEvent("schema", 1L, Collections.singleton("t_order"), Collections.emptyList()));
+        ShardingSphereMetaData actual = governanceMetaDataContexts.getMetaData("schema");
+        governanceMetaDataContexts.renew(new SchemaChangedEvent("schema", 1L, Collections.singleton("t_order"), Collections.emptyList()));
+        assertThat(governanceMetaDataContexts.getMetaData("schema"), is(actual));
+        verify(registryCenter.getSchemaService(), never()).load("schema");
+    }
+    
+    @Test
+    public void assertSchemaChangedWithLegacyFormat() {
+        governanceMetaDataContexts.renew(new SchemaChangedEvent("schema", 0L, Collections.emptyList(), Collections.emptyList()));
+        verify(registryCenter.getSchemaService()).load("schema");
+    }
+    
     @Test
     public void assertRuleConfigurationsChanged() throws SQLException {
         assertThat(governanceMetaDataContexts.getMetaData("schema"), is(metaData));
@@ -196,6 +228,16 @@ public final class GovernanceMetaDataContextsTest {
         assertThat(governanceMetaDataContexts.getMetaData("schema"), not(metaData));
     }
     
+    @Test
+    public void assertRuleConfigurationsChangedWithReplacedRulesUnregistered() throws SQLException {
+        SubscribedRule rule = new SubscribedRule();
+        ShardingSphereEventBus.getInstance().register(rule);
+        when(metaData.getRuleMetaData().getRules()).thenReturn(Collections.singletonList(rule));
+        governanceMetaDataContexts.renew(new RuleConfigurationsChangedEvent("schema", new LinkedList<>()));
+        ShardingSphereEventBus.getInstance().post(rule);
+        assertThat(rule.getReceivedCount(), is(0));
+    }
+    
     @Test
     public void assertDisableStateChanged() {
         DisabledStateChangedEvent event = new DisabledStateChangedEvent(new GovernanceSchema("schema.ds_0"), true);
@@ -253,4 +295,20 @@ public final class GovernanceMetaDataContextsTest {
         AuthorityRule authorityRule = new AuthorityRule(ruleConfig, governanceMetaDataContexts.getMetaDataMap(), Collections.emptyList());
         return Collections.singleton(authorityRule);
     }
+    
+    @Getter
+    public static final class SubscribedRule implements ShardingSphereRule {
+        
+        private int receivedCount;
+        
+        /**
+         * Receive event.
+         *
+         * @param event event
+         */
+        @Subscribe
+        public void receive(final SubscribedRule event) {
+            receivedCount++;
+        }
+    }
 }
@@ -20,16 +20,23 @@ package org.apache.shardingsphere.governance.core.registry.config.event.schema;
 import lombok.Getter;
 import lombok.RequiredArgsConstructor;
 import org.apache.shardingsphere.governance.core.registry.GovernanceEvent;
-import org.apache.shardingsphere.infra.metadata.schema.ShardingSphereSchema;
+
+import java.util.Collection;
 
 /**
  * Schema changed event.
+ * 
+ * <p>Version is zero if schema is persisted with legacy format, which has no version.</p>
  */
 @RequiredArgsConstructor
 @Getter
 public final class SchemaChangedEvent implements GovernanceEvent {
 
     private final String schemaName;
-
-    private final ShardingSphereSchema schema;
+    
+    private final long version;
+    
+    private final Collection<String> alteredTables;
+    
+    private final Collection<String> droppedTables;
 }
@@ -23,21 +23,35 @@ import org.apache.shardingsphere.infra.config.persist.node.SchemaMetadataNode;
 import org.apache.shardingsphere.governance.core.registry.metadata.event.DatabaseCreatedSQLNotificationEvent;
 import org.apache.shardingsphere.governance.core.registry.metadata.event.DatabaseDroppedSQLNotificationEvent;
 import org.apache.shardingsphere.governance.core.yaml.schema.pojo.YamlSchema;
+import org.apache.shardingsphere.governance.core.yaml.schema.pojo.YamlSchemaVersion;
+import org.apache.shardingsphere.governance.core.yaml.schema.pojo.YamlTableMetaData;
 import org.apache.shardingsphere.governance.core.yaml.schema.swapper.SchemaYamlSwapper;
 import org.apache.shardingsphere.governance.repository.spi.RegistryCenterRepository;
 import org.apache.shardingsphere.infra.eventbus.ShardingSphereEventBus;
+import org.apache.shardingsphere.infra.exception.ShardingSphereException;
 import org.apache.shardingsphere.infra.metadata.schema.ShardingSphereSchema;
+import org.apache.shardingsphere.infra.metadata.schema.model.TableMetaData;
 import org.apache.shardingsphere.infra.metadata.schema.refresher.event.SchemaAlteredEvent;
 import org.apache.shardingsphere.infra.yaml.engine.YamlEngine;
 
 import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Map.Entry;
 import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
 
 /**
  * Schema registry service.
+ * 
+ * <p>Every table is persisted into its own node, and the schema node holds the version with tables altered or dropped by it.</p>
  */
 public final class SchemaRegistryService {
     
+    private static final long LOCK_TIMEOUT_MILLISECONDS = 10000L;
+    
     private final RegistryCenterRepository repository;
     
     public SchemaRegistryService(final RegistryCenterRepository repository) {
@@ -47,12 +61,99 @@ public final class SchemaRegistryService {
 
     /**
      * Persist schema.
+     * 
+     * <p>
+     * Only tables altered or dropped compared with the table nodes in registry center are written.
+     * The schema is locked in registry center while persisting, so concurrent instances never allocate the same version.
+     * Schema of legacy format is migrated into table nodes.
+     * </p>
      *
      * @param schemaName schema name to be persisted
      * @param schema schema to be persisted
+     * @return persisted version of schema
      */
-    public void persist(final String schemaName, final ShardingSphereSchema schema) {
-        repository.persist(SchemaMetadataNode.getMetadataSchemaPath(schemaName), YamlEngine.marshal(new SchemaYamlSwapper().swapToYamlConfiguration(schema)));
+    public synchronized long persist(final String schemaName, final ShardingSphereSchema schema) {
+        return persistWithLock(schemaName, () -> persistAllTables(schemaName, schema));
+    }
+    
+    /**
+     * Persist altered and dropped tables of schema.
+     * 
+     * <p>Other table nodes are neither read nor written, unless the schema is absent or of legacy format in registry center, which is persisted entirely.</p>
+     *
+     * @param schemaName schema name to be persisted
+     * @param schema schema to be persisted
+     * @param alteredTables names of tables altered in schema
+     * @param droppedTables names of tables dropped from schema
+     * @return persisted version of schema
+     */
+    public synchronized long persist(final String schemaName, final ShardingSphereSchema schema, final Collection<String> alteredTables, final Collection<String> droppedTables) {
+        return persistWithLock(schemaName, () -> persistChangedTables(schemaName, schema, alteredTables, droppedTables));
+    }
+    
+    private long persistWithLock(final String schemaName, final Supplier<Long> persister) {
+        String lockPath = SchemaMetadataNode.getMetadataSchemaLockPath(schemaName);
+        if (!repository.tryLock(lockPath, LOCK_TIMEOUT_MILLISECONDS, TimeUnit.MILLISECONDS)) {
+            throw new ShardingSphereException("Can not lock schema `%s` to persist meta data within %d milliseconds.", schemaName, LOCK_TIMEOUT_MILLISECONDS);
+        }
+        try {
+            return persister.get();
+        } finally {
+            repository.releaseLock(lockPath);
+        }
+    }
+    
+    private long persistAllTables(final String schemaName, final ShardingSphereSchema schema) {
+        Map<String, String> oldTables = loadPersistedTables(schemaName);
+        Map<String, String> newTables = new LinkedHashMap<>(schema.getAllTableNames().size(), 1);
+        for (String each : schema.getAllTableNames()) {
+            newTables.put(each, marshalTable(schema, each));
+        }
+        Collection<String> alteredTables = newTables.entrySet().stream().filter(entry -> !entry.getValue().equals(oldTables.get(entry.getKey()))).map(Entry::getKey).collect(Collectors.toList());
+        Collection<String> droppedTables = oldTables.keySet().stream().filter(each -> !newTables.containsKey(each)).collect(Collectors.toList());
+        alteredTables.forEach(each -> repository.persist(SchemaMetadataNode.getMetadataTablePath(schemaName, each), newTables.get(each)));
+        droppedTables.forEach(each -> repository.delete(SchemaMetadataNode.getMetadataTablePath(schemaName, each)));
+        return persistSchemaVersion(schemaName, loadSchemaVersion(schemaName), alteredTables, droppedTables);
+    }
+    
+    private long persistChangedTables(final String schemaName, final ShardingSphereSchema schema, final Collection<String> alteredTables, final Collection<String> droppedTables) {
+        Optional<YamlSchemaVersion> schemaVersion = loadSchemaVersion(schemaName);
+        if (!schemaVersion.isPresent() || null != schemaVersion.get().getTables()) {
+            return persistAllTables(schemaName, schema);
+        }
+        Collection<String> actualAlteredTables = alteredTables.stream().filter(schema::containsTable).collect(Collectors.toList());
+        actualAlteredTables.forEach(each -> repository.persist(SchemaMetadataNode.getMetadataTablePath(schemaName, each), marshalTable(schema, each)));
+        droppedTables.forEach(each -> repository.delete(SchemaMetadataNode.getMetadataTablePath(schemaName, each)));
+        return persistSchemaVersion(schemaName, schemaVersion, actualAlteredTables, droppedTables);
+    }
+    
+    private String marshalTable(final ShardingSphereSchema schema, final String tableName) {
+        return YamlEngine.marshal(new SchemaYamlSwapper().swapToYamlTable(schema.get(tableName)));
+    }
+    
+    private Map<String, String> loadPersistedTables(final String schemaName) {
+        Map<String, String> result = new LinkedHashMap<>();
+        for (String each : repository.getChildrenKeys(SchemaMetadataNode.getMetadataTablesPath(schemaName))) {
+            String yamlContent = repository.get(SchemaMetadataNode.getMetadataTablePath(schemaName, each));
+            if (!Strings.isNullOrEmpty(yamlContent)) {
+                result.put(each, yamlContent);
+            }
+        }
+        return result;
+    }
+    
+    private long persistSchemaVersion(final String schemaName, final Optional<YamlSchemaVersion> previousVersion, final Collection<String> alteredTables, final Collection<String> droppedTables) {
+        YamlSchemaVersion schemaVersion = new YamlSchemaVersion();
+        schemaVersion.setVersion(previousVersion.map(YamlSchemaVersion::getVersion).orElse(0L) + 1);
+        schemaVersion.setAlteredTables(alteredTables);
+        schemaVersion.setDroppedTables(droppedTables);
+        repository.persist(SchemaMetadataNode.getMetadataSchemaPath(schemaName), YamlEngine.marshal(schemaVersion));
+        return schemaVersion.getVersion();
+    }
+    
+    private Optional<YamlSchemaVersion> loadSchemaVersion(final String schemaName) {
+        String yamlContent = repository.get(SchemaMetadataNode.getMetadataSchemaPath(schemaName));
+        return Strings.isNullOrEmpty(yamlContent) ? Optional.empty() : Optional.of(YamlEngine.unmarshal(yamlContent, YamlSchemaVersion.class));
     }
     
     /**
@@ -66,13 +167,41 @@ public final class SchemaRegistryService {
     
     /**
      * Load schema.
+     * 
+     * <p>Schema of legacy format is loaded from the schema node.</p>
      *
      * @param schemaName schema name to be loaded
      * @return Loaded schema
      */
     public Optional<ShardingSphereSchema> load(final String schemaName) {
-        String path = repository.get(SchemaMetadataNode.getMetadataSchemaPath(schemaName));
-        return Strings.isNullOrEmpty(path) ? Optional.empty() : Optional.of(new SchemaYamlSwapper().swapToObject(YamlEngine.unmarshal(path, YamlSchema.class)));
+        Optional<YamlSchemaVersion> schemaVersion = loadSchemaVersion(schemaName);
+        if (!schemaVersion.isPresent()) {
+            return Optional.empty();
+        }
+        if (null != schemaVersion.get().getTables()) {
+            YamlSchema legacySchema = new YamlSchema();
+            legacySchema.setTables(schemaVersion.get().getTables());
+            return Optional.of(new SchemaYamlSwapper().swapToObject(legacySchema));
+        }
+        return Optional.of(new ShardingSphereSchema(loadTables(schemaName, repository.getChildrenKeys(SchemaMetadataNode.getMetadataTablesPath(schemaName)))));
+    }
+    
+    /**
+     * Load tables.
+     *
+     * @param schemaName schema name
+     * @param tableNames table names to be loaded
+     * @return loaded table meta data map, key is table name
+     */
+    public Map<String, TableMetaData> loadTables(final String schemaName, final Collection<String> tableNames) {
+        Map<String, TableMetaData> result = new LinkedHashMap<>(tableNames.size(), 1);
+        for (String each : tableNames) {
+            String yamlContent = repository.get(SchemaMetadataNode.getMetadataTablePath(schemaName, each));
+            if (!Strings.isNullOrEmpty(yamlContent)) {
+                result.put(each, new SchemaYamlSwapper().swapToTable(each, YamlEngine.unmarshal(yamlContent, YamlTableMetaData.class)));
+            }
+        }
+        return result;
     }
     
     /**
@@ -101,7 +230,7 @@ public final class SchemaRegistryService {
      */
     @Subscribe
     public void update(final SchemaAlteredEvent event) {
-        persist(event.getSchemaName(), event.getSchema());
+        persist(event.getSchemaName(), event.getSchema(), event.getAlteredTables(), event.getDroppedTables());
     }
     
     /**
@@ -0,0 +1,221 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.governance.core.snapshot;
+
+import com.google.common.base.Strings;
+import org.apache.shardingsphere.governance.core.registry.GovernanceWatcher;
+import org.apache.shardingsphere.governance.core.yaml.snapshot.pojo.YamlGovernanceSnapshot;
+import org.apache.shardingsphere.governance.repository.api.listener.DataChangedEvent;
+import org.apache.shardingsphere.governance.repository.api.listener.DataChangedEvent.Type;
+import org.apache.shardingsphere.infra.config.persist.node.GlobalNode;
+import org.apache.shardingsphere.infra.config.persist.node.SchemaMetadataNode;
+import org.apache.shardingsphere.infra.config.persist.repository.ConfigCenterRepository;
+import org.apache.shardingsphere.infra.eventbus.ShardingSphereEventBus;
+import org.apache.shardingsphere.infra.spi.ShardingSphereServiceLoader;
+import org.apache.shardingsphere.infra.yaml.engine.YamlEngine;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.PosixFilePermissions;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.LinkedList;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.Objects;
+import java.util.Optional;
+
+/**
+ * Governance snapshot service, which keeps configurations of registry center in local file.
+ * 
+ * <p>Content of each node is regarded as its version, changed nodes are found by comparing snapshot with registry center.</p>
+ * 
+ * <p>Snapshot contains passwords of data sources and users, so node values are encrypted by the secret in the file,
+ * and the file is only readable and writable by its owner on POSIX file systems.</p>
+ */
+public final class GovernanceSnapshotService {
+    
+    static {
+        ShardingSphereServiceLoader.register(GovernanceWatcher.class);
+    }
+    
+    private static final String OWNER_ONLY_PERMISSIONS = "rw-------";
+    
+    private static final String EMPTY_MAP = "{}";
+    
+    private static final String EMPTY_COLLECTION = "[]";
+    
+    private final Path snapshotFile;
+    
+    private final SnapshotCipher cipher;
+    
+    public GovernanceSnapshotService(final Path snapshotFile, final String secret) {
+        this.snapshotFile = snapshotFile;
+        cipher = new SnapshotCipher(secret);
+    }
+    
+    /**
+     * Load snapshot from local file.
+     *
+     * @return snapshot repository, empty if snapshot file is absent
+     * @throws IOException IO exception
+     * @throws IllegalStateException if snapshot is not encrypted by the same secret
+     */
+    public Optional<SnapshotRepository> load() throws IOException {
+        if (!Files.isRegularFile(snapshotFile)) {
+            return Optional.empty();
+        }
+        YamlGovernanceSnapshot snapshot = YamlEngine.unmarshal(snapshotFile.toFile(), YamlGovernanceSnapshot.class);
+        if (null == snapshot || snapshot.getNodes().isEmpty()) {
+            return Optional.empty();
+        }
+        Map<String, String> nodes = new LinkedHashMap<>(snapshot.getNodes().size(), 1);
+        snapshot.getNodes().forEach((key, value) -> nodes.put(key, value.isEmpty() ? value : cipher.decrypt(value)));
+        return Optional.of(new SnapshotRepository(nodes));
+    }
+    
+    /**
+     * Take snapshot of registry center and save it into local file.
+     *
+     * @param registryRepository registry center repository
+     * @return snapshot repository
+     * @throws IOException IO exception
+     */
+    public SnapshotRepository save(final ConfigCenterRepository registryRepository) throws IOException {
+        SnapshotRepository result = takeSnapshot(registryRepository);
+        write(result);
+        return result;
+    }
+    
+    /**
+     * Reconcile snapshot with registry center.
+     * 
+     * <p>Changed nodes are posted as governance events as if they were watched from registry center, then the latest snapshot is saved.
+     * Nodes deleted from existing schemas or global configurations are posted as updated to empty content, because they are reset rather than removed.</p>
+     *
+     * @param snapshot snapshot repository used to start up
+     * @param registryRepository registry center repository
+     * @return changed node paths
+     * @throws IOException IO exception
+     */
+    public Collection<String> reconcile(final SnapshotRepository snapshot, final ConfigCenterRepository registryRepository) throws IOException {
+        SnapshotRepository latest = takeSnapshot(registryRepository);
+        Collection<DataChangedEvent> changedEvents = getChangedEvents(snapshot, latest);
+        Collection<String> result = new LinkedList<>();
+        for (DataChangedEvent each : changedEvents) {
+            post(each);
+            result.add(each.getKey());
+        }
+        write(latest);
+        return result;
+    }
+    
+    private SnapshotRepository takeSnapshot(final ConfigCenterRepository registryRepository) {
+        Map<String, String> nodes = new LinkedHashMap<>();
+        copyNode(registryRepository, GlobalNode.getPropsPath(), nodes);
+        copyNode(registryRepository, GlobalNode.getGlobalRuleNode(), nodes);
+        for (String each : registryRepository.getChildrenKeys(SchemaMetadataNode.getMetadataNodePath())) {
+            nodes.put(SchemaMetadataNode.getSchemaNamePath(each), Strings.nullToEmpty(registryRepository.get(SchemaMetadataNode.getSchemaNamePath(each))));
+            copyNode(registryRepository, SchemaMetadataNode.getMetadataDataSourcePath(each), nodes);
+            copyNode(registryRepository, SchemaMetadataNode.getRulePath(each), nodes);
+        }
+        return new SnapshotRepository(nodes);
+    }
+    
+    private void copyNode(final ConfigCenterRepository registryRepository, final String path, final Map<String, String> nodes) {
+        String value = registryRepository.get(path);
+        if (!Strings.isNullOrEmpty(value)) {
+            nodes.put(path, value);
+        }
+    }
+    
+    private Collection<DataChangedEvent> getChangedEvents(final SnapshotRepository snapshot, final SnapshotRepository latest) {
+        Collection<String> snapshotSchemaNames = snapshot.getChildrenKeys(SchemaMetadataNode.getMetadataNodePath());
+        Collection<String> latestSchemaNames = latest.getChildrenKeys(SchemaMetadataNode.getMetadataNodePath());
+        Collection<DataChangedEvent> result = new LinkedList<>();
+        for (String each : snapshotSchemaNames) {
+            if (!latestSchemaNames.contains(each)) {
+                result.add(new DataChangedEvent(SchemaMetadataNode.getSchemaNamePath(each), "", Type.DELETED));
+            }
+        }
+        for (Entry<String, String> entry : latest.getNodes().entrySet()) {
+            String schemaName = SchemaMetadataNode.getSchemaName(entry.getKey());
+            boolean isSchemaNode = !schemaName.isEmpty() && SchemaMetadataNode.getSchemaNamePath(schemaName).equals(entry.getKey());
+            if (isSchemaNode && !snapshotSchemaNames.contains(schemaName)) {
+                result.add(new DataChangedEvent(entry.getKey(), entry.getValue(), Type.ADDED));
+            } else if (!isSchemaNode && (schemaName.isEmpty() || snapshotSchemaNames.contains(schemaName)) && !Objects.equals(entry.getValue(), snapshot.get(entry.getKey()))) {
+                result.add(new DataChangedEvent(entry.getKey(), entry.getValue(), Type.UPDATED));
+            }
+        }
+        for (String each : snapshot.getNodes().keySet()) {
+            String schemaName = SchemaMetadataNode.getSchemaName(each);
+            if (null == latest.get(each) && (schemaName.isEmpty() || latestSchemaNames.contains(schemaName))) {
+                getEmptyValue(each).ifPresent(optional -> result.add(new DataChangedEvent(each, optional, Type.UPDATED)));
+            }
+        }
+        return result;
+    }
+    
+    private Optional<String> getEmptyValue(final String path) {
+        String schemaName = SchemaMetadataNode.getSchemaName(path);
+        if (GlobalNode.getPropsPath().equals(path) || (!schemaName.isEmpty() && SchemaMetadataNode.getMetadataDataSourcePath(schemaName).equals(path))) {
+            return Optional.of(EMPTY_MAP);
+        }
+        if (!schemaName.isEmpty() && SchemaMetadataNode.getRulePath(schemaName).equals(path)) {
+            return Optional.of(EMPTY_COLLECTION);
+        }
+        return Optional.empty();
+    }
+    
+    private void post(final DataChangedEvent event) {
+        for (GovernanceWatcher<?> each : ShardingSphereServiceLoader.getSingletonServiceInstances(GovernanceWatcher.class)) {
+            if (each.getWatchingTypes().contains(event.getType()) && isWatching(each, event.getKey())) {
+                each.createGovernanceEvent(event).ifPresent(ShardingSphereEventBus.getInstance()::post);
+            }
+        }
+    }
+    
+    private boolean isWatching(final GovernanceWatcher<?> watcher, final String path) {
+        return watcher.getWatchingKeys(Collections.emptyList()).stream().anyMatch(each -> path.equals(each) || path.startsWith(each + ConfigCenterRepository.PATH_SEPARATOR));
+    }
+    
+    private void write(final SnapshotRepository snapshot) throws IOException {
+        YamlGovernanceSnapshot yamlSnapshot = new YamlGovernanceSnapshot();
+        yamlSnapshot.setCreatedTime(System.currentTimeMillis());
+        Map<String, String> nodes = new LinkedHashMap<>(snapshot.getNodes().size(), 1);
+        snapshot.getNodes().forEach((key, value) -> nodes.put(key, value.isEmpty() ? value : cipher.encrypt(value)));
+        yamlSnapshot.setNodes(nodes);
+        Path tempFile = snapshotFile.resolveSibling(snapshotFile.getFileName() + ".tmp");
+        Files.deleteIfExists(tempFile);
+        createOwnerOnlyFile(tempFile);
+        Files.write(tempFile, YamlEngine.marshal(yamlSnapshot).getBytes(StandardCharsets.UTF_8));
+        Files.move(tempFile, snapshotFile, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+    
+    private void createOwnerOnlyFile(final Path file) throws IOException {
+        if (file.getFileSystem().supportedFileAttributeViews().contains("posix")) {
+            Files.createFile(file, PosixFilePermissions.asFileAttribute(PosixFilePermissions.fromString(OWNER_ONLY_PERMISSIONS)));
+        } else {
+            Files.createFile(file);
+        }
+    }
+}
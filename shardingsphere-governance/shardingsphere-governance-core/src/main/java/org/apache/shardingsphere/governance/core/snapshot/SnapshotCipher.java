@@ -0,0 +1,96 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.governance.core.snapshot;
+
+import com.google.common.base.Preconditions;
+import com.google.common.base.Strings;
+import lombok.SneakyThrows;
+
+import javax.crypto.Cipher;
+import javax.crypto.spec.GCMParameterSpec;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.security.SecureRandom;
+import java.util.Arrays;
+import java.util.Base64;
+
+/**
+ * Snapshot cipher, which encrypts node values of snapshot by AES/GCM with key derived from secret.
+ */
+public final class SnapshotCipher {
+    
+    private static final String TRANSFORMATION = "AES/GCM/NoPadding";
+    
+    private static final int KEY_LENGTH = 16;
+    
+    private static final int IV_LENGTH = 12;
+    
+    private static final int TAG_BIT_LENGTH = 128;
+    
+    private final SecureRandom random = new SecureRandom();
+    
+    private final SecretKeySpec secretKey;
+    
+    public SnapshotCipher(final String secret) {
+        Preconditions.checkArgument(!Strings.isNullOrEmpty(secret), "Secret of governance snapshot is required.");
+        secretKey = new SecretKeySpec(Arrays.copyOf(digest(secret), KEY_LENGTH), "AES");
+    }
+    
+    @SneakyThrows(GeneralSecurityException.class)
+    private static byte[] digest(final String secret) {
+        return MessageDigest.getInstance("SHA-256").digest(secret.getBytes(StandardCharsets.UTF_8));
+    }
+    
+    /**
+     * Encrypt value.
+     *
+     * @param value value to be encrypted
+     * @return base64 encoded initialization vector and cipher text
+     */
+    @SneakyThrows(GeneralSecurityException.class)
+    public String encrypt(final String value) {
+        byte[] iv = new byte[IV_LENGTH];
+        random.nextBytes(iv);
+        Cipher cipher = Cipher.getInstance(TRANSFORMATION);
+        cipher.init(Cipher.ENCRYPT_MODE, secretKey, new GCMParameterSpec(TAG_BIT_LENGTH, iv));
+        byte[] cipherText = cipher.doFinal(value.getBytes(StandardCharsets.UTF_8));
+        return Base64.getEncoder().encodeToString(ByteBuffer.allocate(iv.length + cipherText.length).put(iv).put(cipherText).array());
+    }
+    
+    /**
+     * Decrypt value.
+     *
+     * @param value base64 encoded initialization vector and cipher text
+     * @return decrypted value
+     * @throws IllegalStateException if value is not encrypted by the same secret
+     */
+    public String decrypt(final String value) {
+        byte[] data = Base64.getDecoder().decode(value);
+        Preconditions.checkState(data.length > IV_LENGTH, "Invalid encrypted value of governance snapshot.");
+        try {
+            Cipher cipher = Cipher.getInstance(TRANSFORMATION);
+            cipher.init(Cipher.DECRYPT_MODE, secretKey, new GCMParameterSpec(TAG_BIT_LENGTH, data, 0, IV_LENGTH));
+            return new String(cipher.doFinal(data, IV_LENGTH, data.length - IV_LENGTH), StandardCharsets.UTF_8);
+        } catch (final GeneralSecurityException ex) {
+            throw new IllegalStateException("Can not decrypt governance snapshot, the secret may be changed.", ex);
+        }
+    }
+}
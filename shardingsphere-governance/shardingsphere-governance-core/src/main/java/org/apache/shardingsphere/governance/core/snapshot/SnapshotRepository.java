@@ -0,0 +1,75 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.governance.core.snapshot;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.apache.shardingsphere.infra.config.persist.repository.ConfigCenterRepository;
+
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Snapshot repository, which holds configuration nodes of registry center in memory.
+ */
+@RequiredArgsConstructor
+public final class SnapshotRepository implements ConfigCenterRepository {
+    
+    @Getter
+    private final Map<String, String> nodes;
+    
+    @Override
+    public String get(final String key) {
+        return nodes.get(key);
+    }
+    
+    @Override
+    public List<String> getChildrenKeys(final String key) {
+        String prefix = key + PATH_SEPARATOR;
+        Set<String> result = new LinkedHashSet<>();
+        for (String each : nodes.keySet()) {
+            if (each.startsWith(prefix)) {
+                String childPath = each.substring(prefix.length());
+                result.add(childPath.contains(PATH_SEPARATOR) ? childPath.substring(0, childPath.indexOf(PATH_SEPARATOR)) : childPath);
+            }
+        }
+        return new ArrayList<>(result);
+    }
+    
+    @Override
+    public void persist(final String key, final String value) {
+        nodes.put(key, value);
+    }
+    
+    @Override
+    public void delete(final String key) {
+        nodes.keySet().removeIf(each -> each.equals(key) || each.startsWith(key + PATH_SEPARATOR));
+    }
+    
+    @Override
+    public void close() {
+    }
+    
+    @Override
+    public String getType() {
+        return "Snapshot";
+    }
+}
@@ -0,0 +1,44 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.governance.core.yaml.schema.pojo;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.apache.shardingsphere.infra.yaml.config.YamlConfiguration;
+
+import java.util.Collection;
+import java.util.LinkedList;
+import java.util.Map;
+
+/**
+ * Schema version for YAML, which records tables altered or dropped since last version.
+ * 
+ * <p>Tables are only present in schema persisted with legacy format, which holds all tables in the schema node without version.</p>
+ */
+@Getter
+@Setter
+public final class YamlSchemaVersion implements YamlConfiguration {
+    
+    private long version;
+    
+    private Collection<String> alteredTables = new LinkedList<>();
+    
+    private Collection<String> droppedTables = new LinkedList<>();
+    
+    private Map<String, YamlTableMetaData> tables;
+}
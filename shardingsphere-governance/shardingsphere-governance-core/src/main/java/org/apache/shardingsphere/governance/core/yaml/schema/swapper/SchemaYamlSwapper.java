@@ -56,6 +56,27 @@ public final class SchemaYamlSwapper implements YamlConfigurationSwapper<YamlSch
         return Optional.ofNullable(yamlConfig).map(this::swapSchema).orElse(new ShardingSphereSchema());
     }
     
+    /**
+     * Swap to YAML table meta data.
+     *
+     * @param table table meta data
+     * @return YAML table meta data
+     */
+    public YamlTableMetaData swapToYamlTable(final TableMetaData table) {
+        return swapYamlTable(table);
+    }
+    
+    /**
+     * Swap to table meta data.
+     *
+     * @param tableName table name
+     * @param table YAML table meta data
+     * @return table meta data
+     */
+    public TableMetaData swapToTable(final String tableName, final YamlTableMetaData table) {
+        return swapTable(tableName, table);
+    }
+    
     private ShardingSphereSchema swapSchema(final YamlSchema schema) {
         return new ShardingSphereSchema(MapUtils.isEmpty(schema.getTables()) ? Maps.newLinkedHashMap() : schema.getTables().entrySet().stream()
                 .collect(Collectors.toMap(Entry::getKey, entry -> swapTable(entry.getKey(), entry.getValue()), (oldValue, currentValue) -> oldValue, LinkedHashMap::new)));
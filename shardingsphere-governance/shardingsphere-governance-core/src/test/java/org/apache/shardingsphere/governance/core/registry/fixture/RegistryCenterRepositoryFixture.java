@@ -59,7 +59,7 @@ public final class RegistryCenterRepositoryFixture implements RegistryCenterRepo
     
     @Override
     public boolean tryLock(final String key, final long time, final TimeUnit unit) {
-        return false;
+        return true;
     }
     
     @Override
@@ -23,7 +23,9 @@ import org.apache.shardingsphere.governance.core.registry.metadata.event.Databas
 import org.apache.shardingsphere.governance.core.yaml.schema.pojo.YamlSchema;
 import org.apache.shardingsphere.governance.core.yaml.schema.swapper.SchemaYamlSwapper;
 import org.apache.shardingsphere.governance.repository.spi.RegistryCenterRepository;
+import org.apache.shardingsphere.infra.exception.ShardingSphereException;
 import org.apache.shardingsphere.infra.metadata.schema.ShardingSphereSchema;
+import org.apache.shardingsphere.infra.metadata.schema.model.TableMetaData;
 import org.apache.shardingsphere.infra.metadata.schema.refresher.event.SchemaAlteredEvent;
 import org.apache.shardingsphere.infra.yaml.engine.YamlEngine;
 import org.junit.Before;
@@ -40,15 +42,19 @@ import java.nio.file.Paths;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.TimeUnit;
 import java.util.stream.Collectors;
 
 import static org.hamcrest.CoreMatchers.hasItems;
 import static org.hamcrest.CoreMatchers.is;
 import static org.junit.Assert.assertThat;
 import static org.junit.Assert.assertTrue;
+import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -70,9 +76,73 @@ public final class SchemaRegistryServiceTest {
     
     @Test
     public void assertPersist() {
-        ShardingSphereSchema schema = new SchemaYamlSwapper().swapToObject(YamlEngine.unmarshal(readYAML(), YamlSchema.class));
+        mockSchemaLock(true);
+        schemaRegistryService.persist("foo_db", createSchema());
+        verify(registryCenterRepository).persist(eq("/metadata/foo_db/schema/tables/t_order"), anyString());
+        verify(registryCenterRepository).persist("/metadata/foo_db/schema", "alteredTables:\n- t_order\nversion: 1\n");
+    }
+    
+    @Test
+    public void assertPersistWithoutChangedTables() {
+        mockSchemaLock(true);
+        ShardingSphereSchema schema = createSchema();
+        when(registryCenterRepository.getChildrenKeys("/metadata/foo_db/schema/tables")).thenReturn(Collections.singletonList("t_order"));
+        when(registryCenterRepository.get("/metadata/foo_db/schema/tables/t_order")).thenReturn(marshalTable(schema));
+        when(registryCenterRepository.get("/metadata/foo_db/schema")).thenReturn("version: 1");
+        schemaRegistryService.persist("foo_db", schema);
+        verify(registryCenterRepository, never()).persist(eq("/metadata/foo_db/schema/tables/t_order"), anyString());
+        verify(registryCenterRepository).persist("/metadata/foo_db/schema", "version: 2\n");
+    }
+    
+    @Test
+    public void assertPersistWithDroppedTables() {
+        mockSchemaLock(true);
+        when(registryCenterRepository.getChildrenKeys("/metadata/foo_db/schema/tables")).thenReturn(Collections.singletonList("t_order"));
+        when(registryCenterRepository.get("/metadata/foo_db/schema/tables/t_order")).thenReturn(marshalTable(createSchema()));
+        schemaRegistryService.persist("foo_db", new ShardingSphereSchema());
+        verify(registryCenterRepository).delete("/metadata/foo_db/schema/tables/t_order");
+        verify(registryCenterRepository).persist("/metadata/foo_db/schema", "droppedTables:\n- t_order\nversion: 1\n");
+    }
+    
+    @Test
+    public void assertPersistWithTablesDeletedInRegistryCenter() {
+        mockSchemaLock(true);
+        ShardingSphereSchema schema = createSchema();
+        when(registryCenterRepository.getChildrenKeys("/metadata/foo_db/schema/tables")).thenReturn(Collections.singletonList("t_order"), Collections.emptyList());
+        when(registryCenterRepository.get("/metadata/foo_db/schema/tables/t_order")).thenReturn(marshalTable(schema));
+        schemaRegistryService.persist("foo_db", schema);
+        verify(registryCenterRepository, never()).persist(eq("/metadata/foo_db/schema/tables/t_order"), anyString());
         schemaRegistryService.persist("foo_db", schema);
-        verify(registryCenterRepository).persist(eq("/metadata/foo_db/schema"), anyString());
+        verify(registryCenterRepository).persist(eq("/metadata/foo_db/schema/tables/t_order"), anyString());
+    }
+    
+    @Test
+    public void assertPersistWithLegacyFormat() {
+        mockSchemaLock(true);
+        when(registryCenterRepository.get("/metadata/foo_db/schema")).thenReturn(readYAML());
+        assertThat(schemaRegistryService.persist("foo_db", createSchema()), is(1L));
+        verify(registryCenterRepository).persist(eq("/metadata/foo_db/schema/tables/t_order"), anyString());
+        verify(registryCenterRepository).persist("/metadata/foo_db/schema", "alteredTables:\n- t_order\nversion: 1\n");
+    }
+    
+    @Test
+    public void assertPersistChangedTablesWithLegacyFormat() {
+        mockSchemaLock(true);
+        when(registryCenterRepository.get("/metadata/foo_db/schema")).thenReturn(readYAML());
+        assertThat(schemaRegistryService.persist("foo_db", createSchema(), Collections.emptyList(), Collections.emptyList()), is(1L));
+        verify(registryCenterRepository).persist(eq("/metadata/foo_db/schema/tables/t_order"), anyString());
+        verify(registryCenterRepository).persist("/metadata/foo_db/schema", "alteredTables:\n- t_order\nversion: 1\n");
+    }
+    
+    @Test(expected = ShardingSphereException.class)
+    public void assertPersistWithoutLock() {
+        mockSchemaLock(false);
+        try {
+            schemaRegistryService.persist("foo_db", createSchema());
+        } finally {
+            verify(registryCenterRepository, never()).persist(eq("/metadata/foo_db/schema"), anyString());
+            verify(registryCenterRepository, never()).releaseLock("/metadata/foo_db/schema/lock");
+        }
     }
     
     @Test
@@ -83,19 +153,38 @@ public final class SchemaRegistryServiceTest {
     
     @Test
     public void assertLoad() {
-        when(registryCenterRepository.get("/metadata/foo_db/schema")).thenReturn(readYAML());
+        when(registryCenterRepository.get("/metadata/foo_db/schema")).thenReturn("version: 1");
+        when(registryCenterRepository.getChildrenKeys("/metadata/foo_db/schema/tables")).thenReturn(Collections.singletonList("t_order"));
+        when(registryCenterRepository.get("/metadata/foo_db/schema/tables/t_order")).thenReturn(marshalTable(createSchema()));
         Optional<ShardingSphereSchema> schemaOptional = schemaRegistryService.load("foo_db");
         assertTrue(schemaOptional.isPresent());
         Optional<ShardingSphereSchema> empty = schemaRegistryService.load("test");
         assertThat(empty, is(Optional.empty()));
         ShardingSphereSchema schema = schemaOptional.get();
-        verify(registryCenterRepository).get(eq("/metadata/foo_db/schema"));
         assertThat(schema.getAllTableNames(), is(Collections.singleton("t_order")));
         assertThat(schema.get("t_order").getIndexes().keySet(), is(Collections.singleton("primary")));
         assertThat(schema.getAllColumnNames("t_order").size(), is(1));
         assertThat(schema.get("t_order").getColumns().keySet(), is(Collections.singleton("id")));
     }
     
+    @Test
+    public void assertLoadWithLegacyFormat() {
+        when(registryCenterRepository.get("/metadata/foo_db/schema")).thenReturn(readYAML());
+        Optional<ShardingSphereSchema> actual = schemaRegistryService.load("foo_db");
+        assertTrue(actual.isPresent());
+        assertThat(actual.get().getAllTableNames(), is(Collections.singleton("t_order")));
+        assertThat(actual.get().get("t_order").getColumns().keySet(), is(Collections.singleton("id")));
+        verify(registryCenterRepository, never()).getChildrenKeys("/metadata/foo_db/schema/tables");
+    }
+    
+    @Test
+    public void assertLoadTables() {
+        when(registryCenterRepository.get("/metadata/foo_db/schema/tables/t_order")).thenReturn(marshalTable(createSchema()));
+        Map<String, TableMetaData> actual = schemaRegistryService.loadTables("foo_db", Arrays.asList("t_order", "t_absent"));
+        assertThat(actual.keySet(), is(Collections.singleton("t_order")));
+        assertThat(actual.get("t_order").getColumns().keySet(), is(Collections.singleton("id")));
+    }
+    
     @Test
     public void assertLoadAllNames() {
         when(registryCenterRepository.getChildrenKeys("/metadata")).thenReturn(Arrays.asList("foo_db", "bar_db"));
@@ -114,9 +203,14 @@ public final class SchemaRegistryServiceTest {
     
     @Test
     public void assertUpdateWithMetaDataAlteredEvent() {
-        SchemaAlteredEvent event = new SchemaAlteredEvent("foo_db", new SchemaYamlSwapper().swapToObject(YamlEngine.unmarshal(readYAML(), YamlSchema.class)));
+        mockSchemaLock(true);
+        when(registryCenterRepository.get("/metadata/foo_db/schema")).thenReturn("version: 1");
+        SchemaAlteredEvent event = new SchemaAlteredEvent("foo_db", createSchema(), Collections.singletonList("t_order"), Collections.singletonList("t_order_item"));
         schemaRegistryService.update(event);
-        verify(registryCenterRepository).persist(eq("/metadata/foo_db/schema"), anyString());
+        verify(registryCenterRepository).persist(eq("/metadata/foo_db/schema/tables/t_order"), anyString());
+        verify(registryCenterRepository).delete("/metadata/foo_db/schema/tables/t_order_item");
+        verify(registryCenterRepository).persist("/metadata/foo_db/schema", "alteredTables:\n- t_order\ndroppedTables:\n- t_order_item\nversion: 2\n");
+        verify(registryCenterRepository, never()).getChildrenKeys("/metadata/foo_db/schema/tables");
     }
     
     @Test
@@ -126,6 +220,18 @@ public final class SchemaRegistryServiceTest {
         verify(registryCenterRepository).delete("/metadata/foo_db");
     }
     
+    private void mockSchemaLock(final boolean locked) {
+        when(registryCenterRepository.tryLock(eq("/metadata/foo_db/schema/lock"), anyLong(), eq(TimeUnit.MILLISECONDS))).thenReturn(locked);
+    }
+    
+    private ShardingSphereSchema createSchema() {
+        return new SchemaYamlSwapper().swapToObject(YamlEngine.unmarshal(readYAML(), YamlSchema.class));
+    }
+    
+    private String marshalTable(final ShardingSphereSchema schema) {
+        return YamlEngine.marshal(new SchemaYamlSwapper().swapToYamlTable(schema.get("t_order")));
+    }
+    
     @SneakyThrows({IOException.class, URISyntaxException.class})
     private String readYAML() {
         return Files.readAllLines(Paths.get(ClassLoader.getSystemResource("yaml/schema.yaml").toURI()))
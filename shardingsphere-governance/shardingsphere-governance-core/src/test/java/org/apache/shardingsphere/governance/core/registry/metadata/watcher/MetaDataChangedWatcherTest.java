@@ -18,13 +18,17 @@
 package org.apache.shardingsphere.governance.core.registry.metadata.watcher;
 
 import org.apache.shardingsphere.governance.core.registry.GovernanceEvent;
+import org.apache.shardingsphere.governance.core.registry.config.event.schema.SchemaChangedEvent;
 import org.apache.shardingsphere.governance.repository.api.listener.DataChangedEvent;
 import org.apache.shardingsphere.governance.repository.api.listener.DataChangedEvent.Type;
 import org.junit.Test;
 
+import java.util.Collections;
 import java.util.Optional;
 
+import static org.hamcrest.CoreMatchers.is;
 import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThat;
 import static org.junit.Assert.assertTrue;
 
 public final class MetaDataChangedWatcherTest {
@@ -95,8 +99,18 @@ public final class MetaDataChangedWatcherTest {
     @Test
     public void assertCreateSchemaChangedEvent() {
         String key = "/metadata/sharding_db/schema";
-        Optional<GovernanceEvent> actual = createEvent(key, "{}", Type.UPDATED);
+        Optional<GovernanceEvent> actual = createEvent(key, "alteredTables:\n- t_order\ndroppedTables: []\nversion: 2\n", Type.UPDATED);
         assertTrue(actual.isPresent());
+        assertThat(((SchemaChangedEvent) actual.get()).getVersion(), is(2L));
+        assertThat(((SchemaChangedEvent) actual.get()).getAlteredTables(), is(Collections.singletonList("t_order")));
+        assertTrue(((SchemaChangedEvent) actual.get()).getDroppedTables().isEmpty());
+    }
+    
+    @Test
+    public void assertIgnoreTableChangedEvent() {
+        String key = "/metadata/sharding_db/schema/tables/t_order";
+        Optional<GovernanceEvent> actual = createEvent(key, "columns: {}", Type.UPDATED);
+        assertFalse(actual.isPresent());
     }
     
     private Optional<GovernanceEvent> createEvent(final String key, final String value, final Type type) {
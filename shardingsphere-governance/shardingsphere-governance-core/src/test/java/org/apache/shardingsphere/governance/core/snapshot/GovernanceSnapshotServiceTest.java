@@ -0,0 +1,161 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.governance.core.snapshot;
+
+import com.google.common.eventbus.Subscribe;
+import org.apache.shardingsphere.governance.core.registry.GovernanceEvent;
+import org.apache.shardingsphere.governance.core.registry.config.event.datasource.DataSourceChangedEvent;
+import org.apache.shardingsphere.governance.core.registry.config.event.props.PropertiesChangedEvent;
+import org.apache.shardingsphere.governance.core.registry.config.event.rule.RuleConfigurationsChangedEvent;
+import org.apache.shardingsphere.governance.core.registry.metadata.event.SchemaAddedEvent;
+import org.apache.shardingsphere.governance.core.registry.metadata.event.SchemaDeletedEvent;
+import org.apache.shardingsphere.infra.eventbus.ShardingSphereEventBus;
+import org.junit.After;
+import org.junit.Assume;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.PosixFilePermissions;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.LinkedList;
+import java.util.Optional;
+
+import static org.hamcrest.CoreMatchers.instanceOf;
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+
+public final class GovernanceSnapshotServiceTest {
+    
+    private final Collection<GovernanceEvent> postedEvents = new LinkedList<>();
+    
+    private Path snapshotFile;
+    
+    @Before
+    public void setUp() throws IOException {
+        snapshotFile = Files.createTempFile("governance-snapshot", ".yaml");
+        Files.delete(snapshotFile);
+        ShardingSphereEventBus.getInstance().register(this);
+    }
+    
+    @After
+    public void tearDown() throws IOException {
+        ShardingSphereEventBus.getInstance().unregister(this);
+        Files.deleteIfExists(snapshotFile);
+    }
+    
+    @Test
+    public void assertLoadWithoutSnapshotFile() throws IOException {
+        assertFalse(new GovernanceSnapshotService(snapshotFile, "secret").load().isPresent());
+    }
+    
+    @Test
+    public void assertSaveAndLoad() throws IOException {
+        SnapshotRepository registry = createRepository();
+        registry.persist("/states/proxynodes/foo", "");
+        GovernanceSnapshotService snapshotService = new GovernanceSnapshotService(snapshotFile, "secret");
+        snapshotService.save(registry);
+        Optional<SnapshotRepository> actual = snapshotService.load();
+        assertTrue(actual.isPresent());
+        assertThat(actual.get().getNodes().keySet(), is(createRepository().getNodes().keySet()));
+        assertThat(actual.get().get("/metadata/foo_db/rules"), is("- !SHARDING\n  tables: {}\n"));
+    }
+    
+    @Test
+    public void assertSaveWithEncryptedValues() throws IOException {
+        SnapshotRepository registry = createRepository();
+        registry.persist("/metadata/foo_db/dataSources", "ds_0:\n  password: foo_pwd\n");
+        new GovernanceSnapshotService(snapshotFile, "secret").save(registry);
+        String actual = new String(Files.readAllBytes(snapshotFile), StandardCharsets.UTF_8);
+        assertTrue(actual.contains("/metadata/foo_db/dataSources"));
+        assertFalse(actual.contains("foo_pwd"));
+        assertThat(new GovernanceSnapshotService(snapshotFile, "secret").load().map(each -> each.get("/metadata/foo_db/dataSources")).orElse(null), is("ds_0:\n  password: foo_pwd\n"));
+    }
+    
+    @Test(expected = IllegalStateException.class)
+    public void assertLoadWithChangedSecret() throws IOException {
+        new GovernanceSnapshotService(snapshotFile, "secret").save(createRepository());
+        new GovernanceSnapshotService(snapshotFile, "changed_secret").load();
+    }
+    
+    @Test
+    public void assertSaveWithOwnerOnlyPermissions() throws IOException {
+        Assume.assumeTrue(snapshotFile.getFileSystem().supportedFileAttributeViews().contains("posix"));
+        new GovernanceSnapshotService(snapshotFile, "secret").save(createRepository());
+        assertThat(PosixFilePermissions.toString(Files.getPosixFilePermissions(snapshotFile)), is("rw-------"));
+    }
+    
+    @Test
+    public void assertReconcile() throws IOException {
+        SnapshotRepository registry = createRepository();
+        registry.persist("/props", "sql-show: true\n");
+        registry.delete("/metadata/bar_db");
+        registry.persist("/metadata/baz_db", "");
+        registry.persist("/metadata/foo_db/rules", "[]\n");
+        GovernanceSnapshotService snapshotService = new GovernanceSnapshotService(snapshotFile, "secret");
+        Collection<String> actual = snapshotService.reconcile(createRepository(), registry);
+        assertThat(actual, is(Arrays.asList("/metadata/bar_db", "/props", "/metadata/foo_db/rules", "/metadata/baz_db")));
+        assertThat(postedEvents.size(), is(4));
+        assertThat(postedEvents.toArray()[0], instanceOf(SchemaDeletedEvent.class));
+        assertThat(postedEvents.toArray()[1], instanceOf(PropertiesChangedEvent.class));
+        assertThat(postedEvents.toArray()[2], instanceOf(RuleConfigurationsChangedEvent.class));
+        assertThat(postedEvents.toArray()[3], instanceOf(SchemaAddedEvent.class));
+        assertThat(snapshotService.load().map(SnapshotRepository::getNodes).orElse(null), is(registry.getNodes()));
+    }
+    
+    @Test
+    public void assertReconcileWithDeletedNodes() throws IOException {
+        SnapshotRepository snapshot = createRepository();
+        snapshot.persist("/metadata/foo_db/dataSources", "ds_0:\n  password: foo_pwd\n");
+        SnapshotRepository registry = createRepository();
+        registry.delete("/props");
+        registry.delete("/metadata/foo_db/rules");
+        Collection<String> actual = new GovernanceSnapshotService(snapshotFile, "secret").reconcile(snapshot, registry);
+        assertThat(actual, is(Arrays.asList("/props", "/metadata/foo_db/rules", "/metadata/foo_db/dataSources")));
+        assertThat(postedEvents.size(), is(3));
+        assertTrue(((PropertiesChangedEvent) postedEvents.toArray()[0]).getProps().isEmpty());
+        assertTrue(((RuleConfigurationsChangedEvent) postedEvents.toArray()[1]).getRuleConfigurations().isEmpty());
+        assertTrue(((DataSourceChangedEvent) postedEvents.toArray()[2]).getDataSourceConfigurations().isEmpty());
+    }
+    
+    private SnapshotRepository createRepository() {
+        SnapshotRepository result = new SnapshotRepository(new LinkedHashMap<>());
+        result.persist("/props", "sql-show: false\n");
+        result.persist("/metadata/foo_db", "");
+        result.persist("/metadata/foo_db/rules", "- !SHARDING\n  tables: {}\n");
+        result.persist("/metadata/bar_db", "");
+        return result;
+    }
+    
+    /**
+     * Collect posted governance event.
+     *
+     * @param event governance event
+     */
+    @Subscribe
+    public void collect(final GovernanceEvent event) {
+        postedEvents.add(event);
+    }
+}
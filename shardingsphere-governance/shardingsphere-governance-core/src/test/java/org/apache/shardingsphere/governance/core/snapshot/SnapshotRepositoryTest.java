@@ -0,0 +1,56 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.governance.core.snapshot;
+
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+
+public final class SnapshotRepositoryTest {
+    
+    @Test
+    public void assertGetChildrenKeys() {
+        SnapshotRepository repository = new SnapshotRepository(new LinkedHashMap<>());
+        repository.persist("/metadata/foo_db", "");
+        repository.persist("/metadata/foo_db/rules", "[]");
+        repository.persist("/metadata/bar_db/dataSources", "{}");
+        repository.persist("/props", "{}");
+        assertThat(repository.getChildrenKeys("/metadata"), is(Arrays.asList("foo_db", "bar_db")));
+        assertThat(repository.getChildrenKeys("/metadata/foo_db"), is(Collections.singletonList("rules")));
+        assertTrue(repository.getChildrenKeys("/props").isEmpty());
+    }
+    
+    @Test
+    public void assertDelete() {
+        SnapshotRepository repository = new SnapshotRepository(new LinkedHashMap<>());
+        repository.persist("/metadata/foo_db", "");
+        repository.persist("/metadata/foo_db/rules", "[]");
+        repository.persist("/metadata/foo_db_1", "");
+        repository.delete("/metadata/foo_db");
+        assertFalse(repository.getNodes().containsKey("/metadata/foo_db"));
+        assertFalse(repository.getNodes().containsKey("/metadata/foo_db/rules"));
+        assertThat(repository.get("/metadata/foo_db_1"), is(""));
+    }
+}
@@ -49,4 +49,14 @@ public interface DataSourceNameAware extends TypedSPI {
      * @return replica data source names
      */
     Collection<String> getReplicaDataSourceNames(String dataSourceName);
+    
+    /**
+     * Get replication delay of replica data source.
+     *
+     * @param replicaDataSourceName replica data source name
+     * @return replication delay in milliseconds, negative if unknown
+     */
+    default long getReplicationDelayMilliseconds(String replicaDataSourceName) {
+        return -1L;
+    }
 }
@@ -37,6 +37,10 @@ public final class SchemaMetadataNode {
     
     private static final String SCHEMA_NODE = "schema";
     
+    private static final String TABLES_NODE = "tables";
+    
+    private static final String LOCK_NODE = "lock";
+    
     /**
      * Get metadata data source path.
      *
@@ -86,6 +90,37 @@ public final class SchemaMetadataNode {
         return getFullMetadataPath(schemaName, SCHEMA_NODE);
     }
     
+    /**
+     * Get metadata tables path.
+     *
+     * @param schemaName schema name
+     * @return tables path
+     */
+    public static String getMetadataTablesPath(final String schemaName) {
+        return String.join("/", getMetadataSchemaPath(schemaName), TABLES_NODE);
+    }
+    
+    /**
+     * Get metadata schema lock path.
+     *
+     * @param schemaName schema name
+     * @return schema lock path
+     */
+    public static String getMetadataSchemaLockPath(final String schemaName) {
+        return String.join("/", getMetadataSchemaPath(schemaName), LOCK_NODE);
+    }
+    
+    /**
+     * Get metadata table path.
+     *
+     * @param schemaName schema name
+     * @param tableName table name
+     * @return table path
+     */
+    public static String getMetadataTablePath(final String schemaName, final String tableName) {
+        return String.join("/", getMetadataTablesPath(schemaName), tableName);
+    }
+    
     private static String getFullMetadataPath(final String schemaName, final String node) {
         return String.join("/", "", ROOT_NODE, schemaName, node);
     }
@@ -43,11 +43,51 @@ public enum ConfigurationPropertyKey implements TypedPropertyKey {
      */
     EXECUTOR_SIZE("executor-size", String.valueOf(0), int.class),
     
+    /**
+     * The max thread size of isolated worker group for each data source, 0 means all data sources share the worker group.
+     */
+    EXECUTOR_PARTITION_SIZE("executor-partition-size", String.valueOf(0), int.class),
+    
+    /**
+     * The max queued task size of isolated worker group for each data source, tasks exceeded are rejected immediately.
+     */
+    EXECUTOR_PARTITION_QUEUE_SIZE("executor-partition-queue-size", String.valueOf(128), int.class),
+    
     /**
      * Max opened connection size for each query.
      */
     MAX_CONNECTIONS_SIZE_PER_QUERY("max-connections-size-per-query", String.valueOf(1), int.class),
     
+    /**
+     * Whether select connection mode adaptively by observed result sizes.
+     */
+    ADAPTIVE_CONNECTION_MODE_ENABLED("adaptive-connection-mode-enabled", String.valueOf(Boolean.FALSE), boolean.class),
+    
+    /**
+     * Average result rows to stream results with one connection per SQL unit when adaptive connection mode enabled.
+     */
+    ADAPTIVE_CONNECTION_MODE_STREAMING_ROWS_THRESHOLD("adaptive-connection-mode-streaming-rows-threshold", String.valueOf(1000L), long.class),
+    
+    /**
+     * Max opened connection size for each query when adaptive connection mode enabled.
+     */
+    ADAPTIVE_CONNECTION_MODE_MAX_CONNECTIONS_SIZE_PER_QUERY("adaptive-connection-mode-max-connections-size-per-query", String.valueOf(8), int.class),
+    
+    /**
+     * Whether send slow readwrite-splitting queries to another replica, the first returned result wins.
+     */
+    HEDGED_READ_ENABLED("hedged-read-enabled", String.valueOf(Boolean.FALSE), boolean.class),
+    
+    /**
+     * Latency percentile of recent queries used as the delay before sending hedged query.
+     */
+    HEDGED_READ_DELAY_PERCENTILE("hedged-read-delay-percentile", String.valueOf(95), int.class),
+    
+    /**
+     * Max percent of hedged queries in all hedge eligible queries.
+     */
+    HEDGED_READ_BUDGET_PERCENT("hedged-read-budget-percent", String.valueOf(10), int.class),
+    
     /**
      * Whether validate table meta data consistency when application startup or updated.
      */
@@ -63,6 +103,21 @@ public enum ConfigurationPropertyKey implements TypedPropertyKey {
      */
     PROXY_FRONTEND_FLUSH_THRESHOLD("proxy-frontend-flush-threshold", String.valueOf(128), int.class),
     
+    /**
+     * File of representative SQL to warm up SQL parser before ShardingSphere-Proxy accepts connections, one SQL per line.
+     */
+    PROXY_SQL_PARSER_WARM_UP_FILE("proxy-sql-parser-warm-up-file", "", String.class),
+    
+    /**
+     * Local snapshot file of governance configurations, which is used to start up ShardingSphere-Proxy without loading configurations from registry center.
+     */
+    PROXY_GOVERNANCE_SNAPSHOT_FILE("proxy-governance-snapshot-file", "", String.class),
+    
+    /**
+     * Secret to encrypt local snapshot file of governance configurations, snapshot file is not used without secret.
+     */
+    PROXY_GOVERNANCE_SNAPSHOT_SECRET("proxy-governance-snapshot-secret", "", String.class),
+    
     /**
      * Transaction type of proxy.
      *
@@ -20,18 +20,25 @@ package org.apache.shardingsphere.infra.metadata.schema.builder;
 import com.google.common.util.concurrent.ThreadFactoryBuilder;
 import lombok.AccessLevel;
 import lombok.NoArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.shardingsphere.infra.config.properties.ConfigurationPropertyKey;
 import org.apache.shardingsphere.infra.database.type.DatabaseType;
+import org.apache.shardingsphere.infra.datanode.DataNode;
+import org.apache.shardingsphere.infra.datanode.DataNodes;
 import org.apache.shardingsphere.infra.exception.ShardingSphereException;
 import org.apache.shardingsphere.infra.metadata.schema.builder.loader.ColumnMetaDataLoader;
 import org.apache.shardingsphere.infra.metadata.schema.builder.loader.SchemaMetaDataLoader;
 import org.apache.shardingsphere.infra.metadata.schema.builder.loader.adapter.MetaDataLoaderConnectionAdapter;
 import org.apache.shardingsphere.infra.metadata.schema.builder.spi.DialectTableMetaDataLoader;
+import org.apache.shardingsphere.infra.metadata.schema.builder.spi.RuleBasedTableMetaDataBuilder;
 import org.apache.shardingsphere.infra.metadata.schema.model.ColumnMetaData;
 import org.apache.shardingsphere.infra.metadata.schema.model.TableMetaData;
 import org.apache.shardingsphere.infra.rule.ShardingSphereRule;
+import org.apache.shardingsphere.infra.rule.single.SingleTableRule;
 import org.apache.shardingsphere.infra.rule.type.DataNodeContainedRule;
 import org.apache.shardingsphere.infra.rule.type.TableContainedRule;
 import org.apache.shardingsphere.infra.spi.ShardingSphereServiceLoader;
+import org.apache.shardingsphere.infra.spi.ordered.OrderedSPIRegistry;
 
 import javax.sql.DataSource;
 import java.sql.Connection;
@@ -56,6 +63,7 @@ import java.util.stream.Collectors;
  * Schema builder.
  */
 @NoArgsConstructor(access = AccessLevel.PRIVATE)
+@Slf4j
 public final class SchemaBuilder {
     
     private static final ExecutorService EXECUTOR_SERVICE = new ThreadPoolExecutor(Runtime.getRuntime().availableProcessors() * 2, Runtime.getRuntime().availableProcessors() * 2,
@@ -63,6 +71,7 @@ public final class SchemaBuilder {
     
     static {
         ShardingSphereServiceLoader.register(DialectTableMetaDataLoader.class);
+        ShardingSphereServiceLoader.register(RuleBasedTableMetaDataBuilder.class);
     }
     
     /**
@@ -73,8 +82,16 @@ public final class SchemaBuilder {
      * @throws SQLException SQL exception
      */
     public static Map<TableMetaData, TableMetaData> build(final SchemaBuilderMaterials materials) throws SQLException {
-        Map<String, TableMetaData> actualTableMetaMap = buildActualTableMetaDataMap(materials);
+        long startTime = System.currentTimeMillis();
+        Map<String, TableMetaData> actualTableMetaMap = new HashMap<>(materials.getRules().size(), 1);
+        appendRemainTables(materials, actualTableMetaMap);
+        int remainTableCount = actualTableMetaMap.size();
+        long remainTablesLoadedTime = System.currentTimeMillis();
+        appendRuleTables(materials, actualTableMetaMap);
+        long ruleTablesLoadedTime = System.currentTimeMillis();
         Map<String, TableMetaData> logicTableMetaMap = buildLogicTableMetaDataMap(materials, actualTableMetaMap);
+        log.info("Loaded {} remain tables in {} ms, {} rule tables in {} ms, decorated rule tables in {} ms.", remainTableCount, remainTablesLoadedTime - startTime,
+                actualTableMetaMap.size() - remainTableCount, ruleTablesLoadedTime - remainTablesLoadedTime, System.currentTimeMillis() - ruleTablesLoadedTime);
         Map<TableMetaData, TableMetaData> tableMetaDataMap = new HashMap<>(actualTableMetaMap.size(), 1);
         for (Entry<String, TableMetaData> entry : actualTableMetaMap.entrySet()) {
             tableMetaDataMap.put(entry.getValue(), logicTableMetaMap.getOrDefault(entry.getKey(), entry.getValue()));
@@ -82,21 +99,43 @@ public final class SchemaBuilder {
         return tableMetaDataMap;
     }
     
-    private static Map<String, TableMetaData> buildActualTableMetaDataMap(final SchemaBuilderMaterials materials) throws SQLException {
-        Map<String, TableMetaData> result = new HashMap<>(materials.getRules().size(), 1);
-        appendRemainTables(materials, result);
-        for (ShardingSphereRule rule : materials.getRules()) {
-            if (rule instanceof TableContainedRule) {
-                for (String table : ((TableContainedRule) rule).getTables()) {
-                    if (!result.containsKey(table)) {
-                        TableMetaDataBuilder.load(table, materials).map(optional -> result.put(table, optional));
-                    }
-                }
-            }
+    /**
+     * Build logic table meta data of given tables only.
+     *
+     * @param materials schema builder materials
+     * @param tableNames table names
+     * @return logic table meta data map, key is table name
+     * @throws SQLException SQL exception
+     */
+    public static Map<String, TableMetaData> build(final SchemaBuilderMaterials materials, final Collection<String> tableNames) throws SQLException {
+        Map<String, Future<Optional<TableMetaData>>> futures = new LinkedHashMap<>(tableNames.size(), 1);
+        for (String each : tableNames) {
+            futures.put(each, EXECUTOR_SERVICE.submit(() -> load(each, materials).map(optional -> TableMetaDataBuilder.decorate(each, optional, materials.getRules()))));
+        }
+        Map<String, TableMetaData> result = new LinkedHashMap<>(tableNames.size(), 1);
+        for (Entry<String, Future<Optional<TableMetaData>>> entry : futures.entrySet()) {
+            getFutureResult(entry.getValue()).ifPresent(optional -> result.put(entry.getKey(), optional));
         }
         return result;
     }
     
+    private static Optional<TableMetaData> load(final String tableName, final SchemaBuilderMaterials materials) throws SQLException {
+        Optional<DataSource> singleTableDataSource = findSingleTableDataSource(tableName, materials);
+        if (singleTableDataSource.isPresent()) {
+            return Optional.of(loadTableMetaData(tableName, singleTableDataSource.get(), materials.getDatabaseType()));
+        }
+        return TableMetaDataBuilder.load(tableName, materials);
+    }
+    
+    private static Optional<DataSource> findSingleTableDataSource(final String tableName, final SchemaBuilderMaterials materials) {
+        for (ShardingSphereRule each : materials.getRules()) {
+            if (each instanceof SingleTableRule && ((SingleTableRule) each).getSingleTableDataNodes().containsKey(tableName)) {
+                return Optional.ofNullable(materials.getDataSourceMap().get(((SingleTableRule) each).getSingleTableDataNodes().get(tableName).getDataSourceName()));
+            }
+        }
+        return Optional.empty();
+    }
+    
     private static void appendRemainTables(final SchemaBuilderMaterials materials, final Map<String, TableMetaData> tables) throws SQLException {
         Optional<DialectTableMetaDataLoader> dialectLoader = findDialectTableMetaDataLoader(materials);
         if (dialectLoader.isPresent()) {
@@ -106,6 +145,79 @@ public final class SchemaBuilder {
         appendDefaultRemainTables(materials, tables);
     }
     
+    private static void appendRuleTables(final SchemaBuilderMaterials materials, final Map<String, TableMetaData> tables) throws SQLException {
+        Collection<String> ruleTables = getRuleTables(materials.getRules(), tables.keySet());
+        Optional<DialectTableMetaDataLoader> dialectLoader = findDialectTableMetaDataLoader(materials);
+        if (dialectLoader.isPresent() && !materials.getProps().<Boolean>getValue(ConfigurationPropertyKey.CHECK_TABLE_METADATA_ENABLED)) {
+            appendDialectRuleTables(dialectLoader.get(), materials, ruleTables, tables);
+            ruleTables.removeAll(tables.keySet());
+        }
+        Map<String, Future<Optional<TableMetaData>>> futures = new LinkedHashMap<>(ruleTables.size(), 1);
+        for (String each : ruleTables) {
+            futures.put(each, EXECUTOR_SERVICE.submit(() -> TableMetaDataBuilder.load(each, materials)));
+        }
+        for (Entry<String, Future<Optional<TableMetaData>>> entry : futures.entrySet()) {
+            getFutureResult(entry.getValue()).ifPresent(optional -> tables.put(entry.getKey(), optional));
+        }
+    }
+    
+    private static Collection<String> getRuleTables(final Collection<ShardingSphereRule> rules, final Collection<String> existedTables) {
+        Collection<String> result = new LinkedHashSet<>();
+        for (ShardingSphereRule each : rules) {
+            if (each instanceof TableContainedRule) {
+                result.addAll(((TableContainedRule) each).getTables());
+            }
+        }
+        result.removeAll(existedTables);
+        return result;
+    }
+    
+    private static void appendDialectRuleTables(final DialectTableMetaDataLoader dialectLoader, final SchemaBuilderMaterials materials,
+                                                final Collection<String> ruleTables, final Map<String, TableMetaData> tables) throws SQLException {
+        Map<String, Map<String, String>> dataSourceTables = getRepresentativeActualTables(materials.getRules(), ruleTables);
+        Map<String, Future<Map<String, TableMetaData>>> futures = new LinkedHashMap<>(dataSourceTables.size(), 1);
+        for (Entry<String, Map<String, String>> entry : dataSourceTables.entrySet()) {
+            DataSource dataSource = materials.getDataSourceMap().get(entry.getKey());
+            futures.put(entry.getKey(), EXECUTOR_SERVICE.submit(() -> dialectLoader.loadWithTables(dataSource, new LinkedHashSet<>(entry.getValue().values()))));
+        }
+        for (Entry<String, Map<String, String>> entry : dataSourceTables.entrySet()) {
+            Map<String, TableMetaData> actualTables = getFutureResult(futures.get(entry.getKey()));
+            for (Entry<String, String> logicAndActualTable : entry.getValue().entrySet()) {
+                TableMetaData actualTable = actualTables.get(logicAndActualTable.getValue());
+                if (null != actualTable) {
+                    tables.put(logicAndActualTable.getKey(), new TableMetaData(logicAndActualTable.getKey(), actualTable.getColumns().values(), actualTable.getIndexes().values()));
+                }
+            }
+        }
+    }
+    
+    @SuppressWarnings("rawtypes")
+    private static Map<String, Map<String, String>> getRepresentativeActualTables(final Collection<ShardingSphereRule> rules, final Collection<String> ruleTables) {
+        Collection<ShardingSphereRule> metaDataBuilderRules = OrderedSPIRegistry.getRegisteredServices(rules, RuleBasedTableMetaDataBuilder.class).keySet();
+        DataNodes dataNodes = new DataNodes(rules);
+        Map<String, Map<String, String>> result = new LinkedHashMap<>();
+        for (String each : ruleTables) {
+            if (!isDataNodeContainedTable(metaDataBuilderRules, each)) {
+                continue;
+            }
+            Collection<DataNode> tableDataNodes = dataNodes.getDataNodes(each);
+            if (!tableDataNodes.isEmpty()) {
+                DataNode dataNode = tableDataNodes.iterator().next();
+                result.computeIfAbsent(dataNode.getDataSourceName(), key -> new LinkedHashMap<>()).put(each, dataNode.getTableName());
+            }
+        }
+        return result;
+    }
+    
+    private static boolean isDataNodeContainedTable(final Collection<ShardingSphereRule> rules, final String tableName) {
+        for (ShardingSphereRule each : rules) {
+            if (each instanceof DataNodeContainedRule && ((DataNodeContainedRule) each).getAllDataNodes().containsKey(tableName)) {
+                return true;
+            }
+        }
+        return false;
+    }
+    
     private static Map<String, TableMetaData> buildLogicTableMetaDataMap(final SchemaBuilderMaterials materials, final Map<String, TableMetaData> tables) throws SQLException {
         Map<String, TableMetaData> result = new HashMap<>(materials.getRules().size(), 1);
         for (ShardingSphereRule rule : materials.getRules()) {
@@ -137,14 +249,7 @@ public final class SchemaBuilder {
             futures.add(EXECUTOR_SERVICE.submit(() -> dialectLoader.load(each, existedTables)));
         }
         for (Future<Map<String, TableMetaData>> each : futures) {
-            try {
-                tables.putAll(each.get());
-            } catch (final InterruptedException | ExecutionException ex) {
-                if (ex.getCause() instanceof SQLException) {
-                    throw (SQLException) ex.getCause();
-                }
-                throw new ShardingSphereException(ex);
-            }
+            tables.putAll(getFutureResult(each));
         }
     }
     
@@ -181,4 +286,15 @@ public final class SchemaBuilder {
         result.addAll(tables.keySet());
         return result;
     }
+    
+    private static <T> T getFutureResult(final Future<T> future) throws SQLException {
+        try {
+            return future.get();
+        } catch (final InterruptedException | ExecutionException ex) {
+            if (ex.getCause() instanceof SQLException) {
+                throw (SQLException) ex.getCause();
+            }
+            throw new ShardingSphereException(ex);
+        }
+    }
 }
@@ -47,28 +47,35 @@ public final class MySQLTableMetaDataLoader implements DialectTableMetaDataLoade
     
     private static final String TABLE_META_DATA_SQL_WITH_EXISTED_TABLES = TABLE_META_DATA_SQL + " AND TABLE_NAME NOT IN (%s)";
     
+    private static final String TABLE_META_DATA_SQL_IN_TABLES = TABLE_META_DATA_SQL + " AND TABLE_NAME IN (%s)";
+    
     private static final String INDEX_META_DATA_SQL = "SELECT TABLE_NAME, INDEX_NAME FROM information_schema.statistics WHERE TABLE_SCHEMA=? and TABLE_NAME IN (%s)";
     
     @Override
     public Map<String, TableMetaData> load(final DataSource dataSource, final Collection<String> existedTables) throws SQLException {
-        return loadTableMetaDataMap(dataSource, existedTables);
+        return loadTableMetaDataMap(dataSource, getTableMetaDataSQL(existedTables), true);
+    }
+    
+    @Override
+    public Map<String, TableMetaData> loadWithTables(final DataSource dataSource, final Collection<String> tableNames) throws SQLException {
+        return tableNames.isEmpty() ? Collections.emptyMap() : loadTableMetaDataMap(dataSource, String.format(TABLE_META_DATA_SQL_IN_TABLES, getQuotedTableNames(tableNames)), false);
     }
     
-    private Map<String, TableMetaData> loadTableMetaDataMap(final DataSource dataSource, final Collection<String> existedTables) throws SQLException {
+    private Map<String, TableMetaData> loadTableMetaDataMap(final DataSource dataSource, final String tableMetaDataSQL, final boolean logicIndexName) throws SQLException {
         Map<String, TableMetaData> result = new LinkedHashMap<>();
-        Map<String, Collection<ColumnMetaData>> columnMetaDataMap = loadColumnMetaDataMap(dataSource, existedTables);
-        Map<String, Collection<IndexMetaData>> indexMetaDataMap = columnMetaDataMap.isEmpty() ? Collections.emptyMap() : loadIndexMetaData(dataSource, columnMetaDataMap.keySet());
+        Map<String, Collection<ColumnMetaData>> columnMetaDataMap = loadColumnMetaDataMap(dataSource, tableMetaDataSQL);
+        Map<String, Collection<IndexMetaData>> indexMetaDataMap = columnMetaDataMap.isEmpty() ? Collections.emptyMap() : loadIndexMetaData(dataSource, columnMetaDataMap.keySet(), logicIndexName);
         for (Entry<String, Collection<ColumnMetaData>> entry : columnMetaDataMap.entrySet()) {
             result.put(entry.getKey(), new TableMetaData(entry.getKey(), entry.getValue(), indexMetaDataMap.getOrDefault(entry.getKey(), Collections.emptyList())));
         }
         return result;
     }
     
-    private Map<String, Collection<ColumnMetaData>> loadColumnMetaDataMap(final DataSource dataSource, final Collection<String> existedTables) throws SQLException {
+    private Map<String, Collection<ColumnMetaData>> loadColumnMetaDataMap(final DataSource dataSource, final String tableMetaDataSQL) throws SQLException {
         Map<String, Collection<ColumnMetaData>> result = new HashMap<>();
         try (
                 Connection connection = dataSource.getConnection();
-                PreparedStatement preparedStatement = connection.prepareStatement(getTableMetaDataSQL(existedTables))) {
+                PreparedStatement preparedStatement = connection.prepareStatement(tableMetaDataSQL)) {
             Map<String, Integer> dataTypes = DataTypeLoader.load(connection.getMetaData());
             preparedStatement.setString(1, connection.getCatalog());
             try (ResultSet resultSet = preparedStatement.executeQuery()) {
@@ -96,11 +103,10 @@ public final class MySQLTableMetaDataLoader implements DialectTableMetaDataLoade
     }
 
     private String getTableMetaDataSQL(final Collection<String> existedTables) {
-        return existedTables.isEmpty() ? TABLE_META_DATA_SQL
-                : String.format(TABLE_META_DATA_SQL_WITH_EXISTED_TABLES, existedTables.stream().map(each -> String.format("'%s'", each)).collect(Collectors.joining(",")));
+        return existedTables.isEmpty() ? TABLE_META_DATA_SQL : String.format(TABLE_META_DATA_SQL_WITH_EXISTED_TABLES, getQuotedTableNames(existedTables));
     }
     
-    private Map<String, Collection<IndexMetaData>> loadIndexMetaData(final DataSource dataSource, final Collection<String> tableNames) throws SQLException {
+    private Map<String, Collection<IndexMetaData>> loadIndexMetaData(final DataSource dataSource, final Collection<String> tableNames, final boolean logicIndexName) throws SQLException {
         Map<String, Collection<IndexMetaData>> result = new HashMap<>();
         try (
                 Connection connection = dataSource.getConnection();
@@ -113,7 +119,7 @@ public final class MySQLTableMetaDataLoader implements DialectTableMetaDataLoade
                     if (!result.containsKey(tableName)) {
                         result.put(tableName, new LinkedList<>());
                     }
-                    result.get(tableName).add(new IndexMetaData(IndexMetaDataUtil.getLogicIndexName(indexName, tableName)));
+                    result.get(tableName).add(new IndexMetaData(logicIndexName ? IndexMetaDataUtil.getLogicIndexName(indexName, tableName) : indexName));
                 }
             }
         }
@@ -121,7 +127,11 @@ public final class MySQLTableMetaDataLoader implements DialectTableMetaDataLoade
     }
     
     private String getIndexMetaDataSQL(final Collection<String> tableNames) {
-        return String.format(INDEX_META_DATA_SQL, tableNames.stream().map(each -> String.format("'%s'", each)).collect(Collectors.joining(",")));
+        return String.format(INDEX_META_DATA_SQL, getQuotedTableNames(tableNames));
+    }
+    
+    private String getQuotedTableNames(final Collection<String> tableNames) {
+        return tableNames.stream().map(each -> String.format("'%s'", each)).collect(Collectors.joining(","));
     }
     
     @Override
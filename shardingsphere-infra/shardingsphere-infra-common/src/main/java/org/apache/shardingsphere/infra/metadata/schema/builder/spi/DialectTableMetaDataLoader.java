@@ -17,13 +17,18 @@
 
 package org.apache.shardingsphere.infra.metadata.schema.builder.spi;
 
+import org.apache.shardingsphere.infra.database.type.DatabaseType;
 import org.apache.shardingsphere.infra.database.type.DatabaseTypeAwareSPI;
+import org.apache.shardingsphere.infra.database.type.DatabaseTypeRegistry;
+import org.apache.shardingsphere.infra.metadata.schema.builder.loader.TableMetaDataLoader;
 import org.apache.shardingsphere.infra.metadata.schema.model.TableMetaData;
 
 import javax.sql.DataSource;
 import java.sql.SQLException;
 import java.util.Collection;
+import java.util.LinkedHashMap;
 import java.util.Map;
+import java.util.Optional;
 
 /**
  * Dialect table meta data loader.
@@ -39,4 +44,27 @@ public interface DialectTableMetaDataLoader extends DatabaseTypeAwareSPI {
      * @throws SQLException SQL exception
      */
     Map<String, TableMetaData> load(DataSource dataSource, Collection<String> existedTables) throws SQLException;
+    
+    /**
+     * Load table meta data of given tables.
+     * 
+     * <p>Dialects should override it to fetch columns and indexes of all given tables with one query per data source, the default implementation loads table by table.
+     * Index names are returned as they are in the database, the same as table by table loading, so that rules decorate them to logic index names.</p>
+     *
+     * @param dataSource data source
+     * @param tableNames table names
+     * @return table meta data map, key is table name
+     * @throws SQLException SQL exception
+     */
+    default Map<String, TableMetaData> loadWithTables(final DataSource dataSource, final Collection<String> tableNames) throws SQLException {
+        DatabaseType databaseType = DatabaseTypeRegistry.getActualDatabaseType(getDatabaseType());
+        Map<String, TableMetaData> result = new LinkedHashMap<>(tableNames.size(), 1);
+        for (String each : tableNames) {
+            Optional<TableMetaData> tableMetaData = TableMetaDataLoader.load(dataSource, each, databaseType);
+            if (tableMetaData.isPresent()) {
+                result.put(each, tableMetaData.get());
+            }
+        }
+        return result;
+    }
 }
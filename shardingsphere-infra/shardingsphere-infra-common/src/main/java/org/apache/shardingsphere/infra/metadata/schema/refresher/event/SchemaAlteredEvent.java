@@ -21,6 +21,8 @@ import lombok.Getter;
 import lombok.RequiredArgsConstructor;
 import org.apache.shardingsphere.infra.metadata.schema.ShardingSphereSchema;
 
+import java.util.Collection;
+
 /**
  * Schema altered event.
  */
@@ -31,4 +33,8 @@ public final class SchemaAlteredEvent {
     private final String schemaName;
     
     private final ShardingSphereSchema schema;
+    
+    private final Collection<String> alteredTables;
+    
+    private final Collection<String> droppedTables;
 }
@@ -44,6 +44,21 @@ public class SchemaMetadataNodeTest {
     public void assertGetMetadataSchemaPath() {
         assertThat(SchemaMetadataNode.getMetadataSchemaPath("sharding_db"), is("/metadata/sharding_db/schema"));
     }
+    
+    @Test
+    public void assertGetMetadataSchemaLockPath() {
+        assertThat(SchemaMetadataNode.getMetadataSchemaLockPath("sharding_db"), is("/metadata/sharding_db/schema/lock"));
+    }
+    
+    @Test
+    public void assertGetMetadataTablesPath() {
+        assertThat(SchemaMetadataNode.getMetadataTablesPath("sharding_db"), is("/metadata/sharding_db/schema/tables"));
+    }
+    
+    @Test
+    public void assertGetMetadataTablePath() {
+        assertThat(SchemaMetadataNode.getMetadataTablePath("sharding_db", "t_order"), is("/metadata/sharding_db/schema/tables/t_order"));
+    }
 
     @Test
     public void assertGetSchemaNameBySchemaPath() {
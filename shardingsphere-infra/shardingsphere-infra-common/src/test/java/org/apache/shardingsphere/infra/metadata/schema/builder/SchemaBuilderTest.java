@@ -19,6 +19,7 @@ package org.apache.shardingsphere.infra.metadata.schema.builder;
 
 import lombok.SneakyThrows;
 import org.apache.shardingsphere.infra.config.properties.ConfigurationProperties;
+import org.apache.shardingsphere.infra.config.properties.ConfigurationPropertyKey;
 import org.apache.shardingsphere.infra.database.type.DatabaseType;
 import org.apache.shardingsphere.infra.metadata.schema.fixture.rule.CommonFixtureRule;
 import org.apache.shardingsphere.infra.metadata.schema.fixture.rule.DataNodeContainedFixtureRule;
@@ -116,6 +117,63 @@ public final class SchemaBuilderTest {
         assertActualOfShardingTablesAndSingleTables(tableMetaDatas.keySet());
     }
     
+    @Test
+    public void assertBuildOfShardingTablesWithDialectLoader() throws SQLException {
+        when(databaseType.getName()).thenReturn("MySQL");
+        when(props.<Boolean>getValue(ConfigurationPropertyKey.CHECK_TABLE_METADATA_ENABLED)).thenReturn(false);
+        ResultSet remainTypeInfoResultSet = mockTypeInfoResultSet();
+        ResultSet ruleTypeInfoResultSet = mockTypeInfoResultSet();
+        when(dataSource.getConnection().getMetaData().getTypeInfo()).thenReturn(remainTypeInfoResultSet, ruleTypeInfoResultSet);
+        ResultSet tableMetaDataResultSet = mock(ResultSet.class);
+        when(tableMetaDataResultSet.next()).thenReturn(true, false);
+        when(tableMetaDataResultSet.getString("TABLE_NAME")).thenReturn("data_node_routed_table1_0");
+        when(tableMetaDataResultSet.getString("COLUMN_NAME")).thenReturn("id");
+        when(tableMetaDataResultSet.getString("DATA_TYPE")).thenReturn("int");
+        when(tableMetaDataResultSet.getString("COLUMN_KEY")).thenReturn("PRI");
+        when(tableMetaDataResultSet.getString("EXTRA")).thenReturn("");
+        when(dataSource.getConnection().prepareStatement("SELECT TABLE_NAME, COLUMN_NAME, DATA_TYPE, COLUMN_KEY, EXTRA, COLLATION_NAME FROM information_schema.columns WHERE TABLE_SCHEMA=?"
+                + " AND TABLE_NAME IN ('data_node_routed_table2_0','data_node_routed_table1_0')").executeQuery()).thenReturn(tableMetaDataResultSet);
+        Map<String, TableMetaData> actual = SchemaBuilder.build(schemaBuilderMaterials).keySet().stream().collect(Collectors.toMap(TableMetaData::getName, v -> v));
+        assertThat(actual.size(), is(2));
+        assertThat(actual.get("data_node_routed_table1").getColumns().size(), is(1));
+        assertTrue(actual.get("data_node_routed_table1").getColumns().get("id").isPrimaryKey());
+        assertThat(actual.get("data_node_routed_table2").getColumns().size(), is(0));
+    }
+    
+    @Test
+    public void assertBuildOfShardingTablesWithDialectLoaderSameAsTableByTable() throws SQLException {
+        when(databaseType.getName()).thenReturn("MySQL");
+        when(props.<Boolean>getValue(ConfigurationPropertyKey.CHECK_TABLE_METADATA_ENABLED)).thenReturn(false);
+        ResultSet remainTypeInfoResultSet = mockTypeInfoResultSet();
+        ResultSet ruleTypeInfoResultSet = mockTypeInfoResultSet();
+        when(dataSource.getConnection().getMetaData().getTypeInfo()).thenReturn(remainTypeInfoResultSet, ruleTypeInfoResultSet);
+        ResultSet tableMetaDataResultSet = mock(ResultSet.class);
+        when(tableMetaDataResultSet.next()).thenReturn(true, false);
+        when(tableMetaDataResultSet.getString("TABLE_NAME")).thenReturn("data_node_routed_table1_0");
+        when(tableMetaDataResultSet.getString("COLUMN_NAME")).thenReturn("id");
+        when(tableMetaDataResultSet.getString("DATA_TYPE")).thenReturn("int");
+        when(dataSource.getConnection().prepareStatement("SELECT TABLE_NAME, COLUMN_NAME, DATA_TYPE, COLUMN_KEY, EXTRA, COLLATION_NAME FROM information_schema.columns WHERE TABLE_SCHEMA=?"
+                + " AND TABLE_NAME IN ('data_node_routed_table2_0','data_node_routed_table1_0')").executeQuery()).thenReturn(tableMetaDataResultSet);
+        ResultSet indexMetaDataResultSet = mock(ResultSet.class);
+        when(indexMetaDataResultSet.next()).thenReturn(true, true, false);
+        when(indexMetaDataResultSet.getString("TABLE_NAME")).thenReturn("data_node_routed_table1_0");
+        when(indexMetaDataResultSet.getString("INDEX_NAME")).thenReturn("PRIMARY", "idx_data_node_routed_table1_0");
+        when(dataSource.getConnection().prepareStatement("SELECT TABLE_NAME, INDEX_NAME FROM information_schema.statistics WHERE TABLE_SCHEMA=? and TABLE_NAME IN ('data_node_routed_table1_0')")
+                .executeQuery()).thenReturn(indexMetaDataResultSet);
+        Map<String, TableMetaData> actual = SchemaBuilder.build(schemaBuilderMaterials).values().stream().collect(Collectors.toMap(TableMetaData::getName, v -> v));
+        TableMetaData expected = SchemaBuilder.build(schemaBuilderMaterials, Collections.singletonList("data_node_routed_table1")).get("data_node_routed_table1");
+        assertThat(actual.get("data_node_routed_table1").getIndexes(), is(expected.getIndexes()));
+        assertThat(actual.get("data_node_routed_table1").getIndexes().keySet(), is(Collections.singleton("idx")));
+    }
+    
+    private ResultSet mockTypeInfoResultSet() throws SQLException {
+        ResultSet result = mock(ResultSet.class);
+        when(result.next()).thenReturn(true, false);
+        when(result.getString("TYPE_NAME")).thenReturn("int");
+        when(result.getInt("DATA_TYPE")).thenReturn(4);
+        return result;
+    }
+    
     private void assertActualOfShardingTablesAndSingleTables(final Collection<TableMetaData> actual) {
         Map<String, TableMetaData> tableMetaDataMap = actual.stream().collect(Collectors.toMap(TableMetaData::getName, v -> v));
         assertTrue(tableMetaDataMap.containsKey(singleTableNames[0]));
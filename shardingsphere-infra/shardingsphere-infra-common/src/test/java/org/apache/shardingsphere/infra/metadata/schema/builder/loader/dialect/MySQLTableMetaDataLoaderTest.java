@@ -70,6 +70,38 @@ public final class MySQLTableMetaDataLoaderTest {
         assertTableMetaDataMap(getTableMetaDataLoader().load(dataSource, Collections.singletonList("existed_tbl")));
     }
     
+    @Test
+    public void assertLoadWithTables() throws SQLException {
+        DataSource dataSource = mockDataSource();
+        ResultSet resultSet = mockTableMetaDataResultSet();
+        when(dataSource.getConnection().prepareStatement(
+                "SELECT TABLE_NAME, COLUMN_NAME, DATA_TYPE, COLUMN_KEY, EXTRA, COLLATION_NAME FROM information_schema.columns WHERE TABLE_SCHEMA=? AND TABLE_NAME IN ('tbl')")
+                .executeQuery()).thenReturn(resultSet);
+        ResultSet indexResultSet = mockIndexMetaDataResultSet();
+        when(dataSource.getConnection().prepareStatement(
+                "SELECT TABLE_NAME, INDEX_NAME FROM information_schema.statistics WHERE TABLE_SCHEMA=? and TABLE_NAME IN ('tbl')")
+                .executeQuery()).thenReturn(indexResultSet);
+        assertTableMetaDataMap(getTableMetaDataLoader().loadWithTables(dataSource, Collections.singletonList("tbl")));
+    }
+    
+    @Test
+    public void assertLoadWithTablesKeepsActualIndexNames() throws SQLException {
+        DataSource dataSource = mockDataSource();
+        ResultSet resultSet = mockTableMetaDataResultSet();
+        when(dataSource.getConnection().prepareStatement(
+                "SELECT TABLE_NAME, COLUMN_NAME, DATA_TYPE, COLUMN_KEY, EXTRA, COLLATION_NAME FROM information_schema.columns WHERE TABLE_SCHEMA=? AND TABLE_NAME IN ('tbl')")
+                .executeQuery()).thenReturn(resultSet);
+        ResultSet indexResultSet = mock(ResultSet.class);
+        when(indexResultSet.next()).thenReturn(true, false);
+        when(indexResultSet.getString("INDEX_NAME")).thenReturn("idx_tbl");
+        when(indexResultSet.getString("TABLE_NAME")).thenReturn("tbl");
+        when(dataSource.getConnection().prepareStatement(
+                "SELECT TABLE_NAME, INDEX_NAME FROM information_schema.statistics WHERE TABLE_SCHEMA=? and TABLE_NAME IN ('tbl')")
+                .executeQuery()).thenReturn(indexResultSet);
+        Map<String, TableMetaData> actual = getTableMetaDataLoader().loadWithTables(dataSource, Collections.singletonList("tbl"));
+        assertThat(actual.get("tbl").getIndexes().keySet(), is(Collections.singleton("idx_tbl")));
+    }
+    
     private DataSource mockDataSource() throws SQLException {
         DataSource result = mock(DataSource.class, RETURNS_DEEP_STUBS);
         ResultSet typeInfoResultSet = mockTypeInfoResultSet();
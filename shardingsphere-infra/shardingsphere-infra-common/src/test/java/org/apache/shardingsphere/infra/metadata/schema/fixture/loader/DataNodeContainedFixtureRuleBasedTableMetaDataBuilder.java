@@ -19,14 +19,19 @@ package org.apache.shardingsphere.infra.metadata.schema.fixture.loader;
 
 import org.apache.shardingsphere.infra.config.properties.ConfigurationProperties;
 import org.apache.shardingsphere.infra.database.type.DatabaseType;
+import org.apache.shardingsphere.infra.datanode.DataNode;
 import org.apache.shardingsphere.infra.datanode.DataNodes;
 import org.apache.shardingsphere.infra.metadata.schema.fixture.rule.DataNodeContainedFixtureRule;
 import org.apache.shardingsphere.infra.metadata.schema.builder.spi.RuleBasedTableMetaDataBuilder;
 import org.apache.shardingsphere.infra.metadata.schema.model.ColumnMetaData;
+import org.apache.shardingsphere.infra.metadata.schema.model.IndexMetaData;
 import org.apache.shardingsphere.infra.metadata.schema.model.TableMetaData;
 
 import javax.sql.DataSource;
+import java.util.Arrays;
+import java.util.Collection;
 import java.util.Collections;
+import java.util.LinkedList;
 import java.util.Map;
 import java.util.Optional;
 
@@ -36,13 +41,22 @@ public final class DataNodeContainedFixtureRuleBasedTableMetaDataBuilder impleme
     public Optional<TableMetaData> load(final String tableName, final DatabaseType databaseType, final Map<String, DataSource> dataSourceMap,
                                         final DataNodes dataNodes, final DataNodeContainedFixtureRule rule, final ConfigurationProperties props) {
         return ("data_node_routed_table1".equals(tableName) || "data_node_routed_table2".equals(tableName))
-                ? Optional.of(new TableMetaData(tableName, Collections.emptyList(), Collections.emptyList())) : Optional.empty();
+                ? Optional.of(new TableMetaData(tableName, Collections.emptyList(), Arrays.asList(new IndexMetaData("PRIMARY"), new IndexMetaData("idx_" + tableName + "_0"))))
+                : Optional.empty();
     }
     
     @Override
     public TableMetaData decorate(final String tableName, final TableMetaData tableMetaData, final DataNodeContainedFixtureRule rule) {
         ColumnMetaData columnMetaData = new ColumnMetaData("id", 1, true, true, false);
-        return new TableMetaData(tableName, Collections.singletonList(columnMetaData), Collections.emptyList());
+        Collection<IndexMetaData> indexes = new LinkedList<>();
+        for (String each : tableMetaData.getIndexes().keySet()) {
+            for (DataNode dataNode : rule.getAllDataNodes().getOrDefault(tableName, Collections.emptyList())) {
+                if (each.endsWith("_" + dataNode.getTableName())) {
+                    indexes.add(new IndexMetaData(each.substring(0, each.length() - dataNode.getTableName().length() - 1)));
+                }
+            }
+        }
+        return new TableMetaData(tableName, Collections.singletonList(columnMetaData), indexes);
     }
     
     @Override
@@ -24,8 +24,11 @@ import org.apache.shardingsphere.infra.rule.type.TableContainedRule;
 import java.util.Collection;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.LinkedList;
 import java.util.Map;
+import java.util.Map.Entry;
 import java.util.Optional;
+import java.util.TreeMap;
 
 public final class DataNodeContainedFixtureRule implements DataNodeContainedRule, TableContainedRule {
     
@@ -40,7 +43,11 @@ public final class DataNodeContainedFixtureRule implements DataNodeContainedRule
     
     @Override
     public Map<String, Collection<DataNode>> getAllDataNodes() {
-        return null;
+        Map<String, Collection<DataNode>> result = new HashMap<>(2, 1);
+        for (Entry<String, String> entry : new TreeMap<>(actualTableNameMaps).entrySet()) {
+            result.computeIfAbsent(entry.getValue(), key -> new LinkedList<>()).add(new DataNode("logic_db", entry.getKey()));
+        }
+        return result;
     }
     
     @Override
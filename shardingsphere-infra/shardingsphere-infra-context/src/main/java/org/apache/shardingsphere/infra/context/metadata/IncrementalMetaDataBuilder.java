@@ -0,0 +1,173 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.context.metadata;
+
+import lombok.RequiredArgsConstructor;
+import org.apache.shardingsphere.infra.config.RuleConfiguration;
+import org.apache.shardingsphere.infra.config.properties.ConfigurationProperties;
+import org.apache.shardingsphere.infra.database.metadata.DataSourceMetaData;
+import org.apache.shardingsphere.infra.database.type.DatabaseType;
+import org.apache.shardingsphere.infra.database.type.DatabaseTypeRecognizer;
+import org.apache.shardingsphere.infra.metadata.ShardingSphereMetaData;
+import org.apache.shardingsphere.infra.metadata.resource.ShardingSphereResource;
+import org.apache.shardingsphere.infra.metadata.rule.ShardingSphereRuleMetaData;
+import org.apache.shardingsphere.infra.metadata.schema.ShardingSphereSchema;
+import org.apache.shardingsphere.infra.metadata.schema.builder.SchemaBuilder;
+import org.apache.shardingsphere.infra.metadata.schema.builder.SchemaBuilderMaterials;
+import org.apache.shardingsphere.infra.metadata.schema.model.TableMetaData;
+import org.apache.shardingsphere.infra.rule.ShardingSphereRule;
+import org.apache.shardingsphere.infra.rule.builder.ShardingSphereRulesBuilder;
+import org.apache.shardingsphere.infra.rule.type.DataNodeContainedRule;
+import org.apache.shardingsphere.infra.rule.type.TableContainedRule;
+
+import javax.sql.DataSource;
+import java.sql.SQLException;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Incremental meta data builder, which rebuilds meta data of one schema and reuses what is not affected by the change.
+ */
+@RequiredArgsConstructor
+public final class IncrementalMetaDataBuilder {
+    
+    private final ConfigurationProperties props;
+    
+    /**
+     * Build meta data with changed rule configurations.
+     * 
+     * <p>Resource and data sources are reused, and only tables contained by rules are reloaded.
+     * The whole schema is reloaded if tables are removed from rules, because they may turn back to single tables.</p>
+     *
+     * @param oldMetaData old meta data
+     * @param ruleConfigs changed rule configurations
+     * @return new meta data
+     * @throws SQLException SQL exception
+     */
+    public ShardingSphereMetaData build(final ShardingSphereMetaData oldMetaData, final Collection<RuleConfiguration> ruleConfigs) throws SQLException {
+        ShardingSphereResource resource = oldMetaData.getResource();
+        return build(oldMetaData, ruleConfigs, ShardingSphereRulesBuilder.buildSchemaRules(oldMetaData.getName(), ruleConfigs, resource.getDatabaseType(), resource.getDataSources()));
+    }
+    
+    /**
+     * Build meta data with changed rule configurations and rules built from them.
+     * 
+     * <p>Rules must be built with resource of old meta data, so that they can be reused when building is retried against a newer schema.</p>
+     *
+     * @param oldMetaData old meta data
+     * @param ruleConfigs changed rule configurations
+     * @param rules rules built from changed rule configurations
+     * @return new meta data
+     * @throws SQLException SQL exception
+     */
+    public ShardingSphereMetaData build(final ShardingSphereMetaData oldMetaData, final Collection<RuleConfiguration> ruleConfigs, final Collection<ShardingSphereRule> rules) throws SQLException {
+        ShardingSphereResource resource = oldMetaData.getResource();
+        SchemaBuilderMaterials materials = new SchemaBuilderMaterials(resource.getDatabaseType(), resource.getDataSources(), rules, props);
+        Collection<ShardingSphereRule> oldRules = oldMetaData.getRuleMetaData().getRules();
+        ShardingSphereSchema schema = isRuleTablesRemoved(oldRules, rules) ? MetaDataContextsBuilder.buildSchema(SchemaBuilder.build(materials)) : rebuildSchema(oldMetaData.getSchema(), materials);
+        return new ShardingSphereMetaData(oldMetaData.getName(), resource, new ShardingSphereRuleMetaData(ruleConfigs, rules), schema);
+    }
+    
+    /**
+     * Build meta data with changed data sources.
+     * 
+     * <p>Schema is reused if the data sources still point to the same databases, otherwise the whole schema is reloaded.</p>
+     *
+     * @param oldMetaData old meta data
+     * @param dataSources changed data sources
+     * @return new meta data
+     * @throws SQLException SQL exception
+     */
+    public ShardingSphereMetaData build(final ShardingSphereMetaData oldMetaData, final Map<String, DataSource> dataSources) throws SQLException {
+        DatabaseType databaseType = DatabaseTypeRecognizer.getDatabaseType(dataSources.values());
+        return build(oldMetaData, dataSources, ShardingSphereRulesBuilder.buildSchemaRules(oldMetaData.getName(), oldMetaData.getRuleMetaData().getConfigurations(), databaseType, dataSources));
+    }
+    
+    /**
+     * Build meta data with changed data sources and rules built from them.
+     * 
+     * <p>Rules must be built with rule configurations of old meta data, so that they can be reused when building is retried against a newer schema.</p>
+     *
+     * @param oldMetaData old meta data
+     * @param dataSources changed data sources
+     * @param rules rules built from changed data sources
+     * @return new meta data
+     * @throws SQLException SQL exception
+     */
+    public ShardingSphereMetaData build(final ShardingSphereMetaData oldMetaData, final Map<String, DataSource> dataSources, final Collection<ShardingSphereRule> rules) throws SQLException {
+        DatabaseType databaseType = DatabaseTypeRecognizer.getDatabaseType(dataSources.values());
+        Collection<RuleConfiguration> ruleConfigs = oldMetaData.getRuleMetaData().getConfigurations();
+        ShardingSphereResource resource = MetaDataContextsBuilder.buildResource(databaseType, dataSources);
+        ShardingSphereSchema schema = isSameDatabases(oldMetaData.getResource(), resource) ? new ShardingSphereSchema(oldMetaData.getSchema().getTables())
+                : MetaDataContextsBuilder.buildSchema(SchemaBuilder.build(new SchemaBuilderMaterials(databaseType, dataSources, rules, props)));
+        return new ShardingSphereMetaData(oldMetaData.getName(), resource, new ShardingSphereRuleMetaData(ruleConfigs, rules), schema);
+    }
+    
+    private boolean isRuleTablesRemoved(final Collection<ShardingSphereRule> oldRules, final Collection<ShardingSphereRule> newRules) {
+        return !getRuleTables(newRules).containsAll(getRuleTables(oldRules)) || !getActualTables(newRules).containsAll(getActualTables(oldRules));
+    }
+    
+    private ShardingSphereSchema rebuildSchema(final ShardingSphereSchema oldSchema, final SchemaBuilderMaterials materials) throws SQLException {
+        Collection<String> ruleTables = getRuleTables(materials.getRules());
+        Map<String, TableMetaData> tables = new HashMap<>(oldSchema.getTables());
+        tables.keySet().removeAll(getActualTables(materials.getRules()));
+        tables.keySet().removeAll(ruleTables);
+        tables.putAll(SchemaBuilder.build(materials, ruleTables));
+        return new ShardingSphereSchema(tables);
+    }
+    
+    private Collection<String> getRuleTables(final Collection<ShardingSphereRule> rules) {
+        Collection<String> result = new LinkedHashSet<>();
+        for (ShardingSphereRule each : rules) {
+            if (each instanceof TableContainedRule) {
+                ((TableContainedRule) each).getTables().forEach(table -> result.add(table.toLowerCase()));
+            }
+        }
+        return result;
+    }
+    
+    private Collection<String> getActualTables(final Collection<ShardingSphereRule> rules) {
+        Collection<String> result = new LinkedHashSet<>();
+        for (ShardingSphereRule each : rules) {
+            if (each instanceof DataNodeContainedRule) {
+                ((DataNodeContainedRule) each).getAllActualTables().forEach(table -> result.add(table.toLowerCase()));
+            }
+        }
+        return result;
+    }
+    
+    private boolean isSameDatabases(final ShardingSphereResource oldResource, final ShardingSphereResource newResource) {
+        if (!oldResource.getDataSources().keySet().equals(newResource.getDataSources().keySet()) || !Objects.equals(oldResource.getDatabaseType(), newResource.getDatabaseType())) {
+            return false;
+        }
+        for (String each : newResource.getDataSources().keySet()) {
+            if (!isSameDatabase(oldResource.getDataSourcesMetaData().getDataSourceMetaData(each), newResource.getDataSourcesMetaData().getDataSourceMetaData(each))) {
+                return false;
+            }
+        }
+        return true;
+    }
+    
+    private boolean isSameDatabase(final DataSourceMetaData oldDataSourceMetaData, final DataSourceMetaData newDataSourceMetaData) {
+        return Objects.equals(oldDataSourceMetaData.getHostName(), newDataSourceMetaData.getHostName()) && oldDataSourceMetaData.getPort() == newDataSourceMetaData.getPort()
+                && Objects.equals(oldDataSourceMetaData.getCatalog(), newDataSourceMetaData.getCatalog()) && Objects.equals(oldDataSourceMetaData.getSchema(), newDataSourceMetaData.getSchema());
+    }
+}
@@ -23,7 +23,9 @@ import org.apache.shardingsphere.infra.metadata.MetadataRefresher;
 import org.apache.shardingsphere.infra.metadata.ShardingSphereMetaData;
 import org.apache.shardingsphere.infra.metadata.mapper.SQLStatementEventMapper;
 import org.apache.shardingsphere.infra.metadata.mapper.SQLStatementEventMapperFactory;
+import org.apache.shardingsphere.infra.metadata.schema.ShardingSphereSchema;
 import org.apache.shardingsphere.infra.metadata.schema.builder.SchemaBuilderMaterials;
+import org.apache.shardingsphere.infra.metadata.schema.model.TableMetaData;
 import org.apache.shardingsphere.infra.metadata.schema.refresher.SchemaRefresher;
 import org.apache.shardingsphere.infra.metadata.schema.refresher.event.SchemaAlteredEvent;
 import org.apache.shardingsphere.infra.optimize.core.metadata.FederateSchemaMetadata;
@@ -32,7 +34,12 @@ import org.apache.shardingsphere.sql.parser.sql.common.statement.SQLStatement;
 
 import java.sql.SQLException;
 import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Map.Entry;
 import java.util.Optional;
+import java.util.stream.Collectors;
 
 /**
  * Metadata refresh engine.
@@ -73,6 +80,9 @@ public final class MetadataRefreshEngine {
     
     @SuppressWarnings({"unchecked", "rawtypes"})
     private void refresh(final SQLStatement sqlStatement, final Collection<String> routeDataSourceNames, final Collection<MetadataRefresher> refreshers) throws SQLException {
+        ShardingSphereSchema schema = schemaMetadata.getSchema();
+        Map<String, TableMetaData> oldTables = new HashMap<>(schema.getTables());
+        Map<String, Collection<String>> oldIndexNames = oldTables.entrySet().stream().collect(Collectors.toMap(Entry::getKey, entry -> new HashSet<>(entry.getValue().getIndexes().keySet())));
         for (MetadataRefresher each : refreshers) {
             if (each instanceof SchemaRefresher) {
                 ((SchemaRefresher) each).refresh(schemaMetadata.getSchema(), routeDataSourceNames, sqlStatement, materials);
@@ -81,6 +91,9 @@ public final class MetadataRefreshEngine {
                 ((FederateRefresher) each).refresh(federateMetadata, routeDataSourceNames, sqlStatement, materials);
             }
         }
-        ShardingSphereEventBus.getInstance().post(new SchemaAlteredEvent(schemaMetadata.getName(), schemaMetadata.getSchema()));
+        Collection<String> alteredTables = schema.getAllTableNames().stream()
+                .filter(each -> schema.get(each) != oldTables.get(each) || !schema.get(each).getIndexes().keySet().equals(oldIndexNames.get(each))).collect(Collectors.toList());
+        Collection<String> droppedTables = oldTables.keySet().stream().filter(each -> !schema.containsTable(each)).collect(Collectors.toList());
+        ShardingSphereEventBus.getInstance().post(new SchemaAlteredEvent(schemaMetadata.getName(), schema, alteredTables, droppedTables));
     }
 }
@@ -0,0 +1,76 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.context.metadata;
+
+import org.apache.shardingsphere.infra.config.properties.ConfigurationProperties;
+import org.apache.shardingsphere.infra.context.fixture.FixtureRuleConfiguration;
+import org.apache.shardingsphere.infra.metadata.ShardingSphereMetaData;
+import org.apache.shardingsphere.infra.metadata.schema.model.TableMetaData;
+import org.apache.shardingsphere.test.mock.MockedDataSource;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.sql.SQLException;
+import java.util.Collections;
+import java.util.Properties;
+
+import static org.hamcrest.CoreMatchers.instanceOf;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.not;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+
+public final class IncrementalMetaDataBuilderTest {
+    
+    private final TableMetaData tableMetaData = new TableMetaData("t_single", Collections.emptyList(), Collections.emptyList());
+    
+    private ShardingSphereMetaData oldMetaData;
+    
+    @Before
+    public void setUp() throws SQLException {
+        oldMetaData = new MetaDataContextsBuilder(Collections.singletonMap("logic_db", Collections.singletonMap("ds", new MockedDataSource())),
+                Collections.singletonMap("logic_db", Collections.singleton(new FixtureRuleConfiguration())), new Properties()).build().getMetaData("logic_db");
+        oldMetaData.getSchema().put("t_single", tableMetaData);
+    }
+    
+    @Test
+    public void assertBuildWithRuleConfigurations() throws SQLException {
+        ShardingSphereMetaData actual = new IncrementalMetaDataBuilder(new ConfigurationProperties(new Properties())).build(oldMetaData, Collections.singleton(new FixtureRuleConfiguration()));
+        assertThat(actual.getName(), is("logic_db"));
+        assertThat(actual.getResource(), sameInstance(oldMetaData.getResource()));
+        assertThat(actual.getRuleMetaData().getRules(), not(sameInstance(oldMetaData.getRuleMetaData().getRules())));
+        assertThat(actual.getSchema(), not(sameInstance(oldMetaData.getSchema())));
+        assertThat(actual.getSchema().get("t_single"), sameInstance(tableMetaData));
+    }
+    
+    @Test
+    public void assertBuildWithDataSources() throws SQLException {
+        ShardingSphereMetaData actual = new IncrementalMetaDataBuilder(new ConfigurationProperties(new Properties())).build(oldMetaData, Collections.singletonMap("ds", new MockedDataSource()));
+        assertThat(actual.getResource(), not(sameInstance(oldMetaData.getResource())));
+        assertThat(actual.getResource().getDataSources().get("ds"), instanceOf(MockedDataSource.class));
+        assertThat(actual.getSchema().get("t_single"), sameInstance(tableMetaData));
+    }
+    
+    @Test
+    public void assertBuildWithRenamedDataSources() throws SQLException {
+        ShardingSphereMetaData actual = new IncrementalMetaDataBuilder(new ConfigurationProperties(new Properties())).build(oldMetaData, Collections.singletonMap("ds_new", new MockedDataSource()));
+        assertTrue(actual.getResource().getDataSources().containsKey("ds_new"));
+        assertTrue(actual.getSchema().getAllTableNames().isEmpty());
+    }
+}
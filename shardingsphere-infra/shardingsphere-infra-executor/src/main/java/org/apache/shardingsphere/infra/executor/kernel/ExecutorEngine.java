@@ -17,23 +17,40 @@
 
 package org.apache.shardingsphere.infra.executor.kernel;
 
+import com.google.common.util.concurrent.Futures;
 import com.google.common.util.concurrent.ListenableFuture;
+import lombok.AccessLevel;
 import lombok.Getter;
 import org.apache.shardingsphere.infra.exception.ShardingSphereException;
+import org.apache.shardingsphere.infra.executor.kernel.hedge.HedgedExecutionGroupContextSupplier;
+import org.apache.shardingsphere.infra.executor.kernel.hedge.HedgedExecutionResult;
+import org.apache.shardingsphere.infra.executor.kernel.hedge.HedgingOption;
+import org.apache.shardingsphere.infra.executor.kernel.hedge.HedgingPolicy;
 import org.apache.shardingsphere.infra.executor.kernel.model.ExecutionGroup;
 import org.apache.shardingsphere.infra.executor.kernel.model.ExecutionGroupContext;
 import org.apache.shardingsphere.infra.executor.kernel.model.ExecutorCallback;
 import org.apache.shardingsphere.infra.executor.kernel.model.ExecutorDataMap;
 import org.apache.shardingsphere.infra.executor.kernel.thread.ExecutorServiceManager;
+import org.apache.shardingsphere.infra.executor.kernel.thread.ExecutorThreadFactoryBuilder;
 
 import java.sql.SQLException;
+import java.sql.SQLTimeoutException;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.Iterator;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
 
 /**
  * Executor engine.
@@ -43,10 +60,19 @@ public final class ExecutorEngine implements AutoCloseable {
     
     private final ExecutorServiceManager executorServiceManager;
     
+    @Getter(AccessLevel.NONE)
+    private final ScheduledExecutorService deadlineExecutor = Executors.newSingleThreadScheduledExecutor(ExecutorThreadFactoryBuilder.build("Executor-Engine-Deadline"));
+    
+    private final Map<String, HedgingPolicy> hedgingPolicies = new ConcurrentHashMap<>();
+    
     public ExecutorEngine(final int executorSize) {
         executorServiceManager = new ExecutorServiceManager(executorSize);
     }
     
+    public ExecutorEngine(final int executorSize, final int partitionSize, final int partitionQueueSize) {
+        executorServiceManager = new ExecutorServiceManager(executorSize, partitionSize, partitionQueueSize);
+    }
+    
     /**
      * Execute.
      *
@@ -82,6 +108,213 @@ public final class ExecutorEngine implements AutoCloseable {
                 : parallelExecute(executionGroupContext.getInputGroups().iterator(), firstCallback, callback);
     }
     
+    /**
+     * Execute asynchronously.
+     * 
+     * <p>
+     * All execution groups are submitted to executor service, caller thread is never blocked.
+     * Every group is executed as trunk, so the failure of any group completes returned future exceptionally instead of being swallowed.
+     * The first failed group, the expiry of deadline or the cancellation of returned future cancels all other in-flight groups 
+     * through {@link ExecutorCallback#cancel(Collection)}.
+     * </p>
+     *
+     * @param executionGroupContext execution group context
+     * @param firstCallback first executor callback
+     * @param callback other executor callback
+     * @param timeoutMilliseconds deadline of whole execution in milliseconds, zero or negative means no deadline
+     * @param <I> type of input value
+     * @param <O> type of return value
+     * @return future of execute result
+     */
+    public <I, O> CompletableFuture<List<O>> executeAsync(final ExecutionGroupContext<I> executionGroupContext,
+                                                          final ExecutorCallback<I, O> firstCallback, final ExecutorCallback<I, O> callback, final long timeoutMilliseconds) {
+        return executeAsync(executionGroupContext, firstCallback, callback, timeoutMilliseconds, ExecutorDataMap.getValue());
+    }
+    
+    private <I, O> CompletableFuture<List<O>> executeAsync(final ExecutionGroupContext<I> executionGroupContext, final ExecutorCallback<I, O> firstCallback, 
+                                                           final ExecutorCallback<I, O> callback, final long timeoutMilliseconds, final Map<String, Object> dataMap) {
+        if (executionGroupContext.getInputGroups().isEmpty()) {
+            return CompletableFuture.completedFuture(Collections.emptyList());
+        }
+        CompletableFuture<List<O>> result = new CompletableFuture<>();
+        List<CompletableFuture<Collection<O>>> groupFutures = new ArrayList<>(executionGroupContext.getInputGroups().size());
+        List<Runnable> cancellations = new ArrayList<>(executionGroupContext.getInputGroups().size());
+        boolean isFirst = true;
+        for (ExecutionGroup<I> each : executionGroupContext.getInputGroups()) {
+            ExecutorCallback<I, O> groupCallback = isFirst && null != firstCallback ? firstCallback : callback;
+            CompletableFuture<Collection<O>> groupFuture = supplyAsync(each, groupCallback, true, dataMap, result);
+            groupFuture.whenComplete((groupResult, ex) -> {
+                if (null != ex) {
+                    result.completeExceptionally(unwrapCompletionException(ex));
+                }
+            });
+            groupFutures.add(groupFuture);
+            cancellations.add(() -> {
+                if (!groupFuture.isDone()) {
+                    groupCallback.cancel(each.getInputs());
+                }
+            });
+            isFirst = false;
+        }
+        CompletableFuture.allOf(groupFutures.toArray(new CompletableFuture[0])).thenRun(() -> result.complete(mergeGroupResults(groupFutures)));
+        ScheduledFuture<?> deadline = timeoutMilliseconds > 0 ? scheduleDeadline(result, timeoutMilliseconds) : null;
+        result.whenComplete((actual, ex) -> {
+            if (null != deadline) {
+                deadline.cancel(false);
+            }
+            if (null != ex) {
+                cancellations.forEach(Runnable::run);
+            }
+        });
+        return result;
+    }
+    
+    /**
+     * Execute with hedging.
+     * 
+     * <p>
+     * If execution is still in-flight after the delay calculated from recent latencies, the hedged execution group context is executed too when budget permits.
+     * The first successful result wins and the other execution is cancelled through {@link ExecutorCallback#cancel(Collection)}.
+     * Hedged execution group context is only prepared in the hedging delay window, it is never prepared after this method returned.
+     * </p>
+     *
+     * @param executionGroupContext execution group context
+     * @param hedgedExecutionGroupContextSupplier hedged execution group context supplier
+     * @param firstCallback first executor callback
+     * @param callback other executor callback
+     * @param option hedging option
+     * @param <I> type of input value
+     * @param <O> type of return value
+     * @return hedged execution result
+     * @throws SQLException throw if both executions failure
+     */
+    public <I, O> HedgedExecutionResult<I, O> executeHedged(final ExecutionGroupContext<I> executionGroupContext, final HedgedExecutionGroupContextSupplier<I> hedgedExecutionGroupContextSupplier,
+                                                            final ExecutorCallback<I, O> firstCallback, final ExecutorCallback<I, O> callback, final HedgingOption option) throws SQLException {
+        if (executionGroupContext.getInputGroups().isEmpty()) {
+            return new HedgedExecutionResult<>(executionGroupContext, Collections.emptyList(), false);
+        }
+        HedgingPolicy policy = hedgingPolicies.computeIfAbsent(getHedgingPolicyKey(executionGroupContext), key -> new HedgingPolicy());
+        policy.recordExecution();
+        long startTime = System.currentTimeMillis();
+        Map<String, Object> dataMap = ExecutorDataMap.getValue();
+        CompletableFuture<HedgedExecutionResult<I, O>> result = new CompletableFuture<>();
+        CompletableFuture<CompletableFuture<List<O>>> hedgedLaunch = new CompletableFuture<>();
+        CompletableFuture<List<O>> primaryFuture = executeAsync(executionGroupContext, firstCallback, callback, 0L, dataMap);
+        primaryFuture.whenComplete((actual, ex) -> {
+            if (null == ex) {
+                result.complete(new HedgedExecutionResult<>(executionGroupContext, actual, false));
+                return;
+            }
+            CompletableFuture<List<O>> hedgedFuture = hedgedLaunch.getNow(null);
+            if (null == hedgedFuture || hedgedFuture.isCompletedExceptionally()) {
+                result.completeExceptionally(ex);
+            }
+        });
+        long delayMilliseconds = policy.getDelayMilliseconds(option.getDelayPercentile());
+        ScheduledFuture<?> trigger = delayMilliseconds < 0 ? null : deadlineExecutor.schedule(() -> {
+            if (primaryFuture.isDone() || !policy.tryAcquire(option.getBudgetPercent())) {
+                hedgedLaunch.complete(null);
+                return;
+            }
+            launchHedged(hedgedExecutionGroupContextSupplier, firstCallback, callback, dataMap, primaryFuture, hedgedLaunch, result);
+        }, delayMilliseconds, TimeUnit.MILLISECONDS);
+        try {
+            HedgedExecutionResult<I, O> hedgedExecutionResult = result.get();
+            policy.recordLatency(System.currentTimeMillis() - startTime);
+            return hedgedExecutionResult;
+        } catch (final InterruptedException | ExecutionException ex) {
+            throwException(ex);
+            return null;
+        } finally {
+            cancelLoser(primaryFuture, trigger, hedgedLaunch);
+        }
+    }
+    
+    private <I, O> void launchHedged(final HedgedExecutionGroupContextSupplier<I> hedgedExecutionGroupContextSupplier, 
+                                     final ExecutorCallback<I, O> firstCallback, final ExecutorCallback<I, O> callback, final Map<String, Object> dataMap, 
+                                     final CompletableFuture<List<O>> primaryFuture, final CompletableFuture<CompletableFuture<List<O>>> hedgedLaunch, 
+                                     final CompletableFuture<HedgedExecutionResult<I, O>> result) {
+        try {
+            executorServiceManager.getExecutorService(null).execute(() -> {
+                if (result.isDone()) {
+                    hedgedLaunch.complete(null);
+                    return;
+                }
+                ExecutionGroupContext<I> hedgedExecutionGroupContext;
+                try {
+                    hedgedExecutionGroupContext = hedgedExecutionGroupContextSupplier.get();
+                } catch (final SQLException ex) {
+                    hedgedLaunch.complete(null);
+                    return;
+                }
+                CompletableFuture<List<O>> hedgedFuture = executeAsync(hedgedExecutionGroupContext, firstCallback, callback, 0L, dataMap);
+                hedgedFuture.whenComplete((actual, ex) -> {
+                    if (null == ex) {
+                        result.complete(new HedgedExecutionResult<>(hedgedExecutionGroupContext, actual, true));
+                    } else if (primaryFuture.isCompletedExceptionally()) {
+                        result.completeExceptionally(ex);
+                    }
+                });
+                hedgedLaunch.complete(hedgedFuture);
+            });
+        } catch (final RejectedExecutionException ex) {
+            hedgedLaunch.complete(null);
+        }
+    }
+    
+    private <O> void cancelLoser(final CompletableFuture<List<O>> primaryFuture, final ScheduledFuture<?> trigger, final CompletableFuture<CompletableFuture<List<O>>> hedgedLaunch) {
+        primaryFuture.cancel(true);
+        if (null == trigger || trigger.cancel(false)) {
+            return;
+        }
+        CompletableFuture<List<O>> hedgedFuture = hedgedLaunch.join();
+        if (null != hedgedFuture) {
+            hedgedFuture.cancel(true);
+        }
+    }
+    
+    private <I> String getHedgingPolicyKey(final ExecutionGroupContext<I> executionGroupContext) {
+        String result = executionGroupContext.getInputGroups().iterator().next().getPartitionKey();
+        return null == result ? "" : result;
+    }
+    
+    private <I, O> CompletableFuture<Collection<O>> supplyAsync(final ExecutionGroup<I> executionGroup, final ExecutorCallback<I, O> callback, 
+                                                                final boolean isTrunkThread, final Map<String, Object> dataMap, final CompletableFuture<?> parentFuture) {
+        try {
+            return CompletableFuture.supplyAsync(() -> {
+                if (parentFuture.isDone()) {
+                    return Collections.emptyList();
+                }
+                try {
+                    return callback.execute(executionGroup.getInputs(), isTrunkThread, dataMap);
+                } catch (final SQLException ex) {
+                    throw new CompletionException(ex);
+                }
+            }, executorServiceManager.getExecutorService(executionGroup.getPartitionKey()));
+        } catch (final RejectedExecutionException ex) {
+            CompletableFuture<Collection<O>> result = new CompletableFuture<>();
+            result.completeExceptionally(createRejectedException(executionGroup, ex));
+            return result;
+        }
+    }
+    
+    private ScheduledFuture<?> scheduleDeadline(final CompletableFuture<?> future, final long timeoutMilliseconds) {
+        String message = String.format("Execution timeout, exceeded %d milliseconds.", timeoutMilliseconds);
+        return deadlineExecutor.schedule(() -> future.completeExceptionally(new SQLTimeoutException(message)), timeoutMilliseconds, TimeUnit.MILLISECONDS);
+    }
+    
+    private <O> List<O> mergeGroupResults(final Collection<CompletableFuture<Collection<O>>> groupFutures) {
+        List<O> result = new LinkedList<>();
+        for (CompletableFuture<Collection<O>> each : groupFutures) {
+            result.addAll(each.join());
+        }
+        return result;
+    }
+    
+    private Throwable unwrapCompletionException(final Throwable throwable) {
+        return throwable instanceof CompletionException && null != throwable.getCause() ? throwable.getCause() : throwable;
+    }
+    
     private <I, O> List<O> serialExecute(final Iterator<ExecutionGroup<I>> executionGroups, final ExecutorCallback<I, O> firstCallback, final ExecutorCallback<I, O> callback) throws SQLException {
         ExecutionGroup<I> firstInputs = executionGroups.next();
         List<O> result = new LinkedList<>(syncExecute(firstInputs, null == firstCallback ? callback : firstCallback));
@@ -111,7 +344,15 @@ public final class ExecutorEngine implements AutoCloseable {
     
     private <I, O> ListenableFuture<Collection<O>> asyncExecute(final ExecutionGroup<I> executionGroup, final ExecutorCallback<I, O> callback) {
         Map<String, Object> dataMap = ExecutorDataMap.getValue();
-        return executorServiceManager.getExecutorService().submit(() -> callback.execute(executionGroup.getInputs(), false, dataMap));
+        try {
+            return executorServiceManager.getExecutorService(executionGroup.getPartitionKey()).submit(() -> callback.execute(executionGroup.getInputs(), false, dataMap));
+        } catch (final RejectedExecutionException ex) {
+            return Futures.immediateFailedFuture(createRejectedException(executionGroup, ex));
+        }
+    }
+    
+    private <I> SQLException createRejectedException(final ExecutionGroup<I> executionGroup, final RejectedExecutionException cause) {
+        return new SQLException(String.format("Executor partition `%s` is saturated, execution rejected.", executionGroup.getPartitionKey()), cause);
     }
     
     private <O> List<O> getGroupResults(final Collection<O> firstResults, final Collection<ListenableFuture<Collection<O>>> restFutures) throws SQLException {
@@ -135,6 +376,7 @@ public final class ExecutorEngine implements AutoCloseable {
     
     @Override
     public void close() {
+        deadlineExecutor.shutdownNow();
         executorServiceManager.close();
     }
 }
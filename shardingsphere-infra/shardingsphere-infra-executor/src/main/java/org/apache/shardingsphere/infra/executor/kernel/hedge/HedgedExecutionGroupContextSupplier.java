@@ -0,0 +1,40 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.executor.kernel.hedge;
+
+import org.apache.shardingsphere.infra.executor.kernel.model.ExecutionGroupContext;
+
+import java.sql.SQLException;
+
+/**
+ * Hedged execution group context supplier.
+ * 
+ * @param <T> type of storage resource
+ */
+public interface HedgedExecutionGroupContextSupplier<T> {
+    
+    /**
+     * Get hedged execution group context.
+     * 
+     * <p>It is called only when the hedged execution is really started, so resources can be prepared lazily.</p>
+     *
+     * @return hedged execution group context
+     * @throws SQLException SQL exception
+     */
+    ExecutionGroupContext<T> get() throws SQLException;
+}
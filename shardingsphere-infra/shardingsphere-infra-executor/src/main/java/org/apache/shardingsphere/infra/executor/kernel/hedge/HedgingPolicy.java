@@ -0,0 +1,115 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.executor.kernel.hedge;
+
+import java.util.Arrays;
+
+/**
+ * Hedging policy.
+ * 
+ * <p>
+ * Keeps latencies of recent executions to calculate the hedging delay by percentile,
+ * and caps hedged executions by budget percent of all hedge eligible executions.
+ * </p>
+ */
+public final class HedgingPolicy {
+    
+    private static final int MAX_SAMPLE_SIZE = 1024;
+    
+    private static final int MIN_SAMPLE_SIZE = 32;
+    
+    private static final int DELAY_REFRESH_INTERVAL = 64;
+    
+    private static final int BUDGET_WINDOW_SIZE = 1000;
+    
+    private final long[] latencies = new long[MAX_SAMPLE_SIZE];
+    
+    private int sampleSize;
+    
+    private int nextSampleIndex;
+    
+    private int samplesSinceRefresh;
+    
+    private int cachedPercentile = -1;
+    
+    private long cachedDelayMilliseconds = -1L;
+    
+    private int executionCount;
+    
+    private int hedgedCount;
+    
+    /**
+     * Record latency of execution.
+     *
+     * @param latencyMilliseconds latency in milliseconds
+     */
+    public synchronized void recordLatency(final long latencyMilliseconds) {
+        latencies[nextSampleIndex] = latencyMilliseconds;
+        nextSampleIndex = (nextSampleIndex + 1) % MAX_SAMPLE_SIZE;
+        if (sampleSize < MAX_SAMPLE_SIZE) {
+            sampleSize++;
+        }
+        samplesSinceRefresh++;
+    }
+    
+    /**
+     * Get hedging delay.
+     *
+     * @param percentile latency percentile
+     * @return hedging delay in milliseconds, negative if there are not enough samples to calculate it
+     */
+    public synchronized long getDelayMilliseconds(final int percentile) {
+        if (sampleSize < MIN_SAMPLE_SIZE) {
+            return -1L;
+        }
+        if (percentile != cachedPercentile || samplesSinceRefresh >= DELAY_REFRESH_INTERVAL) {
+            long[] sortedLatencies = Arrays.copyOf(latencies, sampleSize);
+            Arrays.sort(sortedLatencies);
+            int index = (int) Math.ceil(percentile / 100D * sampleSize) - 1;
+            cachedDelayMilliseconds = Math.max(1L, sortedLatencies[Math.min(sampleSize - 1, Math.max(0, index))]);
+            cachedPercentile = percentile;
+            samplesSinceRefresh = 0;
+        }
+        return cachedDelayMilliseconds;
+    }
+    
+    /**
+     * Record hedge eligible execution.
+     */
+    public synchronized void recordExecution() {
+        if (executionCount >= BUDGET_WINDOW_SIZE) {
+            executionCount /= 2;
+            hedgedCount /= 2;
+        }
+        executionCount++;
+    }
+    
+    /**
+     * Try to acquire budget of hedged execution.
+     *
+     * @param budgetPercent max percent of hedged executions in all hedge eligible executions
+     * @return acquired or not
+     */
+    public synchronized boolean tryAcquire(final int budgetPercent) {
+        if ((hedgedCount + 1) * 100L > (long) executionCount * budgetPercent) {
+            return false;
+        }
+        hedgedCount++;
+        return true;
+    }
+}
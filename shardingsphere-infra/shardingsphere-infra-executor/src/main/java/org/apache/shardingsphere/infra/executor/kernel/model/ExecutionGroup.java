@@ -32,4 +32,10 @@ import java.util.List;
 public final class ExecutionGroup<T> {
     
     private final List<T> inputs;
+    
+    private final String partitionKey;
+    
+    public ExecutionGroup(final List<T> inputs) {
+        this(inputs, null);
+    }
 }
@@ -39,4 +39,14 @@ public interface ExecutorCallback<I, O> {
      * @throws SQLException throw when execute failure
      */
     Collection<O> execute(Collection<I> inputs, boolean isTrunkThread, Map<String, Object> dataMap) throws SQLException;
+    
+    /**
+     * Cancel in-flight execution of inputs.
+     * 
+     * <p>Invoked by asynchronous execution when a sibling group failed, deadline exceeded or the whole execution was cancelled.</p>
+     * 
+     * @param inputs input values
+     */
+    default void cancel(Collection<I> inputs) {
+    }
 }
@@ -21,10 +21,19 @@ import com.google.common.util.concurrent.ListeningExecutorService;
 import com.google.common.util.concurrent.MoreExecutors;
 import lombok.Getter;
 
+import java.util.Collection;
+import java.util.LinkedList;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
+import java.util.concurrent.SynchronousQueue;
 import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
 import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
 
 /**
  * Executor service manager.
@@ -34,17 +43,35 @@ public final class ExecutorServiceManager {
     
     private static final String DEFAULT_NAME_FORMAT = "%d";
     
+    private static final String PARTITION_NAME_FORMAT = "Partition-%s-%%d";
+    
     private static final ExecutorService SHUTDOWN_EXECUTOR = Executors.newSingleThreadExecutor(ExecutorThreadFactoryBuilder.build("Executor-Engine-Closer"));
     
     private final ListeningExecutorService executorService;
     
+    private final int partitionSize;
+    
+    private final int partitionQueueSize;
+    
+    private final Map<String, ListeningExecutorService> partitionExecutorServices = new ConcurrentHashMap<>();
+    
     public ExecutorServiceManager(final int executorSize) {
         this(executorSize, DEFAULT_NAME_FORMAT);
     }
     
     public ExecutorServiceManager(final int executorSize, final String nameFormat) {
+        this(executorSize, nameFormat, 0, 0);
+    }
+    
+    public ExecutorServiceManager(final int executorSize, final int partitionSize, final int partitionQueueSize) {
+        this(executorSize, DEFAULT_NAME_FORMAT, partitionSize, partitionQueueSize);
+    }
+    
+    public ExecutorServiceManager(final int executorSize, final String nameFormat, final int partitionSize, final int partitionQueueSize) {
         executorService = MoreExecutors.listeningDecorator(getExecutorService(executorSize, nameFormat));
         MoreExecutors.addDelayedShutdownHook(executorService, 60, TimeUnit.SECONDS);
+        this.partitionSize = partitionSize;
+        this.partitionQueueSize = partitionQueueSize;
     }
     
     private ExecutorService getExecutorService(final int executorSize, final String nameFormat) {
@@ -52,19 +79,116 @@ public final class ExecutorServiceManager {
         return 0 == executorSize ? Executors.newCachedThreadPool(threadFactory) : Executors.newFixedThreadPool(executorSize, threadFactory);
     }
     
+    /**
+     * Get executor service of partition.
+     * 
+     * <p>
+     * Each partition, for example a data source, owns an isolated bounded executor service when partition size is configured, 
+     * tasks are rejected fast once both the threads and the queue of the partition are saturated.
+     * The shared executor service is returned if partition is disabled or partition key is absent.
+     * </p>
+     * 
+     * @param partitionKey partition key
+     * @return executor service
+     */
+    public ListeningExecutorService getExecutorService(final String partitionKey) {
+        if (0 >= partitionSize || null == partitionKey) {
+            return executorService;
+        }
+        return partitionExecutorServices.computeIfAbsent(partitionKey, this::createPartitionExecutorService);
+    }
+    
+    /**
+     * Get partition key of data source.
+     * 
+     * <p>
+     * Data source name is qualified by schema name, because data sources of different schemas may share the same name.
+     * </p>
+     *
+     * @param schemaName schema name
+     * @param dataSourceName data source name
+     * @return partition key
+     */
+    public static String getPartitionKey(final String schemaName, final String dataSourceName) {
+        return String.join(".", schemaName, dataSourceName);
+    }
+    
+    /**
+     * Close executor services of data source partitions, which are removed from schema.
+     * 
+     * <p>
+     * Partitions are removed at once and shut down after their queued tasks finished, an executor service is re-created if the partition is used again.
+     * </p>
+     *
+     * @param schemaName schema name
+     * @param dataSourceNames names of removed data sources
+     */
+    public void closePartitions(final String schemaName, final Collection<String> dataSourceNames) {
+        Collection<ListeningExecutorService> removedExecutorServices = new LinkedList<>();
+        for (String each : dataSourceNames) {
+            ListeningExecutorService removed = partitionExecutorServices.remove(getPartitionKey(schemaName, each));
+            if (null != removed) {
+                removedExecutorServices.add(removed);
+            }
+        }
+        shutdown(removedExecutorServices);
+    }
+    
+    /**
+     * Close executor services of all data source partitions of schema, which is dropped.
+     *
+     * @param schemaName schema name
+     */
+    public void closePartitions(final String schemaName) {
+        String prefix = getPartitionKey(schemaName, "");
+        closePartitions(schemaName, partitionExecutorServices.keySet().stream()
+                .filter(each -> each.startsWith(prefix)).map(each -> each.substring(prefix.length())).collect(Collectors.toList()));
+    }
+    
+    private void shutdown(final Collection<ListeningExecutorService> executorServices) {
+        if (executorServices.isEmpty()) {
+            return;
+        }
+        executorServices.forEach(ExecutorService::shutdown);
+        SHUTDOWN_EXECUTOR.execute(() -> {
+            try {
+                for (ListeningExecutorService each : executorServices) {
+                    awaitTermination(each);
+                }
+            } catch (final InterruptedException ex) {
+                Thread.currentThread().interrupt();
+            }
+        });
+    }
+    
+    private ListeningExecutorService createPartitionExecutorService(final String partitionKey) {
+        BlockingQueue<Runnable> workQueue = 0 >= partitionQueueSize ? new SynchronousQueue<>() : new ArrayBlockingQueue<>(partitionQueueSize);
+        ThreadFactory threadFactory = ExecutorThreadFactoryBuilder.build(String.format(PARTITION_NAME_FORMAT, partitionKey));
+        ThreadPoolExecutor result = new ThreadPoolExecutor(partitionSize, partitionSize, 60L, TimeUnit.SECONDS, workQueue, threadFactory, new ThreadPoolExecutor.AbortPolicy());
+        result.allowCoreThreadTimeOut(true);
+        return MoreExecutors.listeningDecorator(result);
+    }
+    
     /**
      * Close executor service.
      */
     public void close() {
         SHUTDOWN_EXECUTOR.execute(() -> {
             try {
-                executorService.shutdown();
-                while (!executorService.awaitTermination(5, TimeUnit.SECONDS)) {
-                    executorService.shutdownNow();
+                awaitTermination(executorService);
+                for (ListeningExecutorService each : partitionExecutorServices.values()) {
+                    awaitTermination(each);
                 }
             } catch (final InterruptedException ex) {
                 Thread.currentThread().interrupt();
             }
         });
     }
+    
+    private void awaitTermination(final ExecutorService target) throws InterruptedException {
+        target.shutdown();
+        while (!target.awaitTermination(5, TimeUnit.SECONDS)) {
+            target.shutdownNow();
+        }
+    }
 }
@@ -0,0 +1,79 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.executor.sql.context;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+import org.apache.shardingsphere.infra.config.properties.ConfigurationProperties;
+import org.apache.shardingsphere.infra.config.properties.ConfigurationPropertyKey;
+import org.apache.shardingsphere.infra.route.context.HedgedReadRouteStageContext;
+import org.apache.shardingsphere.infra.route.context.RouteContext;
+import org.apache.shardingsphere.infra.route.context.RouteStageContext;
+
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Hedged execution units builder.
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class HedgedExecutionUnitsBuilder {
+    
+    /**
+     * Build hedged execution units.
+     * 
+     * <p>
+     * Execution units are hedged only if every routed data source has a hedged data source,
+     * the hedged execution units execute the same SQL and parameters on hedged data sources.
+     * </p>
+     *
+     * @param executionContext execution context
+     * @param props configuration properties
+     * @return hedged execution units
+     */
+    public static Optional<Collection<ExecutionUnit>> build(final ExecutionContext executionContext, final ConfigurationProperties props) {
+        if (!props.<Boolean>getValue(ConfigurationPropertyKey.HEDGED_READ_ENABLED) || executionContext.getRouteContext().isFederated()) {
+            return Optional.empty();
+        }
+        Optional<HedgedReadRouteStageContext> routeStageContext = findHedgedReadRouteStageContext(executionContext.getRouteContext());
+        if (!routeStageContext.isPresent()) {
+            return Optional.empty();
+        }
+        Map<String, String> hedgedDataSourceNames = routeStageContext.get().getHedgedDataSourceNames();
+        Collection<ExecutionUnit> result = new LinkedHashSet<>(executionContext.getExecutionUnits().size(), 1);
+        for (ExecutionUnit each : executionContext.getExecutionUnits()) {
+            String hedgedDataSourceName = hedgedDataSourceNames.get(each.getDataSourceName());
+            if (null == hedgedDataSourceName) {
+                return Optional.empty();
+            }
+            result.add(new ExecutionUnit(hedgedDataSourceName, each.getSqlUnit()));
+        }
+        return result.isEmpty() ? Optional.empty() : Optional.of(result);
+    }
+    
+    private static Optional<HedgedReadRouteStageContext> findHedgedReadRouteStageContext(final RouteContext routeContext) {
+        for (RouteStageContext each : routeContext.getRouteStageContexts().values()) {
+            if (each instanceof HedgedReadRouteStageContext) {
+                return Optional.of((HedgedReadRouteStageContext) each);
+            }
+        }
+        return Optional.empty();
+    }
+}
@@ -19,12 +19,16 @@ package org.apache.shardingsphere.infra.executor.sql.execute.engine.driver.jdbc;
 
 import lombok.RequiredArgsConstructor;
 import org.apache.shardingsphere.infra.executor.kernel.ExecutorEngine;
+import org.apache.shardingsphere.infra.executor.kernel.hedge.HedgedExecutionGroupContextSupplier;
+import org.apache.shardingsphere.infra.executor.kernel.hedge.HedgedExecutionResult;
+import org.apache.shardingsphere.infra.executor.kernel.hedge.HedgingOption;
 import org.apache.shardingsphere.infra.executor.kernel.model.ExecutionGroupContext;
 import org.apache.shardingsphere.infra.executor.sql.execute.engine.SQLExecutorExceptionHandler;
 
 import java.sql.SQLException;
 import java.util.Collections;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
 
 /**
  * JDBC executor.
@@ -68,4 +72,45 @@ public final class JDBCExecutor {
             return Collections.emptyList();
         }
     }
+    
+    /**
+     * Execute with hedging.
+     *
+     * @param executionGroupContext execution group context
+     * @param hedgedExecutionGroupContextSupplier hedged execution group context supplier
+     * @param firstCallback first JDBC execute callback
+     * @param callback JDBC execute callback
+     * @param option hedging option
+     * @param <T> class type of return value
+     * @return hedged execution result
+     * @throws SQLException SQL exception
+     */
+    public <T> HedgedExecutionResult<JDBCExecutionUnit, T> executeHedged(final ExecutionGroupContext<JDBCExecutionUnit> executionGroupContext, 
+                                                                         final HedgedExecutionGroupContextSupplier<JDBCExecutionUnit> hedgedExecutionGroupContextSupplier,
+                                                                         final JDBCExecutorCallback<T> firstCallback, final JDBCExecutorCallback<T> callback, 
+                                                                         final HedgingOption option) throws SQLException {
+        try {
+            return executorEngine.executeHedged(executionGroupContext, hedgedExecutionGroupContextSupplier, firstCallback, callback, option);
+        } catch (final SQLException ex) {
+            SQLExecutorExceptionHandler.handleException(ex);
+            return new HedgedExecutionResult<>(executionGroupContext, Collections.emptyList(), false);
+        }
+    }
+    
+    /**
+     * Execute asynchronously.
+     * 
+     * <p>Statements of other in-flight execution units are cancelled if any execution unit failed, deadline exceeded or returned future cancelled.</p>
+     *
+     * @param executionGroupContext execution group context
+     * @param firstCallback first JDBC execute callback
+     * @param callback JDBC execute callback
+     * @param timeoutMilliseconds deadline of whole execution in milliseconds, zero or negative means no deadline
+     * @param <T> class type of return value
+     * @return future of execute result
+     */
+    public <T> CompletableFuture<List<T>> executeAsync(final ExecutionGroupContext<JDBCExecutionUnit> executionGroupContext,
+                                                       final JDBCExecutorCallback<T> firstCallback, final JDBCExecutorCallback<T> callback, final long timeoutMilliseconds) {
+        return executorEngine.executeAsync(executionGroupContext, firstCallback, callback, timeoutMilliseconds);
+    }
 }
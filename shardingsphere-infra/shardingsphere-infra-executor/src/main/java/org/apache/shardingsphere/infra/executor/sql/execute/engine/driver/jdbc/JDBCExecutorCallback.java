@@ -25,8 +25,12 @@ import org.apache.shardingsphere.infra.executor.sql.context.SQLUnit;
 import org.apache.shardingsphere.infra.executor.sql.execute.engine.ConnectionMode;
 import org.apache.shardingsphere.infra.executor.sql.execute.engine.SQLExecutionUnit;
 import org.apache.shardingsphere.infra.executor.sql.execute.engine.SQLExecutorExceptionHandler;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.impl.driver.jdbc.type.stream.JDBCStreamQueryResult;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.type.memory.AbstractMemoryQueryResult;
 import org.apache.shardingsphere.infra.executor.sql.hook.SPISQLExecutionHook;
 import org.apache.shardingsphere.infra.executor.sql.hook.SQLExecutionHook;
+import org.apache.shardingsphere.infra.executor.sql.prepare.adaptive.SQLResultStatistics;
+import org.apache.shardingsphere.infra.executor.sql.prepare.adaptive.SQLResultStatisticsRegistry;
 import org.apache.shardingsphere.infra.executor.sql.process.ExecuteProcessEngine;
 import org.apache.shardingsphere.infra.executor.sql.process.model.ExecuteProcessConstants;
 import org.apache.shardingsphere.sql.parser.sql.common.statement.SQLStatement;
@@ -83,10 +87,12 @@ public abstract class JDBCExecutorCallback<T> implements ExecutorCallback<JDBCEx
             SQLUnit sqlUnit = jdbcExecutionUnit.getExecutionUnit().getSqlUnit();
             sqlExecutionHook.start(jdbcExecutionUnit.getExecutionUnit().getDataSourceName(), sqlUnit.getSql(), sqlUnit.getParameters(), dataSourceMetaData, isTrunkThread, dataMap);
             T result = executeSQL(sqlUnit.getSql(), jdbcExecutionUnit.getStorageResource(), jdbcExecutionUnit.getConnectionMode());
+            recordResultSize(sqlUnit.getSql(), result);
             sqlExecutionHook.finishSuccess();
             finishReport(dataMap, jdbcExecutionUnit);
             return result;
         } catch (final SQLException ex) {
+            sqlExecutionHook.finishFailure(ex);
             if (!isTrunkThread) {
                 return null;
             }
@@ -94,12 +100,33 @@ public abstract class JDBCExecutorCallback<T> implements ExecutorCallback<JDBCEx
             if (saneResult.isPresent()) {
                 return saneResult.get();
             }
-            sqlExecutionHook.finishFailure(ex);
             SQLExecutorExceptionHandler.handleException(ex);
             return null;
         }
     }
     
+    @Override
+    public final void cancel(final Collection<JDBCExecutionUnit> executionUnits) {
+        for (JDBCExecutionUnit each : executionUnits) {
+            try {
+                each.getStorageResource().cancel();
+            } catch (final SQLException ignored) {
+            }
+        }
+    }
+    
+    private void recordResultSize(final String sql, final T result) {
+        Optional<SQLResultStatistics> statistics = SQLResultStatisticsRegistry.getInstance().find(sql);
+        if (!statistics.isPresent()) {
+            return;
+        }
+        if (result instanceof AbstractMemoryQueryResult) {
+            statistics.get().record(((AbstractMemoryQueryResult) result).getRowCount());
+        } else if (result instanceof JDBCStreamQueryResult) {
+            ((JDBCStreamQueryResult) result).setExhaustedListener(statistics.get()::record);
+        }
+    }
+    
     private DataSourceMetaData getDataSourceMetaData(final DatabaseMetaData metaData) throws SQLException {
         String url = metaData.getURL();
         if (CACHED_DATASOURCE_METADATA.containsKey(url)) {
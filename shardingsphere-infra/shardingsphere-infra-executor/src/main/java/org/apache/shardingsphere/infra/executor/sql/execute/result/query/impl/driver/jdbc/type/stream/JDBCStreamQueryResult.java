@@ -17,6 +17,7 @@
 
 package org.apache.shardingsphere.infra.executor.sql.execute.result.query.impl.driver.jdbc.type.stream;
 
+import lombok.Setter;
 import org.apache.shardingsphere.infra.executor.sql.execute.result.query.impl.driver.jdbc.metadata.JDBCQueryResultMetaData;
 import org.apache.shardingsphere.infra.executor.sql.execute.result.query.type.stream.AbstractStreamQueryResult;
 
@@ -31,6 +32,7 @@ import java.sql.SQLException;
 import java.sql.Time;
 import java.sql.Timestamp;
 import java.util.Calendar;
+import java.util.function.LongConsumer;
 
 /**
  * JDBC query result for stream loading.
@@ -39,6 +41,11 @@ public final class JDBCStreamQueryResult extends AbstractStreamQueryResult {
     
     private final ResultSet resultSet;
     
+    private long rowCount;
+    
+    @Setter
+    private LongConsumer exhaustedListener;
+    
     public JDBCStreamQueryResult(final ResultSet resultSet) throws SQLException {
         super(new JDBCQueryResultMetaData(resultSet.getMetaData()));
         this.resultSet = resultSet;
@@ -46,7 +53,15 @@ public final class JDBCStreamQueryResult extends AbstractStreamQueryResult {
     
     @Override
     public boolean next() throws SQLException {
-        return resultSet.next();
+        if (resultSet.next()) {
+            rowCount++;
+            return true;
+        }
+        if (null != exhaustedListener) {
+            exhaustedListener.accept(rowCount);
+            exhaustedListener = null;
+        }
+        return false;
     }
     
     @Override
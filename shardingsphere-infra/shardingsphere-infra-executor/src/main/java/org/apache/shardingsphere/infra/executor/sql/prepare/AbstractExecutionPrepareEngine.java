@@ -20,9 +20,12 @@ package org.apache.shardingsphere.infra.executor.sql.prepare;
 import com.google.common.collect.Lists;
 import org.apache.shardingsphere.infra.executor.kernel.model.ExecutionGroup;
 import org.apache.shardingsphere.infra.executor.kernel.model.ExecutionGroupContext;
+import org.apache.shardingsphere.infra.executor.kernel.thread.ExecutorServiceManager;
 import org.apache.shardingsphere.infra.executor.sql.context.ExecutionUnit;
 import org.apache.shardingsphere.infra.executor.sql.context.SQLUnit;
 import org.apache.shardingsphere.infra.executor.sql.execute.engine.ConnectionMode;
+import org.apache.shardingsphere.infra.executor.sql.prepare.adaptive.ConnectionModeSelection;
+import org.apache.shardingsphere.infra.executor.sql.prepare.adaptive.ConnectionModeSelector;
 import org.apache.shardingsphere.infra.route.context.RouteContext;
 import org.apache.shardingsphere.infra.rule.ShardingSphereRule;
 import org.apache.shardingsphere.infra.spi.ShardingSphereServiceLoader;
@@ -47,13 +50,20 @@ public abstract class AbstractExecutionPrepareEngine<T> implements ExecutionPrep
         ShardingSphereServiceLoader.register(ExecutionPrepareDecorator.class);
     }
     
-    private final int maxConnectionsSizePerQuery;
+    private final String schemaName;
+    
+    private final ConnectionModeSelector connectionModeSelector;
     
     @SuppressWarnings("rawtypes")
     private final Map<ShardingSphereRule, ExecutionPrepareDecorator> decorators;
     
-    protected AbstractExecutionPrepareEngine(final int maxConnectionsSizePerQuery, final Collection<ShardingSphereRule> rules) {
-        this.maxConnectionsSizePerQuery = maxConnectionsSizePerQuery;
+    protected AbstractExecutionPrepareEngine(final String schemaName, final int maxConnectionsSizePerQuery, final Collection<ShardingSphereRule> rules) {
+        this(schemaName, new ConnectionModeSelector(maxConnectionsSizePerQuery), rules);
+    }
+    
+    protected AbstractExecutionPrepareEngine(final String schemaName, final ConnectionModeSelector connectionModeSelector, final Collection<ShardingSphereRule> rules) {
+        this.schemaName = schemaName;
+        this.connectionModeSelector = connectionModeSelector;
         decorators = OrderedSPIRegistry.getRegisteredServices(rules, ExecutionPrepareDecorator.class);
     }
     
@@ -63,20 +73,30 @@ public abstract class AbstractExecutionPrepareEngine<T> implements ExecutionPrep
         for (Entry<String, List<SQLUnit>> entry : aggregateSQLUnitGroups(executionUnits).entrySet()) {
             String dataSourceName = entry.getKey();
             List<SQLUnit> sqlUnits = entry.getValue();
-            List<List<SQLUnit>> sqlUnitGroups = group(sqlUnits);
-            ConnectionMode connectionMode = maxConnectionsSizePerQuery < sqlUnits.size() ? ConnectionMode.CONNECTION_STRICTLY : ConnectionMode.MEMORY_STRICTLY;
-            result.addAll(group(dataSourceName, sqlUnitGroups, connectionMode));
+            ConnectionModeSelection connectionModeSelection = connectionModeSelector.select(sqlUnits);
+            List<List<SQLUnit>> sqlUnitGroups = group(sqlUnits, connectionModeSelection.getConnectionSize());
+            result.addAll(group(dataSourceName, sqlUnitGroups, connectionModeSelection.getConnectionMode()));
         }
         return decorate(routeContext, result);
     }
     
-    private List<List<SQLUnit>> group(final List<SQLUnit> sqlUnits) {
-        int desiredPartitionSize = Math.max(0 == sqlUnits.size() % maxConnectionsSizePerQuery ? sqlUnits.size() / maxConnectionsSizePerQuery : sqlUnits.size() / maxConnectionsSizePerQuery + 1, 1);
+    private List<List<SQLUnit>> group(final List<SQLUnit> sqlUnits, final int connectionSize) {
+        int desiredPartitionSize = Math.max(0 == sqlUnits.size() % connectionSize ? sqlUnits.size() / connectionSize : sqlUnits.size() / connectionSize + 1, 1);
         return Lists.partition(sqlUnits, desiredPartitionSize);
     }
     
     protected abstract List<ExecutionGroup<T>> group(String dataSourceName, List<List<SQLUnit>> sqlUnitGroups, ConnectionMode connectionMode) throws SQLException;
     
+    /**
+     * Get executor partition key of data source.
+     * 
+     * @param dataSourceName data source name
+     * @return executor partition key
+     */
+    protected final String getPartitionKey(final String dataSourceName) {
+        return ExecutorServiceManager.getPartitionKey(schemaName, dataSourceName);
+    }
+    
     private Map<String, List<SQLUnit>> aggregateSQLUnitGroups(final Collection<ExecutionUnit> executionUnits) {
         Map<String, List<SQLUnit>> result = new LinkedHashMap<>(executionUnits.size(), 1);
         for (ExecutionUnit each : executionUnits) {
@@ -0,0 +1,109 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.executor.sql.prepare.adaptive;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.apache.shardingsphere.infra.config.properties.ConfigurationProperties;
+import org.apache.shardingsphere.infra.config.properties.ConfigurationPropertyKey;
+import org.apache.shardingsphere.infra.executor.sql.context.SQLUnit;
+import org.apache.shardingsphere.infra.executor.sql.execute.engine.ConnectionMode;
+
+import java.util.Collection;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Connection mode selector.
+ * 
+ * <p>
+ * Without adaptive selection, {@code CONNECTION_STRICTLY} is selected only if SQL units of data source are more than max connections size per query.
+ * With adaptive selection, observed result sizes of SQL are considered:
+ * large results are streamed with one connection per SQL unit within adaptive connections budget,
+ * small results are loaded into memory with one connection.
+ * </p>
+ */
+@RequiredArgsConstructor
+@Getter
+public final class ConnectionModeSelector {
+    
+    private final int maxConnectionsSizePerQuery;
+    
+    private final boolean adaptive;
+    
+    private final long streamingRowsThreshold;
+    
+    private final int adaptiveMaxConnectionsSizePerQuery;
+    
+    public ConnectionModeSelector(final int maxConnectionsSizePerQuery) {
+        this(maxConnectionsSizePerQuery, false, 0L, maxConnectionsSizePerQuery);
+    }
+    
+    public ConnectionModeSelector(final ConfigurationProperties props) {
+        this(props.<Integer>getValue(ConfigurationPropertyKey.MAX_CONNECTIONS_SIZE_PER_QUERY), props.<Boolean>getValue(ConfigurationPropertyKey.ADAPTIVE_CONNECTION_MODE_ENABLED),
+                props.<Long>getValue(ConfigurationPropertyKey.ADAPTIVE_CONNECTION_MODE_STREAMING_ROWS_THRESHOLD), 
+                props.<Integer>getValue(ConfigurationPropertyKey.ADAPTIVE_CONNECTION_MODE_MAX_CONNECTIONS_SIZE_PER_QUERY));
+    }
+    
+    /**
+     * Select connection mode.
+     * 
+     * @param sqlUnits SQL units of same data source
+     * @return connection mode selection
+     */
+    public ConnectionModeSelection select(final List<SQLUnit> sqlUnits) {
+        ConnectionModeSelection defaultSelection = new ConnectionModeSelection(
+                maxConnectionsSizePerQuery < sqlUnits.size() ? ConnectionMode.CONNECTION_STRICTLY : ConnectionMode.MEMORY_STRICTLY, maxConnectionsSizePerQuery, "max connections size per query");
+        if (!adaptive) {
+            return defaultSelection;
+        }
+        Collection<SQLResultStatistics> statistics = getStatistics(sqlUnits);
+        ConnectionModeSelection result = selectByStatistics(sqlUnits.size(), statistics).orElse(new ConnectionModeSelection(
+                defaultSelection.getConnectionMode(), defaultSelection.getConnectionSize(), "no result statistics observed"));
+        for (SQLResultStatistics each : statistics) {
+            each.recordSelection(result.getConnectionMode(), result.getReason());
+        }
+        return result;
+    }
+    
+    private Collection<SQLResultStatistics> getStatistics(final List<SQLUnit> sqlUnits) {
+        Collection<SQLResultStatistics> result = new LinkedList<>();
+        for (SQLUnit each : sqlUnits) {
+            result.add(SQLResultStatisticsRegistry.getInstance().getOrRegister(each.getSql()));
+        }
+        return result;
+    }
+    
+    private Optional<ConnectionModeSelection> selectByStatistics(final int sqlUnitsSize, final Collection<SQLResultStatistics> statistics) {
+        if (statistics.size() < sqlUnitsSize || statistics.stream().anyMatch(each -> 0 == each.getSampleCount())) {
+            return Optional.empty();
+        }
+        double averageRows = statistics.stream().mapToDouble(SQLResultStatistics::getAverageRows).average().orElse(0D);
+        if (averageRows < streamingRowsThreshold) {
+            String reason = String.format("average rows %.1f less than streaming threshold %d", averageRows, streamingRowsThreshold);
+            return Optional.of(new ConnectionModeSelection(ConnectionMode.CONNECTION_STRICTLY, 1, reason));
+        }
+        if (sqlUnitsSize <= adaptiveMaxConnectionsSizePerQuery) {
+            String reason = String.format("average rows %.1f reach streaming threshold %d", averageRows, streamingRowsThreshold);
+            return Optional.of(new ConnectionModeSelection(ConnectionMode.MEMORY_STRICTLY, sqlUnitsSize, reason));
+        }
+        return Optional.of(new ConnectionModeSelection(ConnectionMode.CONNECTION_STRICTLY, adaptiveMaxConnectionsSizePerQuery, 
+                String.format("SQL units size %d exceed adaptive max connections size per query %d", sqlUnitsSize, adaptiveMaxConnectionsSizePerQuery)));
+    }
+}
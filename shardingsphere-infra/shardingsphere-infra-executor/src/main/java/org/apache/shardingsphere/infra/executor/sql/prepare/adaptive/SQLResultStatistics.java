@@ -0,0 +1,65 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.executor.sql.prepare.adaptive;
+
+import lombok.Getter;
+import org.apache.shardingsphere.infra.executor.sql.execute.engine.ConnectionMode;
+
+/**
+ * Result size statistics of SQL.
+ */
+@Getter
+public final class SQLResultStatistics {
+    
+    private static final double SMOOTHING_FACTOR = 0.2D;
+    
+    private final String sql;
+    
+    private long sampleCount;
+    
+    private double averageRows;
+    
+    private ConnectionMode lastConnectionMode;
+    
+    private String lastSelectionReason;
+    
+    public SQLResultStatistics(final String sql) {
+        this.sql = sql;
+    }
+    
+    /**
+     * Record row count of result.
+     * 
+     * @param rows row count of result
+     */
+    public synchronized void record(final long rows) {
+        averageRows = 0 == sampleCount ? rows : averageRows + SMOOTHING_FACTOR * (rows - averageRows);
+        sampleCount++;
+    }
+    
+    /**
+     * Record selection of connection mode.
+     * 
+     * @param connectionMode selected connection mode
+     * @param reason reason of selection
+     */
+    public synchronized void recordSelection(final ConnectionMode connectionMode, final String reason) {
+        lastConnectionMode = connectionMode;
+        lastSelectionReason = reason;
+    }
+}
@@ -0,0 +1,170 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.executor.sql.prepare.adaptive;
+
+import com.google.common.cache.CacheBuilder;
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Registry of SQL result statistics.
+ * 
+ * <p>
+ * Statistics are keyed by parameterized SQL, literals are replaced by {@code ?} and whitespaces are collapsed,
+ * so statements which only differ in literals share the same statistics.
+ * The least recently used statistics are evicted once the registry is full.
+ * </p>
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class SQLResultStatisticsRegistry {
+    
+    private static final SQLResultStatisticsRegistry INSTANCE = new SQLResultStatisticsRegistry();
+    
+    private static final int MAX_STATISTICS_SIZE = 10000;
+    
+    private final ConcurrentMap<String, SQLResultStatistics> statistics = CacheBuilder.newBuilder().maximumSize(MAX_STATISTICS_SIZE).<String, SQLResultStatistics>build().asMap();
+    
+    /**
+     * Get instance of SQL result statistics registry.
+     * 
+     * @return instance of SQL result statistics registry
+     */
+    public static SQLResultStatisticsRegistry getInstance() {
+        return INSTANCE;
+    }
+    
+    /**
+     * Get or register statistics of SQL.
+     * 
+     * @param sql SQL
+     * @return statistics of SQL
+     */
+    public SQLResultStatistics getOrRegister(final String sql) {
+        return statistics.computeIfAbsent(parameterize(sql), SQLResultStatistics::new);
+    }
+    
+    /**
+     * Find statistics of SQL, only SQL registered by adaptive connection mode selector have statistics.
+     * 
+     * @param sql SQL
+     * @return statistics of SQL
+     */
+    public Optional<SQLResultStatistics> find(final String sql) {
+        return statistics.isEmpty() ? Optional.empty() : Optional.ofNullable(statistics.get(parameterize(sql)));
+    }
+    
+    /**
+     * Record row count of result, only SQL registered by adaptive connection mode selector are recorded.
+     * 
+     * @param sql SQL
+     * @param rows row count of result
+     */
+    public void record(final String sql, final long rows) {
+        find(sql).ifPresent(optional -> optional.record(rows));
+    }
+    
+    /**
+     * Judge whether SQL registered.
+     * 
+     * @param sql SQL
+     * @return SQL registered or not
+     */
+    public boolean isRegistered(final String sql) {
+        return find(sql).isPresent();
+    }
+    
+    /**
+     * Get all statistics.
+     * 
+     * @return all statistics, key is parameterized SQL
+     */
+    public Map<String, SQLResultStatistics> getAllStatistics() {
+        return Collections.unmodifiableMap(statistics);
+    }
+    
+    /**
+     * Clear all statistics.
+     */
+    public void clear() {
+        statistics.clear();
+    }
+    
+    private static String parameterize(final String sql) {
+        StringBuilder result = new StringBuilder(sql.length());
+        int length = sql.length();
+        int index = 0;
+        while (index < length) {
+            char each = sql.charAt(index);
+            if ('\'' == each) {
+                index = skipQuoted(sql, index);
+                result.append('?');
+            } else if (Character.isDigit(each) && !isIdentifierPart(result)) {
+                index = skipNumber(sql, index);
+                result.append('?');
+            } else if (Character.isWhitespace(each)) {
+                while (index < length && Character.isWhitespace(sql.charAt(index))) {
+                    index++;
+                }
+                if (0 != result.length() && index < length) {
+                    result.append(' ');
+                }
+            } else {
+                result.append(each);
+                index++;
+            }
+        }
+        return result.toString();
+    }
+    
+    private static int skipQuoted(final String sql, final int start) {
+        int result = start + 1;
+        while (result < sql.length()) {
+            char each = sql.charAt(result++);
+            if ('\\' == each) {
+                result++;
+            } else if ('\'' == each) {
+                if (result >= sql.length() || '\'' != sql.charAt(result)) {
+                    return result;
+                }
+                result++;
+            }
+        }
+        return result;
+    }
+    
+    private static int skipNumber(final String sql, final int start) {
+        int result = start;
+        while (result < sql.length() && (Character.isLetterOrDigit(sql.charAt(result)) || '.' == sql.charAt(result))) {
+            result++;
+        }
+        return result;
+    }
+    
+    private static boolean isIdentifierPart(final StringBuilder parameterizedSQL) {
+        if (0 == parameterizedSQL.length()) {
+            return false;
+        }
+        char last = parameterizedSQL.charAt(parameterizedSQL.length() - 1);
+        return Character.isLetterOrDigit(last) || '_' == last || '$' == last || '`' == last;
+    }
+}
@@ -23,6 +23,7 @@ import org.apache.shardingsphere.infra.executor.sql.context.SQLUnit;
 import org.apache.shardingsphere.infra.executor.sql.execute.engine.ConnectionMode;
 import org.apache.shardingsphere.infra.executor.sql.execute.engine.driver.DriverExecutionUnit;
 import org.apache.shardingsphere.infra.executor.sql.prepare.AbstractExecutionPrepareEngine;
+import org.apache.shardingsphere.infra.executor.sql.prepare.adaptive.ConnectionModeSelector;
 import org.apache.shardingsphere.infra.rule.ShardingSphereRule;
 import org.apache.shardingsphere.infra.spi.ShardingSphereServiceLoader;
 import org.apache.shardingsphere.infra.spi.typed.TypedSPIRegistry;
@@ -57,9 +58,14 @@ public final class DriverExecutionPrepareEngine<T extends DriverExecutionUnit<?>
         ShardingSphereServiceLoader.register(SQLExecutionUnitBuilder.class);
     }
     
-    public DriverExecutionPrepareEngine(final String type, final int maxConnectionsSizePerQuery, final ExecutorDriverManager<C, ?, ?> executorDriverManager, 
+    public DriverExecutionPrepareEngine(final String type, final String schemaName, final int maxConnectionsSizePerQuery, final ExecutorDriverManager<C, ?, ?> executorDriverManager, 
                                         final StorageResourceOption option, final Collection<ShardingSphereRule> rules) {
-        super(maxConnectionsSizePerQuery, rules);
+        this(type, schemaName, new ConnectionModeSelector(maxConnectionsSizePerQuery), executorDriverManager, option, rules);
+    }
+    
+    public DriverExecutionPrepareEngine(final String type, final String schemaName, final ConnectionModeSelector connectionModeSelector, final ExecutorDriverManager<C, ?, ?> executorDriverManager, 
+                                        final StorageResourceOption option, final Collection<ShardingSphereRule> rules) {
+        super(schemaName, connectionModeSelector, rules);
         this.executorDriverManager = executorDriverManager;
         this.option = option;
         sqlExecutionUnitBuilder = TYPE_TO_BUILDER_MAP.computeIfAbsent(type, key -> TypedSPIRegistry.getRegisteredService(SQLExecutionUnitBuilder.class, key, new Properties()));
@@ -82,6 +88,6 @@ public final class DriverExecutionPrepareEngine<T extends DriverExecutionUnit<?>
         for (SQLUnit each : sqlUnits) {
             result.add((T) sqlExecutionUnitBuilder.build(new ExecutionUnit(dataSourceName, each), executorDriverManager, connection, connectionMode, option));
         }
-        return new ExecutionGroup<>(result);
+        return new ExecutionGroup<>(result, getPartitionKey(dataSourceName));
     }
 }
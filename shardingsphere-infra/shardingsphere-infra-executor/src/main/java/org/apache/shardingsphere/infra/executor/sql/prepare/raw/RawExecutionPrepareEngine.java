@@ -23,6 +23,7 @@ import org.apache.shardingsphere.infra.executor.sql.context.ExecutionUnit;
 import org.apache.shardingsphere.infra.executor.sql.context.SQLUnit;
 import org.apache.shardingsphere.infra.executor.sql.execute.engine.raw.RawSQLExecutionUnit;
 import org.apache.shardingsphere.infra.executor.sql.prepare.AbstractExecutionPrepareEngine;
+import org.apache.shardingsphere.infra.executor.sql.prepare.adaptive.ConnectionModeSelector;
 import org.apache.shardingsphere.infra.rule.ShardingSphereRule;
 
 import java.util.Collection;
@@ -34,8 +35,12 @@ import java.util.stream.Collectors;
  */
 public final class RawExecutionPrepareEngine extends AbstractExecutionPrepareEngine<RawSQLExecutionUnit> {
     
-    public RawExecutionPrepareEngine(final int maxConnectionsSizePerQuery, final Collection<ShardingSphereRule> rules) {
-        super(maxConnectionsSizePerQuery, rules);
+    public RawExecutionPrepareEngine(final String schemaName, final int maxConnectionsSizePerQuery, final Collection<ShardingSphereRule> rules) {
+        super(schemaName, maxConnectionsSizePerQuery, rules);
+    }
+    
+    public RawExecutionPrepareEngine(final String schemaName, final ConnectionModeSelector connectionModeSelector, final Collection<ShardingSphereRule> rules) {
+        super(schemaName, connectionModeSelector, rules);
     }
     
     @Override
@@ -44,6 +49,7 @@ public final class RawExecutionPrepareEngine extends AbstractExecutionPrepareEng
     }
     
     private ExecutionGroup<RawSQLExecutionUnit> createExecutionGroup(final String dataSourceName, final List<SQLUnit> sqlUnitGroup, final ConnectionMode connectionMode) {
-        return new ExecutionGroup<>(sqlUnitGroup.stream().map(each -> new RawSQLExecutionUnit(new ExecutionUnit(dataSourceName, each), connectionMode)).collect(Collectors.toList()));
+        return new ExecutionGroup<>(sqlUnitGroup.stream().map(each -> new RawSQLExecutionUnit(new ExecutionUnit(dataSourceName, each), connectionMode)).collect(Collectors.toList()),
+                getPartitionKey(dataSourceName));
     }
 }
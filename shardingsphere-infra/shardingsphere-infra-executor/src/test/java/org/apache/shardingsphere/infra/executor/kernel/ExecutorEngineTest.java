@@ -17,21 +17,34 @@
 
 package org.apache.shardingsphere.infra.executor.kernel;
 
+import org.apache.shardingsphere.infra.executor.kernel.fixture.CancellableExecutorCallbackFixture;
 import org.apache.shardingsphere.infra.executor.kernel.fixture.ExecutorCallbackFixture;
+import org.apache.shardingsphere.infra.executor.kernel.hedge.HedgedExecutionResult;
+import org.apache.shardingsphere.infra.executor.kernel.hedge.HedgingOption;
 import org.apache.shardingsphere.infra.executor.kernel.model.ExecutionGroup;
 import org.apache.shardingsphere.infra.executor.kernel.model.ExecutionGroupContext;
+import org.apache.shardingsphere.infra.executor.kernel.model.ExecutorCallback;
 import org.junit.After;
 import org.junit.Before;
 import org.junit.Test;
 
+import java.lang.reflect.Field;
 import java.sql.SQLException;
+import java.sql.SQLTimeoutException;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.Map;
 import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
 
 import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
 import static org.mockito.Mockito.mock;
 
 public final class ExecutorEngineTest {
@@ -102,4 +115,149 @@ public final class ExecutorEngineTest {
         latch.countDown();
         assertThat(actual.size(), is(0));
     }
+    
+    @Test
+    public void assertExecuteAsync() throws InterruptedException, ExecutionException {
+        List<String> actual = executorEngine.executeAsync(executionGroupContext, firstCallback, callback, 0L).get();
+        latch.await();
+        assertThat(actual.size(), is(4));
+    }
+    
+    @Test
+    public void assertExecuteAsyncWithEmptyExecutionGroup() throws InterruptedException, ExecutionException {
+        assertTrue(executorEngine.executeAsync(new ExecutionGroupContext<>(new LinkedList<>()), firstCallback, callback, 0L).get().isEmpty());
+    }
+    
+    @Test
+    public void assertExecuteAsyncCancelSiblingsWhenFailure() throws InterruptedException {
+        CancellableExecutorCallbackFixture cancellableCallback = new CancellableExecutorCallbackFixture();
+        try {
+            executorEngine.executeAsync(executionGroupContext, (inputs, isTrunkThread, dataMap) -> {
+                awaitStarted(cancellableCallback);
+                throw new SQLException("Execution failure.");
+            }, cancellableCallback, 0L).get();
+        } catch (final ExecutionException ex) {
+            assertThat(ex.getCause().getMessage(), is("Execution failure."));
+        }
+        assertTrue(cancellableCallback.isCancelled());
+    }
+    
+    @Test
+    public void assertExecuteAsyncCancelSiblingsWhenNotFirstGroupFailure() throws InterruptedException {
+        CancellableExecutorCallbackFixture cancellableCallback = new CancellableExecutorCallbackFixture();
+        try {
+            executorEngine.executeAsync(executionGroupContext, cancellableCallback, (inputs, isTrunkThread, dataMap) -> {
+                awaitStarted(cancellableCallback);
+                if (!isTrunkThread) {
+                    return Collections.emptyList();
+                }
+                throw new SQLException("Execution failure.");
+            }, 0L).get();
+            fail("Expected execution failure.");
+        } catch (final ExecutionException ex) {
+            assertThat(ex.getCause().getMessage(), is("Execution failure."));
+        }
+        assertTrue(cancellableCallback.isCancelled());
+    }
+    
+    @Test
+    public void assertExecuteAsyncExceedDeadline() throws InterruptedException {
+        CancellableExecutorCallbackFixture cancellableCallback = new CancellableExecutorCallbackFixture();
+        try {
+            executorEngine.executeAsync(executionGroupContext, cancellableCallback, cancellableCallback, 50L).get();
+        } catch (final ExecutionException ex) {
+            assertTrue(ex.getCause() instanceof SQLTimeoutException);
+        }
+        assertTrue(cancellableCallback.isCancelled());
+    }
+    
+    @Test
+    public void assertExecuteAsyncCancelled() throws InterruptedException {
+        CancellableExecutorCallbackFixture cancellableCallback = new CancellableExecutorCallbackFixture();
+        executorEngine.executeAsync(executionGroupContext, cancellableCallback, cancellableCallback, 0L).cancel(true);
+        assertTrue(cancellableCallback.isCancelled());
+    }
+    
+    @Test
+    public void assertExecuteHedgedWithoutLatencySamples() throws SQLException, InterruptedException {
+        HedgedExecutionResult<Object, String> actual = executorEngine.executeHedged(executionGroupContext, () -> {
+            throw new SQLException("Hedged execution should not be prepared.");
+        }, firstCallback, callback, new HedgingOption(95, 100));
+        latch.await();
+        assertFalse(actual.isHedged());
+        assertThat(actual.getResults().size(), is(4));
+    }
+    
+    @Test
+    public void assertExecuteHedgedWithHedgedExecutionWin() throws SQLException, InterruptedException {
+        ExecutionGroupContext<Object> primaryExecutionGroupContext = createMockedExecutionGroups(1, 1);
+        ExecutionGroupContext<Object> hedgedExecutionGroupContext = createMockedExecutionGroups(1, 1);
+        recordLatencySamples(primaryExecutionGroupContext);
+        CancellableExecutorCallbackFixture cancellableCallback = new CancellableExecutorCallbackFixture();
+        ExecutorCallback<Object, String> hedgingCallback = new ExecutorCallback<Object, String>() {
+            
+            @Override
+            public Collection<String> execute(final Collection<Object> inputs, final boolean isTrunkThread, final Map<String, Object> dataMap) throws SQLException {
+                return isPrimary(inputs) ? cancellableCallback.execute(inputs, isTrunkThread, dataMap) : Collections.singletonList("hedged");
+            }
+            
+            @Override
+            public void cancel(final Collection<Object> inputs) {
+                cancellableCallback.cancel(inputs);
+            }
+            
+            private boolean isPrimary(final Collection<Object> inputs) {
+                return inputs.equals(primaryExecutionGroupContext.getInputGroups().iterator().next().getInputs());
+            }
+        };
+        HedgedExecutionResult<Object, String> actual = executorEngine.executeHedged(
+                primaryExecutionGroupContext, () -> hedgedExecutionGroupContext, hedgingCallback, hedgingCallback, new HedgingOption(50, 100));
+        assertTrue(actual.isHedged());
+        assertThat(actual.getExecutionGroupContext(), is(hedgedExecutionGroupContext));
+        assertThat(actual.getResults(), is(Collections.singletonList("hedged")));
+        assertTrue(cancellableCallback.isCancelled());
+    }
+    
+    @Test
+    public void assertExecuteHedgedWithoutBudget() throws SQLException {
+        ExecutionGroupContext<Object> primaryExecutionGroupContext = createMockedExecutionGroups(1, 1);
+        recordLatencySamples(primaryExecutionGroupContext);
+        ExecutorCallback<Object, String> slowCallback = (inputs, isTrunkThread, dataMap) -> {
+            try {
+                Thread.sleep(20L);
+            } catch (final InterruptedException ex) {
+                Thread.currentThread().interrupt();
+            }
+            return Collections.singletonList("primary");
+        };
+        HedgedExecutionResult<Object, String> actual = executorEngine.executeHedged(primaryExecutionGroupContext, () -> {
+            throw new SQLException("Hedged execution should not be prepared.");
+        }, slowCallback, slowCallback, new HedgingOption(50, 0));
+        assertFalse(actual.isHedged());
+        assertThat(actual.getResults(), is(Collections.singletonList("primary")));
+    }
+    
+    @Test
+    public void assertCloseShutsDownDeadlineExecutor() throws ReflectiveOperationException {
+        ExecutorEngine engine = new ExecutorEngine(1);
+        Field field = ExecutorEngine.class.getDeclaredField("deadlineExecutor");
+        field.setAccessible(true);
+        engine.close();
+        assertTrue(((ScheduledExecutorService) field.get(engine)).isShutdown());
+    }
+    
+    private void recordLatencySamples(final ExecutionGroupContext<Object> executionGroupContext) throws SQLException {
+        ExecutorCallbackFixture fastCallback = new ExecutorCallbackFixture(new CountDownLatch(0));
+        for (int i = 0; i < 40; i++) {
+            executorEngine.executeHedged(executionGroupContext, () -> executionGroupContext, fastCallback, fastCallback, new HedgingOption(50, 0));
+        }
+    }
+    
+    private void awaitStarted(final CancellableExecutorCallbackFixture cancellableCallback) {
+        try {
+            cancellableCallback.awaitStarted();
+        } catch (final InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        }
+    }
 }
@@ -0,0 +1,68 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.executor.kernel.fixture;
+
+import org.apache.shardingsphere.infra.executor.kernel.model.ExecutorCallback;
+
+import java.sql.SQLException;
+import java.util.Collection;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+public final class CancellableExecutorCallbackFixture implements ExecutorCallback<Object, String> {
+    
+    private final CountDownLatch startLatch = new CountDownLatch(1);
+    
+    private final CountDownLatch cancelLatch = new CountDownLatch(1);
+    
+    @Override
+    public Collection<String> execute(final Collection<Object> inputs, final boolean isTrunkThread, final Map<String, Object> dataMap) throws SQLException {
+        startLatch.countDown();
+        try {
+            cancelLatch.await();
+        } catch (final InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        }
+        throw new SQLException("Execution cancelled.");
+    }
+    
+    @Override
+    public void cancel(final Collection<Object> inputs) {
+        cancelLatch.countDown();
+    }
+    
+    /**
+     * Await execution started.
+     * 
+     * @throws InterruptedException interrupted exception
+     */
+    public void awaitStarted() throws InterruptedException {
+        startLatch.await();
+    }
+    
+    /**
+     * Judge whether cancelled.
+     * 
+     * @return cancelled or not
+     * @throws InterruptedException interrupted exception
+     */
+    public boolean isCancelled() throws InterruptedException {
+        return cancelLatch.await(1L, TimeUnit.SECONDS);
+    }
+}
@@ -0,0 +1,63 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.executor.kernel.hedge;
+
+import org.junit.Test;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+
+public final class HedgingPolicyTest {
+    
+    @Test
+    public void assertGetDelayMillisecondsWithoutEnoughSamples() {
+        HedgingPolicy policy = new HedgingPolicy();
+        policy.recordLatency(10L);
+        assertThat(policy.getDelayMilliseconds(95), is(-1L));
+    }
+    
+    @Test
+    public void assertGetDelayMilliseconds() {
+        HedgingPolicy policy = new HedgingPolicy();
+        for (int i = 1; i <= 100; i++) {
+            policy.recordLatency(i);
+        }
+        assertThat(policy.getDelayMilliseconds(95), is(95L));
+        assertThat(policy.getDelayMilliseconds(50), is(50L));
+    }
+    
+    @Test
+    public void assertTryAcquireWithinBudget() {
+        HedgingPolicy policy = new HedgingPolicy();
+        for (int i = 0; i < 20; i++) {
+            policy.recordExecution();
+        }
+        assertTrue(policy.tryAcquire(10));
+        assertTrue(policy.tryAcquire(10));
+        assertFalse(policy.tryAcquire(10));
+    }
+    
+    @Test
+    public void assertTryAcquireWithoutBudget() {
+        HedgingPolicy policy = new HedgingPolicy();
+        policy.recordExecution();
+        assertFalse(policy.tryAcquire(0));
+    }
+}
@@ -0,0 +1,99 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.executor.kernel.thread;
+
+import com.google.common.util.concurrent.ListeningExecutorService;
+import org.junit.After;
+import org.junit.Test;
+
+import java.util.Collections;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.RejectedExecutionException;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.not;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+
+public final class ExecutorServiceManagerTest {
+    
+    private final CountDownLatch latch = new CountDownLatch(1);
+    
+    private ExecutorServiceManager executorServiceManager;
+    
+    @After
+    public void tearDown() {
+        latch.countDown();
+        executorServiceManager.close();
+    }
+    
+    @Test
+    public void assertGetExecutorServiceWithoutPartition() {
+        executorServiceManager = new ExecutorServiceManager(1);
+        assertThat(executorServiceManager.getExecutorService("ds_0"), sameInstance(executorServiceManager.getExecutorService()));
+    }
+    
+    @Test
+    public void assertGetExecutorServiceWithPartition() {
+        executorServiceManager = new ExecutorServiceManager(1, 1, 1);
+        assertThat(executorServiceManager.getExecutorService("ds_0"), not(sameInstance(executorServiceManager.getExecutorService())));
+        assertThat(executorServiceManager.getExecutorService("ds_0"), sameInstance(executorServiceManager.getExecutorService("ds_0")));
+        assertThat(executorServiceManager.getExecutorService("ds_0"), not(sameInstance(executorServiceManager.getExecutorService("ds_1"))));
+        assertThat(executorServiceManager.getExecutorService(null), is(executorServiceManager.getExecutorService()));
+    }
+    
+    @Test
+    public void assertClosePartitionsOfDataSources() {
+        executorServiceManager = new ExecutorServiceManager(1, 1, 1);
+        ListeningExecutorService removedExecutorService = executorServiceManager.getExecutorService(ExecutorServiceManager.getPartitionKey("logic_db", "ds_0"));
+        final ListeningExecutorService keptExecutorService = executorServiceManager.getExecutorService(ExecutorServiceManager.getPartitionKey("logic_db", "ds_1"));
+        executorServiceManager.closePartitions("logic_db", Collections.singletonList("ds_0"));
+        assertThat(executorServiceManager.getPartitionExecutorServices().keySet(), is(Collections.singleton("logic_db.ds_1")));
+        assertTrue(removedExecutorService.isShutdown());
+        assertFalse(keptExecutorService.isShutdown());
+        assertThat(executorServiceManager.getExecutorService("logic_db.ds_0"), not(sameInstance(removedExecutorService)));
+    }
+    
+    @Test
+    public void assertClosePartitionsOfSchema() {
+        executorServiceManager = new ExecutorServiceManager(1, 1, 1);
+        executorServiceManager.getExecutorService(ExecutorServiceManager.getPartitionKey("logic_db", "ds_0"));
+        executorServiceManager.getExecutorService(ExecutorServiceManager.getPartitionKey("logic_db", "ds_1"));
+        executorServiceManager.getExecutorService(ExecutorServiceManager.getPartitionKey("other_db", "ds_0"));
+        executorServiceManager.closePartitions("logic_db");
+        assertThat(executorServiceManager.getPartitionExecutorServices().keySet(), is(Collections.singleton("other_db.ds_0")));
+    }
+    
+    @Test(expected = RejectedExecutionException.class)
+    public void assertRejectWhenPartitionSaturated() {
+        executorServiceManager = new ExecutorServiceManager(1, 1, 1);
+        for (int i = 0; i < 3; i++) {
+            executorServiceManager.getExecutorService("ds_0").submit(this::awaitLatch);
+        }
+    }
+    
+    private void awaitLatch() {
+        try {
+            latch.await();
+        } catch (final InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
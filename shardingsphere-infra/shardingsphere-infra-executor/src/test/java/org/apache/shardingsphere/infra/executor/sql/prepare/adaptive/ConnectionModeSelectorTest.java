@@ -0,0 +1,90 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.executor.sql.prepare.adaptive;
+
+import org.apache.shardingsphere.infra.executor.sql.context.SQLUnit;
+import org.apache.shardingsphere.infra.executor.sql.execute.engine.ConnectionMode;
+import org.junit.After;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThat;
+
+public final class ConnectionModeSelectorTest {
+    
+    private final List<SQLUnit> sqlUnits = Arrays.asList(
+            new SQLUnit("SELECT * FROM t_order_0", Collections.emptyList()), new SQLUnit("SELECT * FROM t_order_1", Collections.emptyList()));
+    
+    @After
+    public void tearDown() {
+        SQLResultStatisticsRegistry.getInstance().clear();
+    }
+    
+    @Test
+    public void assertSelectWithoutAdaptive() {
+        ConnectionModeSelection actual = new ConnectionModeSelector(1).select(sqlUnits);
+        assertThat(actual.getConnectionMode(), is(ConnectionMode.CONNECTION_STRICTLY));
+        assertThat(actual.getConnectionSize(), is(1));
+        assertFalse(SQLResultStatisticsRegistry.getInstance().isRegistered("SELECT * FROM t_order_0"));
+    }
+    
+    @Test
+    public void assertSelectWithoutStatistics() {
+        ConnectionModeSelection actual = new ConnectionModeSelector(2, true, 100L, 8).select(sqlUnits);
+        assertThat(actual.getConnectionMode(), is(ConnectionMode.MEMORY_STRICTLY));
+        assertThat(actual.getConnectionSize(), is(2));
+        assertThat(SQLResultStatisticsRegistry.getInstance().getAllStatistics().get("SELECT * FROM t_order_0").getLastSelectionReason(), is("no result statistics observed"));
+    }
+    
+    @Test
+    public void assertSelectWithSmallResults() {
+        recordRows(10L);
+        ConnectionModeSelection actual = new ConnectionModeSelector(2, true, 100L, 8).select(sqlUnits);
+        assertThat(actual.getConnectionMode(), is(ConnectionMode.CONNECTION_STRICTLY));
+        assertThat(actual.getConnectionSize(), is(1));
+    }
+    
+    @Test
+    public void assertSelectWithLargeResults() {
+        recordRows(1000L);
+        ConnectionModeSelection actual = new ConnectionModeSelector(1, true, 100L, 8).select(sqlUnits);
+        assertThat(actual.getConnectionMode(), is(ConnectionMode.MEMORY_STRICTLY));
+        assertThat(actual.getConnectionSize(), is(2));
+        assertThat(SQLResultStatisticsRegistry.getInstance().getAllStatistics().get("SELECT * FROM t_order_1").getLastConnectionMode(), is(ConnectionMode.MEMORY_STRICTLY));
+    }
+    
+    @Test
+    public void assertSelectWithLargeResultsExceedConnectionsBudget() {
+        recordRows(1000L);
+        ConnectionModeSelection actual = new ConnectionModeSelector(1, true, 100L, 1).select(sqlUnits);
+        assertThat(actual.getConnectionMode(), is(ConnectionMode.CONNECTION_STRICTLY));
+        assertThat(actual.getConnectionSize(), is(1));
+    }
+    
+    private void recordRows(final long rows) {
+        for (SQLUnit each : sqlUnits) {
+            SQLResultStatisticsRegistry.getInstance().getOrRegister(each.getSql());
+            SQLResultStatisticsRegistry.getInstance().record(each.getSql(), rows);
+        }
+    }
+}
@@ -0,0 +1,67 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.executor.sql.prepare.adaptive;
+
+import org.junit.After;
+import org.junit.Test;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+
+public final class SQLResultStatisticsRegistryTest {
+    
+    @After
+    public void tearDown() {
+        SQLResultStatisticsRegistry.getInstance().clear();
+    }
+    
+    @Test
+    public void assertGetOrRegisterWithParameterizedSQL() {
+        SQLResultStatistics actual = SQLResultStatisticsRegistry.getInstance().getOrRegister("SELECT * FROM t_order_0 WHERE order_id = 1 AND status = 'it''s ok'");
+        assertThat(actual.getSql(), is("SELECT * FROM t_order_0 WHERE order_id = ? AND status = ?"));
+        assertThat(SQLResultStatisticsRegistry.getInstance().getOrRegister("SELECT *  FROM t_order_0\nWHERE order_id = 20.5 AND status = 'init'"), sameInstance(actual));
+        assertThat(SQLResultStatisticsRegistry.getInstance().getAllStatistics().size(), is(1));
+    }
+    
+    @Test
+    public void assertRecordWithDifferentLiterals() {
+        SQLResultStatisticsRegistry.getInstance().getOrRegister("SELECT * FROM t_order WHERE user_id = 10");
+        SQLResultStatisticsRegistry.getInstance().record("SELECT * FROM t_order WHERE user_id = 11", 100L);
+        assertThat(SQLResultStatisticsRegistry.getInstance().find("SELECT * FROM t_order WHERE user_id = 12").get().getSampleCount(), is(1L));
+    }
+    
+    @Test
+    public void assertIsRegistered() {
+        assertFalse(SQLResultStatisticsRegistry.getInstance().isRegistered("SELECT * FROM t_order_0"));
+        SQLResultStatisticsRegistry.getInstance().getOrRegister("SELECT * FROM t_order_0");
+        assertTrue(SQLResultStatisticsRegistry.getInstance().isRegistered("SELECT * FROM t_order_0"));
+        assertFalse(SQLResultStatisticsRegistry.getInstance().isRegistered("SELECT * FROM t_order_1"));
+    }
+    
+    @Test
+    public void assertGetOrRegisterWhenFull() {
+        for (int i = 0; i < 10001; i++) {
+            SQLResultStatisticsRegistry.getInstance().getOrRegister("SELECT * FROM t_order_" + i);
+        }
+        assertTrue(SQLResultStatisticsRegistry.getInstance().getAllStatistics().size() <= 10000);
+        assertTrue(SQLResultStatisticsRegistry.getInstance().isRegistered("SELECT * FROM t_order_10000"));
+    }
+}
@@ -0,0 +1,51 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.executor.sql.prepare.raw;
+
+import org.apache.shardingsphere.infra.executor.kernel.model.ExecutionGroup;
+import org.apache.shardingsphere.infra.executor.sql.context.ExecutionUnit;
+import org.apache.shardingsphere.infra.executor.sql.context.SQLUnit;
+import org.apache.shardingsphere.infra.executor.sql.execute.engine.raw.RawSQLExecutionUnit;
+import org.apache.shardingsphere.infra.route.context.RouteContext;
+import org.junit.Test;
+
+import java.sql.SQLException;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Iterator;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+
+public final class RawExecutionPrepareEngineTest {
+    
+    @Test
+    public void assertPrepareWithPartitionKeyQualifiedBySchemaName() throws SQLException {
+        Collection<ExecutionUnit> executionUnits = Arrays.asList(
+                new ExecutionUnit("ds_0", new SQLUnit("SELECT 1", Collections.emptyList())), new ExecutionUnit("ds_1", new SQLUnit("SELECT 1", Collections.emptyList())));
+        Iterator<ExecutionGroup<RawSQLExecutionUnit>> fooGroups = prepare("foo_schema", executionUnits).iterator();
+        assertThat(fooGroups.next().getPartitionKey(), is("foo_schema.ds_0"));
+        assertThat(fooGroups.next().getPartitionKey(), is("foo_schema.ds_1"));
+        assertThat(prepare("bar_schema", executionUnits).iterator().next().getPartitionKey(), is("bar_schema.ds_0"));
+    }
+    
+    private Collection<ExecutionGroup<RawSQLExecutionUnit>> prepare(final String schemaName, final Collection<ExecutionUnit> executionUnits) throws SQLException {
+        return new RawExecutionPrepareEngine(schemaName, 1, Collections.emptyList()).prepare(new RouteContext(), executionUnits).getInputGroups();
+    }
+}
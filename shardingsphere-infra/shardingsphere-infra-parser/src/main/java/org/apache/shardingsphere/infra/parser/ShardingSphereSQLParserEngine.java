@@ -63,14 +63,13 @@ public final class ShardingSphereSQLParserEngine {
     }
     
     private SQLStatement parse0(final String sql, final boolean useCache) {
+        if (!distSQLStatementParserEngine.matches(sql)) {
+            return sqlStatementParserEngine.parse(sql, useCache);
+        }
         try {
+            return distSQLStatementParserEngine.parse(sql);
+        } catch (final SQLParsingException | ParseCancellationException ignored) {
             return sqlStatementParserEngine.parse(sql, useCache);
-        } catch (final SQLParsingException | ParseCancellationException originalEx) {
-            try {
-                return distSQLStatementParserEngine.parse(sql);
-            } catch (final SQLParsingException ignored) {
-                throw originalEx;
-            }
         }
     }
 }
@@ -27,6 +27,8 @@ import org.apache.shardingsphere.sql.parser.sql.common.statement.SQLStatement;
  */
 public final class SQLStatementParserEngine {
     
+    private static final int MAX_CACHED_SQL_LENGTH = 64 * 1024;
+    
     private final SQLStatementParserExecutor sqlStatementParserExecutor;
     
     private final LoadingCache<String, SQLStatement> sqlStatementCache;
@@ -41,10 +43,10 @@ public final class SQLStatementParserEngine {
      * Parse to SQL statement.
      *
      * @param sql SQL to be parsed
-     * @param useCache whether use cache
+     * @param useCache whether use cache, huge SQL such as bulk insert is never cached
      * @return SQL statement
      */
     public SQLStatement parse(final String sql, final boolean useCache) {
-        return useCache ? sqlStatementCache.getUnchecked(sql) : sqlStatementParserExecutor.parse(sql);
+        return useCache && sql.length() <= MAX_CACHED_SQL_LENGTH ? sqlStatementCache.getUnchecked(sql) : sqlStatementParserExecutor.parse(sql);
     }
 }
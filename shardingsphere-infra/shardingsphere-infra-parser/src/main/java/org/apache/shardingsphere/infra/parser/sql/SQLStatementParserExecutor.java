@@ -17,10 +17,12 @@
 
 package org.apache.shardingsphere.infra.parser.sql;
 
+import org.apache.shardingsphere.sql.parser.api.FastPathSQLStatementParserEngine;
 import org.apache.shardingsphere.sql.parser.api.SQLParserEngine;
 import org.apache.shardingsphere.sql.parser.api.SQLVisitorEngine;
 import org.apache.shardingsphere.sql.parser.sql.common.statement.SQLStatement;
 
+import java.util.Optional;
 import java.util.Properties;
 
 /**
@@ -28,11 +30,14 @@ import java.util.Properties;
  */
 public final class SQLStatementParserExecutor {
     
+    private final FastPathSQLStatementParserEngine fastPathParserEngine;
+    
     private final SQLParserEngine parserEngine;
     
     private final SQLVisitorEngine visitorEngine;
     
     public SQLStatementParserExecutor(final String databaseType) {
+        fastPathParserEngine = new FastPathSQLStatementParserEngine(databaseType);
         parserEngine = new SQLParserEngine(databaseType);
         visitorEngine = new SQLVisitorEngine(databaseType, "STATEMENT", new Properties());
     }
@@ -44,6 +49,7 @@ public final class SQLStatementParserExecutor {
      * @return SQL statement
      */
     public SQLStatement parse(final String sql) {
-        return visitorEngine.visit(parserEngine.parse(sql, false));
+        Optional<SQLStatement> result = fastPathParserEngine.parse(sql);
+        return result.isPresent() ? result.get() : visitorEngine.visit(parserEngine.parse(sql, false));
     }
 }
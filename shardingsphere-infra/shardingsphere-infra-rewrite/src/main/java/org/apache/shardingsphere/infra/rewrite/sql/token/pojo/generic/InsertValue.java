@@ -36,27 +36,49 @@ public class InsertValue {
     
     private final List<ExpressionSegment> values;
     
-    @Override
-    public final String toString() {
-        StringBuilder result = new StringBuilder();
-        result.append("(");
-        for (int i = 0; i < values.size(); i++) {
-            result.append(getValue(i)).append(", ");
+    /**
+     * Append insert value to SQL.
+     * 
+     * <p>
+     * Huge multiple rows insert appends every row straight into the rewritten SQL of its route unit, without a string per row.
+     * </p>
+     *
+     * @param sql SQL to be appended
+     */
+    public final void appendTo(final StringBuilder sql) {
+        sql.append('(');
+        boolean first = true;
+        for (ExpressionSegment each : values) {
+            if (!first) {
+                sql.append(", ");
+            }
+            appendValue(each, sql);
+            first = false;
         }
-        result.delete(result.length() - 2, result.length()).append(")");
-        return result.toString();
+        sql.append(')');
     }
     
-    private String getValue(final int index) {
-        ExpressionSegment expressionSegment = values.get(index);
+    private void appendValue(final ExpressionSegment expressionSegment, final StringBuilder sql) {
         if (expressionSegment instanceof ParameterMarkerExpressionSegment) {
-            return "?";
+            sql.append('?');
         } else if (expressionSegment instanceof LiteralExpressionSegment) {
             Object literals = ((LiteralExpressionSegment) expressionSegment).getLiterals();
-            return literals instanceof String ? String.format("'%s'", ((LiteralExpressionSegment) expressionSegment).getLiterals()) : literals.toString();
+            if (literals instanceof String) {
+                sql.append('\'').append(literals).append('\'');
+            } else {
+                sql.append(literals);
+            }
         } else if (expressionSegment instanceof BinaryOperationExpression) {
-            return ((BinaryOperationExpression) expressionSegment).getText();
+            sql.append(((BinaryOperationExpression) expressionSegment).getText());
+        } else {
+            sql.append(((ComplexExpressionSegment) expressionSegment).getText());
         }
-        return ((ComplexExpressionSegment) expressionSegment).getText();
+    }
+    
+    @Override
+    public final String toString() {
+        StringBuilder result = new StringBuilder();
+        appendTo(result);
+        return result.toString();
     }
 }
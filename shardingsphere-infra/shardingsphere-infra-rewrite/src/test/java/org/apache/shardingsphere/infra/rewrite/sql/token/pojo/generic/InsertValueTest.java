@@ -24,6 +24,8 @@ import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.expr.simple.P
 import org.junit.Test;
 
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
 
 import static org.hamcrest.CoreMatchers.is;
@@ -61,4 +63,12 @@ public final class InsertValueTest {
         String expectedToString = "(?, 'literals', complexExpressionSegment)";
         assertThat(actualToString, is(expectedToString));
     }
+    
+    @Test
+    public void assertAppendTo() {
+        StringBuilder actual = new StringBuilder("VALUES ");
+        new InsertValue(Arrays.asList(new ParameterMarkerExpressionSegment(1, 1, 0), new LiteralExpressionSegment(2, 2, 1), new LiteralExpressionSegment(3, 3, "foo"))).appendTo(actual);
+        new InsertValue(Collections.singletonList(new LiteralExpressionSegment(5, 5, 2.5))).appendTo(actual.append(", "));
+        assertThat(actual.toString(), is("VALUES (?, 1, 'foo'), (2.5)"));
+    }
 }
@@ -21,7 +21,12 @@ import lombok.Getter;
 import org.apache.shardingsphere.driver.executor.callback.ExecuteQueryCallback;
 import org.apache.shardingsphere.infra.binder.LogicSQL;
 import org.apache.shardingsphere.infra.binder.statement.SQLStatementContext;
+import org.apache.shardingsphere.infra.config.properties.ConfigurationProperties;
+import org.apache.shardingsphere.infra.config.properties.ConfigurationPropertyKey;
 import org.apache.shardingsphere.infra.context.metadata.MetaDataContexts;
+import org.apache.shardingsphere.infra.executor.kernel.hedge.HedgedExecutionGroupContextSupplier;
+import org.apache.shardingsphere.infra.executor.kernel.hedge.HedgedExecutionResult;
+import org.apache.shardingsphere.infra.executor.kernel.hedge.HedgingOption;
 import org.apache.shardingsphere.infra.executor.kernel.model.ExecutionGroupContext;
 import org.apache.shardingsphere.infra.executor.sql.execute.engine.driver.jdbc.JDBCExecutionUnit;
 import org.apache.shardingsphere.infra.executor.sql.execute.engine.driver.jdbc.JDBCExecutor;
@@ -75,6 +80,32 @@ public final class DriverJDBCExecutor {
         }
     }
     
+    /**
+     * Execute query with hedging.
+     *
+     * @param executionGroupContext execution group context
+     * @param hedgedExecutionGroupContextSupplier hedged execution group context supplier
+     * @param logicSQL logic SQL
+     * @param callback execute query callback
+     * @return hedged execution result
+     * @throws SQLException SQL exception
+     */
+    public HedgedExecutionResult<JDBCExecutionUnit, QueryResult> executeHedgedQuery(final ExecutionGroupContext<JDBCExecutionUnit> executionGroupContext, 
+                                                                                    final HedgedExecutionGroupContextSupplier<JDBCExecutionUnit> hedgedExecutionGroupContextSupplier,
+                                                                                    final LogicSQL logicSQL, final ExecuteQueryCallback callback) throws SQLException {
+        try {
+            ConfigurationProperties props = metaDataContexts.getProps();
+            ExecuteProcessEngine.initialize(logicSQL, executionGroupContext, props);
+            HedgingOption option = new HedgingOption(
+                    props.<Integer>getValue(ConfigurationPropertyKey.HEDGED_READ_DELAY_PERCENTILE), props.<Integer>getValue(ConfigurationPropertyKey.HEDGED_READ_BUDGET_PERCENT));
+            HedgedExecutionResult<JDBCExecutionUnit, QueryResult> result = jdbcExecutor.executeHedged(executionGroupContext, hedgedExecutionGroupContextSupplier, callback, callback, option);
+            ExecuteProcessEngine.finish(executionGroupContext.getExecutionID());
+            return result;
+        } finally {
+            ExecuteProcessEngine.clean();
+        }
+    }
+    
     /**
      * Execute update.
      *
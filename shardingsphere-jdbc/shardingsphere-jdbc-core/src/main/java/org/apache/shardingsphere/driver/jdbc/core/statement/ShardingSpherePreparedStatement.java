@@ -43,9 +43,12 @@ import org.apache.shardingsphere.infra.database.DefaultSchema;
 import org.apache.shardingsphere.infra.database.type.DatabaseTypeRegistry;
 import org.apache.shardingsphere.infra.exception.ShardingSphereException;
 import org.apache.shardingsphere.infra.executor.check.SQLCheckEngine;
+import org.apache.shardingsphere.infra.executor.kernel.hedge.HedgedExecutionResult;
 import org.apache.shardingsphere.infra.executor.kernel.model.ExecutionGroup;
 import org.apache.shardingsphere.infra.executor.kernel.model.ExecutionGroupContext;
 import org.apache.shardingsphere.infra.executor.sql.context.ExecutionContext;
+import org.apache.shardingsphere.infra.executor.sql.context.ExecutionUnit;
+import org.apache.shardingsphere.infra.executor.sql.context.HedgedExecutionUnitsBuilder;
 import org.apache.shardingsphere.infra.executor.sql.execute.engine.ConnectionMode;
 import org.apache.shardingsphere.infra.executor.sql.execute.engine.SQLExecutorExceptionHandler;
 import org.apache.shardingsphere.infra.executor.sql.execute.engine.driver.jdbc.JDBCExecutionUnit;
@@ -60,6 +63,7 @@ import org.apache.shardingsphere.infra.executor.sql.execute.result.query.impl.dr
 import org.apache.shardingsphere.infra.executor.sql.execute.result.update.UpdateResult;
 import org.apache.shardingsphere.infra.executor.sql.federate.execute.FederateExecutor;
 import org.apache.shardingsphere.infra.executor.sql.federate.execute.FederateJDBCExecutor;
+import org.apache.shardingsphere.infra.executor.sql.prepare.adaptive.ConnectionModeSelector;
 import org.apache.shardingsphere.infra.executor.sql.prepare.driver.DriverExecutionPrepareEngine;
 import org.apache.shardingsphere.infra.executor.sql.prepare.driver.jdbc.JDBCDriverType;
 import org.apache.shardingsphere.infra.executor.sql.prepare.driver.jdbc.StatementOption;
@@ -201,8 +205,49 @@ public final class ShardingSpherePreparedStatement extends AbstractPreparedState
         }
         ExecutionGroupContext<JDBCExecutionUnit> executionGroupContext = createExecutionGroupContext();
         cacheStatements(executionGroupContext.getInputGroups());
-        return driverJDBCExecutor.executeQuery(executionGroupContext, executionContext.getLogicSQL(),
-                new PreparedStatementExecuteQueryCallback(metaDataContexts.getDefaultMetaData().getResource().getDatabaseType(), sqlStatement, SQLExecutorExceptionHandler.isExceptionThrown()));
+        PreparedStatementExecuteQueryCallback callback = new PreparedStatementExecuteQueryCallback(
+                metaDataContexts.getDefaultMetaData().getResource().getDatabaseType(), sqlStatement, SQLExecutorExceptionHandler.isExceptionThrown());
+        Optional<Collection<ExecutionUnit>> hedgedExecutionUnits = connection.isHoldTransaction() ? Optional.empty() : HedgedExecutionUnitsBuilder.build(executionContext, metaDataContexts.getProps());
+        if (hedgedExecutionUnits.isPresent()) {
+            return executeHedgedQuery(executionGroupContext, hedgedExecutionUnits.get(), callback);
+        }
+        return driverJDBCExecutor.executeQuery(executionGroupContext, executionContext.getLogicSQL(), callback);
+    }
+    
+    private List<QueryResult> executeHedgedQuery(final ExecutionGroupContext<JDBCExecutionUnit> executionGroupContext,
+                                                 final Collection<ExecutionUnit> hedgedExecutionUnits, final PreparedStatementExecuteQueryCallback callback) throws SQLException {
+        Collection<PreparedStatement> hedgedStatements = new LinkedList<>();
+        HedgedExecutionResult<JDBCExecutionUnit, QueryResult> result;
+        try {
+            result = driverJDBCExecutor.executeHedgedQuery(executionGroupContext, () -> {
+                ExecutionGroupContext<JDBCExecutionUnit> hedgedExecutionGroupContext = createDriverExecutionPrepareEngine().prepare(executionContext.getRouteContext(), hedgedExecutionUnits);
+                for (ExecutionGroup<JDBCExecutionUnit> each : hedgedExecutionGroupContext.getInputGroups()) {
+                    for (JDBCExecutionUnit input : each.getInputs()) {
+                        PreparedStatement hedgedStatement = (PreparedStatement) input.getStorageResource();
+                        hedgedStatements.add(hedgedStatement);
+                        replaySetParameter(hedgedStatement, input.getExecutionUnit().getSqlUnit().getParameters());
+                        replayMethodsInvocation(hedgedStatement);
+                    }
+                }
+                return hedgedExecutionGroupContext;
+            }, executionContext.getLogicSQL(), callback);
+        } catch (final SQLException ex) {
+            closeStatements(hedgedStatements);
+            throw ex;
+        }
+        if (result.isHedged()) {
+            clearStatements();
+            statements.addAll(hedgedStatements);
+        } else {
+            closeStatements(hedgedStatements);
+        }
+        return result.getResults();
+    }
+    
+    private void closeStatements(final Collection<? extends Statement> toBeClosedStatements) throws SQLException {
+        for (Statement each : toBeClosedStatements) {
+            each.close();
+        }
     }
     
     private List<QueryResult> executeFederatedQuery() throws SQLException {
@@ -215,8 +260,7 @@ public final class ShardingSpherePreparedStatement extends AbstractPreparedState
     }
     
     private DriverExecutionPrepareEngine<JDBCExecutionUnit, Connection> createDriverExecutionPrepareEngine() {
-        int maxConnectionsSizePerQuery = metaDataContexts.getProps().<Integer>getValue(ConfigurationPropertyKey.MAX_CONNECTIONS_SIZE_PER_QUERY);
-        return new DriverExecutionPrepareEngine<>(JDBCDriverType.PREPARED_STATEMENT, maxConnectionsSizePerQuery, connection, 
+        return new DriverExecutionPrepareEngine<>(JDBCDriverType.PREPARED_STATEMENT, DefaultSchema.LOGIC_NAME, new ConnectionModeSelector(metaDataContexts.getProps()), connection, 
                 statementOption, metaDataContexts.getDefaultMetaData().getRuleMetaData().getRules());
     }
     
@@ -287,7 +331,7 @@ public final class ShardingSpherePreparedStatement extends AbstractPreparedState
     
     private ExecutionGroupContext<RawSQLExecutionUnit> createRawExecutionGroupContext() throws SQLException {
         int maxConnectionsSizePerQuery = metaDataContexts.getProps().<Integer>getValue(ConfigurationPropertyKey.MAX_CONNECTIONS_SIZE_PER_QUERY);
-        return new RawExecutionPrepareEngine(maxConnectionsSizePerQuery, metaDataContexts.getDefaultMetaData().getRuleMetaData().getRules())
+        return new RawExecutionPrepareEngine(DefaultSchema.LOGIC_NAME, maxConnectionsSizePerQuery, metaDataContexts.getDefaultMetaData().getRuleMetaData().getRules())
                 .prepare(executionContext.getRouteContext(), executionContext.getExecutionUnits());
     }
     
@@ -441,7 +485,7 @@ public final class ShardingSpherePreparedStatement extends AbstractPreparedState
     
     private void initBatchPreparedStatementExecutor() throws SQLException {
         DriverExecutionPrepareEngine<JDBCExecutionUnit, Connection> prepareEngine = new DriverExecutionPrepareEngine<>(
-                JDBCDriverType.PREPARED_STATEMENT, metaDataContexts.getProps().<Integer>getValue(ConfigurationPropertyKey.MAX_CONNECTIONS_SIZE_PER_QUERY),
+                JDBCDriverType.PREPARED_STATEMENT, DefaultSchema.LOGIC_NAME, metaDataContexts.getProps().<Integer>getValue(ConfigurationPropertyKey.MAX_CONNECTIONS_SIZE_PER_QUERY),
                 connection, statementOption, metaDataContexts.getDefaultMetaData().getRuleMetaData().getRules());
         batchPreparedStatementExecutor.init(prepareEngine.prepare(executionContext.getRouteContext(),
                 new ArrayList<>(batchPreparedStatementExecutor.getBatchExecutionUnits()).stream().map(BatchExecutionUnit::getExecutionUnit).collect(Collectors.toList())));
@@ -494,9 +538,7 @@ public final class ShardingSpherePreparedStatement extends AbstractPreparedState
     }
     
     private void clearStatements() throws SQLException {
-        for (Statement each : statements) {
-            each.close();
-        }
+        closeStatements(statements);
         statements.clear();
     }
 }
@@ -42,9 +42,12 @@ import org.apache.shardingsphere.infra.database.DefaultSchema;
 import org.apache.shardingsphere.infra.database.type.DatabaseTypeRegistry;
 import org.apache.shardingsphere.infra.exception.ShardingSphereException;
 import org.apache.shardingsphere.infra.executor.check.SQLCheckEngine;
+import org.apache.shardingsphere.infra.executor.kernel.hedge.HedgedExecutionResult;
 import org.apache.shardingsphere.infra.executor.kernel.model.ExecutionGroup;
 import org.apache.shardingsphere.infra.executor.kernel.model.ExecutionGroupContext;
 import org.apache.shardingsphere.infra.executor.sql.context.ExecutionContext;
+import org.apache.shardingsphere.infra.executor.sql.context.ExecutionUnit;
+import org.apache.shardingsphere.infra.executor.sql.context.HedgedExecutionUnitsBuilder;
 import org.apache.shardingsphere.infra.executor.sql.execute.engine.ConnectionMode;
 import org.apache.shardingsphere.infra.executor.sql.execute.engine.SQLExecutorExceptionHandler;
 import org.apache.shardingsphere.infra.executor.sql.execute.engine.driver.jdbc.JDBCExecutionUnit;
@@ -59,6 +62,7 @@ import org.apache.shardingsphere.infra.executor.sql.execute.result.query.impl.dr
 import org.apache.shardingsphere.infra.executor.sql.execute.result.update.UpdateResult;
 import org.apache.shardingsphere.infra.executor.sql.federate.execute.FederateExecutor;
 import org.apache.shardingsphere.infra.executor.sql.federate.execute.FederateJDBCExecutor;
+import org.apache.shardingsphere.infra.executor.sql.prepare.adaptive.ConnectionModeSelector;
 import org.apache.shardingsphere.infra.executor.sql.prepare.driver.DriverExecutionPrepareEngine;
 import org.apache.shardingsphere.infra.executor.sql.prepare.driver.jdbc.JDBCDriverType;
 import org.apache.shardingsphere.infra.executor.sql.prepare.driver.jdbc.StatementOption;
@@ -173,9 +177,41 @@ public final class ShardingSphereStatement extends AbstractStatementAdapter {
         cacheStatements(executionGroupContext.getInputGroups());
         StatementExecuteQueryCallback callback = new StatementExecuteQueryCallback(metaDataContexts.getDefaultMetaData().getResource().getDatabaseType(),
                 executionContext.getSqlStatementContext().getSqlStatement(), SQLExecutorExceptionHandler.isExceptionThrown());
+        Optional<Collection<ExecutionUnit>> hedgedExecutionUnits = connection.isHoldTransaction() ? Optional.empty() : HedgedExecutionUnitsBuilder.build(executionContext, metaDataContexts.getProps());
+        if (hedgedExecutionUnits.isPresent()) {
+            return executeHedgedQuery(executionGroupContext, hedgedExecutionUnits.get(), callback);
+        }
         return driverJDBCExecutor.executeQuery(executionGroupContext, executionContext.getLogicSQL(), callback);
     }
     
+    private List<QueryResult> executeHedgedQuery(final ExecutionGroupContext<JDBCExecutionUnit> executionGroupContext,
+                                                 final Collection<ExecutionUnit> hedgedExecutionUnits, final StatementExecuteQueryCallback callback) throws SQLException {
+        Collection<Statement> hedgedStatements = new LinkedList<>();
+        HedgedExecutionResult<JDBCExecutionUnit, QueryResult> result;
+        try {
+            result = driverJDBCExecutor.executeHedgedQuery(executionGroupContext, () -> {
+                ExecutionGroupContext<JDBCExecutionUnit> hedgedExecutionGroupContext = createDriverExecutionPrepareEngine().prepare(executionContext.getRouteContext(), hedgedExecutionUnits);
+                for (ExecutionGroup<JDBCExecutionUnit> each : hedgedExecutionGroupContext.getInputGroups()) {
+                    for (JDBCExecutionUnit input : each.getInputs()) {
+                        hedgedStatements.add(input.getStorageResource());
+                        replayMethodsInvocation(input.getStorageResource());
+                    }
+                }
+                return hedgedExecutionGroupContext;
+            }, executionContext.getLogicSQL(), callback);
+        } catch (final SQLException ex) {
+            closeStatements(hedgedStatements);
+            throw ex;
+        }
+        if (result.isHedged()) {
+            clearStatements();
+            statements.addAll(hedgedStatements);
+        } else {
+            closeStatements(hedgedStatements);
+        }
+        return result.getResults();
+    }
+    
     private List<QueryResult> executeFederatedQuery() throws SQLException {
         if (executionContext.getExecutionUnits().isEmpty()) {
             return Collections.emptyList();
@@ -186,8 +222,7 @@ public final class ShardingSphereStatement extends AbstractStatementAdapter {
     }
     
     private DriverExecutionPrepareEngine<JDBCExecutionUnit, Connection> createDriverExecutionPrepareEngine() {
-        int maxConnectionsSizePerQuery = metaDataContexts.getProps().<Integer>getValue(ConfigurationPropertyKey.MAX_CONNECTIONS_SIZE_PER_QUERY);
-        return new DriverExecutionPrepareEngine<>(JDBCDriverType.STATEMENT, maxConnectionsSizePerQuery, connection, 
+        return new DriverExecutionPrepareEngine<>(JDBCDriverType.STATEMENT, DefaultSchema.LOGIC_NAME, new ConnectionModeSelector(metaDataContexts.getProps()), connection, 
                 statementOption, metaDataContexts.getDefaultMetaData().getRuleMetaData().getRules());
     }
     
@@ -352,10 +387,14 @@ public final class ShardingSphereStatement extends AbstractStatementAdapter {
     }
     
     private void clearStatements() throws SQLException {
-        for (Statement each : statements) {
+        closeStatements(statements);
+        statements.clear();
+    }
+    
+    private void closeStatements(final Collection<Statement> toBeClosedStatements) throws SQLException {
+        for (Statement each : toBeClosedStatements) {
             each.close();
         }
-        statements.clear();
     }
     
     private LogicSQL createLogicSQL(final String sql) {
@@ -381,7 +420,7 @@ public final class ShardingSphereStatement extends AbstractStatementAdapter {
     
     private ExecutionGroupContext<RawSQLExecutionUnit> createRawExecutionContext() throws SQLException {
         int maxConnectionsSizePerQuery = metaDataContexts.getProps().<Integer>getValue(ConfigurationPropertyKey.MAX_CONNECTIONS_SIZE_PER_QUERY);
-        return new RawExecutionPrepareEngine(maxConnectionsSizePerQuery, metaDataContexts.getDefaultMetaData().getRuleMetaData().getRules())
+        return new RawExecutionPrepareEngine(DefaultSchema.LOGIC_NAME, maxConnectionsSizePerQuery, metaDataContexts.getDefaultMetaData().getRuleMetaData().getRules())
                 .prepare(executionContext.getRouteContext(), executionContext.getExecutionUnits());
     }
     
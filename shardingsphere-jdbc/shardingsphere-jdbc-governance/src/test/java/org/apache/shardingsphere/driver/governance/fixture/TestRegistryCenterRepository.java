@@ -65,7 +65,7 @@ public final class TestRegistryCenterRepository implements RegistryCenterReposit
     
     @Override
     public boolean tryLock(final String key, final long time, final TimeUnit unit) {
-        return false;
+        return true;
     }
     
     @Override
@@ -21,8 +21,11 @@ import org.apache.shardingsphere.infra.config.properties.ConfigurationPropertyKe
 import org.apache.shardingsphere.infra.context.metadata.MetaDataContexts;
 import org.apache.shardingsphere.infra.database.type.DatabaseType;
 import org.apache.shardingsphere.infra.executor.kernel.ExecutorEngine;
+import org.apache.shardingsphere.infra.executor.kernel.hedge.HedgedExecutionGroupContextSupplier;
 import org.apache.shardingsphere.infra.executor.kernel.model.ExecutionGroupContext;
 import org.apache.shardingsphere.infra.executor.sql.context.ExecutionContext;
+import org.apache.shardingsphere.infra.executor.sql.context.ExecutionUnit;
+import org.apache.shardingsphere.infra.executor.sql.context.HedgedExecutionUnitsBuilder;
 import org.apache.shardingsphere.infra.executor.sql.execute.engine.SQLExecutorExceptionHandler;
 import org.apache.shardingsphere.infra.executor.sql.execute.engine.driver.jdbc.JDBCExecutionUnit;
 import org.apache.shardingsphere.infra.executor.sql.execute.engine.driver.jdbc.JDBCExecutor;
@@ -33,6 +36,7 @@ import org.apache.shardingsphere.infra.executor.sql.execute.engine.raw.callback.
 import org.apache.shardingsphere.infra.executor.sql.execute.result.ExecuteResult;
 import org.apache.shardingsphere.infra.executor.sql.federate.execute.FederateExecutor;
 import org.apache.shardingsphere.infra.executor.sql.federate.execute.FederateJDBCExecutor;
+import org.apache.shardingsphere.infra.executor.sql.prepare.adaptive.ConnectionModeSelector;
 import org.apache.shardingsphere.infra.executor.sql.prepare.driver.DriverExecutionPrepareEngine;
 import org.apache.shardingsphere.infra.executor.sql.prepare.driver.jdbc.StatementOption;
 import org.apache.shardingsphere.infra.executor.sql.prepare.raw.RawExecutionPrepareEngine;
@@ -127,11 +131,11 @@ public final class ProxySQLExecutor {
         if (executionContext.getRouteContext().isFederated()) {
             return federateExecute(executionContext, isReturnGeneratedKeys, SQLExecutorExceptionHandler.isExceptionThrown());
         }
-        return useDriverToExecute(executionContext, rules, maxConnectionsSizePerQuery, isReturnGeneratedKeys, SQLExecutorExceptionHandler.isExceptionThrown());
+        return useDriverToExecute(executionContext, rules, isReturnGeneratedKeys, SQLExecutorExceptionHandler.isExceptionThrown());
     }
     
     private Collection<ExecuteResult> rawExecute(final ExecutionContext executionContext, final Collection<ShardingSphereRule> rules, final int maxConnectionsSizePerQuery) throws SQLException {
-        RawExecutionPrepareEngine prepareEngine = new RawExecutionPrepareEngine(maxConnectionsSizePerQuery, rules);
+        RawExecutionPrepareEngine prepareEngine = new RawExecutionPrepareEngine(backendConnection.getSchemaName(), maxConnectionsSizePerQuery, rules);
         ExecutionGroupContext<RawSQLExecutionUnit> executionGroupContext;
         try {
             executionGroupContext = prepareEngine.prepare(executionContext.getRouteContext(), executionContext.getExecutionUnits());
@@ -157,15 +161,16 @@ public final class ProxySQLExecutor {
     }
     
     private DriverExecutionPrepareEngine<JDBCExecutionUnit, Connection> createDriverExecutionPrepareEngine(final boolean isReturnGeneratedKeys, final MetaDataContexts metaData) {
-        int maxConnectionsSizePerQuery = metaData.getProps().<Integer>getValue(ConfigurationPropertyKey.MAX_CONNECTIONS_SIZE_PER_QUERY);
-        return new DriverExecutionPrepareEngine<>(type, maxConnectionsSizePerQuery, backendConnection, new StatementOption(isReturnGeneratedKeys), 
-                metaData.getMetaData(backendConnection.getSchemaName()).getRuleMetaData().getRules());
+        String schemaName = backendConnection.getSchemaName();
+        return new DriverExecutionPrepareEngine<>(type, schemaName, new ConnectionModeSelector(metaData.getProps()), backendConnection, new StatementOption(isReturnGeneratedKeys), 
+                metaData.getMetaData(schemaName).getRuleMetaData().getRules());
     }
     
     private Collection<ExecuteResult> useDriverToExecute(final ExecutionContext executionContext, final Collection<ShardingSphereRule> rules, 
-                                                         final int maxConnectionsSizePerQuery, final boolean isReturnGeneratedKeys, final boolean isExceptionThrown) throws SQLException {
+                                                         final boolean isReturnGeneratedKeys, final boolean isExceptionThrown) throws SQLException {
         DriverExecutionPrepareEngine<JDBCExecutionUnit, Connection> prepareEngine = new DriverExecutionPrepareEngine<>(
-                type, maxConnectionsSizePerQuery, backendConnection, new StatementOption(isReturnGeneratedKeys), rules);
+                type, backendConnection.getSchemaName(), new ConnectionModeSelector(ProxyContext.getInstance().getMetaDataContexts().getProps()), backendConnection,
+                new StatementOption(isReturnGeneratedKeys), rules);
         ExecutionGroupContext<JDBCExecutionUnit> executionGroupContext;
         try {
             executionGroupContext = prepareEngine.prepare(executionContext.getRouteContext(), executionContext.getExecutionUnits());
@@ -174,9 +179,31 @@ public final class ProxySQLExecutor {
         }
         executionGroupContext.setSchemaName(backendConnection.getSchemaName());
         executionGroupContext.setGrantee(backendConnection.getGrantee());
+        Optional<Collection<ExecutionUnit>> hedgedExecutionUnits = backendConnection.getTransactionStatus().isInTransaction()
+                ? Optional.empty() : HedgedExecutionUnitsBuilder.build(executionContext, ProxyContext.getInstance().getMetaDataContexts().getProps());
+        if (hedgedExecutionUnits.isPresent()) {
+            String schemaName = backendConnection.getSchemaName();
+            HedgedExecutionGroupContextSupplier<JDBCExecutionUnit> hedgedExecutionGroupContextSupplier 
+                = () -> prepareHedgedExecutionGroupContext(prepareEngine, executionContext, hedgedExecutionUnits.get(), schemaName);
+            return jdbcExecutor.executeHedged(executionContext.getLogicSQL(), executionGroupContext, hedgedExecutionGroupContextSupplier, isReturnGeneratedKeys, isExceptionThrown);
+        }
         return jdbcExecutor.execute(executionContext.getLogicSQL(), executionGroupContext, isReturnGeneratedKeys, isExceptionThrown);
     }
     
+    private ExecutionGroupContext<JDBCExecutionUnit> prepareHedgedExecutionGroupContext(final DriverExecutionPrepareEngine<JDBCExecutionUnit, Connection> prepareEngine, 
+                                                                                        final ExecutionContext executionContext, final Collection<ExecutionUnit> hedgedExecutionUnits, 
+                                                                                        final String schemaName) throws SQLException {
+        SQLStatementSchemaHolder.set(schemaName);
+        try {
+            ExecutionGroupContext<JDBCExecutionUnit> result = prepareEngine.prepare(executionContext.getRouteContext(), hedgedExecutionUnits);
+            result.setSchemaName(schemaName);
+            result.setGrantee(backendConnection.getGrantee());
+            return result;
+        } finally {
+            SQLStatementSchemaHolder.remove();
+        }
+    }
+    
     private Collection<ExecuteResult> getSaneExecuteResults(final ExecutionContext executionContext, final SQLException originalException) throws SQLException {
         DatabaseType databaseType = ProxyContext.getInstance().getMetaData(backendConnection.getSchemaName()).getResource().getDatabaseType();
         Optional<ExecuteResult> executeResult = JDBCSaneQueryResultEngineFactory.newInstance(databaseType).getSaneQueryResult(executionContext.getSqlStatementContext().getSqlStatement());
@@ -21,8 +21,12 @@ import lombok.Getter;
 import lombok.RequiredArgsConstructor;
 import org.apache.shardingsphere.infra.binder.LogicSQL;
 import org.apache.shardingsphere.infra.binder.statement.SQLStatementContext;
+import org.apache.shardingsphere.infra.config.properties.ConfigurationProperties;
+import org.apache.shardingsphere.infra.config.properties.ConfigurationPropertyKey;
 import org.apache.shardingsphere.infra.context.metadata.MetaDataContexts;
 import org.apache.shardingsphere.infra.database.type.DatabaseType;
+import org.apache.shardingsphere.infra.executor.kernel.hedge.HedgedExecutionGroupContextSupplier;
+import org.apache.shardingsphere.infra.executor.kernel.hedge.HedgingOption;
 import org.apache.shardingsphere.infra.executor.kernel.model.ExecutionGroupContext;
 import org.apache.shardingsphere.infra.executor.sql.execute.engine.driver.jdbc.JDBCExecutionUnit;
 import org.apache.shardingsphere.infra.executor.sql.execute.engine.driver.jdbc.JDBCExecutor;
@@ -77,4 +81,37 @@ public final class ProxyJDBCExecutor {
             ExecuteProcessEngine.clean();
         }
     }
+    
+    /**
+     * Execute with hedging.
+     *
+     * @param logicSQL logic SQL
+     * @param executionGroupContext execution group context
+     * @param hedgedExecutionGroupContextSupplier hedged execution group context supplier
+     * @param isReturnGeneratedKeys is return generated keys
+     * @param isExceptionThrown is exception thrown
+     * @return execute results
+     * @throws SQLException SQL exception
+     */
+    public Collection<ExecuteResult> executeHedged(final LogicSQL logicSQL, final ExecutionGroupContext<JDBCExecutionUnit> executionGroupContext, 
+                                                   final HedgedExecutionGroupContextSupplier<JDBCExecutionUnit> hedgedExecutionGroupContextSupplier, 
+                                                   final boolean isReturnGeneratedKeys, final boolean isExceptionThrown) throws SQLException {
+        try {
+            MetaDataContexts metaDataContexts = ProxyContext.getInstance().getMetaDataContexts();
+            DatabaseType databaseType = metaDataContexts.getMetaData(backendConnection.getSchemaName()).getResource().getDatabaseType();
+            ConfigurationProperties props = metaDataContexts.getProps();
+            ExecuteProcessEngine.initialize(logicSQL, executionGroupContext, props);
+            SQLStatementContext<?> context = logicSQL.getSqlStatementContext();
+            HedgingOption option = new HedgingOption(
+                    props.<Integer>getValue(ConfigurationPropertyKey.HEDGED_READ_DELAY_PERCENTILE), props.<Integer>getValue(ConfigurationPropertyKey.HEDGED_READ_BUDGET_PERCENT));
+            Collection<ExecuteResult> result = jdbcExecutor.executeHedged(executionGroupContext, hedgedExecutionGroupContextSupplier,
+                    ProxyJDBCExecutorCallbackFactory.newInstance(type, databaseType, context.getSqlStatement(), databaseCommunicationEngine, isReturnGeneratedKeys, isExceptionThrown, true),
+                    ProxyJDBCExecutorCallbackFactory.newInstance(type, databaseType, context.getSqlStatement(), databaseCommunicationEngine, isReturnGeneratedKeys, isExceptionThrown, false),
+                    option).getResults();
+            ExecuteProcessEngine.finish(executionGroupContext.getExecutionID());
+            return result;
+        } finally {
+            ExecuteProcessEngine.clean();
+        }
+    }
 }
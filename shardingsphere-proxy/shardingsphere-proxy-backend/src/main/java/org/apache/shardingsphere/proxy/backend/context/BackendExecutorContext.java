@@ -20,6 +20,7 @@ package org.apache.shardingsphere.proxy.backend.context;
 import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import org.apache.shardingsphere.infra.config.properties.ConfigurationProperties;
 import org.apache.shardingsphere.infra.config.properties.ConfigurationPropertyKey;
 import org.apache.shardingsphere.infra.executor.kernel.ExecutorEngine;
 
@@ -32,8 +33,7 @@ public final class BackendExecutorContext {
     
     private static final BackendExecutorContext INSTANCE = new BackendExecutorContext();
     
-    private final ExecutorEngine executorEngine = 
-            new ExecutorEngine(ProxyContext.getInstance().getMetaDataContexts().getProps().<Integer>getValue(ConfigurationPropertyKey.EXECUTOR_SIZE));
+    private final ExecutorEngine executorEngine = createExecutorEngine(ProxyContext.getInstance().getMetaDataContexts().getProps());
     
     /**
      * Get executor context instance.
@@ -43,4 +43,9 @@ public final class BackendExecutorContext {
     public static BackendExecutorContext getInstance() {
         return INSTANCE;
     }
+    
+    private static ExecutorEngine createExecutorEngine(final ConfigurationProperties props) {
+        return new ExecutorEngine(props.<Integer>getValue(ConfigurationPropertyKey.EXECUTOR_SIZE), 
+                props.<Integer>getValue(ConfigurationPropertyKey.EXECUTOR_PARTITION_SIZE), props.<Integer>getValue(ConfigurationPropertyKey.EXECUTOR_PARTITION_QUEUE_SIZE));
+    }
 }
@@ -24,6 +24,7 @@ import org.apache.shardingsphere.infra.config.datasource.DataSourceParameter;
 import org.apache.shardingsphere.infra.config.properties.ConfigurationPropertyKey;
 import org.apache.shardingsphere.infra.context.metadata.MetaDataContexts;
 import org.apache.shardingsphere.infra.context.metadata.MetaDataContextsBuilder;
+import org.apache.shardingsphere.infra.database.type.DatabaseTypeRegistry;
 import org.apache.shardingsphere.infra.metadata.resource.ShardingSphereResource;
 import org.apache.shardingsphere.proxy.backend.communication.jdbc.datasource.factory.JDBCRawBackendDataSourceFactory;
 import org.apache.shardingsphere.proxy.backend.context.ProxyContext;
@@ -31,16 +32,22 @@ import org.apache.shardingsphere.proxy.config.ProxyConfiguration;
 import org.apache.shardingsphere.proxy.config.YamlProxyConfiguration;
 import org.apache.shardingsphere.proxy.database.DatabaseServerInfo;
 import org.apache.shardingsphere.proxy.frontend.ShardingSphereProxy;
+import org.apache.shardingsphere.proxy.frontend.protocol.FrontDatabaseProtocolTypeFactory;
 import org.apache.shardingsphere.proxy.initializer.BootstrapInitializer;
+import org.apache.shardingsphere.proxy.initializer.warmup.SQLParserWarmUpExecutor;
 import org.apache.shardingsphere.scaling.core.config.ServerConfiguration;
 import org.apache.shardingsphere.transaction.ShardingTransactionManagerEngine;
 import org.apache.shardingsphere.transaction.context.TransactionContexts;
 import org.apache.shardingsphere.transaction.context.impl.StandardTransactionContexts;
 
 import javax.sql.DataSource;
+import java.io.IOException;
+import java.nio.file.Paths;
 import java.sql.SQLException;
+import java.util.Collection;
 import java.util.HashMap;
 import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Optional;
@@ -62,7 +69,9 @@ public abstract class AbstractBootstrapInitializer implements BootstrapInitializ
         TransactionContexts transactionContexts = decorateTransactionContexts(createTransactionContexts(metaDataContexts), xaTransactionMangerType);
         ProxyContext.getInstance().init(metaDataContexts, transactionContexts);
         setDatabaseServerInfo();
+        warmUpSQLParser(metaDataContexts);
         initScalingWorker(yamlConfig);
+        reconcileConfigurations();
         shardingSphereProxy.start(port);
     }
     
@@ -119,6 +128,28 @@ public abstract class AbstractBootstrapInitializer implements BootstrapInitializ
         });
     }
     
+    private void warmUpSQLParser(final MetaDataContexts metaDataContexts) {
+        String warmUpFile = metaDataContexts.getProps().getValue(ConfigurationPropertyKey.PROXY_SQL_PARSER_WARM_UP_FILE);
+        if (warmUpFile.isEmpty()) {
+            return;
+        }
+        Collection<String> sqls;
+        try {
+            sqls = SQLParserWarmUpExecutor.loadSQLs(Paths.get(warmUpFile));
+        } catch (final IOException ex) {
+            log.warn("Can not load SQL parser warm up file `{}`, skip warming up.", warmUpFile, ex);
+            return;
+        }
+        Collection<String> databaseTypeNames = new LinkedHashSet<>();
+        databaseTypeNames.add(DatabaseTypeRegistry.getTrunkDatabaseTypeName(FrontDatabaseProtocolTypeFactory.getDatabaseType()));
+        for (String each : metaDataContexts.getAllSchemaNames()) {
+            databaseTypeNames.add(DatabaseTypeRegistry.getTrunkDatabaseTypeName(metaDataContexts.getMetaData(each).getResource().getDatabaseType()));
+        }
+        long startTime = System.currentTimeMillis();
+        int parsedCount = new SQLParserWarmUpExecutor(databaseTypeNames).warmUp(sqls);
+        log.info("SQL parser of {} warmed up, {} of {} SQL parsed in {} ms.", databaseTypeNames, parsedCount, sqls.size() * databaseTypeNames.size(), System.currentTimeMillis() - startTime);
+    }
+    
     private Optional<DataSource> findBackendDataSource() {
         for (String each : ProxyContext.getInstance().getAllSchemaNames()) {
             return ProxyContext.getInstance().getMetaData(each).getResource().getDataSources().values().stream().findFirst();
@@ -142,5 +173,7 @@ public abstract class AbstractBootstrapInitializer implements BootstrapInitializ
     
     protected abstract TransactionContexts decorateTransactionContexts(TransactionContexts transactionContexts, String xaTransactionMangerType);
     
+    protected abstract void reconcileConfigurations();
+    
     protected abstract void initScalingWorker(YamlProxyConfiguration yamlConfig);
 }
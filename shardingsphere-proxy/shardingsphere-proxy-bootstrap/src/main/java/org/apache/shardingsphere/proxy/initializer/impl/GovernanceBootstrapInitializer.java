@@ -17,17 +17,26 @@
 
 package org.apache.shardingsphere.proxy.initializer.impl;
 
+import lombok.extern.slf4j.Slf4j;
 import org.apache.shardingsphere.governance.context.metadata.GovernanceMetaDataContexts;
 import org.apache.shardingsphere.governance.context.transaction.GovernanceTransactionContexts;
 import org.apache.shardingsphere.governance.core.GovernanceFacade;
+import org.apache.shardingsphere.governance.core.snapshot.GovernanceSnapshotService;
+import org.apache.shardingsphere.governance.core.snapshot.SnapshotRepository;
 import org.apache.shardingsphere.governance.core.yaml.config.swapper.GovernanceConfigurationYamlSwapper;
 import org.apache.shardingsphere.infra.config.RuleConfiguration;
 import org.apache.shardingsphere.infra.config.datasource.DataSourceConfiguration;
 import org.apache.shardingsphere.infra.config.datasource.DataSourceParameter;
+import org.apache.shardingsphere.infra.config.persist.ConfigCenter;
+import org.apache.shardingsphere.infra.config.persist.node.SchemaMetadataNode;
+import org.apache.shardingsphere.infra.config.persist.repository.ConfigCenterRepository;
+import org.apache.shardingsphere.infra.config.properties.ConfigurationProperties;
+import org.apache.shardingsphere.infra.config.properties.ConfigurationPropertyKey;
 import org.apache.shardingsphere.infra.context.metadata.MetaDataContexts;
 import org.apache.shardingsphere.infra.context.metadata.impl.StandardMetaDataContexts;
 import org.apache.shardingsphere.infra.yaml.config.YamlRuleConfiguration;
 import org.apache.shardingsphere.infra.yaml.swapper.YamlRuleConfigurationSwapperEngine;
+import org.apache.shardingsphere.proxy.backend.context.ProxyContext;
 import org.apache.shardingsphere.proxy.config.ProxyConfiguration;
 import org.apache.shardingsphere.proxy.config.YamlProxyConfiguration;
 import org.apache.shardingsphere.proxy.config.util.DataSourceParameterConverter;
@@ -38,6 +47,8 @@ import org.apache.shardingsphere.scaling.core.config.ScalingContext;
 import org.apache.shardingsphere.scaling.core.config.ServerConfiguration;
 import org.apache.shardingsphere.transaction.context.TransactionContexts;
 
+import java.io.IOException;
+import java.nio.file.Paths;
 import java.util.Collection;
 import java.util.LinkedHashMap;
 import java.util.Map;
@@ -49,15 +60,31 @@ import java.util.stream.Collectors;
 /**
  * Governance bootstrap initializer.
  */
+@Slf4j
 public final class GovernanceBootstrapInitializer extends AbstractBootstrapInitializer {
     
     private final GovernanceFacade governanceFacade = new GovernanceFacade();
     
+    private GovernanceSnapshotService snapshotService;
+    
+    private SnapshotRepository snapshot;
+    
+    private YamlProxyConfiguration yamlConfig;
+    
     @Override
     protected ProxyConfiguration getProxyConfiguration(final YamlProxyConfiguration yamlConfig) {
+        this.yamlConfig = yamlConfig;
+        loadSnapshot(yamlConfig);
+        if (null != snapshot) {
+            return loadProxyConfiguration(snapshot);
+        }
+        connectRegistryCenter();
+        return loadProxyConfiguration(governanceFacade.getRepository());
+    }
+    
+    private void connectRegistryCenter() {
         governanceFacade.init(new GovernanceConfigurationYamlSwapper().swapToObject(yamlConfig.getServerConfiguration().getGovernance()), yamlConfig.getRuleConfigurations().keySet());
         initConfigurations(yamlConfig);
-        return loadProxyConfiguration();
     }
     
     private void initConfigurations(final YamlProxyConfiguration yamlConfig) {
@@ -94,31 +121,53 @@ public final class GovernanceBootstrapInitializer extends AbstractBootstrapIniti
         return new YamlRuleConfigurationSwapperEngine().swapToRuleConfigurations(globalRuleConfigs);
     }
     
-    private ProxyConfiguration loadProxyConfiguration() {
-        Collection<String> schemaNames = governanceFacade.getRegistryCenter().getSchemaService().loadAllNames();
-        Map<String, Map<String, DataSourceParameter>> schemaDataSources = loadDataSourceParametersMap(schemaNames);
-        Map<String, Collection<RuleConfiguration>> schemaRules = loadSchemaRules(schemaNames);
-        Properties props = governanceFacade.getConfigCenter().getPropsService().load();
+    private void loadSnapshot(final YamlProxyConfiguration yamlConfig) {
+        ConfigurationProperties props = new ConfigurationProperties(yamlConfig.getServerConfiguration().getProps());
+        String snapshotFile = props.getValue(ConfigurationPropertyKey.PROXY_GOVERNANCE_SNAPSHOT_FILE);
+        if (snapshotFile.isEmpty()) {
+            return;
+        }
+        String snapshotSecret = props.getValue(ConfigurationPropertyKey.PROXY_GOVERNANCE_SNAPSHOT_SECRET);
+        if (snapshotSecret.isEmpty()) {
+            log.warn("Governance snapshot `{}` is not used, because `{}` is not set.", snapshotFile, ConfigurationPropertyKey.PROXY_GOVERNANCE_SNAPSHOT_SECRET.getKey());
+            return;
+        }
+        snapshotService = new GovernanceSnapshotService(Paths.get(snapshotFile), snapshotSecret);
+        try {
+            snapshot = snapshotService.load().orElse(null);
+            // CHECKSTYLE:OFF
+        } catch (final IOException | RuntimeException ex) {
+            // CHECKSTYLE:ON
+            log.warn("Can not load governance snapshot `{}`, load configurations from registry center.", snapshotFile, ex);
+        }
+    }
+    
+    private ProxyConfiguration loadProxyConfiguration(final ConfigCenterRepository repository) {
+        ConfigCenter configCenter = new ConfigCenter(repository);
+        Collection<String> schemaNames = repository.getChildrenKeys(SchemaMetadataNode.getMetadataNodePath());
+        Map<String, Map<String, DataSourceParameter>> schemaDataSources = loadDataSourceParametersMap(configCenter, schemaNames);
+        Map<String, Collection<RuleConfiguration>> schemaRules = loadSchemaRules(configCenter, schemaNames);
+        Properties props = configCenter.getPropsService().load();
         // TODO load global rules from reg center
-        Collection<RuleConfiguration> globalRuleConfigs = governanceFacade.getConfigCenter().getGlobalRuleService().load();
+        Collection<RuleConfiguration> globalRuleConfigs = configCenter.getGlobalRuleService().load();
         return new ProxyConfiguration(schemaDataSources, schemaRules, globalRuleConfigs, props);
     }
     
-    private Map<String, Map<String, DataSourceParameter>> loadDataSourceParametersMap(final Collection<String> schemaNames) {
+    private Map<String, Map<String, DataSourceParameter>> loadDataSourceParametersMap(final ConfigCenter configCenter, final Collection<String> schemaNames) {
         return schemaNames.stream()
             .collect(Collectors.toMap(each -> each, 
-                each -> DataSourceParameterConverter.getDataSourceParameterMap(governanceFacade.getConfigCenter().getDataSourceService().load(each)),
+                each -> DataSourceParameterConverter.getDataSourceParameterMap(configCenter.getDataSourceService().load(each)),
                 (oldValue, currentValue) -> oldValue, LinkedHashMap::new));
     }
     
-    private Map<String, Collection<RuleConfiguration>> loadSchemaRules(final Collection<String> schemaNames) {
+    private Map<String, Collection<RuleConfiguration>> loadSchemaRules(final ConfigCenter configCenter, final Collection<String> schemaNames) {
         return schemaNames.stream().collect(
-                Collectors.toMap(each -> each, each -> governanceFacade.getConfigCenter().getSchemaRuleService().load(each), (oldValue, currentValue) -> oldValue, LinkedHashMap::new));
+                Collectors.toMap(each -> each, each -> configCenter.getSchemaRuleService().load(each), (oldValue, currentValue) -> oldValue, LinkedHashMap::new));
     }
     
     @Override
     protected MetaDataContexts decorateMetaDataContexts(final MetaDataContexts metaDataContexts) {
-        return new GovernanceMetaDataContexts((StandardMetaDataContexts) metaDataContexts, governanceFacade);
+        return null == snapshot ? new GovernanceMetaDataContexts((StandardMetaDataContexts) metaDataContexts, governanceFacade) : metaDataContexts;
     }
     
     @Override
@@ -126,6 +175,34 @@ public final class GovernanceBootstrapInitializer extends AbstractBootstrapIniti
         return new GovernanceTransactionContexts(transactionContexts, xaTransactionMangerType);
     }
     
+    @Override
+    protected void reconcileConfigurations() {
+        if (null == snapshotService) {
+            return;
+        }
+        Thread thread = new Thread(this::reconcileSnapshot, "ShardingSphere-governance-snapshot");
+        thread.setDaemon(true);
+        thread.start();
+    }
+    
+    private void reconcileSnapshot() {
+        try {
+            if (null == snapshot) {
+                snapshotService.save(governanceFacade.getRepository());
+            } else {
+                connectRegistryCenter();
+                ProxyContext proxyContext = ProxyContext.getInstance();
+                proxyContext.init(new GovernanceMetaDataContexts((StandardMetaDataContexts) proxyContext.getMetaDataContexts(), governanceFacade), proxyContext.getTransactionContexts());
+                Collection<String> changedNodes = snapshotService.reconcile(snapshot, governanceFacade.getRepository());
+                log.info("Governance snapshot reconciled with registry center, changed nodes: {}.", changedNodes);
+            }
+            // CHECKSTYLE:OFF
+        } catch (final IOException | RuntimeException ex) {
+            // CHECKSTYLE:ON
+            log.warn("Can not connect registry center or reconcile governance snapshot with it.", ex);
+        }
+    }
+    
     @Override
     protected void initScalingWorker(final YamlProxyConfiguration yamlConfig) {
         Optional<ServerConfiguration> scalingConfigurationOptional = getScalingConfiguration(yamlConfig);
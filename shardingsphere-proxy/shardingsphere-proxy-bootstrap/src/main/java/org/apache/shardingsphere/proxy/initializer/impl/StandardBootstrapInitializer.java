@@ -44,6 +44,10 @@ public final class StandardBootstrapInitializer extends AbstractBootstrapInitial
         return transactionContexts;
     }
     
+    @Override
+    protected void reconcileConfigurations() {
+    }
+    
     @Override
     protected void initScalingWorker(final YamlProxyConfiguration yamlConfig) {
         getScalingConfiguration(yamlConfig).ifPresent(optional -> ScalingContext.getInstance().init(optional));
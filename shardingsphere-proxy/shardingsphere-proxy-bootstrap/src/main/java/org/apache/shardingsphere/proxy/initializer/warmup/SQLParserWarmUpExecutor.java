@@ -0,0 +1,88 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.proxy.initializer.warmup;
+
+import lombok.RequiredArgsConstructor;
+import org.apache.shardingsphere.infra.parser.ShardingSphereSQLParserEngine;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Collection;
+import java.util.stream.Collectors;
+
+/**
+ * SQL parser warm up executor.
+ * 
+ * <p>
+ * ANTLR prediction DFA is shared by all parser instances of same dialect and starts empty,
+ * parsing representative SQL at bootstrap makes first queries as fast as later ones.
+ * </p>
+ */
+@RequiredArgsConstructor
+public final class SQLParserWarmUpExecutor {
+    
+    private final Collection<String> databaseTypeNames;
+    
+    /**
+     * Load SQL to warm up from file.
+     * 
+     * <p>
+     * One SQL per line, blank lines and lines start with {@code #} or {@code --} are ignored.
+     * </p>
+     * 
+     * @param file warm up SQL file
+     * @return SQL to warm up
+     * @throws IOException IO exception
+     */
+    public static Collection<String> loadSQLs(final Path file) throws IOException {
+        return Files.readAllLines(file, StandardCharsets.UTF_8).stream().map(String::trim)
+                .filter(each -> !each.isEmpty() && !each.startsWith("#") && !each.startsWith("--")).collect(Collectors.toList());
+    }
+    
+    /**
+     * Warm up SQL parsers.
+     * 
+     * @param sqls SQL to warm up
+     * @return count of parsed SQL
+     */
+    public int warmUp(final Collection<String> sqls) {
+        int result = 0;
+        for (String each : databaseTypeNames) {
+            ShardingSphereSQLParserEngine parserEngine = new ShardingSphereSQLParserEngine(each);
+            for (String sql : sqls) {
+                if (parse(parserEngine, sql)) {
+                    result++;
+                }
+            }
+        }
+        return result;
+    }
+    
+    private boolean parse(final ShardingSphereSQLParserEngine parserEngine, final String sql) {
+        try {
+            parserEngine.parse(sql, false);
+            return true;
+            // CHECKSTYLE:OFF
+        } catch (final Exception ignored) {
+            // CHECKSTYLE:ON
+            return false;
+        }
+    }
+}
@@ -81,6 +81,7 @@ public abstract class AbstractBootstrapInitializerTest {
         ConfigurationProperties props = mock(ConfigurationProperties.class);
         when(props.getValue(ConfigurationPropertyKey.XA_TRANSACTION_MANAGER_TYPE)).thenReturn("Atomikos");
         when(props.getValue(ConfigurationPropertyKey.PROXY_OPENTRACING_ENABLED)).thenReturn(Boolean.FALSE);
+        when(props.getValue(ConfigurationPropertyKey.PROXY_SQL_PARSER_WARM_UP_FILE)).thenReturn("");
         when(metaDataContexts.getProps()).thenReturn(props);
         doReturn(metaDataContexts).when(abstractBootstrapInitializer).decorateMetaDataContexts(any());
         doReturn(mock(TransactionContexts.class)).when(abstractBootstrapInitializer).decorateTransactionContexts(any(), any());
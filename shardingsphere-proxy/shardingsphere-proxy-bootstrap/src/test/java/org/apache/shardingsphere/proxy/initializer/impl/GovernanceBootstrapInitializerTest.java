@@ -20,12 +20,15 @@ package org.apache.shardingsphere.proxy.initializer.impl;
 import lombok.SneakyThrows;
 import org.apache.shardingsphere.governance.context.metadata.GovernanceMetaDataContexts;
 import org.apache.shardingsphere.governance.context.transaction.GovernanceTransactionContexts;
+import org.apache.shardingsphere.governance.core.snapshot.GovernanceSnapshotService;
+import org.apache.shardingsphere.governance.core.snapshot.SnapshotRepository;
 import org.apache.shardingsphere.infra.config.persist.node.GlobalNode;
 import org.apache.shardingsphere.infra.config.persist.node.SchemaMetadataNode;
 import org.apache.shardingsphere.infra.config.RuleConfiguration;
 import org.apache.shardingsphere.infra.config.algorithm.ShardingSphereAlgorithmConfiguration;
 import org.apache.shardingsphere.infra.config.datasource.DataSourceParameter;
 import org.apache.shardingsphere.infra.config.properties.ConfigurationProperties;
+import org.apache.shardingsphere.infra.config.properties.ConfigurationPropertyKey;
 import org.apache.shardingsphere.infra.context.metadata.MetaDataContexts;
 import org.apache.shardingsphere.infra.context.metadata.impl.StandardMetaDataContexts;
 import org.apache.shardingsphere.proxy.config.ProxyConfiguration;
@@ -43,8 +46,10 @@ import org.junit.Test;
 import java.io.IOException;
 import java.net.URISyntaxException;
 import java.nio.file.Files;
+import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.Collection;
+import java.util.LinkedHashMap;
 import java.util.Map;
 import java.util.Properties;
 import java.util.stream.Collectors;
@@ -92,6 +97,49 @@ public final class GovernanceBootstrapInitializerTest extends AbstractBootstrapI
         registryCenterRepository.close();
     }
     
+    @Test
+    public void assertGetProxyConfigurationFromSnapshot() throws IOException {
+        Path snapshotFile = Files.createTempFile("governance-snapshot", ".yaml");
+        try {
+            new GovernanceSnapshotService(snapshotFile, "secret").save(createSnapshotRepository());
+            YamlProxyConfiguration yamlProxyConfig = ProxyConfigurationLoader.load("/conf/reg_center/");
+            yamlProxyConfig.getServerConfiguration().getProps().setProperty(ConfigurationPropertyKey.PROXY_GOVERNANCE_SNAPSHOT_FILE.getKey(), snapshotFile.toString());
+            yamlProxyConfig.getServerConfiguration().getProps().setProperty(ConfigurationPropertyKey.PROXY_GOVERNANCE_SNAPSHOT_SECRET.getKey(), "secret");
+            assertProxyConfiguration(getInitializer().getProxyConfiguration(yamlProxyConfig));
+            StandardMetaDataContexts metaDataContexts = mock(StandardMetaDataContexts.class);
+            assertThat(getInitializer().decorateMetaDataContexts(metaDataContexts), is(metaDataContexts));
+        } finally {
+            closeConfigCenter();
+            Files.deleteIfExists(snapshotFile);
+        }
+    }
+    
+    @Test
+    public void assertGetProxyConfigurationWithSnapshotWithoutSecret() throws IOException {
+        Path snapshotFile = Files.createTempFile("governance-snapshot", ".yaml");
+        try {
+            initConfigCenter();
+            YamlProxyConfiguration yamlProxyConfig = ProxyConfigurationLoader.load("/conf/reg_center/");
+            yamlProxyConfig.getServerConfiguration().getProps().setProperty(ConfigurationPropertyKey.PROXY_GOVERNANCE_SNAPSHOT_FILE.getKey(), snapshotFile.toString());
+            assertProxyConfiguration(getInitializer().getProxyConfiguration(yamlProxyConfig));
+            StandardMetaDataContexts metaDataContexts = mock(StandardMetaDataContexts.class);
+            when(metaDataContexts.getProps()).thenReturn(new ConfigurationProperties(new Properties()));
+            assertThat(getInitializer().decorateMetaDataContexts(metaDataContexts), instanceOf(GovernanceMetaDataContexts.class));
+        } finally {
+            closeConfigCenter();
+            Files.deleteIfExists(snapshotFile);
+        }
+    }
+    
+    private SnapshotRepository createSnapshotRepository() {
+        SnapshotRepository result = new SnapshotRepository(new LinkedHashMap<>());
+        result.persist(GlobalNode.getPropsPath(), readYAML(PROPS_YAML));
+        result.persist(SchemaMetadataNode.getSchemaNamePath("db"), "");
+        result.persist(SchemaMetadataNode.getMetadataDataSourcePath("db"), readYAML(DATA_SOURCE_YAML));
+        result.persist(SchemaMetadataNode.getRulePath("db"), readYAML(SHARDING_RULE_YAML));
+        return result;
+    }
+    
     @Test
     public void assertGetProxyConfigurationFromLocalConfiguration() throws IOException {
         YamlProxyConfiguration yamlProxyConfig = ProxyConfigurationLoader.load("/conf/local");
@@ -0,0 +1,47 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.proxy.initializer.warmup;
+
+import org.junit.Test;
+
+import java.io.IOException;
+import java.net.URISyntaxException;
+import java.nio.file.Paths;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+
+public final class SQLParserWarmUpExecutorTest {
+    
+    @Test
+    public void assertLoadSQLs() throws IOException, URISyntaxException {
+        Collection<String> actual = SQLParserWarmUpExecutor.loadSQLs(Paths.get(getClass().getResource("/conf/warmup/warm-up.sql").toURI()));
+        assertThat(actual.size(), is(4));
+        assertThat(actual.iterator().next(), is("SELECT o.order_id, i.item_id FROM t_order o JOIN t_order_item i ON o.order_id = i.order_id WHERE o.user_id IN (?, ?) ORDER BY o.order_id LIMIT ?"));
+    }
+    
+    @Test
+    public void assertWarmUp() {
+        Collection<String> sqls = Arrays.asList("SELECT * FROM t_order WHERE order_id = ?", "NOT A SQL");
+        assertThat(new SQLParserWarmUpExecutor(Arrays.asList("MySQL", "PostgreSQL")).warmUp(sqls), is(2));
+        assertThat(new SQLParserWarmUpExecutor(Collections.emptyList()).warmUp(sqls), is(0));
+    }
+}
@@ -20,8 +20,10 @@ package org.apache.shardingsphere.scaling.core.api;
 import org.apache.shardingsphere.governance.repository.api.listener.DataChangedEventListener;
 import org.apache.shardingsphere.scaling.core.job.JobContext;
 import org.apache.shardingsphere.scaling.core.job.progress.JobProgress;
+import org.apache.shardingsphere.scaling.core.job.task.inventory.InventoryTaskProgress;
 
 import java.util.List;
+import java.util.Map;
 
 /**
  * Governance repository API.
@@ -29,14 +31,14 @@ import java.util.List;
 public interface GovernanceRepositoryAPI {
     
     /**
-     * persist job progress.
+     * Persist job progress, positions of inventory tasks are persisted by their own checkpoints.
      *
      * @param jobContext job context
      */
     void persistJobProgress(JobContext jobContext);
     
     /**
-     * Get job progress.
+     * Get job progress, including checkpoints of inventory tasks.
      *
      * @param jobId job id
      * @param shardingItem sharding item
@@ -44,6 +46,56 @@ public interface GovernanceRepositoryAPI {
      */
     JobProgress getJobProgress(long jobId, int shardingItem);
     
+    /**
+     * Persist checkpoint of an inventory task.
+     *
+     * @param jobId job id
+     * @param shardingItem sharding item
+     * @param taskId inventory task id
+     * @param progress inventory task progress
+     */
+    void persistInventoryTaskProgress(long jobId, int shardingItem, String taskId, InventoryTaskProgress progress);
+    
+    /**
+     * Get checkpoints of inventory tasks.
+     *
+     * @param jobId job id
+     * @param shardingItem sharding item
+     * @return inventory task progress map, key is task id
+     */
+    Map<String, InventoryTaskProgress> getInventoryTaskProgress(long jobId, int shardingItem);
+    
+    /**
+     * Lease an inventory task, the lease is held until it is released or the worker's registry session expires.
+     *
+     * @param jobId job id
+     * @param shardingItem sharding item
+     * @param taskId inventory task id
+     * @param workerId worker id
+     * @return leased or not, false if the task is leased by another worker
+     */
+    boolean leaseInventoryTask(long jobId, int shardingItem, String taskId, String workerId);
+    
+    /**
+     * Judge whether an inventory task is still leased by the worker.
+     *
+     * @param jobId job id
+     * @param shardingItem sharding item
+     * @param taskId inventory task id
+     * @param workerId worker id
+     * @return leased by the worker or not, false if the lease is released, expired with the worker's registry session or taken over by another worker
+     */
+    boolean isInventoryTaskLeased(long jobId, int shardingItem, String taskId, String workerId);
+    
+    /**
+     * Release lease of an inventory task.
+     *
+     * @param jobId job id
+     * @param shardingItem sharding item
+     * @param taskId inventory task id
+     */
+    void releaseInventoryTask(long jobId, int shardingItem, String taskId);
+    
     /**
      * Delete job progress.
      *
@@ -18,6 +18,7 @@
 package org.apache.shardingsphere.scaling.core.api;
 
 import org.apache.shardingsphere.scaling.core.config.JobConfiguration;
+import org.apache.shardingsphere.scaling.core.config.ThrottleConfiguration;
 import org.apache.shardingsphere.scaling.core.job.check.consistency.DataConsistencyCheckResult;
 import org.apache.shardingsphere.scaling.core.job.progress.JobProgress;
 
@@ -98,4 +99,12 @@ public interface ScalingAPI {
      * @return job configuration
      */
     JobConfiguration getJobConfig(long jobId);
+    
+    /**
+     * Update throttle configuration of job, it takes effect on running job without restarting.
+     *
+     * @param jobId job id
+     * @param throttleConfig throttle configuration
+     */
+    void updateThrottle(long jobId, ThrottleConfiguration throttleConfig);
 }
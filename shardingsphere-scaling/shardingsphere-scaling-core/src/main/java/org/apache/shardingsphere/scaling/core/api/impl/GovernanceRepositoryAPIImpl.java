@@ -22,18 +22,22 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.shardingsphere.governance.repository.spi.RegistryCenterRepository;
 import org.apache.shardingsphere.governance.repository.api.listener.DataChangedEventListener;
+import org.apache.shardingsphere.infra.yaml.engine.YamlEngine;
 import org.apache.shardingsphere.scaling.core.api.GovernanceRepositoryAPI;
 import org.apache.shardingsphere.scaling.core.common.constant.ScalingConstant;
 import org.apache.shardingsphere.scaling.core.job.JobContext;
 import org.apache.shardingsphere.scaling.core.job.progress.JobProgress;
+import org.apache.shardingsphere.scaling.core.job.progress.yaml.JobProgressYamlSwapper;
+import org.apache.shardingsphere.scaling.core.job.progress.yaml.YamlJobProgress;
 import org.apache.shardingsphere.scaling.core.job.task.incremental.IncrementalTask;
 import org.apache.shardingsphere.scaling.core.job.task.incremental.IncrementalTaskProgress;
-import org.apache.shardingsphere.scaling.core.job.task.inventory.InventoryTask;
 import org.apache.shardingsphere.scaling.core.job.task.inventory.InventoryTaskProgress;
 
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.TimeUnit;
 
 /**
  * Governance repository API impl.
@@ -42,6 +46,8 @@ import java.util.Map;
 @Slf4j
 public final class GovernanceRepositoryAPIImpl implements GovernanceRepositoryAPI {
     
+    private static final JobProgressYamlSwapper JOB_PROGRESS_YAML_SWAPPER = new JobProgressYamlSwapper();
+    
     private final RegistryCenterRepository repository;
     
     @Override
@@ -50,7 +56,7 @@ public final class GovernanceRepositoryAPIImpl implements GovernanceRepositoryAP
         jobProgress.setStatus(jobContext.getStatus());
         jobProgress.setDatabaseType(jobContext.getJobConfig().getHandleConfig().getDatabaseType());
         jobProgress.setIncrementalTaskProgressMap(getIncrementalTaskProgressMap(jobContext));
-        jobProgress.setInventoryTaskProgressMap(getInventoryTaskProgressMap(jobContext));
+        jobProgress.setInventoryTaskProgressMap(new HashMap<>());
         repository.persist(getOffsetPath(jobContext.getJobId(), jobContext.getShardingItem()), jobProgress.toString());
     }
     
@@ -62,24 +68,70 @@ public final class GovernanceRepositoryAPIImpl implements GovernanceRepositoryAP
         return result;
     }
     
-    private Map<String, InventoryTaskProgress> getInventoryTaskProgressMap(final JobContext jobContext) {
+    @Override
+    public JobProgress getJobProgress(final long jobId, final int shardingItem) {
+        String data = repository.get(getOffsetPath(jobId, shardingItem));
+        if (Strings.isNullOrEmpty(data)) {
+            return null;
+        }
+        JobProgress result = JobProgress.init(data);
+        result.getInventoryTaskProgressMap().putAll(getInventoryTaskProgress(jobId, shardingItem));
+        return result;
+    }
+    
+    @Override
+    public void persistInventoryTaskProgress(final long jobId, final int shardingItem, final String taskId, final InventoryTaskProgress progress) {
+        repository.persist(String.format("%s/%s", getInventoryPath(jobId, shardingItem, "progress"), taskId),
+                YamlEngine.marshal(JOB_PROGRESS_YAML_SWAPPER.swapInventoryToYaml(Collections.singletonMap(taskId, progress))));
+    }
+    
+    @Override
+    public Map<String, InventoryTaskProgress> getInventoryTaskProgress(final long jobId, final int shardingItem) {
         Map<String, InventoryTaskProgress> result = new HashMap<>();
-        for (InventoryTask each : jobContext.getInventoryTasks()) {
-            result.put(each.getTaskId(), each.getProgress());
+        String progressPath = getInventoryPath(jobId, shardingItem, "progress");
+        for (String each : repository.getChildrenKeys(progressPath)) {
+            String data = repository.get(String.format("%s/%s", progressPath, each));
+            if (!Strings.isNullOrEmpty(data)) {
+                result.putAll(JOB_PROGRESS_YAML_SWAPPER.swapInventoryToObject(YamlEngine.unmarshal(data, YamlJobProgress.YamlInventory.class)));
+            }
         }
         return result;
     }
     
     @Override
-    public JobProgress getJobProgress(final long jobId, final int shardingItem) {
-        String data = repository.get(getOffsetPath(jobId, shardingItem));
-        return Strings.isNullOrEmpty(data) ? null : JobProgress.init(data);
+    public boolean leaseInventoryTask(final long jobId, final int shardingItem, final String taskId, final String workerId) {
+        String lockPath = getInventoryPath(jobId, shardingItem, "lock");
+        if (!repository.tryLock(lockPath, 3, TimeUnit.SECONDS)) {
+            return false;
+        }
+        try {
+            String leasePath = getInventoryPath(jobId, shardingItem, "lease");
+            if (repository.getChildrenKeys(leasePath).contains(taskId)) {
+                return false;
+            }
+            repository.persistEphemeral(String.format("%s/%s", leasePath, taskId), workerId);
+            log.info("inventory task {}-{} {} leased by {}", jobId, shardingItem, taskId, workerId);
+            return true;
+        } finally {
+            repository.releaseLock(lockPath);
+        }
+    }
+    
+    @Override
+    public boolean isInventoryTaskLeased(final long jobId, final int shardingItem, final String taskId, final String workerId) {
+        return workerId.equals(repository.get(String.format("%s/%s", getInventoryPath(jobId, shardingItem, "lease"), taskId)));
+    }
+    
+    @Override
+    public void releaseInventoryTask(final long jobId, final int shardingItem, final String taskId) {
+        repository.delete(String.format("%s/%s", getInventoryPath(jobId, shardingItem, "lease"), taskId));
     }
     
     @Override
     public void deleteJobProgress(final long jobId) {
         log.info("delete job progress {}", jobId);
         repository.delete(String.format("%s/%d/offset", ScalingConstant.SCALING_ROOT, jobId));
+        repository.delete(String.format("%s/%d/inventory", ScalingConstant.SCALING_ROOT, jobId));
     }
     
     @Override
@@ -103,6 +155,10 @@ public final class GovernanceRepositoryAPIImpl implements GovernanceRepositoryAP
         repository.persist(key, value);
     }
     
+    private String getInventoryPath(final long jobId, final int shardingItem, final String node) {
+        return String.format("%s/%d/inventory/%d/%s", ScalingConstant.SCALING_ROOT, jobId, shardingItem, node);
+    }
+    
     private String getOffsetPath(final long jobId, final int shardingItem) {
         return String.format("%s/%d/offset/%d", ScalingConstant.SCALING_ROOT, jobId, shardingItem);
     }
@@ -26,6 +26,7 @@ import org.apache.shardingsphere.scaling.core.api.ScalingAPIFactory;
 import org.apache.shardingsphere.scaling.core.common.constant.ScalingConstant;
 import org.apache.shardingsphere.scaling.core.common.exception.ScalingJobNotFoundException;
 import org.apache.shardingsphere.scaling.core.config.JobConfiguration;
+import org.apache.shardingsphere.scaling.core.config.ThrottleConfiguration;
 import org.apache.shardingsphere.scaling.core.job.JobContext;
 import org.apache.shardingsphere.scaling.core.job.ScalingJob;
 import org.apache.shardingsphere.scaling.core.job.check.EnvironmentCheckerFactory;
@@ -38,6 +39,8 @@ import org.apache.shardingsphere.scaling.core.util.JobConfigurationUtil;
 import java.sql.SQLException;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
+import java.util.Collection;
+import java.util.Collections;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
@@ -129,7 +132,11 @@ public final class ScalingAPIImpl implements ScalingAPI {
         Map<String, DataConsistencyCheckResult> result = dataConsistencyChecker.countCheck();
         if (result.values().stream().allMatch(DataConsistencyCheckResult::isCountValid)) {
             Map<String, Boolean> dataCheckResult = dataConsistencyChecker.dataCheck();
-            result.forEach((key, value) -> value.setDataValid(dataCheckResult.getOrDefault(key, false)));
+            Map<String, Collection<String>> dataDifferences = dataConsistencyChecker.getDataDifferences();
+            result.forEach((key, value) -> {
+                value.setDataValid(dataCheckResult.getOrDefault(key, false));
+                value.setDataDifferences(dataDifferences.getOrDefault(key, Collections.emptyList()));
+            });
         }
         log.info("Scaling job {} data consistency checker result {}", jobId, result);
         return result;
@@ -142,6 +149,16 @@ public final class ScalingAPIImpl implements ScalingAPI {
         new ScalingEnvironmentManager().resetTargetTable(new JobContext(getJobConfig(jobId)));
     }
     
+    @Override
+    public void updateThrottle(final long jobId, final ThrottleConfiguration throttleConfig) {
+        log.info("Update scaling job {} throttle", jobId);
+        JobConfigurationPOJO jobConfigPOJO = getElasticJobConfigPOJO(jobId);
+        JobConfiguration jobConfig = getJobConfig(jobConfigPOJO);
+        jobConfig.getHandleConfig().setThrottleConfig(throttleConfig);
+        jobConfigPOJO.setJobParameter(YamlEngine.marshal(jobConfig));
+        ScalingAPIFactory.getJobConfigurationAPI().updateJobConfiguration(jobConfigPOJO);
+    }
+    
     @Override
     public JobConfiguration getJobConfig(final long jobId) {
         return getJobConfig(getElasticJobConfigPOJO(jobId));
@@ -19,20 +19,20 @@ package org.apache.shardingsphere.scaling.core.common.channel;
 
 import org.apache.shardingsphere.scaling.core.common.record.Record;
 import org.apache.shardingsphere.scaling.core.config.ScalingContext;
-import org.apache.shardingsphere.scaling.core.util.ThreadUtil;
+import org.apache.shardingsphere.scaling.core.config.ServerConfiguration;
 
 import java.util.ArrayList;
 import java.util.LinkedList;
 import java.util.List;
-import java.util.concurrent.ArrayBlockingQueue;
-import java.util.concurrent.BlockingQueue;
 
 /**
  * Memory channel.
  */
 public final class MemoryChannel implements Channel {
     
-    private final BlockingQueue<Record> queue = new ArrayBlockingQueue<>(ScalingContext.getInstance().getServerConfig().getBlockQueueSize());
+    private final RecordRingBuffer ringBuffer;
+    
+    private final int lingerMillis;
     
     private final AckCallback ackCallback;
     
@@ -40,24 +40,20 @@ public final class MemoryChannel implements Channel {
     
     public MemoryChannel(final AckCallback ackCallback) {
         this.ackCallback = ackCallback;
+        ServerConfiguration serverConfig = ScalingContext.getInstance().getServerConfig();
+        ringBuffer = new RecordRingBuffer(serverConfig.getBlockQueueSize());
+        lingerMillis = serverConfig.getChannelLingerMillis();
     }
     
     @Override
     public void pushRecord(final Record dataRecord) throws InterruptedException {
-        queue.put(dataRecord);
+        ringBuffer.put(dataRecord);
     }
     
     @Override
     public List<Record> fetchRecords(final int batchSize, final int timeout) {
         List<Record> result = new ArrayList<>(batchSize);
-        long start = System.currentTimeMillis();
-        while (batchSize > queue.size()) {
-            if (timeout * 1000L <= System.currentTimeMillis() - start) {
-                break;
-            }
-            ThreadUtil.sleep(100L);
-        }
-        queue.drainTo(result, batchSize);
+        ringBuffer.drainTo(result, batchSize, timeout * 1000L, lingerMillis);
         toBeAcknowledgeRecords.addAll(result);
         return result;
     }
@@ -72,6 +68,6 @@ public final class MemoryChannel implements Channel {
     
     @Override
     public void close() {
-        queue.clear();
+        ringBuffer.close();
     }
 }
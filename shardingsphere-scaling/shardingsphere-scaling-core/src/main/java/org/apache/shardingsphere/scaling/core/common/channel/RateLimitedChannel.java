@@ -0,0 +1,60 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.scaling.core.common.channel;
+
+import lombok.RequiredArgsConstructor;
+import org.apache.shardingsphere.scaling.core.common.record.DataRecord;
+import org.apache.shardingsphere.scaling.core.common.record.Record;
+import org.apache.shardingsphere.scaling.core.common.record.RecordUtil;
+import org.apache.shardingsphere.scaling.core.common.throttle.ScalingRateLimiter;
+
+import java.util.List;
+
+/**
+ * Rate limited channel, data records pushed to the delegated channel are limited by rows and bytes.
+ */
+@RequiredArgsConstructor
+public final class RateLimitedChannel implements Channel {
+    
+    private final Channel delegate;
+    
+    private final ScalingRateLimiter rateLimiter;
+    
+    @Override
+    public void pushRecord(final Record dataRecord) throws InterruptedException {
+        if (dataRecord instanceof DataRecord) {
+            rateLimiter.acquire(1, rateLimiter.isBytesLimited() ? RecordUtil.estimateBytes((DataRecord) dataRecord) : 0);
+        }
+        delegate.pushRecord(dataRecord);
+    }
+    
+    @Override
+    public List<Record> fetchRecords(final int batchSize, final int timeout) {
+        return delegate.fetchRecords(batchSize, timeout);
+    }
+    
+    @Override
+    public void ack() {
+        delegate.ack();
+    }
+    
+    @Override
+    public void close() {
+        delegate.close();
+    }
+}
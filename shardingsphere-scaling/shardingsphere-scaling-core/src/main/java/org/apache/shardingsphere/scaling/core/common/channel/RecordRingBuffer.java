@@ -0,0 +1,181 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.scaling.core.common.channel;
+
+import org.apache.shardingsphere.scaling.core.common.record.Record;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Record ring buffer for one producer thread and one consumer thread.
+ *
+ * <p>
+ * Both sides only publish sequences, the consumer claims all published records in one batch.
+ * A waiting side is parked and is woken up by the other side, instead of polling the buffer.
+ * Records left in a closed buffer are discarded by the consumer, so that slots are only released by the consumer thread.
+ * </p>
+ */
+public final class RecordRingBuffer {
+    
+    private static final long MAX_PARK_NANOS = TimeUnit.MILLISECONDS.toNanos(100L);
+    
+    private final Record[] buffer;
+    
+    private final int mask;
+    
+    private final AtomicLong writeSequence = new AtomicLong();
+    
+    private final AtomicLong readSequence = new AtomicLong();
+    
+    private volatile long wakeUpSequence;
+    
+    private volatile Thread waitingConsumer;
+    
+    private volatile Thread waitingProducer;
+    
+    private volatile boolean closed;
+    
+    public RecordRingBuffer(final int minCapacity) {
+        int capacity = Integer.highestOneBit(Math.max(minCapacity, 2) - 1) << 1;
+        buffer = new Record[capacity];
+        mask = capacity - 1;
+    }
+    
+    /**
+     * Put record, wait if buffer is full, the record is discarded if buffer is closed.
+     *
+     * @param record record
+     * @throws InterruptedException if thread interrupted
+     */
+    public void put(final Record record) throws InterruptedException {
+        long sequence = writeSequence.get();
+        while (!closed && sequence - readSequence.get() >= buffer.length) {
+            waitingProducer = Thread.currentThread();
+            if (!closed && sequence - readSequence.get() >= buffer.length) {
+                LockSupport.parkNanos(this, MAX_PARK_NANOS);
+            }
+            waitingProducer = null;
+            if (Thread.interrupted()) {
+                throw new InterruptedException();
+            }
+        }
+        if (closed) {
+            return;
+        }
+        buffer[(int) sequence & mask] = record;
+        writeSequence.set(sequence + 1);
+        Thread consumer = waitingConsumer;
+        if (null != consumer && sequence + 1 >= wakeUpSequence) {
+            LockSupport.unpark(consumer);
+        }
+    }
+    
+    /**
+     * Drain records to list.
+     *
+     * <p>
+     * Wait until the first record arrives or timeout, then wait until batch is full or linger time expires.
+     * </p>
+     *
+     * @param result records to be added to
+     * @param batchSize max record count
+     * @param timeoutMillis max time to wait for the first record
+     * @param lingerMillis max time to wait for a full batch after the first record arrived
+     * @return drained record count, 0 if buffer is closed
+     */
+    public int drainTo(final List<Record> result, final int batchSize, final long timeoutMillis, final long lingerMillis) {
+        if (closed) {
+            discard();
+            return 0;
+        }
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(timeoutMillis);
+        if (!await(1, deadline)) {
+            return 0;
+        }
+        await(batchSize, Math.min(deadline, System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(lingerMillis)));
+        return drain(result, batchSize);
+    }
+    
+    private boolean await(final int count, final long deadline) {
+        long sequence = readSequence.get();
+        while (writeSequence.get() - sequence < count) {
+            long remainingNanos = deadline - System.nanoTime();
+            if (remainingNanos <= 0 || closed || Thread.currentThread().isInterrupted()) {
+                return false;
+            }
+            wakeUpSequence = sequence + count;
+            waitingConsumer = Thread.currentThread();
+            if (writeSequence.get() - sequence < count) {
+                LockSupport.parkNanos(this, Math.min(remainingNanos, MAX_PARK_NANOS));
+            }
+            waitingConsumer = null;
+        }
+        return true;
+    }
+    
+    private int drain(final List<Record> result, final int batchSize) {
+        long sequence = readSequence.get();
+        int count = (int) Math.min(writeSequence.get() - sequence, batchSize);
+        for (int i = 0; i < count; i++) {
+            int index = (int) (sequence + i) & mask;
+            result.add(buffer[index]);
+            buffer[index] = null;
+        }
+        readSequence.set(sequence + count);
+        Thread producer = waitingProducer;
+        if (count > 0 && null != producer) {
+            LockSupport.unpark(producer);
+        }
+        return count;
+    }
+    
+    /**
+     * Get record count in buffer.
+     *
+     * @return record count
+     */
+    public int size() {
+        return (int) (writeSequence.get() - readSequence.get());
+    }
+    
+    /**
+     * Close buffer, waiting producer and consumer are woken up, records left are discarded by the next drain of consumer.
+     */
+    public void close() {
+        closed = true;
+        Thread producer = waitingProducer;
+        if (null != producer) {
+            LockSupport.unpark(producer);
+        }
+        Thread consumer = waitingConsumer;
+        if (null != consumer) {
+            LockSupport.unpark(consumer);
+        }
+    }
+    
+    private void discard() {
+        long sequence = writeSequence.get();
+        for (long i = readSequence.get(); i < sequence; i++) {
+            buffer[(int) i & mask] = null;
+        }
+        readSequence.set(sequence);
+    }
+}
@@ -32,17 +32,22 @@ import java.util.List;
 import java.util.Map;
 import java.util.Queue;
 import java.util.concurrent.ConcurrentLinkedQueue;
-import java.util.concurrent.Executors;
-import java.util.concurrent.ScheduledExecutorService;
-import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicLong;
 
 /**
  * Distribution channel.
+ *
+ * <p>
+ * Data records are partitioned by table name and primary key values, so records of the same key are applied by the same importer in order.
+ * Record which changes primary key values is related to two partitions, it is pushed as a barrier:
+ * it waits for all previous records acknowledged and is acknowledged itself before following records are pushed.
+ * </p>
  */
 @Slf4j
 public final class DistributionChannel implements Channel {
     
+    private static final long BARRIER_WAIT_MILLIS = 100L;
+    
     private final int channelNumber;
     
     private final BitSetChannel[] channels;
@@ -59,21 +64,15 @@ public final class DistributionChannel implements Channel {
     
     private long lastAckIndex;
     
-    private ScheduledExecutorService scheduleAckRecordsExecutor;
+    private boolean closed;
     
     public DistributionChannel(final int channelNumber, final AckCallback ackCallback) {
         this.channelNumber = channelNumber;
         this.ackCallback = ackCallback;
         channels = new BitSetChannel[channelNumber];
         for (int i = 0; i < channelNumber; i++) {
-            channels[i] = new BlockingQueueChannel();
+            channels[i] = new RingBufferChannel();
         }
-        scheduleAckRecords();
-    }
-    
-    private void scheduleAckRecords() {
-        scheduleAckRecordsExecutor = Executors.newSingleThreadScheduledExecutor();
-        scheduleAckRecordsExecutor.scheduleWithFixedDelay(this::ackRecords0, 5, 1, TimeUnit.SECONDS);
     }
     
     @Override
@@ -83,9 +82,10 @@ public final class DistributionChannel implements Channel {
                 pushRecord(record, i);
             }
         } else if (DataRecord.class.equals(record.getClass())) {
-            pushRecord(record, Math.abs(record.hashCode() % channelNumber));
+            pushDataRecord((DataRecord) record);
         } else if (PlaceholderRecord.class.equals(record.getClass())) {
             pushRecord(record, -1);
+            ackRecords0();
         } else {
             throw new RuntimeException("Not Support Record Type");
         }
@@ -96,6 +96,23 @@ public final class DistributionChannel implements Channel {
         getBitSetChannel(index).pushRecord(record, indexAutoIncreaseGenerator.getAndIncrement());
     }
     
+    private void pushDataRecord(final DataRecord dataRecord) throws InterruptedException {
+        int index = Math.floorMod(dataRecord.getKey().hashCode(), channelNumber);
+        if (!dataRecord.isPrimaryKeyChanged()) {
+            pushRecord(dataRecord, index);
+            return;
+        }
+        waitForAcknowledged(indexAutoIncreaseGenerator.get());
+        pushRecord(dataRecord, index);
+        waitForAcknowledged(indexAutoIncreaseGenerator.get());
+    }
+    
+    private synchronized void waitForAcknowledged(final long index) throws InterruptedException {
+        while (!closed && lastAckIndex < index) {
+            wait(BARRIER_WAIT_MILLIS);
+        }
+    }
+    
     @Override
     public List<Record> fetchRecords(final int batchSize, final int timeout) {
         return findChannel().fetchRecords(batchSize, timeout);
@@ -104,9 +121,13 @@ public final class DistributionChannel implements Channel {
     @Override
     public void ack() {
         findChannel().ack();
+        ackRecords0();
     }
     
     private synchronized void ackRecords0() {
+        if (closed) {
+            return;
+        }
         try {
             int count = shouldAckCount();
             if (0 == count) {
@@ -117,6 +138,7 @@ public final class DistributionChannel implements Channel {
             for (BitSetChannel channel : channels) {
                 channel.clear(lastAckIndex);
             }
+            notifyAll();
             // CHECKSTYLE:OFF
         } catch (final Exception ex) {
             // CHECKSTYLE:ON
@@ -170,9 +192,10 @@ public final class DistributionChannel implements Channel {
     }
     
     @Override
-    public void close() {
-        scheduleAckRecordsExecutor.shutdown();
+    public synchronized void close() {
         ackRecords0();
+        closed = true;
+        notifyAll();
         for (BitSetChannel each : channels) {
             each.close();
         }
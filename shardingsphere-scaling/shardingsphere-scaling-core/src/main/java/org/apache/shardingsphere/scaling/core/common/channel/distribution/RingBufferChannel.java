@@ -18,40 +18,33 @@
 package org.apache.shardingsphere.scaling.core.common.channel.distribution;
 
 import org.apache.shardingsphere.scaling.core.common.record.Record;
+import org.apache.shardingsphere.scaling.core.common.channel.RecordRingBuffer;
 import org.apache.shardingsphere.scaling.core.config.ScalingContext;
-import org.apache.shardingsphere.scaling.core.util.ThreadUtil;
 
 import java.util.ArrayList;
 import java.util.List;
-import java.util.concurrent.ArrayBlockingQueue;
-import java.util.concurrent.BlockingQueue;
 
 /**
- * Blocking queue BitSet channel.
+ * Ring buffer BitSet channel.
  */
-public final class BlockingQueueChannel extends AbstractBitSetChannel {
+public final class RingBufferChannel extends AbstractBitSetChannel {
     
-    private final BlockingQueue<Record> queue = new ArrayBlockingQueue<>(ScalingContext.getInstance().getServerConfig().getBlockQueueSize());
+    private final RecordRingBuffer ringBuffer = new RecordRingBuffer(ScalingContext.getInstance().getServerConfig().getBlockQueueSize());
+    
+    private final int lingerMillis = ScalingContext.getInstance().getServerConfig().getChannelLingerMillis();
     
     private long fetchedIndex;
     
     @Override
     public void pushRecord(final Record dataRecord, final long index) throws InterruptedException {
         getManualBitSet().set(index);
-        queue.put(dataRecord);
+        ringBuffer.put(dataRecord);
     }
     
     @Override
     public List<Record> fetchRecords(final int batchSize, final int timeout) {
         List<Record> result = new ArrayList<>(batchSize);
-        long start = System.currentTimeMillis();
-        while (batchSize > queue.size()) {
-            if (timeout * 1000L <= System.currentTimeMillis() - start) {
-                break;
-            }
-            ThreadUtil.sleep(100L);
-        }
-        queue.drainTo(result, batchSize);
+        ringBuffer.drainTo(result, batchSize, timeout * 1000L, lingerMillis);
         getToBeAckRecords().addAll(result);
         fetchedIndex = getManualBitSet().getEndIndex(fetchedIndex, result.size());
         return result;
@@ -64,7 +57,7 @@ public final class BlockingQueueChannel extends AbstractBitSetChannel {
     
     @Override
     public void close() {
-        queue.clear();
+        ringBuffer.close();
         super.close();
     }
 }
@@ -24,6 +24,10 @@ public final class DataCheckFailException extends RuntimeException {
     
     private static final long serialVersionUID = -4100671584682823997L;
     
+    public DataCheckFailException(final String message) {
+        super(message);
+    }
+    
     public DataCheckFailException(final String message, final Throwable cause) {
         super(message, cause);
     }
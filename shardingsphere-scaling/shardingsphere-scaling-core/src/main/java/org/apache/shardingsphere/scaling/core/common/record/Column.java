@@ -17,13 +17,15 @@
 
 package org.apache.shardingsphere.scaling.core.common.record;
 
+import lombok.AccessLevel;
 import lombok.Getter;
-import lombok.RequiredArgsConstructor;
+
+import java.util.OptionalLong;
+import java.util.function.Supplier;
 
 /**
  * Column.
  */
-@RequiredArgsConstructor
 @Getter
 public final class Column {
     
@@ -34,7 +36,14 @@ public final class Column {
      */
     private final Object oldValue;
     
-    private final Object value;
+    @Getter(AccessLevel.NONE)
+    private Object value;
+    
+    @Getter(AccessLevel.NONE)
+    private Supplier<?> valueLoader;
+    
+    @Getter(AccessLevel.NONE)
+    private long valueBytes = -1;
     
     private final boolean updated;
     
@@ -44,8 +53,60 @@ public final class Column {
         this(name, null, value, updated, primaryKey);
     }
     
+    public Column(final String name, final Object oldValue, final Object value, final boolean updated, final boolean primaryKey) {
+        this.name = name;
+        this.oldValue = oldValue;
+        this.value = value;
+        this.updated = updated;
+        this.primaryKey = primaryKey;
+    }
+    
+    /**
+     * Create column whose value is loaded on first access.
+     *
+     * <p>
+     * Value is loaded by the thread consuming the record, which is handed over by channel, so that decoding is deferred and skipped if the value is never used.
+     * </p>
+     *
+     * @param name name
+     * @param oldValue old value
+     * @param valueLoader value loader
+     * @param valueBytes bytes of value before it is loaded, negative if unknown
+     * @param updated updated
+     * @param primaryKey primary key
+     * @return column
+     */
+    public static Column newLazyColumn(final String name, final Object oldValue, final Supplier<?> valueLoader, final long valueBytes, final boolean updated, final boolean primaryKey) {
+        Column result = new Column(name, oldValue, null, updated, primaryKey);
+        result.valueLoader = valueLoader;
+        result.valueBytes = valueBytes;
+        return result;
+    }
+    
+    /**
+     * Get bytes of value before it is loaded, so that size of lazy column can be estimated without loading value.
+     *
+     * @return bytes of value, empty if unknown
+     */
+    public OptionalLong getValueBytes() {
+        return valueBytes < 0 ? OptionalLong.empty() : OptionalLong.of(valueBytes);
+    }
+    
+    /**
+     * Get value.
+     *
+     * @return value
+     */
+    public Object getValue() {
+        if (null != valueLoader) {
+            value = valueLoader.get();
+            valueLoader = null;
+        }
+        return value;
+    }
+    
     @Override
     public String toString() {
-        return String.format("%s=%s", name, value);
+        return String.format("%s=%s", name, getValue());
     }
 }
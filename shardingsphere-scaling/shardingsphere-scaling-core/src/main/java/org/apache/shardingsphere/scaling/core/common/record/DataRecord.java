@@ -25,8 +25,10 @@ import lombok.ToString;
 import org.apache.shardingsphere.scaling.core.job.position.ScalingPosition;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.Objects;
 
 /**
  * Data record.
@@ -102,12 +104,40 @@ public final class DataRecord extends Record {
         return new Key(tableName, oldPrimaryKeyValues);
     }
     
-    @EqualsAndHashCode
+    /**
+     * Judge whether primary key values are changed by this record, old primary key values are only available when they are changed.
+     *
+     * @return primary key values are changed or not
+     */
+    public boolean isPrimaryKeyChanged() {
+        return !oldPrimaryKeyValues.isEmpty() && oldPrimaryKeyValues.stream().allMatch(Objects::nonNull) && !getOldKey().equals(getKey());
+    }
+    
+    /**
+     * Key of record, values are compared by content so that binary primary key values of the same row are equal.
+     */
     @RequiredArgsConstructor
     public static class Key {
         
         private final String tableName;
         
         private final List<Object> primaryKeyValues;
+        
+        @Override
+        public boolean equals(final Object obj) {
+            if (this == obj) {
+                return true;
+            }
+            if (!(obj instanceof Key)) {
+                return false;
+            }
+            Key key = (Key) obj;
+            return Objects.equals(tableName, key.tableName) && Arrays.deepEquals(primaryKeyValues.toArray(), key.primaryKeyValues.toArray());
+        }
+        
+        @Override
+        public int hashCode() {
+            return 31 * Objects.hashCode(tableName) + Arrays.deepHashCode(primaryKeyValues.toArray());
+        }
     }
 }
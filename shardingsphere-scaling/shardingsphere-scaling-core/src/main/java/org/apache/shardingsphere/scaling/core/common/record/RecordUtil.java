@@ -20,8 +20,10 @@ package org.apache.shardingsphere.scaling.core.common.record;
 import lombok.AccessLevel;
 import lombok.NoArgsConstructor;
 
+import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.OptionalLong;
 import java.util.Set;
 
 /**
@@ -78,4 +80,35 @@ public final class RecordUtil {
         }
         return result;
     }
+    
+    /**
+     * Estimate bytes of data record, which is used by rate limiting only.
+     *
+     * @param dataRecord data record
+     * @return estimated bytes
+     */
+    public static long estimateBytes(final DataRecord dataRecord) {
+        long result = 0;
+        for (Column each : dataRecord.getColumns()) {
+            OptionalLong valueBytes = each.getValueBytes();
+            result += valueBytes.isPresent() ? valueBytes.getAsLong() : estimateBytes(each.getValue());
+        }
+        return result;
+    }
+    
+    private static long estimateBytes(final Object value) {
+        if (null == value) {
+            return 1;
+        }
+        if (value instanceof byte[]) {
+            return ((byte[]) value).length;
+        }
+        if (value instanceof String) {
+            return ((String) value).getBytes(StandardCharsets.UTF_8).length;
+        }
+        if (value instanceof Number || value instanceof Boolean) {
+            return 8;
+        }
+        return value.toString().length();
+    }
 }
@@ -25,11 +25,14 @@ import org.apache.shardingsphere.scaling.core.common.record.Column;
 import org.apache.shardingsphere.scaling.core.common.record.DataRecord;
 
 import java.util.Collection;
+import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
+import java.util.stream.Collectors;
 
 /**
  * Abstract SQL builder.
@@ -62,6 +65,14 @@ public abstract class AbstractScalingSQLBuilder implements ScalingSQLBuilder {
      */
     protected abstract String getRightIdentifierQuoteString();
     
+    /**
+     * Build row hash SQL, the hash of each row must be a number which can be summed.
+     *
+     * @param columns columns to be hashed
+     * @return row hash SQL
+     */
+    protected abstract String buildRowHashSQL(List<String> columns);
+    
     /**
      * Add left and right identifier quote string.
      *
@@ -156,4 +167,64 @@ public abstract class AbstractScalingSQLBuilder implements ScalingSQLBuilder {
     public String buildSplitByPrimaryKeyRangeSQL(final String tableName, final String primaryKey) {
         return String.format("SELECT MAX(%s) FROM (SELECT %s FROM %s WHERE %s>=? limit ?) t", quote(primaryKey), quote(primaryKey), quote(tableName), quote(primaryKey));
     }
+    
+    @Override
+    public String buildSplitByUniqueKeySQL(final String tableName, final List<String> uniqueKeys, final boolean lowerBounded) {
+        String where = lowerBounded ? String.format(" WHERE %s", buildKeyRangeSQL(uniqueKeys, ">", ">")) : "";
+        return String.format("SELECT %s FROM %s%s ORDER BY %s LIMIT 1 OFFSET ?", buildColumnsSQL(uniqueKeys), quote(tableName), where, buildColumnsSQL(uniqueKeys));
+    }
+    
+    @Override
+    public Optional<String> buildEstimateRowCountSQL(final String tableName) {
+        return Optional.empty();
+    }
+    
+    @Override
+    public Optional<String> buildSampleUniqueKeySQL(final String tableName, final List<String> uniqueKeys, final double percentage) {
+        return Optional.empty();
+    }
+    
+    @Override
+    public String buildInventoryDumpSQL(final String tableName, final List<String> uniqueKeys, final boolean lowerBounded, final boolean upperBounded, final int batchSize) {
+        return String.format("SELECT * FROM %s%s ORDER BY %s LIMIT %d", quote(tableName), buildKeyRangeWhereSQL(uniqueKeys, lowerBounded, upperBounded), buildColumnsSQL(uniqueKeys), batchSize);
+    }
+    
+    @Override
+    public String buildChunkChecksumSQL(final String tableName, final List<String> columns, final List<String> uniqueKeys, final boolean lowerBounded, final boolean upperBounded) {
+        return String.format("SELECT COUNT(*), SUM(%s) FROM %s%s", buildRowHashSQL(columns), quote(tableName), buildKeyRangeWhereSQL(uniqueKeys, lowerBounded, upperBounded));
+    }
+    
+    private String buildKeyRangeWhereSQL(final List<String> uniqueKeys, final boolean lowerBounded, final boolean upperBounded) {
+        Collection<String> conditions = new LinkedList<>();
+        if (lowerBounded) {
+            conditions.add(String.format("(%s)", buildKeyRangeSQL(uniqueKeys, ">", ">")));
+        }
+        if (upperBounded) {
+            conditions.add(String.format("(%s)", buildKeyRangeSQL(uniqueKeys, "<", "<=")));
+        }
+        return conditions.isEmpty() ? "" : String.format(" WHERE %s", String.join(" and ", conditions));
+    }
+    
+    /**
+     * Build quoted columns separated by comma.
+     *
+     * @param columns columns
+     * @return columns SQL
+     */
+    protected final String buildColumnsSQL(final List<String> columns) {
+        return columns.stream().map(each -> quote(each).toString()).collect(Collectors.joining(","));
+    }
+    
+    private String buildKeyRangeSQL(final List<String> uniqueKeys, final String operator, final String lastKeyOperator) {
+        Collection<String> result = new LinkedList<>();
+        for (int i = 0; i < uniqueKeys.size(); i++) {
+            StringBuilder condition = new StringBuilder();
+            for (int j = 0; j < i; j++) {
+                condition.append(String.format("%s = ? and ", quote(uniqueKeys.get(j))));
+            }
+            condition.append(String.format("%s %s ?", quote(uniqueKeys.get(i)), i == uniqueKeys.size() - 1 ? lastKeyOperator : operator));
+            result.add(i > 0 ? String.format("(%s)", condition) : condition.toString());
+        }
+        return String.join(" or ", result);
+    }
 }
@@ -21,6 +21,8 @@ import org.apache.shardingsphere.scaling.core.common.record.Column;
 import org.apache.shardingsphere.scaling.core.common.record.DataRecord;
 
 import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
 
 /**
  * Scaling SQL builder.
@@ -85,4 +87,63 @@ public interface ScalingSQLBuilder {
      * @return split SQL
      */
     String buildSplitByPrimaryKeyRangeSQL(String tableName, String primaryKey);
+    
+    /**
+     * Build split by unique key SQL, which finds the key after given offset.
+     *
+     * <p>Parameters are values of lower bound keys if lower bounded, then the offset.</p>
+     *
+     * @param tableName table name
+     * @param uniqueKeys unique key columns
+     * @param lowerBounded whether to only find keys greater than lower bound
+     * @return split SQL
+     */
+    String buildSplitByUniqueKeySQL(String tableName, List<String> uniqueKeys, boolean lowerBounded);
+    
+    /**
+     * Build estimate row count SQL, which reads row count of table from statistics instead of scanning the table.
+     *
+     * @param tableName table name
+     * @return estimate row count SQL, empty if not supported
+     */
+    Optional<String> buildEstimateRowCountSQL(String tableName);
+    
+    /**
+     * Build sample unique key SQL, which reads unique keys of sampled pages of table ordered by unique key.
+     *
+     * @param tableName table name
+     * @param uniqueKeys unique key columns
+     * @param percentage percentage of table to be sampled
+     * @return sample unique key SQL, empty if not supported
+     */
+    Optional<String> buildSampleUniqueKeySQL(String tableName, List<String> uniqueKeys, double percentage);
+    
+    /**
+     * Build inventory dump SQL, which fetches one page of rows ordered by unique key.
+     *
+     * <p>Parameters are values of lower bound keys if lower bounded, then values of upper bound keys if upper bounded.
+     * Values of each bound are set by {@link UniqueKeyParameterUtil#setParameters}.</p>
+     *
+     * @param tableName table name
+     * @param uniqueKeys unique key columns
+     * @param lowerBounded whether to only fetch keys greater than lower bound
+     * @param upperBounded whether to only fetch keys not greater than upper bound
+     * @param batchSize max row count of one page
+     * @return inventory dump SQL
+     */
+    String buildInventoryDumpSQL(String tableName, List<String> uniqueKeys, boolean lowerBounded, boolean upperBounded, int batchSize);
+    
+    /**
+     * Build chunk checksum SQL, which returns row count and sum of row hashes of rows in unique key range.
+     *
+     * <p>Parameters are the same as {@link #buildInventoryDumpSQL}.</p>
+     *
+     * @param tableName table name
+     * @param columns columns to be hashed
+     * @param uniqueKeys unique key columns
+     * @param lowerBounded whether to only check keys greater than lower bound
+     * @param upperBounded whether to only check keys not greater than upper bound
+     * @return chunk checksum SQL
+     */
+    String buildChunkChecksumSQL(String tableName, List<String> columns, List<String> uniqueKeys, boolean lowerBounded, boolean upperBounded);
 }
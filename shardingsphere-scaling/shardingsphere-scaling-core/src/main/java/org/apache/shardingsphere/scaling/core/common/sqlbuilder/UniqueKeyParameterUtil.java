@@ -0,0 +1,96 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.scaling.core.common.sqlbuilder;
+
+import com.google.common.io.BaseEncoding;
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+import org.apache.shardingsphere.infra.metadata.schema.model.TableMetaData;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Types;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Unique key parameter util, converts between unique key values of rows and parameters of split and inventory dump SQL.
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class UniqueKeyParameterUtil {
+    
+    /**
+     * Read unique key values of current row.
+     *
+     * @param resultSet result set
+     * @param uniqueKeys unique key columns
+     * @param tableMetaData table meta data
+     * @return unique key values in string
+     * @throws SQLException SQL exception
+     */
+    public static List<String> readValues(final ResultSet resultSet, final List<String> uniqueKeys, final TableMetaData tableMetaData) throws SQLException {
+        List<String> result = new ArrayList<>(uniqueKeys.size());
+        for (String each : uniqueKeys) {
+            result.add(isBinary(getDataType(tableMetaData, each)) ? BaseEncoding.base16().encode(resultSet.getBytes(each)) : resultSet.getString(each));
+        }
+        return result;
+    }
+    
+    /**
+     * Set unique key values as parameters of one bound, the values of first i keys are set for i-th key.
+     * Nothing is set if values are empty, which means unbounded.
+     *
+     * @param preparedStatement prepared statement
+     * @param startIndex start parameter index
+     * @param uniqueKeys unique key columns
+     * @param values unique key values in string
+     * @param tableMetaData table meta data
+     * @return next parameter index
+     * @throws SQLException SQL exception
+     */
+    public static int setParameters(final PreparedStatement preparedStatement, final int startIndex, 
+                                    final List<String> uniqueKeys, final List<String> values, final TableMetaData tableMetaData) throws SQLException {
+        int result = startIndex;
+        if (values.isEmpty()) {
+            return result;
+        }
+        for (int i = 0; i < uniqueKeys.size(); i++) {
+            for (int j = 0; j <= i; j++) {
+                setParameter(preparedStatement, result++, values.get(j), getDataType(tableMetaData, uniqueKeys.get(j)));
+            }
+        }
+        return result;
+    }
+    
+    private static void setParameter(final PreparedStatement preparedStatement, final int index, final String value, final int dataType) throws SQLException {
+        if (isBinary(dataType)) {
+            preparedStatement.setBytes(index, BaseEncoding.base16().decode(value));
+        } else {
+            preparedStatement.setObject(index, value, dataType);
+        }
+    }
+    
+    private static int getDataType(final TableMetaData tableMetaData, final String columnName) {
+        return tableMetaData.getColumnMetaData(tableMetaData.findColumnIndex(columnName)).getDataType();
+    }
+    
+    private static boolean isBinary(final int dataType) {
+        return Types.BINARY == dataType || Types.VARBINARY == dataType || Types.LONGVARBINARY == dataType;
+    }
+}
@@ -0,0 +1,164 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.scaling.core.common.throttle;
+
+import com.google.common.util.concurrent.RateLimiter;
+import lombok.Getter;
+import org.apache.shardingsphere.scaling.core.config.ThrottleConfiguration;
+import org.apache.shardingsphere.scaling.core.util.ThreadUtil;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Scaling rate limiter, shared by the inventory and incremental tasks of one sharding item.
+ *
+ * <p>
+ * Rows and bytes are limited by token buckets, the rate of a bucket is the smaller one of the data source limit and the job limit divided by sharding total count.
+ * In adaptive mode, dumpers back off when the source latency or the incremental delay exceeds the configured thresholds,
+ * the back off time is doubled on each breach and halved on each healthy observation.
+ * </p>
+ */
+public final class ScalingRateLimiter {
+    
+    private static final long MIN_BACK_OFF_MILLISECONDS = 100L;
+    
+    private static final long MAX_BACK_OFF_MILLISECONDS = 10 * 1000L;
+    
+    private final int shardingTotalCount;
+    
+    private final AtomicLong backOffMilliseconds = new AtomicLong();
+    
+    @Getter
+    private volatile ThrottleConfiguration throttleConfig;
+    
+    private volatile RateLimiter rowsRateLimiter;
+    
+    private volatile RateLimiter bytesRateLimiter;
+    
+    public ScalingRateLimiter(final ThrottleConfiguration throttleConfig, final int shardingTotalCount) {
+        this.shardingTotalCount = Math.max(shardingTotalCount, 1);
+        update(throttleConfig);
+    }
+    
+    /**
+     * Update throttle configuration at runtime.
+     *
+     * @param throttleConfig throttle configuration
+     */
+    public synchronized void update(final ThrottleConfiguration throttleConfig) {
+        this.throttleConfig = null == throttleConfig ? new ThrottleConfiguration() : throttleConfig;
+        rowsRateLimiter = updateRateLimiter(rowsRateLimiter, getRate(this.throttleConfig.getRowsPerSecond(), this.throttleConfig.getDataSourceRowsPerSecond()));
+        bytesRateLimiter = updateRateLimiter(bytesRateLimiter, getRate(this.throttleConfig.getBytesPerSecond(), this.throttleConfig.getDataSourceBytesPerSecond()));
+        if (!this.throttleConfig.isAdaptive()) {
+            backOffMilliseconds.set(0L);
+        }
+    }
+    
+    private double getRate(final long jobLimit, final long dataSourceLimit) {
+        double result = jobLimit > 0 ? (double) jobLimit / shardingTotalCount : 0;
+        if (dataSourceLimit > 0 && (result <= 0 || dataSourceLimit < result)) {
+            result = dataSourceLimit;
+        }
+        return result;
+    }
+    
+    private RateLimiter updateRateLimiter(final RateLimiter rateLimiter, final double rate) {
+        if (rate <= 0) {
+            return null;
+        }
+        if (null == rateLimiter) {
+            return RateLimiter.create(rate);
+        }
+        rateLimiter.setRate(rate);
+        return rateLimiter;
+    }
+    
+    /**
+     * Judge whether bytes are limited, dumpers estimate record bytes only when they are limited.
+     *
+     * @return bytes are limited or not
+     */
+    public boolean isBytesLimited() {
+        return null != bytesRateLimiter;
+    }
+    
+    /**
+     * Acquire permits of rows and bytes, blocking until they are granted.
+     *
+     * @param rows rows
+     * @param bytes bytes
+     */
+    public void acquire(final int rows, final long bytes) {
+        RateLimiter rowsLimiter = rowsRateLimiter;
+        if (null != rowsLimiter && rows > 0) {
+            rowsLimiter.acquire(rows);
+        }
+        RateLimiter bytesLimiter = bytesRateLimiter;
+        if (null != bytesLimiter && bytes > 0) {
+            bytesLimiter.acquire((int) Math.min(bytes, Integer.MAX_VALUE));
+        }
+    }
+    
+    /**
+     * Observe the latency of a query executed on source.
+     *
+     * @param latencyMilliseconds latency milliseconds
+     */
+    public void observeSourceLatency(final long latencyMilliseconds) {
+        observe(latencyMilliseconds > throttleConfig.getMaxSourceLatencyMilliseconds());
+    }
+    
+    /**
+     * Observe the delay of incremental records applied to target.
+     *
+     * @param delayMilliseconds delay milliseconds
+     */
+    public void observeIncrementalDelay(final long delayMilliseconds) {
+        observe(delayMilliseconds > throttleConfig.getMaxIncrementalDelayMilliseconds());
+    }
+    
+    private void observe(final boolean overloaded) {
+        if (!throttleConfig.isAdaptive()) {
+            return;
+        }
+        if (overloaded) {
+            backOffMilliseconds.updateAndGet(each -> Math.min(Math.max(each * 2, MIN_BACK_OFF_MILLISECONDS), MAX_BACK_OFF_MILLISECONDS));
+        } else {
+            backOffMilliseconds.updateAndGet(each -> each / 2 < MIN_BACK_OFF_MILLISECONDS ? 0L : each / 2);
+        }
+    }
+    
+    /**
+     * Get current back off milliseconds.
+     *
+     * @return back off milliseconds
+     */
+    public long getBackOffMilliseconds() {
+        return backOffMilliseconds.get();
+    }
+    
+    /**
+     * Back off if source is overloaded in adaptive mode.
+     */
+    public void backOff() {
+        long millis = backOffMilliseconds.get();
+        if (millis > 0) {
+            ThreadUtil.sleep(millis);
+        }
+    }
+}
@@ -19,6 +19,7 @@ package org.apache.shardingsphere.scaling.core.config;
 
 import lombok.Getter;
 import lombok.Setter;
+import org.apache.shardingsphere.scaling.core.common.throttle.ScalingRateLimiter;
 import org.apache.shardingsphere.scaling.core.config.datasource.ScalingDataSourceConfiguration;
 import org.apache.shardingsphere.scaling.core.job.position.ScalingPosition;
 
@@ -38,4 +39,6 @@ public class DumperConfiguration {
     private ScalingPosition<?> position;
     
     private Map<String, String> tableNameMap;
+    
+    private ScalingRateLimiter rateLimiter = new ScalingRateLimiter(new ThrottleConfiguration(), 1);
 }
@@ -33,6 +33,8 @@ public final class HandleConfiguration {
     
     private int concurrency = 3;
     
+    private int incrementalConcurrency;
+    
     private int retryTimes = 3;
     
     private String[] shardingTables;
@@ -43,6 +45,16 @@ public final class HandleConfiguration {
     
     private int shardingSize = 1000 * 10000;
     
+    private int inventoryBatchSize = 1000;
+    
+    private int dataCheckChunkSize = 10000;
+    
+    private int dataCheckRowsPerSecond;
+    
+    private ThrottleConfiguration throttleConfig = new ThrottleConfiguration();
+    
+    private boolean distributeInventoryTasks;
+    
     private boolean running = true;
     
     private String databaseType;
@@ -53,6 +65,15 @@ public final class HandleConfiguration {
         this.workflowConfig = workflowConfig;
     }
     
+    /**
+     * Get incremental concurrency, which is the count of importers applying incremental records of one data source in parallel.
+     *
+     * @return incremental concurrency, concurrency is used if it is not configured
+     */
+    public int getIncrementalConcurrency() {
+        return incrementalConcurrency > 0 ? incrementalConcurrency : concurrency;
+    }
+    
     /**
      * Get sharding total count.
      *
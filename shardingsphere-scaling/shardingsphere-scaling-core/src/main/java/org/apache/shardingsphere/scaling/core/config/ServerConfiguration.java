@@ -32,6 +32,8 @@ public final class ServerConfiguration {
     
     private int blockQueueSize = 10000;
     
+    private int channelLingerMillis = 10;
+    
     private int workerThread = 30;
     
     private GovernanceConfiguration governanceConfig;
@@ -33,6 +33,7 @@ public final class ServerConfigurationYamlSwapper implements YamlConfigurationSw
         YamlServerConfiguration result = new YamlServerConfiguration();
         result.getScaling().setPort(data.getPort());
         result.getScaling().setBlockQueueSize(data.getBlockQueueSize());
+        result.getScaling().setChannelLingerMillis(data.getChannelLingerMillis());
         result.getScaling().setWorkerThread(data.getWorkerThread());
         if (null != data.getGovernanceConfig()) {
             result.setGovernance(governanceConfigurationYamlSwapper.swapToYamlConfiguration(data.getGovernanceConfig()));
@@ -45,6 +46,7 @@ public final class ServerConfigurationYamlSwapper implements YamlConfigurationSw
         ServerConfiguration result = new ServerConfiguration();
         result.setPort(yamlConfig.getScaling().getPort());
         result.setBlockQueueSize(yamlConfig.getScaling().getBlockQueueSize());
+        result.setChannelLingerMillis(yamlConfig.getScaling().getChannelLingerMillis());
         result.setWorkerThread(yamlConfig.getScaling().getWorkerThread());
         if (null != yamlConfig.getGovernance()) {
             result.setGovernanceConfig(governanceConfigurationYamlSwapper.swapToObject(yamlConfig.getGovernance()));
@@ -41,6 +41,8 @@ public final class YamlServerConfiguration implements YamlConfiguration {
     
         private int blockQueueSize = 10000;
     
+        private int channelLingerMillis = 10;
+    
         private int workerThread = 30;
     }
 }
@@ -31,10 +31,16 @@ import org.apache.shardingsphere.scaling.core.common.record.Column;
 import org.apache.shardingsphere.scaling.core.common.record.DataRecord;
 import org.apache.shardingsphere.scaling.core.common.record.FinishedRecord;
 import org.apache.shardingsphere.scaling.core.common.record.Record;
+import org.apache.shardingsphere.scaling.core.common.record.RecordUtil;
+import org.apache.shardingsphere.scaling.core.common.sqlbuilder.ScalingSQLBuilder;
+import org.apache.shardingsphere.scaling.core.common.sqlbuilder.ScalingSQLBuilderFactory;
+import org.apache.shardingsphere.scaling.core.common.sqlbuilder.UniqueKeyParameterUtil;
+import org.apache.shardingsphere.scaling.core.common.throttle.ScalingRateLimiter;
 import org.apache.shardingsphere.scaling.core.config.InventoryDumperConfiguration;
 import org.apache.shardingsphere.scaling.core.config.datasource.StandardJDBCDataSourceConfiguration;
 import org.apache.shardingsphere.scaling.core.executor.AbstractScalingExecutor;
 import org.apache.shardingsphere.scaling.core.job.position.FinishedPosition;
+import org.apache.shardingsphere.scaling.core.job.position.KeysetPosition;
 import org.apache.shardingsphere.scaling.core.job.position.PlaceholderPosition;
 import org.apache.shardingsphere.scaling.core.job.position.PrimaryKeyPosition;
 import org.apache.shardingsphere.scaling.core.job.position.ScalingPosition;
@@ -44,6 +50,9 @@ import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.ResultSetMetaData;
 import java.sql.SQLException;
+import java.util.Collections;
+import java.util.List;
+import java.util.function.Function;
 
 /**
  * Abstract JDBC dumper implement.
@@ -82,19 +91,14 @@ public abstract class AbstractInventoryDumper extends AbstractScalingExecutor im
     }
     
     private void dump() {
-        try (Connection conn = dataSourceManager.getDataSource(inventoryDumperConfig.getDataSourceConfig()).getConnection()) {
-            String sql = String.format("SELECT * FROM %s %s", inventoryDumperConfig.getTableName(), getWhereCondition(inventoryDumperConfig.getPrimaryKey(), inventoryDumperConfig.getPosition()));
-            PreparedStatement ps = createPreparedStatement(conn, sql);
-            ResultSet rs = ps.executeQuery();
-            ResultSetMetaData metaData = rs.getMetaData();
-            while (isRunning() && rs.next()) {
-                DataRecord record = new DataRecord(newPosition(rs), metaData.getColumnCount());
-                record.setType(ScalingConstant.INSERT);
-                record.setTableName(inventoryDumperConfig.getTableNameMap().get(inventoryDumperConfig.getTableName()));
-                for (int i = 1; i <= metaData.getColumnCount(); i++) {
-                    record.addColumn(new Column(metaData.getColumnName(i), readValue(rs, i), true, tableMetaData.isPrimaryKey(i - 1)));
-                }
-                pushRecord(record);
+        try (Connection connection = dataSourceManager.getDataSource(inventoryDumperConfig.getDataSourceConfig()).getConnection()) {
+            ScalingPosition<?> position = inventoryDumperConfig.getPosition();
+            if (null != inventoryDumperConfig.getPrimaryKey() && position instanceof PrimaryKeyPosition) {
+                dumpByPrimaryKeyRange(connection, (PrimaryKeyPosition) position);
+            } else if (position instanceof KeysetPosition) {
+                dumpByKeyset(connection, (KeysetPosition) position);
+            } else {
+                dumpAll(connection);
             }
             pushRecord(new FinishedRecord(new FinishedPosition()));
         } catch (final SQLException ex) {
@@ -106,19 +110,62 @@ public abstract class AbstractInventoryDumper extends AbstractScalingExecutor im
         }
     }
     
-    private String getWhereCondition(final String primaryKey, final ScalingPosition<?> position) {
-        if (null == primaryKey || null == position) {
-            return "";
+    private void dumpAll(final Connection connection) throws SQLException {
+        try (PreparedStatement preparedStatement = createPreparedStatement(connection, String.format("SELECT * FROM %s", inventoryDumperConfig.getTableName()));
+             ResultSet resultSet = preparedStatement.executeQuery()) {
+            while (isRunning() && resultSet.next()) {
+                pushDataRecord(createDataRecord(resultSet, new PlaceholderPosition()));
+            }
         }
-        PrimaryKeyPosition primaryKeyPosition = (PrimaryKeyPosition) position;
-        return String.format("WHERE %s BETWEEN %d AND %d", primaryKey, primaryKeyPosition.getBeginValue(), primaryKeyPosition.getEndValue());
     }
     
-    private ScalingPosition<?> newPosition(final ResultSet rs) throws SQLException {
-        if (null == inventoryDumperConfig.getPrimaryKey()) {
-            return new PlaceholderPosition();
+    private void dumpByPrimaryKeyRange(final Connection connection, final PrimaryKeyPosition position) throws SQLException {
+        List<String> lowerValues = Collections.singletonList(String.valueOf(position.getBeginValue() - 1));
+        List<String> upperValues = Collections.singletonList(String.valueOf(position.getEndValue()));
+        dumpByPage(connection, Collections.singletonList(inventoryDumperConfig.getPrimaryKey()), lowerValues, upperValues,
+            keyValues -> new PrimaryKeyPosition(Long.parseLong(keyValues.get(0)) + 1, position.getEndValue()));
+    }
+    
+    private void dumpByKeyset(final Connection connection, final KeysetPosition position) throws SQLException {
+        dumpByPage(connection, tableMetaData.getPrimaryKeyColumns(), position.getLowerValues(), position.getUpperValues(), keyValues -> new KeysetPosition(keyValues, position.getUpperValues()));
+    }
+    
+    private void dumpByPage(final Connection connection, final List<String> uniqueKeys, final List<String> lowerValues, final List<String> upperValues,
+                            final Function<List<String>, ScalingPosition<?>> positionFunction) throws SQLException {
+        ScalingSQLBuilder sqlBuilder = ScalingSQLBuilderFactory.newInstance(inventoryDumperConfig.getDataSourceConfig().getDatabaseType().getName());
+        int batchSize = inventoryDumperConfig.getBatchSize();
+        List<String> lastValues = lowerValues;
+        int rowCount = batchSize;
+        ScalingRateLimiter rateLimiter = inventoryDumperConfig.getRateLimiter();
+        while (isRunning() && rowCount >= batchSize) {
+            rateLimiter.backOff();
+            String sql = sqlBuilder.buildInventoryDumpSQL(inventoryDumperConfig.getTableName(), uniqueKeys, !lastValues.isEmpty(), !upperValues.isEmpty(), batchSize);
+            rowCount = 0;
+            try (PreparedStatement preparedStatement = createPreparedStatement(connection, sql)) {
+                int parameterIndex = UniqueKeyParameterUtil.setParameters(preparedStatement, 1, uniqueKeys, lastValues, tableMetaData);
+                UniqueKeyParameterUtil.setParameters(preparedStatement, parameterIndex, uniqueKeys, upperValues, tableMetaData);
+                long startTimeMillis = System.currentTimeMillis();
+                try (ResultSet resultSet = preparedStatement.executeQuery()) {
+                    rateLimiter.observeSourceLatency(System.currentTimeMillis() - startTimeMillis);
+                    while (isRunning() && resultSet.next()) {
+                        lastValues = UniqueKeyParameterUtil.readValues(resultSet, uniqueKeys, tableMetaData);
+                        pushDataRecord(createDataRecord(resultSet, positionFunction.apply(lastValues)));
+                        rowCount++;
+                    }
+                }
+            }
+        }
+    }
+    
+    private DataRecord createDataRecord(final ResultSet resultSet, final ScalingPosition<?> position) throws SQLException {
+        ResultSetMetaData metaData = resultSet.getMetaData();
+        DataRecord result = new DataRecord(position, metaData.getColumnCount());
+        result.setType(ScalingConstant.INSERT);
+        result.setTableName(inventoryDumperConfig.getTableNameMap().get(inventoryDumperConfig.getTableName()));
+        for (int i = 1; i <= metaData.getColumnCount(); i++) {
+            result.addColumn(new Column(metaData.getColumnName(i), readValue(resultSet, i), true, tableMetaData.isPrimaryKey(i - 1)));
         }
-        return new PrimaryKeyPosition(rs.getLong(inventoryDumperConfig.getPrimaryKey()), ((PrimaryKeyPosition) inventoryDumperConfig.getPosition()).getEndValue());
+        return result;
     }
     
     protected abstract PreparedStatement createPreparedStatement(Connection connection, String sql) throws SQLException;
@@ -127,6 +174,12 @@ public abstract class AbstractInventoryDumper extends AbstractScalingExecutor im
         return resultSet.getObject(index);
     }
     
+    private void pushDataRecord(final DataRecord dataRecord) {
+        ScalingRateLimiter rateLimiter = inventoryDumperConfig.getRateLimiter();
+        rateLimiter.acquire(1, rateLimiter.isBytesLimited() ? RecordUtil.estimateBytes(dataRecord) : 0);
+        pushRecord(dataRecord);
+    }
+    
     private void pushRecord(final Record record) {
         try {
             channel.pushRecord(record);
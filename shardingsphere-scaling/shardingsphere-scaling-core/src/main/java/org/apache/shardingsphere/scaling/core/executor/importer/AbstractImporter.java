@@ -39,6 +39,8 @@ import javax.sql.DataSource;
 import java.sql.Connection;
 import java.sql.PreparedStatement;
 import java.sql.SQLException;
+import java.util.LinkedHashMap;
+import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
@@ -50,6 +52,8 @@ import java.util.stream.Collectors;
 @Slf4j
 public abstract class AbstractImporter extends AbstractScalingExecutor implements Importer {
     
+    static final int MAX_CACHED_STATEMENTS = 64;
+    
     private static final DataRecordMerger MERGER = new DataRecordMerger();
     
     private final ImporterConfiguration importerConfig;
@@ -58,6 +62,22 @@ public abstract class AbstractImporter extends AbstractScalingExecutor implement
     
     private final ScalingSQLBuilder scalingSqlBuilder;
     
+    private final Map<String, PreparedStatement> preparedStatements = new LinkedHashMap<String, PreparedStatement>(16, 0.75f, true) {
+        
+        private static final long serialVersionUID = 4283957134573204547L;
+        
+        @Override
+        protected boolean removeEldestEntry(final Map.Entry<String, PreparedStatement> eldest) {
+            if (size() <= MAX_CACHED_STATEMENTS) {
+                return false;
+            }
+            closeStatement(eldest.getValue());
+            return true;
+        }
+    };
+    
+    private Connection connection;
+    
     @Setter
     private Channel channel;
     
@@ -83,16 +103,20 @@ public abstract class AbstractImporter extends AbstractScalingExecutor implement
     
     @Override
     public final void write() {
-        while (isRunning()) {
-            List<Record> records = channel.fetchRecords(1024, 3);
-            if (null != records && !records.isEmpty()) {
-                flush(dataSourceManager.getDataSource(importerConfig.getDataSourceConfig()), records);
-                if (FinishedRecord.class.equals(records.get(records.size() - 1).getClass())) {
-                    channel.ack();
-                    break;
+        try {
+            while (isRunning()) {
+                List<Record> records = channel.fetchRecords(1024, 3);
+                if (null != records && !records.isEmpty()) {
+                    flush(dataSourceManager.getDataSource(importerConfig.getDataSourceConfig()), records);
+                    if (FinishedRecord.class.equals(records.get(records.size() - 1).getClass())) {
+                        channel.ack();
+                        break;
+                    }
                 }
+                channel.ack();
             }
-            channel.ack();
+        } finally {
+            closeConnection();
         }
     }
     
@@ -135,50 +159,94 @@ public abstract class AbstractImporter extends AbstractScalingExecutor implement
     }
     
     private void doFlush(final DataSource dataSource, final List<DataRecord> buffer) throws SQLException {
-        try (Connection connection = dataSource.getConnection()) {
-            connection.setAutoCommit(false);
+        try {
+            Connection connection = getConnection(dataSource);
             switch (buffer.get(0).getType()) {
                 case ScalingConstant.INSERT:
-                    executeBatchInsert(connection, buffer);
+                    executeBatchInsert(buffer);
                     break;
                 case ScalingConstant.UPDATE:
-                    executeUpdate(connection, buffer);
+                    executeBatchUpdate(buffer);
                     break;
                 case ScalingConstant.DELETE:
-                    executeBatchDelete(connection, buffer);
+                    executeBatchDelete(buffer);
                     break;
                 default:
                     break;
             }
             connection.commit();
+        } catch (final SQLException ex) {
+            closeConnection();
+            throw ex;
         }
     }
     
-    private void executeBatchInsert(final Connection connection, final List<DataRecord> dataRecords) throws SQLException {
-        String insertSql = scalingSqlBuilder.buildInsertSQL(dataRecords.get(0));
-        try (PreparedStatement ps = connection.prepareStatement(insertSql)) {
-            ps.setQueryTimeout(30);
-            for (DataRecord each : dataRecords) {
-                for (int i = 0; i < each.getColumnCount(); i++) {
-                    ps.setObject(i + 1, each.getColumn(i).getValue());
-                }
-                ps.addBatch();
+    private Connection getConnection(final DataSource dataSource) throws SQLException {
+        if (null == connection) {
+            connection = dataSource.getConnection();
+            connection.setAutoCommit(false);
+        }
+        return connection;
+    }
+    
+    private PreparedStatement getPreparedStatement(final String sql) throws SQLException {
+        PreparedStatement result = preparedStatements.get(sql);
+        if (null == result) {
+            result = connection.prepareStatement(sql);
+            result.setQueryTimeout(30);
+            preparedStatements.put(sql, result);
+        }
+        return result;
+    }
+    
+    private void closeStatement(final PreparedStatement preparedStatement) {
+        try {
+            preparedStatement.close();
+        } catch (final SQLException ex) {
+            log.warn("close prepared statement failed.", ex);
+        }
+    }
+    
+    private void closeConnection() {
+        if (null == connection) {
+            return;
+        }
+        try {
+            connection.close();
+        } catch (final SQLException ex) {
+            log.warn("close connection failed.", ex);
+        }
+        preparedStatements.clear();
+        connection = null;
+    }
+    
+    private void executeBatchInsert(final List<DataRecord> dataRecords) throws SQLException {
+        PreparedStatement ps = getPreparedStatement(scalingSqlBuilder.buildInsertSQL(dataRecords.get(0)));
+        for (DataRecord each : dataRecords) {
+            for (int i = 0; i < each.getColumnCount(); i++) {
+                ps.setObject(i + 1, each.getColumn(i).getValue());
             }
-            ps.executeBatch();
+            ps.addBatch();
         }
+        ps.executeBatch();
     }
     
-    private void executeUpdate(final Connection connection, final List<DataRecord> dataRecords) throws SQLException {
+    private void executeBatchUpdate(final List<DataRecord> dataRecords) throws SQLException {
+        Map<String, List<DataRecord>> signatureGroup = new LinkedHashMap<>();
         for (DataRecord each : dataRecords) {
-            executeUpdate(connection, each);
+            List<Column> conditionColumns = RecordUtil.extractConditionColumns(each, importerConfig.getShardingColumnsMap().get(each.getTableName()));
+            signatureGroup.computeIfAbsent(scalingSqlBuilder.buildUpdateSQL(each, conditionColumns), key -> new LinkedList<>()).add(each);
+        }
+        for (Map.Entry<String, List<DataRecord>> entry : signatureGroup.entrySet()) {
+            executeBatchUpdate(entry.getKey(), entry.getValue());
         }
     }
     
-    private void executeUpdate(final Connection connection, final DataRecord record) throws SQLException {
-        List<Column> conditionColumns = RecordUtil.extractConditionColumns(record, importerConfig.getShardingColumnsMap().get(record.getTableName()));
-        List<Column> updatedColumns = RecordUtil.extractUpdatedColumns(record);
-        String updateSql = scalingSqlBuilder.buildUpdateSQL(record, conditionColumns);
-        try (PreparedStatement ps = connection.prepareStatement(updateSql)) {
+    private void executeBatchUpdate(final String updateSql, final List<DataRecord> dataRecords) throws SQLException {
+        PreparedStatement ps = getPreparedStatement(updateSql);
+        for (DataRecord each : dataRecords) {
+            List<Column> conditionColumns = RecordUtil.extractConditionColumns(each, importerConfig.getShardingColumnsMap().get(each.getTableName()));
+            List<Column> updatedColumns = RecordUtil.extractUpdatedColumns(each);
             for (int i = 0; i < updatedColumns.size(); i++) {
                 ps.setObject(i + 1, updatedColumns.get(i).getValue());
             }
@@ -186,23 +254,21 @@ public abstract class AbstractImporter extends AbstractScalingExecutor implement
                 Column keyColumn = conditionColumns.get(i);
                 ps.setObject(updatedColumns.size() + i + 1, (keyColumn.isPrimaryKey() && keyColumn.isUpdated()) ? keyColumn.getOldValue() : keyColumn.getValue());
             }
-            ps.execute();
+            ps.addBatch();
         }
+        ps.executeBatch();
     }
     
-    private void executeBatchDelete(final Connection connection, final List<DataRecord> dataRecords) throws SQLException {
+    private void executeBatchDelete(final List<DataRecord> dataRecords) throws SQLException {
         List<Column> conditionColumns = RecordUtil.extractConditionColumns(dataRecords.get(0), importerConfig.getShardingColumnsMap().get(dataRecords.get(0).getTableName()));
-        String deleteSQL = scalingSqlBuilder.buildDeleteSQL(dataRecords.get(0), conditionColumns);
-        try (PreparedStatement ps = connection.prepareStatement(deleteSQL)) {
-            ps.setQueryTimeout(30);
-            for (DataRecord each : dataRecords) {
-                conditionColumns = RecordUtil.extractConditionColumns(each, importerConfig.getShardingColumnsMap().get(each.getTableName()));
-                for (int i = 0; i < conditionColumns.size(); i++) {
-                    ps.setObject(i + 1, conditionColumns.get(i).getValue());
-                }
-                ps.addBatch();
+        PreparedStatement ps = getPreparedStatement(scalingSqlBuilder.buildDeleteSQL(dataRecords.get(0), conditionColumns));
+        for (DataRecord each : dataRecords) {
+            conditionColumns = RecordUtil.extractConditionColumns(each, importerConfig.getShardingColumnsMap().get(each.getTableName()));
+            for (int i = 0; i < conditionColumns.size(); i++) {
+                ps.setObject(i + 1, conditionColumns.get(i).getValue());
             }
-            ps.executeBatch();
+            ps.addBatch();
         }
+        ps.executeBatch();
     }
 }
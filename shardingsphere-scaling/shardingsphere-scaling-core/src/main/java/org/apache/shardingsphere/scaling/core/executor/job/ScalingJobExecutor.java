@@ -17,20 +17,30 @@
 
 package org.apache.shardingsphere.scaling.core.executor.job;
 
+import com.google.common.base.Strings;
 import com.google.common.collect.Sets;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.shardingsphere.elasticjob.infra.pojo.JobConfigurationPOJO;
 import org.apache.shardingsphere.elasticjob.lite.api.bootstrap.impl.OneOffJobBootstrap;
 import org.apache.shardingsphere.governance.repository.api.listener.DataChangedEvent;
+import org.apache.shardingsphere.infra.executor.kernel.thread.ExecutorThreadFactoryBuilder;
 import org.apache.shardingsphere.infra.yaml.engine.YamlEngine;
 import org.apache.shardingsphere.scaling.core.api.ScalingAPIFactory;
 import org.apache.shardingsphere.scaling.core.common.constant.ScalingConstant;
+import org.apache.shardingsphere.scaling.core.config.JobConfiguration;
 import org.apache.shardingsphere.scaling.core.executor.AbstractScalingExecutor;
+import org.apache.shardingsphere.scaling.core.job.JobContext;
+import org.apache.shardingsphere.scaling.core.job.JobStatus;
 import org.apache.shardingsphere.scaling.core.job.ScalingJob;
+import org.apache.shardingsphere.scaling.core.job.preparer.ScalingJobPreparer;
+import org.apache.shardingsphere.scaling.core.job.progress.JobProgress;
 import org.apache.shardingsphere.scaling.core.job.schedule.JobSchedulerCenter;
 
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
 /**
@@ -41,8 +51,12 @@ public final class ScalingJobExecutor extends AbstractScalingExecutor {
     
     private static final Pattern CONFIG_PATTERN = Pattern.compile(ScalingConstant.SCALING_ROOT + "/(\\d+)/config");
     
+    private static final Pattern OFFSET_PATTERN = Pattern.compile(ScalingConstant.SCALING_ROOT + "/(\\d+)/offset/(\\d+)");
+    
     private static final Set<String> EXECUTING_JOBS = Sets.newConcurrentHashSet();
     
+    private static final ExecutorService ASSIST_EXECUTOR = Executors.newSingleThreadExecutor(ExecutorThreadFactoryBuilder.build("scaling-job-assist-%d"));
+    
     @Override
     public void start() {
         super.start();
@@ -52,6 +66,11 @@ public final class ScalingJobExecutor extends AbstractScalingExecutor {
     
     private void watchGovernanceRepositoryConfiguration() {
         ScalingAPIFactory.getGovernanceRepositoryAPI().watch(ScalingConstant.SCALING_ROOT, event -> {
+            Matcher offsetMatcher = OFFSET_PATTERN.matcher(event.getKey());
+            if (offsetMatcher.matches()) {
+                ASSIST_EXECUTOR.execute(() -> assist(Long.parseLong(offsetMatcher.group(1)), Integer.parseInt(offsetMatcher.group(2)), event));
+                return;
+            }
             Optional<JobConfigurationPOJO> jobConfigPOJOOptional = getJobConfigPOJO(event);
             if (!jobConfigPOJOOptional.isPresent()) {
                 return;
@@ -64,9 +83,15 @@ public final class ScalingJobExecutor extends AbstractScalingExecutor {
             }
             switch (event.getType()) {
                 case ADDED:
-                case UPDATED:
                     execute(jobConfigPOJO);
                     break;
+                case UPDATED:
+                    if (EXECUTING_JOBS.contains(jobConfigPOJO.getJobName())) {
+                        updateThrottle(jobConfigPOJO);
+                    } else {
+                        execute(jobConfigPOJO);
+                    }
+                    break;
                 default:
                     break;
             }
@@ -87,6 +112,40 @@ public final class ScalingJobExecutor extends AbstractScalingExecutor {
         return Optional.empty();
     }
     
+    private void updateThrottle(final JobConfigurationPOJO jobConfigPOJO) {
+        JobConfiguration jobConfig = YamlEngine.unmarshal(jobConfigPOJO.getJobParameter(), JobConfiguration.class);
+        JobSchedulerCenter.updateThrottle(Long.parseLong(jobConfigPOJO.getJobName()), jobConfig.getHandleConfig().getThrottleConfig());
+    }
+    
+    private void assist(final long jobId, final int shardingItem, final DataChangedEvent event) {
+        if (DataChangedEvent.Type.DELETED == event.getType() || Strings.isNullOrEmpty(event.getValue()) || JobSchedulerCenter.isScheduled(jobId, shardingItem)) {
+            return;
+        }
+        try {
+            JobProgress ownerProgress = ScalingAPIFactory.getGovernanceRepositoryAPI().getJobProgress(jobId, shardingItem);
+            if (null == ownerProgress || !ownerProgress.getStatus().isRunning()
+                    || JobStatus.EXECUTE_INCREMENTAL_TASK == ownerProgress.getStatus() || 100 == ownerProgress.getInventoryFinishedPercentage()) {
+                return;
+            }
+            JobConfiguration jobConfig = ScalingAPIFactory.getScalingAPI().getJobConfig(jobId);
+            if (!jobConfig.getHandleConfig().isDistributeInventoryTasks()) {
+                return;
+            }
+            log.info("Assist inventory tasks of scaling job {}-{}", jobId, shardingItem);
+            jobConfig.getHandleConfig().setShardingItem(shardingItem);
+            JobContext jobContext = new JobContext(jobConfig);
+            JobProgress initProgress = new JobProgress();
+            initProgress.setInventoryTaskProgressMap(ownerProgress.getInventoryTaskProgressMap());
+            jobContext.setInitProgress(initProgress);
+            new ScalingJobPreparer().prepareInventory(jobContext);
+            JobSchedulerCenter.assist(jobContext);
+            // CHECKSTYLE:OFF
+        } catch (final Exception ex) {
+            // CHECKSTYLE:ON
+            log.error("assist scaling job {}-{} failed.", jobId, shardingItem, ex);
+        }
+    }
+    
     private void execute(final JobConfigurationPOJO jobConfigPOJO) {
         if (EXECUTING_JOBS.add(jobConfigPOJO.getJobName())) {
             new OneOffJobBootstrap(ScalingAPIFactory.getRegistryCenter(), new ScalingJob(), jobConfigPOJO.toJobConfiguration()).execute();
@@ -25,6 +25,7 @@ import org.apache.shardingsphere.scaling.core.api.GovernanceRepositoryAPI;
 import org.apache.shardingsphere.scaling.core.api.ScalingAPIFactory;
 import org.apache.shardingsphere.scaling.core.config.JobConfiguration;
 import org.apache.shardingsphere.scaling.core.job.preparer.ScalingJobPreparer;
+import org.apache.shardingsphere.scaling.core.job.schedule.InventoryTaskCoordinator;
 import org.apache.shardingsphere.scaling.core.job.schedule.JobSchedulerCenter;
 
 /**
@@ -45,6 +46,7 @@ public final class ScalingJob implements SimpleJob {
         JobContext jobContext = new JobContext(jobConfig);
         jobContext.setInitProgress(governanceRepositoryAPI.getJobProgress(jobContext.getJobId(), jobContext.getShardingItem()));
         jobPreparer.prepare(jobContext);
+        new InventoryTaskCoordinator(jobContext, governanceRepositoryAPI).publish();
         governanceRepositoryAPI.persistJobProgress(jobContext);
         JobSchedulerCenter.start(jobContext);
     }
@@ -20,10 +20,14 @@ package org.apache.shardingsphere.scaling.core.job.check.consistency;
 import lombok.Getter;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.apache.shardingsphere.infra.executor.kernel.thread.ExecutorThreadFactoryBuilder;
+import org.apache.shardingsphere.infra.metadata.schema.model.TableMetaData;
 import org.apache.shardingsphere.scaling.core.common.datasource.DataSourceFactory;
 import org.apache.shardingsphere.scaling.core.common.datasource.DataSourceWrapper;
+import org.apache.shardingsphere.scaling.core.common.datasource.MetaDataManager;
 import org.apache.shardingsphere.scaling.core.common.exception.DataCheckFailException;
 import org.apache.shardingsphere.scaling.core.common.sqlbuilder.ScalingSQLBuilder;
+import org.apache.shardingsphere.scaling.core.config.HandleConfiguration;
 import org.apache.shardingsphere.scaling.core.job.JobContext;
 
 import javax.sql.DataSource;
@@ -31,8 +35,14 @@ import java.sql.Connection;
 import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
+import java.util.Collection;
+import java.util.HashSet;
 import java.util.LinkedHashMap;
 import java.util.Map;
+import java.util.Map.Entry;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 
@@ -48,6 +58,8 @@ public abstract class AbstractDataConsistencyChecker implements DataConsistencyC
     
     private final JobContext jobContext;
     
+    private final Map<String, Collection<String>> dataDifferences = new LinkedHashMap<>();
+    
     @Override
     public Map<String, DataConsistencyCheckResult> countCheck() {
         return jobContext.getTaskConfigs()
@@ -77,6 +89,39 @@ public abstract class AbstractDataConsistencyChecker implements DataConsistencyC
         }
     }
     
+    @Override
+    public Map<String, Boolean> dataCheck() {
+        HandleConfiguration handleConfig = jobContext.getJobConfig().getHandleConfig();
+        ExecutorService executor = Executors.newFixedThreadPool(Math.max(1, handleConfig.getConcurrency()) * 2, ExecutorThreadFactoryBuilder.build("scaling-data-check-%d"));
+        try (DataSourceWrapper sourceDataSource = getSourceDataSource();
+             DataSourceWrapper targetDataSource = getTargetDataSource()) {
+            MetaDataManager metaDataManager = new MetaDataManager(sourceDataSource);
+            Map<String, Boolean> result = new LinkedHashMap<>();
+            for (Entry<String, String> entry : getTableNameMap().entrySet()) {
+                TableMetaData tableMetaData = metaDataManager.getTableMetaData(entry.getKey());
+                if (null == tableMetaData) {
+                    throw new DataCheckFailException(String.format("table %s meta data not found.", entry.getValue()));
+                }
+                Collection<String> differences = new ChunkedTableDataChecker(getSqlBuilder(), sourceDataSource, targetDataSource, executor, handleConfig, entry.getValue(), tableMetaData).check();
+                dataDifferences.put(entry.getValue(), differences);
+                result.put(entry.getValue(), differences.isEmpty());
+            }
+            return result;
+        } catch (final SQLException ex) {
+            throw new DataCheckFailException("data check failed.", ex);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+    
+    private Map<String, String> getTableNameMap() {
+        Set<String> logicTableNames = new HashSet<>();
+        Map<String, String> result = new LinkedHashMap<>();
+        jobContext.getTaskConfigs().stream().flatMap(each -> each.getDumperConfig().getTableNameMap().entrySet().stream())
+                .filter(entry -> logicTableNames.add(entry.getValue())).forEach(entry -> result.put(entry.getKey(), entry.getValue()));
+        return result;
+    }
+    
     protected DataSourceWrapper getSourceDataSource() {
         return dataSourceFactory.newInstance(jobContext.getJobConfig().getRuleConfig().getSource().unwrap());
     }
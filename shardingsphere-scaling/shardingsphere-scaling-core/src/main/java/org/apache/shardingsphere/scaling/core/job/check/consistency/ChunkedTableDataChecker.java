@@ -0,0 +1,264 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.scaling.core.job.check.consistency;
+
+import com.google.common.util.concurrent.RateLimiter;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.apache.shardingsphere.infra.metadata.schema.model.TableMetaData;
+import org.apache.shardingsphere.scaling.core.common.exception.DataCheckFailException;
+import org.apache.shardingsphere.scaling.core.common.sqlbuilder.ScalingSQLBuilder;
+import org.apache.shardingsphere.scaling.core.common.sqlbuilder.UniqueKeyParameterUtil;
+import org.apache.shardingsphere.scaling.core.config.HandleConfiguration;
+
+import javax.sql.DataSource;
+import java.math.BigDecimal;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.Optional;
+import java.util.Queue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+
+/**
+ * Chunked table data checker.
+ *
+ * <p>
+ * Table is split into unique key range chunks, row count and sum of row hash of each chunk are computed on source and target in parallel.
+ * Unequal chunks are bisected until they are small enough to compare row by row, and different rows are reported.
+ * </p>
+ */
+public final class ChunkedTableDataChecker {
+    
+    private static final int ROWS_COMPARE_THRESHOLD = 100;
+    
+    private static final int MAX_DIFFERENCE_COUNT = 100;
+    
+    private final ScalingSQLBuilder sqlBuilder;
+    
+    private final DataSource sourceDataSource;
+    
+    private final DataSource targetDataSource;
+    
+    private final ExecutorService executor;
+    
+    private final int concurrency;
+    
+    private final int chunkSize;
+    
+    private final RateLimiter rateLimiter;
+    
+    private final String tableName;
+    
+    private final TableMetaData tableMetaData;
+    
+    private final List<String> columns;
+    
+    private final List<String> uniqueKeys;
+    
+    private final Collection<String> differences = new LinkedList<>();
+    
+    public ChunkedTableDataChecker(final ScalingSQLBuilder sqlBuilder, final DataSource sourceDataSource, final DataSource targetDataSource, final ExecutorService executor,
+                                   final HandleConfiguration handleConfig, final String tableName, final TableMetaData tableMetaData) {
+        this.sqlBuilder = sqlBuilder;
+        this.sourceDataSource = sourceDataSource;
+        this.targetDataSource = targetDataSource;
+        this.executor = executor;
+        concurrency = Math.max(1, handleConfig.getConcurrency());
+        chunkSize = Math.max(ROWS_COMPARE_THRESHOLD, handleConfig.getDataCheckChunkSize());
+        rateLimiter = handleConfig.getDataCheckRowsPerSecond() > 0 ? RateLimiter.create(handleConfig.getDataCheckRowsPerSecond()) : null;
+        this.tableName = tableName;
+        this.tableMetaData = tableMetaData;
+        columns = new ArrayList<>(tableMetaData.getColumns().keySet());
+        uniqueKeys = tableMetaData.getPrimaryKeyColumns();
+    }
+    
+    /**
+     * Check table data.
+     *
+     * @return differences of rows, at most {@value #MAX_DIFFERENCE_COUNT} ones are reported
+     * @throws SQLException SQL exception
+     */
+    public Collection<String> check() throws SQLException {
+        Queue<ChunkCheck> pendingChunks = new LinkedList<>();
+        try (Connection connection = sourceDataSource.getConnection()) {
+            List<String> lowerValues = Collections.emptyList();
+            Optional<List<String>> upperValues;
+            do {
+                upperValues = uniqueKeys.isEmpty() ? Optional.empty() : findKey(connection, lowerValues, chunkSize - 1);
+                if (pendingChunks.size() >= concurrency) {
+                    compare(pendingChunks.poll());
+                }
+                pendingChunks.add(submit(lowerValues, upperValues.orElse(Collections.emptyList()), chunkSize));
+                lowerValues = upperValues.orElse(Collections.emptyList());
+            } while (upperValues.isPresent() && differences.size() < MAX_DIFFERENCE_COUNT);
+        }
+        while (!pendingChunks.isEmpty()) {
+            compare(pendingChunks.poll());
+        }
+        return differences;
+    }
+    
+    private Optional<List<String>> findKey(final Connection connection, final List<String> lowerValues, final int offset) throws SQLException {
+        try (PreparedStatement preparedStatement = connection.prepareStatement(sqlBuilder.buildSplitByUniqueKeySQL(tableName, uniqueKeys, !lowerValues.isEmpty()))) {
+            int parameterIndex = UniqueKeyParameterUtil.setParameters(preparedStatement, 1, uniqueKeys, lowerValues, tableMetaData);
+            preparedStatement.setInt(parameterIndex, offset);
+            try (ResultSet resultSet = preparedStatement.executeQuery()) {
+                return resultSet.next() ? Optional.of(UniqueKeyParameterUtil.readValues(resultSet, uniqueKeys, tableMetaData)) : Optional.empty();
+            }
+        }
+    }
+    
+    private ChunkCheck submit(final List<String> lowerValues, final List<String> upperValues, final long estimatedRows) {
+        if (null != rateLimiter) {
+            rateLimiter.acquire((int) Math.min(Integer.MAX_VALUE, Math.max(1, estimatedRows)));
+        }
+        return new ChunkCheck(lowerValues, upperValues,
+            executor.submit(() -> checksum(sourceDataSource, lowerValues, upperValues)), executor.submit(() -> checksum(targetDataSource, lowerValues, upperValues)));
+    }
+    
+    private ChunkChecksum checksum(final DataSource dataSource, final List<String> lowerValues, final List<String> upperValues) throws SQLException {
+        String sql = sqlBuilder.buildChunkChecksumSQL(tableName, columns, uniqueKeys, !lowerValues.isEmpty(), !upperValues.isEmpty());
+        try (Connection connection = dataSource.getConnection();
+             PreparedStatement preparedStatement = connection.prepareStatement(sql)) {
+            int parameterIndex = UniqueKeyParameterUtil.setParameters(preparedStatement, 1, uniqueKeys, lowerValues, tableMetaData);
+            UniqueKeyParameterUtil.setParameters(preparedStatement, parameterIndex, uniqueKeys, upperValues, tableMetaData);
+            try (ResultSet resultSet = preparedStatement.executeQuery()) {
+                resultSet.next();
+                BigDecimal hashSum = resultSet.getBigDecimal(2);
+                return new ChunkChecksum(resultSet.getLong(1), null == hashSum ? BigDecimal.ZERO : hashSum.stripTrailingZeros());
+            }
+        }
+    }
+    
+    private void compare(final ChunkCheck chunkCheck) throws SQLException {
+        ChunkChecksum sourceChecksum = getResult(chunkCheck.getSourceChecksum());
+        ChunkChecksum targetChecksum = getResult(chunkCheck.getTargetChecksum());
+        if (!sourceChecksum.equals(targetChecksum)) {
+            locate(chunkCheck.getLowerValues(), chunkCheck.getUpperValues(), sourceChecksum.getCount(), targetChecksum.getCount());
+        }
+    }
+    
+    private <T> T getResult(final Future<T> future) {
+        try {
+            return future.get();
+        } catch (final InterruptedException | ExecutionException ex) {
+            throw new DataCheckFailException(String.format("table %s chunk check failed.", tableName), ex);
+        }
+    }
+    
+    private void locate(final List<String> lowerValues, final List<String> upperValues, final long sourceRowCount, final long targetRowCount) throws SQLException {
+        if (differences.size() >= MAX_DIFFERENCE_COUNT) {
+            return;
+        }
+        if (uniqueKeys.isEmpty()) {
+            differences.add(String.format("table %s has different rows, but they can not be located without primary key", tableName));
+            return;
+        }
+        long rowCount = Math.max(sourceRowCount, targetRowCount);
+        if (rowCount > ROWS_COMPARE_THRESHOLD) {
+            Optional<List<String>> middleValues;
+            try (Connection connection = (sourceRowCount >= targetRowCount ? sourceDataSource : targetDataSource).getConnection()) {
+                middleValues = findKey(connection, lowerValues, (int) (rowCount / 2 - 1));
+            }
+            if (middleValues.isPresent() && !middleValues.get().equals(upperValues)) {
+                ChunkCheck lowerHalf = submit(lowerValues, middleValues.get(), rowCount / 2);
+                ChunkCheck upperHalf = submit(middleValues.get(), upperValues, rowCount - rowCount / 2);
+                compare(lowerHalf);
+                compare(upperHalf);
+                return;
+            }
+        }
+        compareRows(lowerValues, upperValues, rowCount);
+    }
+    
+    private void compareRows(final List<String> lowerValues, final List<String> upperValues, final long rowCount) {
+        Future<Map<List<String>, List<String>>> sourceRows = executor.submit(() -> queryRows(sourceDataSource, lowerValues, upperValues, rowCount));
+        Future<Map<List<String>, List<String>>> targetRows = executor.submit(() -> queryRows(targetDataSource, lowerValues, upperValues, rowCount));
+        Map<List<String>, List<String>> sourceRowMap = getResult(sourceRows);
+        Map<List<String>, List<String>> targetRowMap = getResult(targetRows);
+        for (Entry<List<String>, List<String>> entry : sourceRowMap.entrySet()) {
+            List<String> targetValues = targetRowMap.remove(entry.getKey());
+            if (null == targetValues) {
+                addDifference(entry.getKey(), "is missing in target");
+            } else if (!entry.getValue().equals(targetValues)) {
+                addDifference(entry.getKey(), String.format("is different, source %s, target %s", entry.getValue(), targetValues));
+            }
+        }
+        for (List<String> each : targetRowMap.keySet()) {
+            addDifference(each, "is redundant in target");
+        }
+    }
+    
+    private void addDifference(final List<String> uniqueKeyValues, final String description) {
+        if (differences.size() < MAX_DIFFERENCE_COUNT) {
+            differences.add(String.format("row %s=%s of table %s %s", uniqueKeys, uniqueKeyValues, tableName, description));
+        }
+    }
+    
+    private Map<List<String>, List<String>> queryRows(final DataSource dataSource, final List<String> lowerValues, final List<String> upperValues, final long rowCount) throws SQLException {
+        Map<List<String>, List<String>> result = new LinkedHashMap<>();
+        String sql = sqlBuilder.buildInventoryDumpSQL(tableName, uniqueKeys, !lowerValues.isEmpty(), !upperValues.isEmpty(), (int) Math.min(Integer.MAX_VALUE, rowCount));
+        try (Connection connection = dataSource.getConnection();
+             PreparedStatement preparedStatement = connection.prepareStatement(sql)) {
+            int parameterIndex = UniqueKeyParameterUtil.setParameters(preparedStatement, 1, uniqueKeys, lowerValues, tableMetaData);
+            UniqueKeyParameterUtil.setParameters(preparedStatement, parameterIndex, uniqueKeys, upperValues, tableMetaData);
+            try (ResultSet resultSet = preparedStatement.executeQuery()) {
+                while (resultSet.next()) {
+                    result.put(UniqueKeyParameterUtil.readValues(resultSet, uniqueKeys, tableMetaData), UniqueKeyParameterUtil.readValues(resultSet, columns, tableMetaData));
+                }
+            }
+        }
+        return result;
+    }
+    
+    @RequiredArgsConstructor
+    @Getter
+    private static final class ChunkCheck {
+        
+        private final List<String> lowerValues;
+        
+        private final List<String> upperValues;
+        
+        private final Future<ChunkChecksum> sourceChecksum;
+        
+        private final Future<ChunkChecksum> targetChecksum;
+    }
+    
+    @RequiredArgsConstructor
+    @Getter
+    @EqualsAndHashCode
+    private static final class ChunkChecksum {
+        
+        private final long count;
+        
+        private final BigDecimal hashSum;
+    }
+}
@@ -21,6 +21,9 @@ import lombok.Getter;
 import lombok.Setter;
 import lombok.ToString;
 
+import java.util.Collection;
+import java.util.Collections;
+
 /**
  * Data consistency check result.
  */
@@ -37,6 +40,8 @@ public final class DataConsistencyCheckResult {
     
     private boolean dataValid;
     
+    private Collection<String> dataDifferences = Collections.emptyList();
+    
     public DataConsistencyCheckResult(final long sourceCount, final long targetCount) {
         this.sourceCount = sourceCount;
         this.targetCount = targetCount;
@@ -17,6 +17,7 @@
 
 package org.apache.shardingsphere.scaling.core.job.check.consistency;
 
+import java.util.Collection;
 import java.util.Map;
 
 /**
@@ -37,4 +38,11 @@ public interface DataConsistencyChecker {
      * @return data is valid or not
      */
     Map<String, Boolean> dataCheck();
+    
+    /**
+     * Get different rows of each table found by data check.
+     *
+     * @return data differences
+     */
+    Map<String, Collection<String>> getDataDifferences();
 }
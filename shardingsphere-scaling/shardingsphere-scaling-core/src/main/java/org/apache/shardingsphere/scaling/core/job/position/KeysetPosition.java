@@ -0,0 +1,160 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.scaling.core.job.position;
+
+import com.google.common.base.Preconditions;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.SneakyThrows;
+
+import java.io.UnsupportedEncodingException;
+import java.math.BigDecimal;
+import java.net.URLDecoder;
+import java.net.URLEncoder;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.regex.Pattern;
+
+/**
+ * Use values of unique key columns as position, positions of the split are keys greater than lower values and not greater than upper values.
+ *
+ * <p>Values are kept as strings, numeric values are compared by number so that positions of numeric keys are ordered as the keys.</p>
+ */
+@RequiredArgsConstructor
+@Getter
+public final class KeysetPosition implements ScalingPosition<KeysetPosition> {
+    
+    private static final String PREFIX = "keyset:";
+    
+    private static final String UNBOUNDED = "~";
+    
+    private static final String BOUND_SEPARATOR = "|";
+    
+    private static final String VALUE_SEPARATOR = ",";
+    
+    private static final Pattern NUMBER_PATTERN = Pattern.compile("-?\\d+(\\.\\d+)?");
+    
+    private final List<String> lowerValues;
+    
+    private final List<String> upperValues;
+    
+    /**
+     * Judge whether string data is keyset position.
+     *
+     * @param data string data
+     * @return is keyset position or not
+     */
+    public static boolean isKeysetPosition(final String data) {
+        return null != data && data.startsWith(PREFIX);
+    }
+    
+    /**
+     * Init by string data.
+     *
+     * @param data string data
+     * @return keyset position
+     */
+    public static KeysetPosition init(final String data) {
+        Preconditions.checkArgument(isKeysetPosition(data), "Unknown keyset position: " + data);
+        String bounds = data.substring(PREFIX.length());
+        int separatorIndex = bounds.indexOf(BOUND_SEPARATOR);
+        Preconditions.checkArgument(separatorIndex >= 0, "Unknown keyset position: " + data);
+        return new KeysetPosition(decode(bounds.substring(0, separatorIndex)), decode(bounds.substring(separatorIndex + 1)));
+    }
+    
+    @SneakyThrows(UnsupportedEncodingException.class)
+    private static List<String> decode(final String bound) {
+        if (UNBOUNDED.equals(bound)) {
+            return Collections.emptyList();
+        }
+        List<String> result = new ArrayList<>();
+        for (String each : bound.split(VALUE_SEPARATOR, -1)) {
+            result.add(URLDecoder.decode(each, StandardCharsets.UTF_8.name()));
+        }
+        return result;
+    }
+    
+    /**
+     * Judge whether lower bound exists.
+     *
+     * @return lower bounded or not
+     */
+    public boolean isLowerBounded() {
+        return !lowerValues.isEmpty();
+    }
+    
+    /**
+     * Judge whether upper bound exists.
+     *
+     * @return upper bounded or not
+     */
+    public boolean isUpperBounded() {
+        return !upperValues.isEmpty();
+    }
+    
+    @Override
+    public int compareTo(final KeysetPosition position) {
+        if (null == position) {
+            return 1;
+        }
+        if (!isLowerBounded() || !position.isLowerBounded()) {
+            return Boolean.compare(isLowerBounded(), position.isLowerBounded());
+        }
+        for (int i = 0; i < Math.min(lowerValues.size(), position.lowerValues.size()); i++) {
+            int result = compareValue(lowerValues.get(i), position.lowerValues.get(i));
+            if (0 != result) {
+                return result;
+            }
+        }
+        return Integer.compare(lowerValues.size(), position.lowerValues.size());
+    }
+    
+    private static int compareValue(final String value, final String otherValue) {
+        Optional<BigDecimal> number = parseNumber(value);
+        Optional<BigDecimal> otherNumber = parseNumber(otherValue);
+        return number.isPresent() && otherNumber.isPresent() ? number.get().compareTo(otherNumber.get()) : value.compareTo(otherValue);
+    }
+    
+    private static Optional<BigDecimal> parseNumber(final String value) {
+        if (!NUMBER_PATTERN.matcher(value).matches()) {
+            return Optional.empty();
+        }
+        return Optional.of(new BigDecimal(value));
+    }
+    
+    @Override
+    public String toString() {
+        return PREFIX + encode(lowerValues) + BOUND_SEPARATOR + encode(upperValues);
+    }
+    
+    @SneakyThrows(UnsupportedEncodingException.class)
+    private static String encode(final List<String> values) {
+        if (values.isEmpty()) {
+            return UNBOUNDED;
+        }
+        StringBuilder result = new StringBuilder();
+        for (String each : values) {
+            result.append(URLEncoder.encode(each, StandardCharsets.UTF_8.name())).append(VALUE_SEPARATOR);
+        }
+        result.setLength(result.length() - VALUE_SEPARATOR.length());
+        return result.toString();
+    }
+}
@@ -23,6 +23,9 @@ import lombok.RequiredArgsConstructor;
 
 /**
  * Use primary key as position.
+ *
+ * <p>Begin value is the first key which has not been dumped and end value is the last key of the split, both are inclusive.
+ * So the position of a dumped record is its key plus one, and resuming from it never dumps the record again.</p>
  */
 @RequiredArgsConstructor
 @Getter
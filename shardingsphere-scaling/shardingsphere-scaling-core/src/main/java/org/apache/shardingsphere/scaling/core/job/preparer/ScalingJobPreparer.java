@@ -59,6 +59,17 @@ public final class ScalingJobPreparer {
         }
     }
     
+    /**
+     * Prepare inventory tasks only, for scaling workers which claim inventory tasks of a sharding item owned by another worker.
+     *
+     * @param jobContext job context
+     */
+    public void prepareInventory(final JobContext jobContext) {
+        try (DataSourceManager dataSourceManager = new DataSourceManager(jobContext.getTaskConfigs())) {
+            initInventoryTasks(jobContext, dataSourceManager);
+        }
+    }
+    
     private void checkDataSource(final JobContext jobContext, final DataSourceManager dataSourceManager) {
         checkSourceDataSources(jobContext, dataSourceManager);
         if (null == jobContext.getInitProgress()) {
@@ -89,7 +100,7 @@ public final class ScalingJobPreparer {
     private void initIncrementalTasks(final JobContext jobContext, final DataSourceManager dataSourceManager) throws SQLException {
         for (TaskConfiguration each : jobContext.getTaskConfigs()) {
             each.getDumperConfig().setPosition(getIncrementalPosition(jobContext, each, dataSourceManager));
-            jobContext.getIncrementalTasks().add(ScalingTaskFactory.createIncrementalTask(each.getHandleConfig().getConcurrency(), each.getDumperConfig(), each.getImporterConfig()));
+            jobContext.getIncrementalTasks().add(ScalingTaskFactory.createIncrementalTask(each.getHandleConfig().getIncrementalConcurrency(), each.getDumperConfig(), each.getImporterConfig()));
         }
     }
     
@@ -23,11 +23,14 @@ import org.apache.shardingsphere.infra.metadata.schema.model.TableMetaData;
 import org.apache.shardingsphere.scaling.core.common.datasource.DataSourceManager;
 import org.apache.shardingsphere.scaling.core.common.datasource.MetaDataManager;
 import org.apache.shardingsphere.scaling.core.common.exception.PrepareFailedException;
+import org.apache.shardingsphere.scaling.core.common.sqlbuilder.ScalingSQLBuilder;
 import org.apache.shardingsphere.scaling.core.common.sqlbuilder.ScalingSQLBuilderFactory;
+import org.apache.shardingsphere.scaling.core.common.sqlbuilder.UniqueKeyParameterUtil;
 import org.apache.shardingsphere.scaling.core.config.DumperConfiguration;
 import org.apache.shardingsphere.scaling.core.config.InventoryDumperConfiguration;
 import org.apache.shardingsphere.scaling.core.config.TaskConfiguration;
 import org.apache.shardingsphere.scaling.core.job.JobContext;
+import org.apache.shardingsphere.scaling.core.job.position.KeysetPosition;
 import org.apache.shardingsphere.scaling.core.job.position.PlaceholderPosition;
 import org.apache.shardingsphere.scaling.core.job.position.PrimaryKeyPosition;
 import org.apache.shardingsphere.scaling.core.job.position.ScalingPosition;
@@ -39,11 +42,14 @@ import java.sql.Connection;
 import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
+import java.sql.Statement;
 import java.sql.Types;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.Optional;
 
 /**
  * Inventory data task splitter.
@@ -51,6 +57,8 @@ import java.util.List;
 @Slf4j
 public final class InventoryTaskSplitter {
     
+    private static final int SAMPLE_ROWS_PER_SPLIT = 100;
+    
     /**
      * Split inventory data to multi-tasks.
      *
@@ -100,6 +108,7 @@ public final class InventoryTaskSplitter {
             splitDumperConfig.setShardingItem(i++);
             splitDumperConfig.setTableName(dumperConfig.getTableName());
             splitDumperConfig.setPrimaryKey(dumperConfig.getPrimaryKey());
+            splitDumperConfig.setBatchSize(jobContext.getJobConfig().getHandleConfig().getInventoryBatchSize());
             result.add(splitDumperConfig);
         }
         return result;
@@ -117,16 +126,18 @@ public final class InventoryTaskSplitter {
             });
             return result;
         }
-        if (isSpiltByPrimaryKeyRange(metaDataManager, dumperConfig.getTableName())) {
-            String primaryKey = metaDataManager.getTableMetaData(dumperConfig.getTableName()).getPrimaryKeyColumns().get(0);
-            dumperConfig.setPrimaryKey(primaryKey);
+        TableMetaData tableMetaData = metaDataManager.getTableMetaData(dumperConfig.getTableName());
+        if (!isSplittable(tableMetaData, dumperConfig.getTableName())) {
+            return Lists.newArrayList(new PlaceholderPosition());
+        }
+        if (isSpiltByPrimaryKeyRange(tableMetaData)) {
+            dumperConfig.setPrimaryKey(tableMetaData.getPrimaryKeyColumns().get(0));
             return getPositionByPrimaryKeyRange(jobContext, dataSource, dumperConfig);
         }
-        return Lists.newArrayList(new PlaceholderPosition());
+        return getPositionByKeyset(jobContext, dataSource, dumperConfig, tableMetaData);
     }
     
-    private boolean isSpiltByPrimaryKeyRange(final MetaDataManager metaDataManager, final String tableName) {
-        TableMetaData tableMetaData = metaDataManager.getTableMetaData(tableName);
+    private boolean isSplittable(final TableMetaData tableMetaData, final String tableName) {
         if (null == tableMetaData) {
             log.warn("Can't split range for table {}, reason: can not get table metadata ", tableName);
             return false;
@@ -136,18 +147,14 @@ public final class InventoryTaskSplitter {
             log.warn("Can't split range for table {}, reason: no primary key", tableName);
             return false;
         }
-        if (primaryKeys.size() > 1) {
-            log.warn("Can't split range for table {}, reason: primary key is union primary", tableName);
-            return false;
-        }
-        int index = tableMetaData.findColumnIndex(primaryKeys.get(0));
-        if (isNotIntegerPrimary(tableMetaData.getColumnMetaData(index).getDataType())) {
-            log.warn("Can't split range for table {}, reason: primary key is not integer number", tableName);
-            return false;
-        }
         return true;
     }
     
+    private boolean isSpiltByPrimaryKeyRange(final TableMetaData tableMetaData) {
+        List<String> primaryKeys = tableMetaData.getPrimaryKeyColumns();
+        return 1 == primaryKeys.size() && !isNotIntegerPrimary(tableMetaData.getColumnMetaData(tableMetaData.findColumnIndex(primaryKeys.get(0))).getDataType());
+    }
+    
     private boolean isNotIntegerPrimary(final int columnType) {
         return Types.INTEGER != columnType && Types.BIGINT != columnType && Types.SMALLINT != columnType && Types.TINYINT != columnType;
     }
@@ -181,4 +188,100 @@ public final class InventoryTaskSplitter {
         }
         return result;
     }
+    
+    private Collection<ScalingPosition<?>> getPositionByKeyset(final JobContext jobContext, final DataSource dataSource,
+                                                               final InventoryDumperConfiguration dumperConfig, final TableMetaData tableMetaData) {
+        List<String> primaryKeys = tableMetaData.getPrimaryKeyColumns();
+        ScalingSQLBuilder sqlBuilder = ScalingSQLBuilderFactory.newInstance(jobContext.getJobConfig().getHandleConfig().getDatabaseType());
+        int shardingSize = jobContext.getJobConfig().getHandleConfig().getShardingSize();
+        try (Connection connection = dataSource.getConnection()) {
+            Optional<List<List<String>>> splitKeys = findSplitKeysBySample(connection, sqlBuilder, dumperConfig.getTableName(), tableMetaData, shardingSize);
+            return createKeysetPositions(splitKeys.isPresent() ? splitKeys.get() : findSplitKeysByWalk(connection, sqlBuilder, dumperConfig.getTableName(), tableMetaData, shardingSize));
+        } catch (final SQLException ex) {
+            throw new PrepareFailedException(String.format("Split task for table %s by primary keys %s error", dumperConfig.getTableName(), primaryKeys), ex);
+        }
+    }
+    
+    private Collection<ScalingPosition<?>> createKeysetPositions(final List<List<String>> splitKeys) {
+        Collection<ScalingPosition<?>> result = new ArrayList<>(splitKeys.size() + 1);
+        List<String> lowerValues = Collections.emptyList();
+        for (List<String> each : splitKeys) {
+            result.add(new KeysetPosition(lowerValues, each));
+            lowerValues = each;
+        }
+        result.add(new KeysetPosition(lowerValues, Collections.emptyList()));
+        return result;
+    }
+    
+    private Optional<List<List<String>>> findSplitKeysBySample(final Connection connection, final ScalingSQLBuilder sqlBuilder, final String tableName, final TableMetaData tableMetaData,
+                                                               final int shardingSize) throws SQLException {
+        Optional<String> estimateRowCountSQL = sqlBuilder.buildEstimateRowCountSQL(tableName);
+        if (!estimateRowCountSQL.isPresent()) {
+            return Optional.empty();
+        }
+        long rowCount = estimateRowCount(connection, estimateRowCountSQL.get());
+        if (rowCount <= shardingSize) {
+            return Optional.empty();
+        }
+        int splitCount = (int) Math.min(Integer.MAX_VALUE / SAMPLE_ROWS_PER_SPLIT, (rowCount + shardingSize - 1) / shardingSize);
+        double percentage = Math.min(100D, 100D * splitCount * SAMPLE_ROWS_PER_SPLIT / rowCount);
+        List<String> primaryKeys = tableMetaData.getPrimaryKeyColumns();
+        Optional<String> sampleSQL = sqlBuilder.buildSampleUniqueKeySQL(tableName, primaryKeys, percentage);
+        if (!sampleSQL.isPresent()) {
+            return Optional.empty();
+        }
+        List<List<String>> samples = new ArrayList<>();
+        try (Statement statement = connection.createStatement();
+             ResultSet resultSet = statement.executeQuery(sampleSQL.get())) {
+            while (resultSet.next()) {
+                samples.add(UniqueKeyParameterUtil.readValues(resultSet, primaryKeys, tableMetaData));
+            }
+        }
+        if (samples.size() < splitCount) {
+            log.info("Sampled {} keys of table {} are not enough for {} splits, fall back to walk keys", samples.size(), tableName, splitCount);
+            return Optional.empty();
+        }
+        List<List<String>> result = new ArrayList<>(splitCount - 1);
+        for (int i = 1; i < splitCount; i++) {
+            List<String> splitKey = samples.get((int) ((long) i * samples.size() / splitCount) - 1);
+            if (result.isEmpty() || !result.get(result.size() - 1).equals(splitKey)) {
+                result.add(splitKey);
+            }
+        }
+        return Optional.of(result);
+    }
+    
+    private long estimateRowCount(final Connection connection, final String estimateRowCountSQL) throws SQLException {
+        try (Statement statement = connection.createStatement();
+             ResultSet resultSet = statement.executeQuery(estimateRowCountSQL)) {
+            return resultSet.next() ? resultSet.getLong(1) : 0L;
+        }
+    }
+    
+    private List<List<String>> findSplitKeysByWalk(final Connection connection, final ScalingSQLBuilder sqlBuilder, final String tableName, final TableMetaData tableMetaData,
+                                                   final int shardingSize) throws SQLException {
+        List<List<String>> result = new ArrayList<>();
+        Optional<List<String>> splitKey = findSplitKey(connection, sqlBuilder, tableName, tableMetaData, Collections.emptyList(), shardingSize);
+        while (splitKey.isPresent()) {
+            Optional<List<String>> nextSplitKey = findSplitKey(connection, sqlBuilder, tableName, tableMetaData, splitKey.get(), shardingSize);
+            if (!nextSplitKey.isPresent()) {
+                break;
+            }
+            result.add(splitKey.get());
+            splitKey = nextSplitKey;
+        }
+        return result;
+    }
+    
+    private Optional<List<String>> findSplitKey(final Connection connection, final ScalingSQLBuilder sqlBuilder, final String tableName, final TableMetaData tableMetaData,
+                                                final List<String> lowerValues, final int shardingSize) throws SQLException {
+        List<String> primaryKeys = tableMetaData.getPrimaryKeyColumns();
+        try (PreparedStatement preparedStatement = connection.prepareStatement(sqlBuilder.buildSplitByUniqueKeySQL(tableName, primaryKeys, !lowerValues.isEmpty()))) {
+            int parameterIndex = UniqueKeyParameterUtil.setParameters(preparedStatement, 1, primaryKeys, lowerValues, tableMetaData);
+            preparedStatement.setInt(parameterIndex, shardingSize - 1);
+            try (ResultSet resultSet = preparedStatement.executeQuery()) {
+                return resultSet.next() ? Optional.of(UniqueKeyParameterUtil.readValues(resultSet, primaryKeys, tableMetaData)) : Optional.empty();
+            }
+        }
+    }
 }
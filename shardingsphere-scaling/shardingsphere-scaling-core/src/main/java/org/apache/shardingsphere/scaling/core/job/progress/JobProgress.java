@@ -28,6 +28,8 @@ import org.apache.shardingsphere.scaling.core.job.progress.yaml.YamlJobProgress;
 import org.apache.shardingsphere.scaling.core.job.task.incremental.IncrementalTaskProgress;
 import org.apache.shardingsphere.scaling.core.job.task.inventory.InventoryTaskProgress;
 
+import java.util.Comparator;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
@@ -73,7 +75,7 @@ public final class JobProgress {
     }
     
     /**
-     * Get inventory position.
+     * Get inventory position, ordered by split index so that split inventory tasks are restored with the same task ids.
      *
      * @param tableName table name
      * @return inventory position
@@ -82,7 +84,13 @@ public final class JobProgress {
         Pattern pattern = Pattern.compile(String.format("%s(#\\d+)?", tableName));
         return inventoryTaskProgressMap.entrySet().stream()
                 .filter(entry -> pattern.matcher(entry.getKey()).find())
-                .collect(Collectors.toMap(Entry::getKey, entry -> entry.getValue().getPosition()));
+                .sorted(Comparator.comparingInt(entry -> getSplitIndex(entry.getKey())))
+                .collect(Collectors.toMap(Entry::getKey, entry -> entry.getValue().getPosition(), (oldValue, currentValue) -> oldValue, LinkedHashMap::new));
+    }
+    
+    private int getSplitIndex(final String taskId) {
+        int index = taskId.lastIndexOf('#');
+        return index < 0 ? 0 : Integer.parseInt(taskId.substring(index + 1));
     }
     
     @Override
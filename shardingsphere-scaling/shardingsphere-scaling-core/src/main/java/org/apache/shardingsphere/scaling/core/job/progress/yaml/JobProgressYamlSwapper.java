@@ -21,9 +21,11 @@ import com.google.common.base.Strings;
 import com.google.common.collect.Maps;
 import org.apache.shardingsphere.scaling.core.job.JobStatus;
 import org.apache.shardingsphere.scaling.core.job.position.FinishedPosition;
+import org.apache.shardingsphere.scaling.core.job.position.KeysetPosition;
 import org.apache.shardingsphere.scaling.core.job.position.PlaceholderPosition;
 import org.apache.shardingsphere.scaling.core.job.position.PositionInitializerFactory;
 import org.apache.shardingsphere.scaling.core.job.position.PrimaryKeyPosition;
+import org.apache.shardingsphere.scaling.core.job.position.ScalingPosition;
 import org.apache.shardingsphere.scaling.core.job.progress.JobProgress;
 import org.apache.shardingsphere.scaling.core.job.task.incremental.IncrementalTaskProgress;
 import org.apache.shardingsphere.scaling.core.job.task.inventory.InventoryTaskProgress;
@@ -49,12 +51,18 @@ public final class JobProgressYamlSwapper {
         YamlJobProgress result = new YamlJobProgress();
         result.setStatus(jobProgress.getStatus().name());
         result.setDatabaseType(jobProgress.getDatabaseType());
-        result.setInventory(getYamlInventory(jobProgress.getInventoryTaskProgressMap()));
+        result.setInventory(swapInventoryToYaml(jobProgress.getInventoryTaskProgressMap()));
         result.setIncremental(getYamlIncremental(jobProgress.getIncrementalTaskProgressMap()));
         return result;
     }
     
-    private YamlJobProgress.YamlInventory getYamlInventory(final Map<String, InventoryTaskProgress> inventoryTaskProgressMap) {
+    /**
+     * Swap inventory task progress to yaml.
+     *
+     * @param inventoryTaskProgressMap inventory task progress map
+     * @return yaml inventory
+     */
+    public YamlJobProgress.YamlInventory swapInventoryToYaml(final Map<String, InventoryTaskProgress> inventoryTaskProgressMap) {
         YamlJobProgress.YamlInventory result = new YamlJobProgress.YamlInventory();
         result.setFinished(getFinished(inventoryTaskProgressMap));
         result.setUnfinished(getUnfinished(inventoryTaskProgressMap));
@@ -94,12 +102,18 @@ public final class JobProgressYamlSwapper {
         JobProgress result = new JobProgress();
         result.setStatus(JobStatus.valueOf(yamlJobProgress.getStatus()));
         result.setDatabaseType(yamlJobProgress.getDatabaseType());
-        result.setInventoryTaskProgressMap(getInventoryTaskProgressMap(yamlJobProgress.getInventory()));
+        result.setInventoryTaskProgressMap(null == yamlJobProgress.getInventory() ? Maps.newHashMap() : swapInventoryToObject(yamlJobProgress.getInventory()));
         result.setIncrementalTaskProgressMap(getIncrementalTaskProgressMap(yamlJobProgress.getDatabaseType(), yamlJobProgress.getIncremental()));
         return result;
     }
     
-    private Map<String, InventoryTaskProgress> getInventoryTaskProgressMap(final YamlJobProgress.YamlInventory inventory) {
+    /**
+     * Swap yaml inventory to inventory task progress.
+     *
+     * @param inventory yaml inventory
+     * @return inventory task progress map
+     */
+    public Map<String, InventoryTaskProgress> swapInventoryToObject(final YamlJobProgress.YamlInventory inventory) {
         Map<String, InventoryTaskProgress> result = Maps.newHashMap();
         result.putAll(Arrays.stream(inventory.getFinished())
                 .collect(Collectors.toMap(each -> each, each -> new InventoryTaskProgress(new FinishedPosition()))));
@@ -109,7 +123,14 @@ public final class JobProgressYamlSwapper {
     }
     
     private Function<Entry<String, String>, InventoryTaskProgress> getInventoryTaskProgressFunction() {
-        return entry -> new InventoryTaskProgress(Strings.isNullOrEmpty(entry.getValue()) ? new PlaceholderPosition() : PrimaryKeyPosition.init(entry.getValue()));
+        return entry -> new InventoryTaskProgress(getInventoryPosition(entry.getValue()));
+    }
+    
+    private ScalingPosition<?> getInventoryPosition(final String data) {
+        if (Strings.isNullOrEmpty(data)) {
+            return new PlaceholderPosition();
+        }
+        return KeysetPosition.isKeysetPosition(data) ? KeysetPosition.init(data) : PrimaryKeyPosition.init(data);
     }
     
     private Map<String, IncrementalTaskProgress> getIncrementalTaskProgressMap(final String databaseType, final Map<String, YamlJobProgress.YamlIncremental> incremental) {
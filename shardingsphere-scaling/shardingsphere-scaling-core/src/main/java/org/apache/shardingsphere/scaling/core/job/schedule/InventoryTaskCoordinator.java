@@ -0,0 +1,164 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.scaling.core.job.schedule;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.shardingsphere.scaling.core.api.GovernanceRepositoryAPI;
+import org.apache.shardingsphere.scaling.core.config.InventoryDumperConfiguration;
+import org.apache.shardingsphere.scaling.core.job.JobContext;
+import org.apache.shardingsphere.scaling.core.job.position.FinishedPosition;
+import org.apache.shardingsphere.scaling.core.job.position.ScalingPosition;
+import org.apache.shardingsphere.scaling.core.job.task.ScalingTaskFactory;
+import org.apache.shardingsphere.scaling.core.job.task.inventory.InventoryTask;
+import org.apache.shardingsphere.scaling.core.job.task.inventory.InventoryTaskProgress;
+
+import java.lang.management.ManagementFactory;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.ListIterator;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Inventory task coordinator, which checkpoints the last acknowledged position of each split inventory task,
+ * and shares split inventory tasks of a sharding item among scaling workers through registry leases if they are distributed.
+ */
+@RequiredArgsConstructor
+@Slf4j
+public final class InventoryTaskCoordinator {
+    
+    private static final String WORKER_ID = ManagementFactory.getRuntimeMXBean().getName();
+    
+    private final JobContext jobContext;
+    
+    private final GovernanceRepositoryAPI governanceRepositoryAPI;
+    
+    private final Map<String, InventoryTask> leasedTasks = new ConcurrentHashMap<>();
+    
+    private final Map<String, ScalingPosition<?>> checkpointedPositions = new ConcurrentHashMap<>();
+    
+    /**
+     * Publish checkpoints of inventory tasks, which are claimable work items if inventory tasks are distributed, checkpoints published before are kept.
+     */
+    public void publish() {
+        Map<String, InventoryTaskProgress> checkpoints = governanceRepositoryAPI.getInventoryTaskProgress(jobContext.getJobId(), jobContext.getShardingItem());
+        for (InventoryTask each : jobContext.getInventoryTasks()) {
+            if (!checkpoints.containsKey(each.getTaskId())) {
+                checkpoint(each);
+            }
+        }
+    }
+    
+    /**
+     * Claim unfinished inventory tasks which are not leased by any worker.
+     *
+     * @return claimed inventory tasks, which resume from their latest checkpoints
+     */
+    public synchronized List<InventoryTask> claim() {
+        List<InventoryTask> result = new LinkedList<>();
+        Map<String, InventoryTaskProgress> checkpoints = governanceRepositoryAPI.getInventoryTaskProgress(jobContext.getJobId(), jobContext.getShardingItem());
+        ListIterator<InventoryTask> iterator = jobContext.getInventoryTasks().listIterator();
+        while (iterator.hasNext()) {
+            InventoryTask each = iterator.next();
+            InventoryTaskProgress checkpoint = checkpoints.get(each.getTaskId());
+            if (null == checkpoint || checkpoint.getPosition() instanceof FinishedPosition || leasedTasks.containsKey(each.getTaskId())
+                    || !governanceRepositoryAPI.leaseInventoryTask(jobContext.getJobId(), jobContext.getShardingItem(), each.getTaskId(), WORKER_ID)) {
+                continue;
+            }
+            InventoryTask claimedTask = createInventoryTask(each, checkpoint);
+            iterator.set(claimedTask);
+            leasedTasks.put(claimedTask.getTaskId(), claimedTask);
+            checkpointedPositions.put(claimedTask.getTaskId(), checkpoint.getPosition());
+            result.add(claimedTask);
+        }
+        return result;
+    }
+    
+    private InventoryTask createInventoryTask(final InventoryTask inventoryTask, final InventoryTaskProgress checkpoint) {
+        InventoryDumperConfiguration dumperConfig = new InventoryDumperConfiguration(inventoryTask.getInventoryDumperConfig());
+        dumperConfig.setTableName(inventoryTask.getInventoryDumperConfig().getTableName());
+        dumperConfig.setPrimaryKey(inventoryTask.getInventoryDumperConfig().getPrimaryKey());
+        dumperConfig.setShardingItem(inventoryTask.getInventoryDumperConfig().getShardingItem());
+        dumperConfig.setBatchSize(inventoryTask.getInventoryDumperConfig().getBatchSize());
+        dumperConfig.setPosition(checkpoint.getPosition());
+        return ScalingTaskFactory.createInventoryTask(dumperConfig, inventoryTask.getImporterConfig());
+    }
+    
+    /**
+     * Checkpoint positions of inventory tasks which moved since last checkpoint, leases of finished tasks are released.
+     * 
+     * <p>
+     * A leased task is only checkpointed after its lease is confirmed to be still owned by this worker,
+     * a task whose lease is lost is stopped and left to the worker which took it over.
+     * </p>
+     */
+    public synchronized void checkpoint() {
+        if (!jobContext.getJobConfig().getHandleConfig().isDistributeInventoryTasks()) {
+            jobContext.getInventoryTasks().forEach(this::checkpoint);
+            return;
+        }
+        for (InventoryTask each : leasedTasks.values()) {
+            if (isMoved(each) && !governanceRepositoryAPI.isInventoryTaskLeased(jobContext.getJobId(), jobContext.getShardingItem(), each.getTaskId(), WORKER_ID)) {
+                log.warn("lease of inventory task {}-{} {} is lost, stop it", jobContext.getJobId(), jobContext.getShardingItem(), each.getTaskId());
+                each.stop();
+                leasedTasks.remove(each.getTaskId());
+                checkpointedPositions.remove(each.getTaskId());
+                continue;
+            }
+            if (checkpoint(each) instanceof FinishedPosition) {
+                governanceRepositoryAPI.releaseInventoryTask(jobContext.getJobId(), jobContext.getShardingItem(), each.getTaskId());
+                leasedTasks.remove(each.getTaskId());
+            }
+        }
+    }
+    
+    private ScalingPosition<?> checkpoint(final InventoryTask inventoryTask) {
+        InventoryTaskProgress progress = inventoryTask.getProgress();
+        if (progress.getPosition() != checkpointedPositions.get(inventoryTask.getTaskId())) {
+            governanceRepositoryAPI.persistInventoryTaskProgress(jobContext.getJobId(), jobContext.getShardingItem(), inventoryTask.getTaskId(), progress);
+            checkpointedPositions.put(inventoryTask.getTaskId(), progress.getPosition());
+        }
+        return progress.getPosition();
+    }
+    
+    private boolean isMoved(final InventoryTask inventoryTask) {
+        return inventoryTask.getProgress().getPosition() != checkpointedPositions.get(inventoryTask.getTaskId());
+    }
+    
+    /**
+     * Release leases of all claimed inventory tasks, so that other workers can claim them.
+     */
+    public synchronized void release() {
+        for (String each : leasedTasks.keySet()) {
+            log.info("release inventory task {}-{} {}", jobContext.getJobId(), jobContext.getShardingItem(), each);
+            governanceRepositoryAPI.releaseInventoryTask(jobContext.getJobId(), jobContext.getShardingItem(), each);
+        }
+        leasedTasks.clear();
+    }
+    
+    /**
+     * Judge whether all inventory tasks of the sharding item are finished, no matter which worker executed them.
+     *
+     * @return all finished or not
+     */
+    public boolean isAllFinished() {
+        Map<String, InventoryTaskProgress> checkpoints = governanceRepositoryAPI.getInventoryTaskProgress(jobContext.getJobId(), jobContext.getShardingItem());
+        return jobContext.getInventoryTasks().stream().allMatch(each -> checkpoints.containsKey(each.getTaskId()) && checkpoints.get(each.getTaskId()).getPosition() instanceof FinishedPosition);
+    }
+}
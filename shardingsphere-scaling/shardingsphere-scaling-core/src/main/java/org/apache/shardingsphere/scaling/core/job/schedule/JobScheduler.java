@@ -18,25 +18,42 @@
 package org.apache.shardingsphere.scaling.core.job.schedule;
 
 import lombok.Getter;
-import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.apache.shardingsphere.scaling.core.api.ScalingAPIFactory;
 import org.apache.shardingsphere.scaling.core.config.ScalingContext;
 import org.apache.shardingsphere.scaling.core.executor.engine.ExecuteCallback;
 import org.apache.shardingsphere.scaling.core.job.JobContext;
 import org.apache.shardingsphere.scaling.core.job.JobStatus;
 import org.apache.shardingsphere.scaling.core.job.task.ScalingTask;
+import org.apache.shardingsphere.scaling.core.job.task.inventory.InventoryTask;
 import org.apache.shardingsphere.scaling.core.util.ScalingTaskUtil;
 
 /**
  * Job scheduler.
  */
 @Slf4j
-@RequiredArgsConstructor
 @Getter
 public final class JobScheduler implements Runnable {
     
     private final JobContext jobContext;
     
+    private final boolean assistant;
+    
+    private final boolean distributed;
+    
+    private final InventoryTaskCoordinator inventoryTaskCoordinator;
+    
+    public JobScheduler(final JobContext jobContext) {
+        this(jobContext, false);
+    }
+    
+    public JobScheduler(final JobContext jobContext, final boolean assistant) {
+        this.jobContext = jobContext;
+        this.assistant = assistant;
+        distributed = jobContext.getJobConfig().getHandleConfig().isDistributeInventoryTasks();
+        inventoryTaskCoordinator = new InventoryTaskCoordinator(jobContext, ScalingAPIFactory.getGovernanceRepositoryAPI());
+    }
+    
     /**
      * Start execute scaling job.
      */
@@ -56,6 +73,7 @@ public final class JobScheduler implements Runnable {
             log.info("stop inventory task {} - {}", jobContext.getJobId(), each.getTaskId());
             each.stop();
         }
+        inventoryTaskCoordinator.release();
         for (ScalingTask each : jobContext.getIncrementalTasks()) {
             log.info("stop incremental task {} - {}", jobContext.getJobId(), each.getTaskId());
             each.stop();
@@ -65,7 +83,7 @@ public final class JobScheduler implements Runnable {
     @Override
     public void run() {
         if (executeInventoryTask()) {
-            executeIncrementalTask();
+            finishInventoryTask();
         }
     }
     
@@ -76,6 +94,10 @@ public final class JobScheduler implements Runnable {
         }
         log.info("-------------- Start inventory task --------------");
         jobContext.setStatus(JobStatus.EXECUTE_INVENTORY_TASK);
+        if (distributed) {
+            claimInventoryTasks();
+            return false;
+        }
         ExecuteCallback inventoryTaskCallback = createInventoryTaskCallback();
         for (ScalingTask each : jobContext.getInventoryTasks()) {
             ScalingContext.getInstance().getInventoryDumperExecuteEngine().submit(each, inventoryTaskCallback);
@@ -83,15 +105,49 @@ public final class JobScheduler implements Runnable {
         return false;
     }
     
+    /**
+     * Checkpoint positions of inventory tasks acknowledged since last checkpoint.
+     */
+    public synchronized void checkpointInventoryTasks() {
+        if (JobStatus.EXECUTE_INVENTORY_TASK == jobContext.getStatus()) {
+            inventoryTaskCoordinator.checkpoint();
+        }
+    }
+    
+    /**
+     * Checkpoint leased inventory tasks and claim free ones, if inventory tasks are shared among scaling workers.
+     */
+    public synchronized void claimInventoryTasks() {
+        if (!distributed || JobStatus.EXECUTE_INVENTORY_TASK != jobContext.getStatus()) {
+            return;
+        }
+        inventoryTaskCoordinator.checkpoint();
+        if (inventoryTaskCoordinator.isAllFinished()) {
+            log.info("All inventory tasks finished.");
+            finishInventoryTask();
+            return;
+        }
+        ExecuteCallback inventoryTaskCallback = createInventoryTaskCallback();
+        for (InventoryTask each : inventoryTaskCoordinator.claim()) {
+            log.info("claim inventory task {}-{} {}", jobContext.getJobId(), jobContext.getShardingItem(), each.getTaskId());
+            ScalingContext.getInstance().getInventoryDumperExecuteEngine().submit(each, inventoryTaskCallback);
+        }
+    }
+    
+    private void finishInventoryTask() {
+        if (assistant) {
+            jobContext.setStatus(JobStatus.STOPPED);
+            return;
+        }
+        executeIncrementalTask();
+    }
+    
     private ExecuteCallback createInventoryTaskCallback() {
         return new ExecuteCallback() {
             
             @Override
             public void onSuccess() {
-                if (ScalingTaskUtil.allInventoryTasksFinished(jobContext.getInventoryTasks())) {
-                    log.info("All inventory tasks finished.");
-                    executeIncrementalTask();
-                }
+                onInventoryTaskSuccess();
             }
             
             @Override
@@ -103,6 +159,18 @@ public final class JobScheduler implements Runnable {
         };
     }
     
+    private void onInventoryTaskSuccess() {
+        if (distributed) {
+            claimInventoryTasks();
+            return;
+        }
+        checkpointInventoryTasks();
+        if (ScalingTaskUtil.allInventoryTasksFinished(jobContext.getInventoryTasks())) {
+            log.info("All inventory tasks finished.");
+            executeIncrementalTask();
+        }
+    }
+    
     private synchronized void executeIncrementalTask() {
         if (JobStatus.EXECUTE_INCREMENTAL_TASK == jobContext.getStatus()) {
             return;
@@ -24,6 +24,7 @@ import lombok.extern.slf4j.Slf4j;
 import org.apache.shardingsphere.infra.executor.kernel.thread.ExecutorThreadFactoryBuilder;
 import org.apache.shardingsphere.scaling.core.api.GovernanceRepositoryAPI;
 import org.apache.shardingsphere.scaling.core.api.ScalingAPIFactory;
+import org.apache.shardingsphere.scaling.core.config.ThrottleConfiguration;
 import org.apache.shardingsphere.scaling.core.job.JobContext;
 
 import java.util.Iterator;
@@ -46,25 +47,66 @@ public final class JobSchedulerCenter {
     
     private static final GovernanceRepositoryAPI REGISTRY_REPOSITORY_API = ScalingAPIFactory.getGovernanceRepositoryAPI();
     
+    private static final ScheduledExecutorService INVENTORY_TASK_EXECUTOR = Executors.newSingleThreadScheduledExecutor(ExecutorThreadFactoryBuilder.build("scaling-inventory-task-%d"));
+    
     static {
         JOB_PERSIST_EXECUTOR.scheduleWithFixedDelay(new PersistJobContextRunnable(), 1, 1, TimeUnit.MINUTES);
+        INVENTORY_TASK_EXECUTOR.scheduleWithFixedDelay(new CheckpointInventoryTaskRunnable(), 1, 1, TimeUnit.SECONDS);
+        INVENTORY_TASK_EXECUTOR.scheduleWithFixedDelay(new ClaimInventoryTaskRunnable(), 10, 10, TimeUnit.SECONDS);
+        INVENTORY_TASK_EXECUTOR.scheduleWithFixedDelay(new RemoveStoppedAssistantRunnable(), 1, 1, TimeUnit.SECONDS);
     }
     
     /**
-     * Start a job.
+     * Start a job, the assistant scheduling the same sharding item is replaced.
      *
      * @param jobContext job context
      */
     public static void start(final JobContext jobContext) {
-        String key = String.format("%d-%d", jobContext.getJobId(), jobContext.getShardingItem());
-        if (JOB_SCHEDULER_MAP.containsKey(key)) {
+        String key = getKey(jobContext.getJobId(), jobContext.getShardingItem());
+        JobScheduler existedJobScheduler = JOB_SCHEDULER_MAP.get(key);
+        if (null != existedJobScheduler && !existedJobScheduler.isAssistant()) {
             return;
         }
+        if (null != existedJobScheduler) {
+            existedJobScheduler.stop();
+        }
         JobScheduler jobScheduler = new JobScheduler(jobContext);
         jobScheduler.start();
         JOB_SCHEDULER_MAP.put(key, jobScheduler);
     }
     
+    /**
+     * Assist a sharding item owned by another scaling worker, by claiming and executing its inventory tasks.
+     *
+     * @param jobContext job context
+     */
+    public static void assist(final JobContext jobContext) {
+        String key = getKey(jobContext.getJobId(), jobContext.getShardingItem());
+        if (JOB_SCHEDULER_MAP.containsKey(key)) {
+            return;
+        }
+        JobScheduler jobScheduler = new JobScheduler(jobContext, true);
+        jobScheduler.start();
+        JOB_SCHEDULER_MAP.put(key, jobScheduler);
+    }
+    
+    /**
+     * Judge whether a sharding item of job is scheduled by this scaling worker.
+     *
+     * <p>Assistants are removed once they are stopped, so that the sharding item can be assisted again.</p>
+     *
+     * @param jobId job id
+     * @param shardingItem sharding item
+     * @return scheduled or not
+     */
+    public static boolean isScheduled(final long jobId, final int shardingItem) {
+        return JOB_SCHEDULER_MAP.containsKey(getKey(jobId, shardingItem));
+    }
+    
+    private static String getKey(final long jobId, final int shardingItem) {
+        return String.format("%d-%d", jobId, shardingItem);
+    }
+    
     /**
      * Stop a job.
      *
@@ -81,11 +123,30 @@ public final class JobSchedulerCenter {
         }
     }
     
+    /**
+     * Update throttle configuration of a running job.
+     *
+     * @param jobId job id
+     * @param throttleConfig throttle configuration
+     */
+    public static void updateThrottle(final long jobId, final ThrottleConfiguration throttleConfig) {
+        for (Entry<String, JobScheduler> entry : JOB_SCHEDULER_MAP.entrySet()) {
+            if (entry.getKey().startsWith(String.format("%d-", jobId))) {
+                JobContext jobContext = entry.getValue().getJobContext();
+                jobContext.getJobConfig().getHandleConfig().setThrottleConfig(throttleConfig);
+                jobContext.getRateLimiter().update(throttleConfig);
+            }
+        }
+    }
+    
     private static final class PersistJobContextRunnable implements Runnable {
         
         @Override
         public void run() {
             for (Map.Entry<String, JobScheduler> entry : JOB_SCHEDULER_MAP.entrySet()) {
+                if (entry.getValue().isAssistant()) {
+                    continue;
+                }
                 try {
                     REGISTRY_REPOSITORY_API.persistJobProgress(entry.getValue().getJobContext());
                     // CHECKSTYLE:OFF
@@ -96,4 +157,50 @@ public final class JobSchedulerCenter {
             }
         }
     }
+    
+    private static final class CheckpointInventoryTaskRunnable implements Runnable {
+        
+        @Override
+        public void run() {
+            for (Map.Entry<String, JobScheduler> entry : JOB_SCHEDULER_MAP.entrySet()) {
+                try {
+                    entry.getValue().checkpointInventoryTasks();
+                    // CHECKSTYLE:OFF
+                } catch (final Exception ex) {
+                    // CHECKSTYLE:ON
+                    log.error("checkpoint inventory tasks of job {} failed.", entry.getKey(), ex);
+                }
+            }
+        }
+    }
+    
+    private static final class ClaimInventoryTaskRunnable implements Runnable {
+        
+        @Override
+        public void run() {
+            for (Map.Entry<String, JobScheduler> entry : JOB_SCHEDULER_MAP.entrySet()) {
+                try {
+                    entry.getValue().claimInventoryTasks();
+                    // CHECKSTYLE:OFF
+                } catch (final Exception ex) {
+                    // CHECKSTYLE:ON
+                    log.error("claim inventory tasks of job {} failed.", entry.getKey(), ex);
+                }
+            }
+        }
+    }
+    
+    private static final class RemoveStoppedAssistantRunnable implements Runnable {
+        
+        @Override
+        public void run() {
+            for (Map.Entry<String, JobScheduler> entry : JOB_SCHEDULER_MAP.entrySet()) {
+                JobScheduler jobScheduler = entry.getValue();
+                if (jobScheduler.isAssistant() && !jobScheduler.getJobContext().getStatus().isRunning() && JOB_SCHEDULER_MAP.remove(entry.getKey(), jobScheduler)) {
+                    log.info("remove stopped assistant of job {}, status {}", entry.getKey(), jobScheduler.getJobContext().getStatus());
+                    jobScheduler.stop();
+                }
+            }
+        }
+    }
 }
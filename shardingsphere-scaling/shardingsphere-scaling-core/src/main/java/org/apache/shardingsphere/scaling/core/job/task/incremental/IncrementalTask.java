@@ -19,6 +19,7 @@ package org.apache.shardingsphere.scaling.core.job.task.incremental;
 
 import lombok.Getter;
 import lombok.extern.slf4j.Slf4j;
+import org.apache.shardingsphere.scaling.core.common.channel.RateLimitedChannel;
 import org.apache.shardingsphere.scaling.core.common.channel.distribution.DistributionChannel;
 import org.apache.shardingsphere.scaling.core.common.datasource.DataSourceManager;
 import org.apache.shardingsphere.scaling.core.common.exception.ScalingTaskExecuteException;
@@ -95,11 +96,12 @@ public final class IncrementalTask extends AbstractScalingExecutor implements Sc
         DistributionChannel channel = new DistributionChannel(importers.size(), records -> {
             Record lastHandledRecord = records.get(records.size() - 1);
             if (!(lastHandledRecord.getPosition() instanceof PlaceholderPosition)) {
-                progress = new IncrementalTaskProgress(lastHandledRecord.getPosition(),
-                        new IncrementalTaskDelay(lastHandledRecord.getCommitTime(), System.currentTimeMillis() - lastHandledRecord.getCommitTime()));
+                long delayMilliseconds = System.currentTimeMillis() - lastHandledRecord.getCommitTime();
+                progress = new IncrementalTaskProgress(lastHandledRecord.getPosition(), new IncrementalTaskDelay(lastHandledRecord.getCommitTime(), delayMilliseconds));
+                dumperConfig.getRateLimiter().observeIncrementalDelay(delayMilliseconds);
             }
         });
-        dumper.setChannel(channel);
+        dumper.setChannel(new RateLimitedChannel(channel, dumperConfig.getRateLimiter()));
         for (Importer each : importers) {
             each.setChannel(channel);
         }
@@ -49,15 +49,17 @@ public final class InventoryTask extends AbstractScalingExecutor implements Scal
     @Getter
     private final String taskId;
     
+    @Getter
     private final InventoryDumperConfiguration inventoryDumperConfig;
     
+    @Getter
     private final ImporterConfiguration importerConfig;
     
     private final DataSourceManager dataSourceManager;
     
     private Dumper dumper;
     
-    private ScalingPosition<?> position;
+    private volatile ScalingPosition<?> position;
     
     public InventoryTask(final InventoryDumperConfiguration inventoryDumperConfig, final ImporterConfiguration importerConfig) {
         this(inventoryDumperConfig, importerConfig, new DataSourceManager());
@@ -30,23 +30,28 @@ import org.apache.shardingsphere.scaling.core.config.ServerConfiguration;
 import org.apache.shardingsphere.scaling.core.config.TaskConfiguration;
 import org.apache.shardingsphere.scaling.core.fixture.EmbedTestingServer;
 import org.apache.shardingsphere.scaling.core.job.JobContext;
+import org.apache.shardingsphere.scaling.core.job.position.FinishedPosition;
 import org.apache.shardingsphere.scaling.core.job.position.PlaceholderPosition;
+import org.apache.shardingsphere.scaling.core.job.position.PrimaryKeyPosition;
 import org.apache.shardingsphere.scaling.core.job.progress.JobProgress;
 import org.apache.shardingsphere.scaling.core.job.task.ScalingTaskFactory;
 import org.apache.shardingsphere.scaling.core.job.task.incremental.IncrementalTask;
 import org.apache.shardingsphere.scaling.core.job.task.inventory.InventoryTask;
+import org.apache.shardingsphere.scaling.core.job.task.inventory.InventoryTaskProgress;
 import org.apache.shardingsphere.scaling.core.util.ReflectionUtil;
 import org.apache.shardingsphere.scaling.core.util.ResourceUtil;
 import org.junit.BeforeClass;
 import org.junit.Test;
 
 import java.util.List;
+import java.util.Map;
 import java.util.concurrent.CountDownLatch;
 
 import static org.hamcrest.CoreMatchers.is;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
 
 public final class GovernanceRepositoryAPIImplTest {
     
@@ -62,11 +67,43 @@ public final class GovernanceRepositoryAPIImplTest {
     @Test
     public void assertPersistJobProgress() {
         JobContext jobContext = mockJobContext();
+        InventoryTask inventoryTask = jobContext.getInventoryTasks().get(0);
+        governanceRepositoryAPI.persistInventoryTaskProgress(jobContext.getJobId(), jobContext.getShardingItem(), inventoryTask.getTaskId(), inventoryTask.getProgress());
         governanceRepositoryAPI.persistJobProgress(jobContext);
         JobProgress actual = governanceRepositoryAPI.getJobProgress(jobContext.getJobId(), jobContext.getShardingItem());
         assertThat(actual.toString(), is(mockYamlJobProgress()));
     }
     
+    @Test
+    public void assertPersistJobProgressWithoutInventoryPositions() {
+        JobContext jobContext = mockJobContext();
+        governanceRepositoryAPI.persistJobProgress(jobContext);
+        JobProgress actual = governanceRepositoryAPI.getJobProgress(jobContext.getJobId(), jobContext.getShardingItem());
+        assertTrue(actual.getInventoryTaskProgressMap().isEmpty());
+    }
+    
+    @Test
+    public void assertPersistInventoryTaskProgress() {
+        governanceRepositoryAPI.persistInventoryTaskProgress(2L, 0, "ds_0.t_order#0", new InventoryTaskProgress(new PrimaryKeyPosition(1, 100)));
+        governanceRepositoryAPI.persistInventoryTaskProgress(2L, 0, "ds_0.t_order#1", new InventoryTaskProgress(new FinishedPosition()));
+        Map<String, InventoryTaskProgress> actual = governanceRepositoryAPI.getInventoryTaskProgress(2L, 0);
+        assertThat(actual.size(), is(2));
+        assertThat(actual.get("ds_0.t_order#0").getPosition().toString(), is("1,100"));
+        assertTrue(actual.get("ds_0.t_order#1").getPosition() instanceof FinishedPosition);
+    }
+    
+    @Test
+    public void assertLeaseInventoryTask() {
+        assertTrue(governanceRepositoryAPI.leaseInventoryTask(3L, 0, "ds_0.t_order#0", "worker_0"));
+        assertFalse(governanceRepositoryAPI.leaseInventoryTask(3L, 0, "ds_0.t_order#0", "worker_1"));
+        assertTrue(governanceRepositoryAPI.leaseInventoryTask(3L, 0, "ds_0.t_order#1", "worker_1"));
+        assertTrue(governanceRepositoryAPI.isInventoryTaskLeased(3L, 0, "ds_0.t_order#0", "worker_0"));
+        governanceRepositoryAPI.releaseInventoryTask(3L, 0, "ds_0.t_order#0");
+        assertFalse(governanceRepositoryAPI.isInventoryTaskLeased(3L, 0, "ds_0.t_order#0", "worker_0"));
+        assertTrue(governanceRepositoryAPI.leaseInventoryTask(3L, 0, "ds_0.t_order#0", "worker_1"));
+        assertFalse(governanceRepositoryAPI.isInventoryTaskLeased(3L, 0, "ds_0.t_order#0", "worker_0"));
+    }
+    
     @Test
     public void assertDeleteJob() {
         governanceRepositoryAPI.persist(ScalingConstant.SCALING_ROOT + "/1", "");
@@ -27,6 +27,7 @@ import org.apache.shardingsphere.scaling.core.config.JobConfiguration;
 import org.apache.shardingsphere.scaling.core.config.RuleConfiguration;
 import org.apache.shardingsphere.scaling.core.config.ScalingContext;
 import org.apache.shardingsphere.scaling.core.config.ServerConfiguration;
+import org.apache.shardingsphere.scaling.core.config.ThrottleConfiguration;
 import org.apache.shardingsphere.scaling.core.fixture.EmbedTestingServer;
 import org.apache.shardingsphere.scaling.core.job.check.consistency.DataConsistencyCheckResult;
 import org.apache.shardingsphere.scaling.core.job.progress.JobProgress;
@@ -122,6 +123,19 @@ public final class ScalingAPIImplTest {
         assertThat(checkResultMap.get("t_order").getTargetCount(), is(2L));
     }
     
+    @Test
+    public void assertUpdateThrottle() {
+        Optional<Long> jobId = scalingAPI.start(ResourceUtil.mockJobConfig());
+        assertTrue(jobId.isPresent());
+        ThrottleConfiguration throttleConfig = new ThrottleConfiguration();
+        throttleConfig.setRowsPerSecond(1000);
+        throttleConfig.setAdaptive(true);
+        scalingAPI.updateThrottle(jobId.get(), throttleConfig);
+        ThrottleConfiguration actual = scalingAPI.getJobConfig(jobId.get()).getHandleConfig().getThrottleConfig();
+        assertThat(actual.getRowsPerSecond(), is(1000));
+        assertTrue(actual.isAdaptive());
+    }
+    
     @Test
     @SneakyThrows(SQLException.class)
     public void assertResetTargetTable() {
@@ -0,0 +1,146 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.scaling.core.common.channel;
+
+import org.apache.shardingsphere.scaling.core.common.record.DataRecord;
+import org.apache.shardingsphere.scaling.core.common.record.Record;
+import org.apache.shardingsphere.scaling.core.job.position.PlaceholderPosition;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+
+public final class RecordRingBufferTest {
+    
+    @Test
+    public void assertDrainToWithWrapAround() throws InterruptedException {
+        RecordRingBuffer ringBuffer = new RecordRingBuffer(4);
+        for (int i = 0; i < 3; i++) {
+            ringBuffer.put(createDataRecord(i));
+        }
+        List<Record> records = new ArrayList<>();
+        assertThat(ringBuffer.drainTo(records, 2, 0, 0), is(2));
+        for (int i = 3; i < 6; i++) {
+            ringBuffer.put(createDataRecord(i));
+        }
+        assertThat(ringBuffer.size(), is(4));
+        assertThat(ringBuffer.drainTo(records, 10, 0, 0), is(4));
+        for (int i = 0; i < records.size(); i++) {
+            assertThat(((DataRecord) records.get(i)).getTableName(), is("t_" + i));
+        }
+    }
+    
+    @Test
+    public void assertDrainToReturnAfterLinger() throws InterruptedException {
+        RecordRingBuffer ringBuffer = new RecordRingBuffer(16);
+        ringBuffer.put(createDataRecord(0));
+        long start = System.nanoTime();
+        assertThat(ringBuffer.drainTo(new ArrayList<>(), 10, 10000, 10), is(1));
+        assertTrue(System.nanoTime() - start < TimeUnit.SECONDS.toNanos(5));
+    }
+    
+    @Test
+    public void assertDrainToWakeUpWhenRecordArrived() throws InterruptedException {
+        RecordRingBuffer ringBuffer = new RecordRingBuffer(16);
+        CountDownLatch started = new CountDownLatch(1);
+        Thread producer = new Thread(() -> {
+            try {
+                started.await();
+                ringBuffer.put(createDataRecord(0));
+            } catch (final InterruptedException ignored) {
+            }
+        });
+        producer.start();
+        started.countDown();
+        long start = System.nanoTime();
+        assertThat(ringBuffer.drainTo(new ArrayList<>(), 1, 10000, 0), is(1));
+        assertTrue(System.nanoTime() - start < TimeUnit.SECONDS.toNanos(5));
+        producer.join();
+    }
+    
+    @Test
+    public void assertPutWaitUntilDrained() throws InterruptedException {
+        RecordRingBuffer ringBuffer = new RecordRingBuffer(2);
+        Thread producer = new Thread(() -> {
+            try {
+                for (int i = 0; i < 10; i++) {
+                    ringBuffer.put(createDataRecord(i));
+                }
+            } catch (final InterruptedException ignored) {
+            }
+        });
+        producer.start();
+        List<Record> records = new ArrayList<>();
+        while (records.size() < 10) {
+            ringBuffer.drainTo(records, 10, 1000, 0);
+        }
+        producer.join();
+        for (int i = 0; i < records.size(); i++) {
+            assertThat(((DataRecord) records.get(i)).getTableName(), is("t_" + i));
+        }
+    }
+    
+    @Test
+    public void assertCloseWakeUpWaitingProducer() throws InterruptedException {
+        RecordRingBuffer ringBuffer = new RecordRingBuffer(2);
+        ringBuffer.put(createDataRecord(0));
+        ringBuffer.put(createDataRecord(1));
+        Thread producer = new Thread(() -> {
+            try {
+                ringBuffer.put(createDataRecord(2));
+            } catch (final InterruptedException ignored) {
+            }
+        });
+        producer.start();
+        ringBuffer.close();
+        producer.join(TimeUnit.SECONDS.toMillis(5));
+        assertFalse(producer.isAlive());
+        assertThat(ringBuffer.size(), is(2));
+        assertThat(ringBuffer.drainTo(new ArrayList<>(), 10, 10000, 0), is(0));
+        assertThat(ringBuffer.size(), is(0));
+    }
+    
+    @Test
+    public void assertCloseWakeUpWaitingConsumer() throws InterruptedException {
+        RecordRingBuffer ringBuffer = new RecordRingBuffer(16);
+        Thread closer = new Thread(ringBuffer::close);
+        closer.start();
+        long start = System.nanoTime();
+        assertThat(ringBuffer.drainTo(new ArrayList<>(), 10, 10000, 0), is(0));
+        assertTrue(System.nanoTime() - start < TimeUnit.SECONDS.toNanos(5));
+        closer.join();
+    }
+    
+    @Test
+    public void assertDrainToTimeout() {
+        assertThat(new RecordRingBuffer(16).drainTo(new ArrayList<>(), 10, 10, 10), is(0));
+    }
+    
+    private DataRecord createDataRecord(final int index) {
+        DataRecord result = new DataRecord(new PlaceholderPosition(), 0);
+        result.setTableName("t_" + index);
+        return result;
+    }
+}
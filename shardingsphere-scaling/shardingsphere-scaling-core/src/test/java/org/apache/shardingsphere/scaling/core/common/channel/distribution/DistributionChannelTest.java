@@ -21,6 +21,7 @@ import lombok.Getter;
 import lombok.RequiredArgsConstructor;
 import lombok.SneakyThrows;
 import org.apache.shardingsphere.scaling.core.common.channel.AckCallback;
+import org.apache.shardingsphere.scaling.core.common.record.Column;
 import org.apache.shardingsphere.scaling.core.common.record.DataRecord;
 import org.apache.shardingsphere.scaling.core.common.record.FinishedRecord;
 import org.apache.shardingsphere.scaling.core.common.record.PlaceholderRecord;
@@ -33,11 +34,18 @@ import org.junit.Before;
 import org.junit.Test;
 
 import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedList;
 import java.util.List;
+import java.util.Map;
 import java.util.Random;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BiConsumer;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 
 import static org.hamcrest.CoreMatchers.is;
 import static org.junit.Assert.assertThat;
@@ -65,7 +73,76 @@ public final class DistributionChannelTest {
     
     @Test
     public void assertBroadcastFinishedRecord() {
-        execute(records -> assertThat(records.size(), is(2)), 2, new FinishedRecord(new PlaceholderPosition()));
+        AtomicInteger ackedCount = new AtomicInteger();
+        execute(records -> ackedCount.addAndGet(records.size()), 2, new FinishedRecord(new PlaceholderPosition()));
+        assertThat(ackedCount.get(), is(2));
+    }
+    
+    @Test
+    public void assertDataRecordsOfSameKeyFetchedInOrderBySameImporter() {
+        Record[] records = new Record[40];
+        for (int i = 0; i < records.length; i++) {
+            records[i] = mockDataRecord(i + 1, i % 4);
+        }
+        Map<Long, List<Record>> fetchedRecords = new ConcurrentHashMap<>();
+        fetchAndPush((threadId, fetched) -> fetchedRecords.computeIfAbsent(threadId, key -> new LinkedList<>()).addAll(fetched), records);
+        for (int id = 0; id < 4; id++) {
+            int currentId = id;
+            List<List<Integer>> positions = fetchedRecords.values().stream()
+                    .map(each -> each.stream().filter(record -> currentId == getId(record)).map(record -> ((IntPosition) record.getPosition()).getId()).collect(Collectors.toList()))
+                    .filter(each -> !each.isEmpty()).collect(Collectors.toList());
+            assertThat(positions.size(), is(1));
+            assertThat(positions.get(0), is(IntStream.range(0, 10).mapToObj(i -> i * 4 + currentId + 1).collect(Collectors.toList())));
+        }
+    }
+    
+    @Test
+    public void assertPrimaryKeyChangedDataRecordPushedAsBarrier() {
+        Record[] records = new Record[21];
+        for (int i = 0; i < records.length; i++) {
+            records[i] = mockDataRecord(i + 1, i % 10);
+        }
+        DataRecord barrierRecord = new DataRecord(new IntPosition(11), 1);
+        barrierRecord.setTableName("t_order");
+        barrierRecord.addColumn(new Column("id", 3, 100, true, true));
+        records[10] = barrierRecord;
+        List<Record> fetchedRecords = Collections.synchronizedList(new LinkedList<>());
+        fetchAndPush((threadId, fetched) -> fetchedRecords.addAll(fetched), records);
+        assertThat(fetchedRecords.indexOf(barrierRecord), is(10));
+    }
+    
+    @SneakyThrows(InterruptedException.class)
+    private void fetchAndPush(final BiConsumer<Long, List<Record>> fetchedConsumer, final Record... records) {
+        CountDownLatch countDownLatch = new CountDownLatch(records.length);
+        DistributionChannel distributionChannel = new DistributionChannel(2, ackRecords -> { });
+        AtomicBoolean running = new AtomicBoolean(true);
+        for (int i = 0; i < 2; i++) {
+            new Thread(() -> {
+                while (running.get()) {
+                    List<Record> fetched = distributionChannel.fetchRecords(100, 0);
+                    fetchedConsumer.accept(Thread.currentThread().getId(), fetched);
+                    distributionChannel.ack();
+                    fetched.forEach(each -> countDownLatch.countDown());
+                }
+            }).start();
+        }
+        for (Record each : records) {
+            distributionChannel.pushRecord(each);
+        }
+        countDownLatch.await();
+        running.set(false);
+        distributionChannel.close();
+    }
+    
+    private DataRecord mockDataRecord(final int position, final int id) {
+        DataRecord result = new DataRecord(new IntPosition(position), 1);
+        result.setTableName("t_order");
+        result.addColumn(new Column("id", id, true, true));
+        return result;
+    }
+    
+    private int getId(final Record record) {
+        return (int) ((DataRecord) record).getColumn(0).getValue();
     }
     
     @SneakyThrows(InterruptedException.class)
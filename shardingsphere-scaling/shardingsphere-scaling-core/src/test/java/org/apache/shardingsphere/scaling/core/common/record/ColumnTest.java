@@ -0,0 +1,45 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.scaling.core.common.record;
+
+import org.junit.Test;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThat;
+
+public final class ColumnTest {
+    
+    @Test
+    public void assertGetValueOfLazyColumn() {
+        AtomicInteger loadCount = new AtomicInteger();
+        Column column = Column.newLazyColumn("name", null, () -> "value_" + loadCount.incrementAndGet(), 5L, true, false);
+        assertThat(column.getValueBytes().getAsLong(), is(5L));
+        assertThat(loadCount.get(), is(0));
+        assertThat(column.getValue(), is("value_1"));
+        assertThat(column.getValue(), is("value_1"));
+        assertThat(loadCount.get(), is(1));
+    }
+    
+    @Test
+    public void assertGetValueBytesOfColumn() {
+        assertFalse(new Column("name", "value", true, false).getValueBytes().isPresent());
+    }
+}
@@ -21,7 +21,9 @@ import org.apache.shardingsphere.scaling.core.job.position.PlaceholderPosition;
 import org.junit.Test;
 
 import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
 
 public final class DataRecordTest {
     
@@ -54,4 +56,34 @@ public final class DataRecordTest {
         afterDataRecord.addColumn(new Column("name", "2", true, false));
         assertThat(beforeDataRecord.getKey(), is(afterDataRecord.getOldKey()));
     }
+    
+    @Test
+    public void assertBinaryKeyEqual() {
+        beforeDataRecord = new DataRecord(new PlaceholderPosition(), 1);
+        beforeDataRecord.setTableName("t1");
+        beforeDataRecord.addColumn(new Column("id", new byte[]{1, 2}, true, true));
+        afterDataRecord = new DataRecord(new PlaceholderPosition(), 1);
+        afterDataRecord.setTableName("t1");
+        afterDataRecord.addColumn(new Column("id", new byte[]{1, 2}, true, true));
+        assertThat(beforeDataRecord.getKey(), is(afterDataRecord.getKey()));
+        assertThat(beforeDataRecord.getKey().hashCode(), is(afterDataRecord.getKey().hashCode()));
+    }
+    
+    @Test
+    public void assertPrimaryKeyChanged() {
+        afterDataRecord = new DataRecord(new PlaceholderPosition(), 2);
+        afterDataRecord.setTableName("t1");
+        afterDataRecord.addColumn(new Column("id", 1, 2, true, true));
+        afterDataRecord.addColumn(new Column("name", "2", true, false));
+        assertTrue(afterDataRecord.isPrimaryKeyChanged());
+    }
+    
+    @Test
+    public void assertPrimaryKeyNotChanged() {
+        afterDataRecord = new DataRecord(new PlaceholderPosition(), 2);
+        afterDataRecord.setTableName("t1");
+        afterDataRecord.addColumn(new Column("id", new byte[]{1}, new byte[]{1}, true, true));
+        afterDataRecord.addColumn(new Column("name", "2", true, false));
+        assertFalse(afterDataRecord.isPrimaryKeyChanged());
+    }
 }
@@ -0,0 +1,38 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.scaling.core.common.record;
+
+import org.apache.shardingsphere.scaling.core.job.position.PlaceholderPosition;
+import org.junit.Test;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+
+public final class RecordUtilTest {
+    
+    @Test
+    public void assertEstimateBytesWithoutLoadingLazyColumn() {
+        DataRecord dataRecord = new DataRecord(new PlaceholderPosition(), 3);
+        dataRecord.addColumn(new Column("id", 1, true, true));
+        dataRecord.addColumn(new Column("name", "abc", true, false));
+        dataRecord.addColumn(Column.newLazyColumn("content", null, () -> {
+            throw new IllegalStateException("Lazy column should not be loaded.");
+        }, 100L, true, false));
+        assertThat(RecordUtil.estimateBytes(dataRecord), is(111L));
+    }
+}
@@ -0,0 +1,98 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.scaling.core.common.throttle;
+
+import org.apache.shardingsphere.scaling.core.config.ThrottleConfiguration;
+import org.junit.Test;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+
+public final class ScalingRateLimiterTest {
+    
+    @Test
+    public void assertUnlimited() {
+        ScalingRateLimiter rateLimiter = new ScalingRateLimiter(new ThrottleConfiguration(), 2);
+        assertFalse(rateLimiter.isBytesLimited());
+        long startTimeMillis = System.currentTimeMillis();
+        for (int i = 0; i < 10000; i++) {
+            rateLimiter.acquire(1, 1024);
+        }
+        assertTrue(System.currentTimeMillis() - startTimeMillis < 1000);
+    }
+    
+    @Test
+    public void assertAcquireLimitedByJobAndDataSource() {
+        ThrottleConfiguration throttleConfig = new ThrottleConfiguration();
+        throttleConfig.setRowsPerSecond(40);
+        throttleConfig.setDataSourceRowsPerSecond(100);
+        ScalingRateLimiter rateLimiter = new ScalingRateLimiter(throttleConfig, 2);
+        long startTimeMillis = System.currentTimeMillis();
+        for (int i = 0; i < 11; i++) {
+            rateLimiter.acquire(1, 0);
+        }
+        assertTrue(System.currentTimeMillis() - startTimeMillis >= 400);
+    }
+    
+    @Test
+    public void assertUpdate() {
+        ThrottleConfiguration throttleConfig = new ThrottleConfiguration();
+        throttleConfig.setRowsPerSecond(1);
+        ScalingRateLimiter rateLimiter = new ScalingRateLimiter(throttleConfig, 1);
+        rateLimiter.acquire(1, 0);
+        ThrottleConfiguration newThrottleConfig = new ThrottleConfiguration();
+        newThrottleConfig.setDataSourceBytesPerSecond(1024 * 1024);
+        rateLimiter.update(newThrottleConfig);
+        assertTrue(rateLimiter.isBytesLimited());
+        long startTimeMillis = System.currentTimeMillis();
+        for (int i = 0; i < 100; i++) {
+            rateLimiter.acquire(1, 0);
+        }
+        assertTrue(System.currentTimeMillis() - startTimeMillis < 500);
+        assertThat(rateLimiter.getThrottleConfig(), is(newThrottleConfig));
+    }
+    
+    @Test
+    public void assertAdaptiveBackOff() {
+        ThrottleConfiguration throttleConfig = new ThrottleConfiguration();
+        throttleConfig.setAdaptive(true);
+        throttleConfig.setMaxSourceLatencyMilliseconds(100L);
+        throttleConfig.setMaxIncrementalDelayMilliseconds(1000L);
+        ScalingRateLimiter rateLimiter = new ScalingRateLimiter(throttleConfig, 1);
+        rateLimiter.observeSourceLatency(50L);
+        assertThat(rateLimiter.getBackOffMilliseconds(), is(0L));
+        rateLimiter.observeSourceLatency(200L);
+        assertThat(rateLimiter.getBackOffMilliseconds(), is(100L));
+        rateLimiter.observeIncrementalDelay(2000L);
+        assertThat(rateLimiter.getBackOffMilliseconds(), is(200L));
+        rateLimiter.observeIncrementalDelay(500L);
+        assertThat(rateLimiter.getBackOffMilliseconds(), is(100L));
+        rateLimiter.observeSourceLatency(50L);
+        assertThat(rateLimiter.getBackOffMilliseconds(), is(0L));
+    }
+    
+    @Test
+    public void assertNotBackOffIfNotAdaptive() {
+        ScalingRateLimiter rateLimiter = new ScalingRateLimiter(new ThrottleConfiguration(), 1);
+        rateLimiter.observeSourceLatency(Long.MAX_VALUE);
+        rateLimiter.observeIncrementalDelay(Long.MAX_VALUE);
+        assertThat(rateLimiter.getBackOffMilliseconds(), is(0L));
+    }
+}
@@ -0,0 +1,133 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.scaling.core.executor.dumper;
+
+import org.apache.shardingsphere.scaling.core.common.channel.MemoryChannel;
+import org.apache.shardingsphere.scaling.core.common.datasource.DataSourceManager;
+import org.apache.shardingsphere.scaling.core.common.record.DataRecord;
+import org.apache.shardingsphere.scaling.core.common.record.Record;
+import org.apache.shardingsphere.scaling.core.config.DumperConfiguration;
+import org.apache.shardingsphere.scaling.core.config.InventoryDumperConfiguration;
+import org.apache.shardingsphere.scaling.core.config.ScalingContext;
+import org.apache.shardingsphere.scaling.core.config.ServerConfiguration;
+import org.apache.shardingsphere.scaling.core.config.TaskConfiguration;
+import org.apache.shardingsphere.scaling.core.fixture.FixtureInventoryDumper;
+import org.apache.shardingsphere.scaling.core.job.JobContext;
+import org.apache.shardingsphere.scaling.core.job.position.FinishedPosition;
+import org.apache.shardingsphere.scaling.core.job.position.KeysetPosition;
+import org.apache.shardingsphere.scaling.core.job.position.PrimaryKeyPosition;
+import org.apache.shardingsphere.scaling.core.job.position.ScalingPosition;
+import org.apache.shardingsphere.scaling.core.util.ResourceUtil;
+import org.junit.After;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.hamcrest.CoreMatchers.instanceOf;
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+
+public final class AbstractInventoryDumperTest {
+    
+    private static TaskConfiguration taskConfig;
+    
+    private final DataSourceManager dataSourceManager = new DataSourceManager();
+    
+    @BeforeClass
+    public static void beforeClass() {
+        ScalingContext.getInstance().init(new ServerConfiguration());
+        taskConfig = new JobContext(ResourceUtil.mockJobConfig()).getTaskConfigs().iterator().next();
+    }
+    
+    @Test
+    public void assertDumpByKeyset() throws SQLException {
+        initTableData(taskConfig.getDumperConfig(), "CREATE TABLE t_order (id INT, user_id VARCHAR(12), PRIMARY KEY (id, user_id))",
+                "INSERT INTO t_order (id, user_id) VALUES (1, 'a'), (1, 'b'), (2, 'a'), (3, 'c')");
+        InventoryDumperConfiguration inventoryDumperConfig = createInventoryDumperConfiguration(new KeysetPosition(Arrays.asList("1", "a"), Arrays.asList("3", "a")));
+        List<Record> actual = dump(inventoryDumperConfig);
+        assertThat(actual.size(), is(4));
+        assertThat(((DataRecord) actual.get(0)).getColumn(0).getValue(), is(1));
+        assertThat(((DataRecord) actual.get(0)).getColumn(1).getValue(), is("b"));
+        assertThat(actual.get(1).getPosition().toString(), is("keyset:2,a|3,a"));
+        assertThat(actual.get(2).getPosition(), instanceOf(FinishedPosition.class));
+    }
+    
+    @Test
+    public void assertDumpByPrimaryKeyRange() throws SQLException {
+        initTableData(taskConfig.getDumperConfig(), "CREATE TABLE t_order (id INT PRIMARY KEY, user_id VARCHAR(12))",
+                "INSERT INTO t_order (id, user_id) VALUES (1, 'a'), (2, 'b'), (3, 'c'), (4, 'd')");
+        InventoryDumperConfiguration inventoryDumperConfig = createInventoryDumperConfiguration(new PrimaryKeyPosition(2, 3));
+        inventoryDumperConfig.setPrimaryKey("id");
+        List<Record> actual = dump(inventoryDumperConfig);
+        assertThat(actual.size(), is(4));
+        assertThat(((DataRecord) actual.get(0)).getColumn(0).getValue(), is(2));
+        assertThat(actual.get(0).getPosition().toString(), is("3,3"));
+        assertThat(((DataRecord) actual.get(1)).getColumn(0).getValue(), is(3));
+    }
+    
+    @Test
+    public void assertDumpByPrimaryKeyRangeFromDumpedPosition() throws SQLException {
+        initTableData(taskConfig.getDumperConfig(), "CREATE TABLE t_order (id INT PRIMARY KEY, user_id VARCHAR(12))",
+                "INSERT INTO t_order (id, user_id) VALUES (1, 'a'), (2, 'b'), (3, 'c'), (4, 'd')");
+        InventoryDumperConfiguration inventoryDumperConfig = createInventoryDumperConfiguration(PrimaryKeyPosition.init("3,3"));
+        inventoryDumperConfig.setPrimaryKey("id");
+        List<Record> actual = dump(inventoryDumperConfig);
+        assertThat(actual.size(), is(3));
+        assertThat(((DataRecord) actual.get(0)).getColumn(0).getValue(), is(3));
+        assertThat(actual.get(0).getPosition().toString(), is("4,3"));
+        assertThat(actual.get(1).getPosition(), instanceOf(FinishedPosition.class));
+    }
+    
+    private InventoryDumperConfiguration createInventoryDumperConfiguration(final ScalingPosition<?> position) {
+        InventoryDumperConfiguration result = new InventoryDumperConfiguration(taskConfig.getDumperConfig());
+        result.setTableName("t_order");
+        result.setBatchSize(2);
+        result.setPosition(position);
+        return result;
+    }
+    
+    private List<Record> dump(final InventoryDumperConfiguration inventoryDumperConfig) {
+        MemoryChannel channel = new MemoryChannel(records -> {
+        });
+        FixtureInventoryDumper dumper = new FixtureInventoryDumper(inventoryDumperConfig, dataSourceManager);
+        dumper.setChannel(channel);
+        dumper.start();
+        return channel.fetchRecords(100, 0);
+    }
+    
+    @After
+    public void tearDown() {
+        dataSourceManager.close();
+    }
+    
+    private void initTableData(final DumperConfiguration dumperConfig, final String createTableSQL, final String insertSQL) throws SQLException {
+        DataSource dataSource = dataSourceManager.getDataSource(dumperConfig.getDataSourceConfig());
+        try (Connection connection = dataSource.getConnection();
+             Statement statement = connection.createStatement()) {
+            statement.execute("DROP TABLE IF EXISTS t_order");
+            statement.execute(createTableSQL);
+            statement.execute(insertSQL);
+        }
+    }
+}
@@ -42,13 +42,21 @@ import java.sql.Connection;
 import java.sql.PreparedStatement;
 import java.sql.SQLException;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
 
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -136,7 +144,27 @@ public final class AbstractImporterTest {
         verify(preparedStatement).setObject(2, "UPDATE");
         verify(preparedStatement).setObject(3, 1);
         verify(preparedStatement).setObject(4, 10);
-        verify(preparedStatement).execute();
+        verify(preparedStatement).addBatch();
+        verify(preparedStatement).executeBatch();
+    }
+    
+    @Test
+    public void assertBatchUpdateDataRecordsWithSameUpdatedColumns() throws SQLException {
+        DataRecord updateRecord1 = getDataRecord("UPDATE");
+        DataRecord updateRecord2 = getDataRecord("UPDATE", 2);
+        when(scalingSqlBuilder.buildUpdateSQL(updateRecord1, mockConditionColumns(updateRecord1))).thenReturn(UPDATE_SQL);
+        when(scalingSqlBuilder.buildUpdateSQL(updateRecord2, mockConditionColumns(updateRecord2))).thenReturn(UPDATE_SQL);
+        when(connection.prepareStatement(UPDATE_SQL)).thenReturn(preparedStatement);
+        List<Record> records = new LinkedList<>();
+        records.add(updateRecord1);
+        records.add(updateRecord2);
+        records.add(new FinishedRecord(new PlaceholderPosition()));
+        when(channel.fetchRecords(anyInt(), anyInt())).thenReturn(records);
+        jdbcImporter.run();
+        verify(connection).prepareStatement(UPDATE_SQL);
+        verify(preparedStatement, times(2)).addBatch();
+        verify(preparedStatement).executeBatch();
+        verify(connection).close();
     }
     
     @Test
@@ -152,7 +180,31 @@ public final class AbstractImporterTest {
         inOrder.verify(preparedStatement).setObject(3, "UPDATE");
         inOrder.verify(preparedStatement).setObject(4, 1);
         inOrder.verify(preparedStatement).setObject(5, 10);
-        inOrder.verify(preparedStatement).execute();
+        inOrder.verify(preparedStatement).addBatch();
+        inOrder.verify(preparedStatement).executeBatch();
+    }
+    
+    @Test
+    public void assertEvictedPreparedStatementClosed() throws SQLException {
+        List<PreparedStatement> preparedStatements = new LinkedList<>();
+        when(scalingSqlBuilder.buildInsertSQL(any(DataRecord.class))).thenAnswer(invocation -> "INSERT INTO " + invocation.<DataRecord>getArgument(0).getTableName());
+        when(connection.prepareStatement(anyString())).thenAnswer(invocation -> {
+            PreparedStatement result = mock(PreparedStatement.class);
+            preparedStatements.add(result);
+            return result;
+        });
+        List<List<Record>> batches = new LinkedList<>();
+        for (int i = 0; i <= AbstractImporter.MAX_CACHED_STATEMENTS; i++) {
+            DataRecord insertRecord = getDataRecord("INSERT");
+            insertRecord.setTableName(TABLE_NAME + "_" + i);
+            batches.add(new LinkedList<>(Collections.singletonList(insertRecord)));
+        }
+        batches.get(batches.size() - 1).add(new FinishedRecord(new PlaceholderPosition()));
+        when(channel.fetchRecords(anyInt(), anyInt())).thenReturn(batches.get(0), batches.subList(1, batches.size()).toArray(new List[0]));
+        jdbcImporter.run();
+        assertThat(preparedStatements.size(), is(AbstractImporter.MAX_CACHED_STATEMENTS + 1));
+        verify(preparedStatements.get(0)).close();
+        verify(preparedStatements.get(1), never()).close();
     }
     
     private DataRecord getUpdatePrimaryKeyDataRecord() {
@@ -177,10 +229,14 @@ public final class AbstractImporterTest {
     }
     
     private DataRecord getDataRecord(final String recordType) {
+        return getDataRecord(recordType, 1);
+    }
+    
+    private DataRecord getDataRecord(final String recordType, final int id) {
         DataRecord result = new DataRecord(new PlaceholderPosition(), 3);
         result.setTableName(TABLE_NAME);
         result.setType(recordType);
-        result.addColumn(new Column("id", 1, false, true));
+        result.addColumn(new Column("id", id, false, true));
         result.addColumn(new Column("user", 10, true, false));
         result.addColumn(new Column("status", recordType, true, false));
         return result;
@@ -27,6 +27,7 @@ import org.apache.shardingsphere.scaling.core.fixture.FixtureSQLBuilder;
 import org.apache.shardingsphere.scaling.core.job.position.PlaceholderPosition;
 import org.junit.Test;
 
+import java.util.Arrays;
 import java.util.Collection;
 
 import static org.hamcrest.CoreMatchers.is;
@@ -68,6 +69,29 @@ public final class AbstractSqlBuilderTest {
         assertThat(actual, is("DELETE FROM `t3` WHERE `id` = ? and `sc` = ?"));
     }
     
+    @Test
+    public void assertBuildSplitByUniqueKeySQL() {
+        String actual = scalingSqlBuilder.buildSplitByUniqueKeySQL("t1", Arrays.asList("id", "sc"), true);
+        assertThat(actual, is("SELECT `id`,`sc` FROM `t1` WHERE `id` > ? or (`id` = ? and `sc` > ?) ORDER BY `id`,`sc` LIMIT 1 OFFSET ?"));
+    }
+    
+    @Test
+    public void assertBuildInventoryDumpSQL() {
+        String actual = scalingSqlBuilder.buildInventoryDumpSQL("t1", Arrays.asList("id", "sc"), true, true, 100);
+        assertThat(actual, is("SELECT * FROM `t1` WHERE (`id` > ? or (`id` = ? and `sc` > ?)) and (`id` < ? or (`id` = ? and `sc` <= ?)) ORDER BY `id`,`sc` LIMIT 100"));
+    }
+    
+    @Test
+    public void assertBuildInventoryDumpSQLWithoutBounds() {
+        assertThat(scalingSqlBuilder.buildInventoryDumpSQL("t1", Arrays.asList("id"), false, false, 100), is("SELECT * FROM `t1` ORDER BY `id` LIMIT 100"));
+    }
+    
+    @Test
+    public void assertBuildChunkChecksumSQL() {
+        String actual = scalingSqlBuilder.buildChunkChecksumSQL("t1", Arrays.asList("id", "c1"), Arrays.asList("id"), true, true);
+        assertThat(actual, is("SELECT COUNT(*), SUM(LENGTH(CONCAT_WS('#', `id`,`c1`))) FROM `t1` WHERE (`id` > ?) and (`id` <= ?)"));
+    }
+    
     private Collection<Column> mockConditionColumns(final DataRecord dataRecord) {
         return RecordUtil.extractConditionColumns(dataRecord, Sets.newHashSet("sc"));
     }
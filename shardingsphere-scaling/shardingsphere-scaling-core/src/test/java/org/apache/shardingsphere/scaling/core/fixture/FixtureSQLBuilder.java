@@ -19,8 +19,11 @@ package org.apache.shardingsphere.scaling.core.fixture;
 
 import org.apache.shardingsphere.scaling.core.common.sqlbuilder.AbstractScalingSQLBuilder;
 
+import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 import java.util.Set;
+import java.util.stream.Collectors;
 
 public final class FixtureSQLBuilder extends AbstractScalingSQLBuilder {
     
@@ -37,4 +40,19 @@ public final class FixtureSQLBuilder extends AbstractScalingSQLBuilder {
     protected String getRightIdentifierQuoteString() {
         return "`";
     }
+    
+    @Override
+    protected String buildRowHashSQL(final List<String> columns) {
+        return String.format("LENGTH(CONCAT_WS('#', %s))", columns.stream().map(each -> quote(each).toString()).collect(Collectors.joining(",")));
+    }
+    
+    @Override
+    public Optional<String> buildEstimateRowCountSQL(final String tableName) {
+        return Optional.of(buildCountSQL(tableName));
+    }
+    
+    @Override
+    public Optional<String> buildSampleUniqueKeySQL(final String tableName, final List<String> uniqueKeys, final double percentage) {
+        return Optional.of(String.format("SELECT %s FROM %s ORDER BY %s", buildColumnsSQL(uniqueKeys), quote(tableName), buildColumnsSQL(uniqueKeys)));
+    }
 }
@@ -19,8 +19,11 @@ package org.apache.shardingsphere.scaling.core.job.check;
 
 import lombok.SneakyThrows;
 import org.apache.shardingsphere.scaling.core.common.datasource.DataSourceManager;
+import org.apache.shardingsphere.scaling.core.common.sqlbuilder.ScalingSQLBuilder;
 import org.apache.shardingsphere.scaling.core.config.datasource.ScalingDataSourceConfiguration;
+import org.apache.shardingsphere.scaling.core.fixture.FixtureSQLBuilder;
 import org.apache.shardingsphere.scaling.core.job.JobContext;
+import org.apache.shardingsphere.scaling.core.job.check.consistency.AbstractDataConsistencyChecker;
 import org.apache.shardingsphere.scaling.core.job.check.consistency.DataConsistencyCheckResult;
 import org.apache.shardingsphere.scaling.core.job.check.consistency.DataConsistencyChecker;
 import org.apache.shardingsphere.scaling.core.util.ResourceUtil;
@@ -30,9 +33,13 @@ import javax.sql.DataSource;
 import java.sql.Connection;
 import java.sql.SQLException;
 import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
 import java.util.Map;
 
 import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertThat;
 import static org.junit.Assert.assertTrue;
 
@@ -49,6 +56,65 @@ public final class AbstractDataConsistencyCheckerTest {
         assertThat(resultMap.get("t_order").getSourceCount(), is(resultMap.get("t_order").getTargetCount()));
     }
     
+    @Test
+    public void assertDataCheck() {
+        JobContext jobContext = new JobContext(ResourceUtil.mockJobConfig());
+        jobContext.getJobConfig().getHandleConfig().setDataCheckChunkSize(300);
+        initTableRows(jobContext.getTaskConfigs().get(0).getDumperConfig().getDataSourceConfig(), 1000);
+        initTableRows(jobContext.getTaskConfigs().get(0).getImporterConfig().getDataSourceConfig(), 1000);
+        DataConsistencyChecker dataConsistencyChecker = newChunkedDataConsistencyChecker(jobContext);
+        assertTrue(dataConsistencyChecker.dataCheck().get("t_order"));
+        assertTrue(dataConsistencyChecker.getDataDifferences().get("t_order").isEmpty());
+    }
+    
+    @Test
+    public void assertDataCheckWithDifferentRows() {
+        JobContext jobContext = new JobContext(ResourceUtil.mockJobConfig());
+        jobContext.getJobConfig().getHandleConfig().setDataCheckChunkSize(300);
+        initTableRows(jobContext.getTaskConfigs().get(0).getDumperConfig().getDataSourceConfig(), 1000);
+        initTableRows(jobContext.getTaskConfigs().get(0).getImporterConfig().getDataSourceConfig(), 1000);
+        executeUpdate(jobContext.getTaskConfigs().get(0).getImporterConfig().getDataSourceConfig(),
+                "UPDATE t_order SET user_id = 'changed' WHERE order_id = 500", "DELETE FROM t_order WHERE order_id = 777", "INSERT INTO t_order (order_id, user_id) VALUES (1001, 'yyy')");
+        DataConsistencyChecker dataConsistencyChecker = newChunkedDataConsistencyChecker(jobContext);
+        assertFalse(dataConsistencyChecker.dataCheck().get("t_order"));
+        List<String> actual = new ArrayList<>(dataConsistencyChecker.getDataDifferences().get("t_order"));
+        assertThat(actual.size(), is(3));
+        assertThat(actual.get(0), is("row [order_id]=[500] of table t_order is different, source [500, u500], target [500, changed]"));
+        assertThat(actual.get(1), is("row [order_id]=[777] of table t_order is missing in target"));
+        assertThat(actual.get(2), is("row [order_id]=[1001] of table t_order is redundant in target"));
+    }
+    
+    private DataConsistencyChecker newChunkedDataConsistencyChecker(final JobContext jobContext) {
+        return new AbstractDataConsistencyChecker(jobContext) {
+            
+            @Override
+            protected ScalingSQLBuilder getSqlBuilder() {
+                return new FixtureSQLBuilder(Collections.emptyMap());
+            }
+        };
+    }
+    
+    private void initTableRows(final ScalingDataSourceConfiguration dataSourceConfig, final int rowCount) {
+        initTableData(dataSourceConfig);
+        String[] sqls = new String[rowCount];
+        for (int i = 1; i <= rowCount; i++) {
+            sqls[i - 1] = String.format("INSERT INTO t_order (order_id, user_id) VALUES (%d, 'u%d')", i, i);
+        }
+        executeUpdate(dataSourceConfig, "DELETE FROM t_order");
+        executeUpdate(dataSourceConfig, sqls);
+    }
+    
+    @SneakyThrows(SQLException.class)
+    private void executeUpdate(final ScalingDataSourceConfiguration dataSourceConfig, final String... sqls) {
+        DataSource dataSource = new DataSourceManager().getDataSource(dataSourceConfig);
+        try (Connection connection = dataSource.getConnection();
+             Statement statement = connection.createStatement()) {
+            for (String each : sqls) {
+                statement.execute(each);
+            }
+        }
+    }
+    
     @SneakyThrows(SQLException.class)
     private void initTableData(final ScalingDataSourceConfiguration dataSourceConfig) {
         DataSource dataSource = new DataSourceManager().getDataSource(dataSourceConfig);
@@ -0,0 +1,70 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.scaling.core.job.position;
+
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+
+public final class KeysetPositionTest {
+    
+    @Test
+    public void assertCompareTo() {
+        KeysetPosition position1 = new KeysetPosition(Collections.emptyList(), Collections.singletonList("a"));
+        KeysetPosition position2 = new KeysetPosition(Collections.singletonList("a"), Collections.singletonList("b"));
+        KeysetPosition position3 = new KeysetPosition(Collections.singletonList("b"), Collections.emptyList());
+        assertThat(position1.compareTo(null), is(1));
+        assertTrue(position1.compareTo(position2) < 0);
+        assertTrue(position3.compareTo(position2) > 0);
+    }
+    
+    @Test
+    public void assertCompareToWithNumericValues() {
+        KeysetPosition position1 = new KeysetPosition(Arrays.asList("9", "b"), Collections.emptyList());
+        KeysetPosition position2 = new KeysetPosition(Arrays.asList("10", "a"), Collections.emptyList());
+        KeysetPosition position3 = new KeysetPosition(Arrays.asList("-1.5", "a"), Collections.emptyList());
+        assertTrue(position1.compareTo(position2) < 0);
+        assertTrue(position3.compareTo(position1) < 0);
+        assertThat(new KeysetPosition(Collections.singletonList("10.0"), Collections.emptyList()).compareTo(new KeysetPosition(Collections.singletonList("10"), Collections.emptyList())), is(0));
+    }
+    
+    @Test
+    public void assertInit() {
+        KeysetPosition position = KeysetPosition.init("keyset:1,a%2Cb|~");
+        assertThat(position.getLowerValues(), is(Arrays.asList("1", "a,b")));
+        assertTrue(position.isLowerBounded());
+        assertFalse(position.isUpperBounded());
+    }
+    
+    @Test
+    public void assertToString() {
+        assertThat(new KeysetPosition(Collections.emptyList(), Arrays.asList("1", "a|b")).toString(), is("keyset:~|1,a%7Cb"));
+    }
+    
+    @Test
+    public void assertIsKeysetPosition() {
+        assertTrue(KeysetPosition.isKeysetPosition("keyset:~|~"));
+        assertFalse(KeysetPosition.isKeysetPosition("1,100"));
+    }
+}
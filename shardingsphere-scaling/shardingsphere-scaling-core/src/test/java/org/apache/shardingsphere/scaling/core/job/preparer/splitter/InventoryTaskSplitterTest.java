@@ -21,6 +21,7 @@ import org.apache.shardingsphere.scaling.core.common.datasource.DataSourceManage
 import org.apache.shardingsphere.scaling.core.config.DumperConfiguration;
 import org.apache.shardingsphere.scaling.core.config.TaskConfiguration;
 import org.apache.shardingsphere.scaling.core.job.JobContext;
+import org.apache.shardingsphere.scaling.core.job.position.KeysetPosition;
 import org.apache.shardingsphere.scaling.core.job.position.PrimaryKeyPosition;
 import org.apache.shardingsphere.scaling.core.job.task.inventory.InventoryTask;
 import org.apache.shardingsphere.scaling.core.util.ResourceUtil;
@@ -32,9 +33,11 @@ import javax.sql.DataSource;
 import java.sql.Connection;
 import java.sql.SQLException;
 import java.sql.Statement;
+import java.util.Arrays;
 import java.util.List;
 
 import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertThat;
 
@@ -93,6 +96,48 @@ public final class InventoryTaskSplitterTest {
         assertThat(actual.size(), is(1));
     }
     
+    @Test
+    public void assertSplitInventoryDataWithCharPrimaryByKeyset() throws SQLException {
+        taskConfig.getHandleConfig().setShardingSize(1);
+        initCharPrimaryEnvironment(taskConfig.getDumperConfig());
+        List<InventoryTask> actual = inventoryTaskSplitter.splitInventoryData(jobContext, taskConfig, dataSourceManager);
+        assertThat(actual.size(), is(2));
+        assertThat(actual.get(0).getProgress().getPosition().toString(), is("keyset:~|1"));
+        assertThat(actual.get(1).getProgress().getPosition().toString(), is("keyset:1|~"));
+    }
+    
+    @Test
+    public void assertSplitInventoryDataWithUnionPrimaryByKeyset() throws SQLException {
+        taskConfig.getHandleConfig().setShardingSize(1);
+        initUnionPrimaryEnvironment(taskConfig.getDumperConfig());
+        List<InventoryTask> actual = inventoryTaskSplitter.splitInventoryData(jobContext, taskConfig, dataSourceManager);
+        assertThat(actual.size(), is(2));
+        assertThat(((KeysetPosition) actual.get(0).getProgress().getPosition()).getUpperValues(), is(Arrays.asList("1", "xxx")));
+        assertThat(((KeysetPosition) actual.get(1).getProgress().getPosition()).getLowerValues(), is(Arrays.asList("1", "xxx")));
+        assertFalse(((KeysetPosition) actual.get(1).getProgress().getPosition()).isUpperBounded());
+    }
+    
+    @Test
+    public void assertSplitInventoryDataWithCharPrimaryBySample() throws SQLException {
+        taskConfig.getHandleConfig().setShardingSize(3);
+        initCharPrimaryEnvironment(taskConfig.getDumperConfig(), 10);
+        List<InventoryTask> actual = inventoryTaskSplitter.splitInventoryData(jobContext, taskConfig, dataSourceManager);
+        assertThat(actual.size(), is(4));
+        assertThat(actual.get(0).getProgress().getPosition().toString(), is("keyset:~|01"));
+        assertThat(actual.get(1).getProgress().getPosition().toString(), is("keyset:01|04"));
+        assertThat(actual.get(2).getProgress().getPosition().toString(), is("keyset:04|06"));
+        assertThat(actual.get(3).getProgress().getPosition().toString(), is("keyset:06|~"));
+    }
+    
+    @Test
+    public void assertSplitInventoryDataWithCharPrimaryByWalk() throws SQLException {
+        taskConfig.getHandleConfig().setShardingSize(10);
+        initCharPrimaryEnvironment(taskConfig.getDumperConfig(), 10);
+        List<InventoryTask> actual = inventoryTaskSplitter.splitInventoryData(jobContext, taskConfig, dataSourceManager);
+        assertThat(actual.size(), is(1));
+        assertThat(actual.get(0).getProgress().getPosition().toString(), is("keyset:~|~"));
+    }
+    
     @Test
     public void assertSplitInventoryDataWithoutPrimary() throws SQLException {
         initNoPrimaryEnvironment(taskConfig.getDumperConfig());
@@ -137,6 +182,18 @@ public final class InventoryTaskSplitterTest {
         }
     }
     
+    private void initCharPrimaryEnvironment(final DumperConfiguration dumperConfig, final int rowCount) throws SQLException {
+        DataSource dataSource = dataSourceManager.getDataSource(dumperConfig.getDataSourceConfig());
+        try (Connection connection = dataSource.getConnection();
+             Statement statement = connection.createStatement()) {
+            statement.execute("DROP TABLE IF EXISTS t_order");
+            statement.execute("CREATE TABLE t_order (id CHAR(2) PRIMARY KEY, user_id VARCHAR(12))");
+            for (int i = 0; i < rowCount; i++) {
+                statement.execute(String.format("INSERT INTO t_order (id, user_id) VALUES ('%02d', 'x')", i));
+            }
+        }
+    }
+    
     private void initUnionPrimaryEnvironment(final DumperConfiguration dumperConfig) throws SQLException {
         DataSource dataSource = dataSourceManager.getDataSource(dumperConfig.getDataSourceConfig());
         try (Connection connection = dataSource.getConnection();
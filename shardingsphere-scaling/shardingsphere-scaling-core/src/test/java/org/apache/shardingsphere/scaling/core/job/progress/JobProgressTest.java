@@ -22,11 +22,13 @@ import org.apache.shardingsphere.scaling.core.job.JobStatus;
 import org.apache.shardingsphere.scaling.core.job.position.FinishedPosition;
 import org.apache.shardingsphere.scaling.core.job.position.PlaceholderPosition;
 import org.apache.shardingsphere.scaling.core.job.position.PrimaryKeyPosition;
+import org.apache.shardingsphere.scaling.core.job.position.ScalingPosition;
 import org.apache.shardingsphere.scaling.core.job.task.incremental.IncrementalTaskProgress;
 import org.apache.shardingsphere.scaling.core.job.task.inventory.InventoryTaskProgress;
 import org.junit.Test;
 
 import java.util.Map;
+import java.util.Map.Entry;
 
 import static org.hamcrest.CoreMatchers.is;
 import static org.junit.Assert.assertThat;
@@ -58,6 +60,23 @@ public final class JobProgressTest {
         assertTrue(jobProgress.getInventoryPosition("ds1").get("ds1.t_2") instanceof PrimaryKeyPosition);
     }
     
+    @Test
+    public void assertGetInventoryPositionOrderedBySplitIndex() {
+        JobProgress jobProgress = new JobProgress();
+        Map<String, InventoryTaskProgress> inventoryTaskProgressMap = Maps.newHashMap();
+        for (int i = 0; i < 12; i++) {
+            inventoryTaskProgressMap.put("ds0.t_1#" + i, new InventoryTaskProgress(new PrimaryKeyPosition(i, i)));
+        }
+        jobProgress.setInventoryTaskProgressMap(inventoryTaskProgressMap);
+        int index = 0;
+        for (Entry<String, ScalingPosition<?>> entry : jobProgress.getInventoryPosition("t_1").entrySet()) {
+            assertThat(entry.getKey(), is("ds0.t_1#" + index));
+            assertThat(entry.getValue().toString(), is(String.format("%d,%d", index, index)));
+            index++;
+        }
+        assertThat(index, is(12));
+    }
+    
     @Test
     public void assertToString() {
         JobProgress jobProgress = new JobProgress();
@@ -0,0 +1,172 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.scaling.core.job.schedule;
+
+import org.apache.shardingsphere.scaling.core.api.GovernanceRepositoryAPI;
+import org.apache.shardingsphere.scaling.core.config.InventoryDumperConfiguration;
+import org.apache.shardingsphere.scaling.core.config.TaskConfiguration;
+import org.apache.shardingsphere.scaling.core.job.JobContext;
+import org.apache.shardingsphere.scaling.core.job.position.FinishedPosition;
+import org.apache.shardingsphere.scaling.core.job.position.PrimaryKeyPosition;
+import org.apache.shardingsphere.scaling.core.job.task.ScalingTaskFactory;
+import org.apache.shardingsphere.scaling.core.job.task.inventory.InventoryTask;
+import org.apache.shardingsphere.scaling.core.job.task.inventory.InventoryTaskProgress;
+import org.apache.shardingsphere.scaling.core.util.ReflectionUtil;
+import org.apache.shardingsphere.scaling.core.util.ResourceUtil;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@RunWith(MockitoJUnitRunner.class)
+public final class InventoryTaskCoordinatorTest {
+    
+    @Mock
+    private GovernanceRepositoryAPI governanceRepositoryAPI;
+    
+    private JobContext jobContext;
+    
+    private InventoryTaskCoordinator inventoryTaskCoordinator;
+    
+    @Before
+    public void setUp() {
+        jobContext = new JobContext(ResourceUtil.mockJobConfig());
+        jobContext.getJobConfig().getHandleConfig().setDistributeInventoryTasks(true);
+        TaskConfiguration taskConfig = jobContext.getTaskConfigs().iterator().next();
+        for (int i = 0; i < 3; i++) {
+            jobContext.getInventoryTasks().add(mockInventoryTask(taskConfig, i));
+        }
+        inventoryTaskCoordinator = new InventoryTaskCoordinator(jobContext, governanceRepositoryAPI);
+    }
+    
+    @Test
+    public void assertPublishKeepsExistedCheckpoints() {
+        Map<String, InventoryTaskProgress> checkpoints = new HashMap<>();
+        checkpoints.put("ds_0.t_order#0", new InventoryTaskProgress(new FinishedPosition()));
+        when(governanceRepositoryAPI.getInventoryTaskProgress(jobContext.getJobId(), 0)).thenReturn(checkpoints);
+        inventoryTaskCoordinator.publish();
+        verify(governanceRepositoryAPI, never()).persistInventoryTaskProgress(eq(jobContext.getJobId()), eq(0), eq("ds_0.t_order#0"), any());
+        verify(governanceRepositoryAPI).persistInventoryTaskProgress(eq(jobContext.getJobId()), eq(0), eq("ds_0.t_order#1"), any());
+        verify(governanceRepositoryAPI).persistInventoryTaskProgress(eq(jobContext.getJobId()), eq(0), eq("ds_0.t_order#2"), any());
+    }
+    
+    @Test
+    public void assertClaimResumesFromCheckpoint() {
+        when(governanceRepositoryAPI.getInventoryTaskProgress(jobContext.getJobId(), 0)).thenReturn(mockCheckpoints());
+        when(governanceRepositoryAPI.leaseInventoryTask(eq(jobContext.getJobId()), eq(0), eq("ds_0.t_order#1"), anyString())).thenReturn(true);
+        List<InventoryTask> actual = inventoryTaskCoordinator.claim();
+        assertThat(actual.size(), is(1));
+        assertThat(actual.get(0).getTaskId(), is("ds_0.t_order#1"));
+        assertThat(actual.get(0).getProgress().getPosition().toString(), is("150,200"));
+        assertThat(jobContext.getInventoryTasks().get(1), is(actual.get(0)));
+        assertTrue(inventoryTaskCoordinator.claim().isEmpty());
+    }
+    
+    @Test
+    public void assertCheckpointAndRelease() {
+        when(governanceRepositoryAPI.getInventoryTaskProgress(jobContext.getJobId(), 0)).thenReturn(mockCheckpoints());
+        when(governanceRepositoryAPI.leaseInventoryTask(eq(jobContext.getJobId()), eq(0), anyString(), anyString())).thenReturn(true);
+        inventoryTaskCoordinator.claim();
+        inventoryTaskCoordinator.checkpoint();
+        verify(governanceRepositoryAPI, never()).persistInventoryTaskProgress(anyLong(), anyInt(), anyString(), any());
+        verify(governanceRepositoryAPI, never()).releaseInventoryTask(jobContext.getJobId(), 0, "ds_0.t_order#1");
+        inventoryTaskCoordinator.release();
+        verify(governanceRepositoryAPI).releaseInventoryTask(jobContext.getJobId(), 0, "ds_0.t_order#1");
+        verify(governanceRepositoryAPI).releaseInventoryTask(jobContext.getJobId(), 0, "ds_0.t_order#2");
+    }
+    
+    @Test
+    public void assertCheckpointLeasedTask() throws ReflectiveOperationException {
+        when(governanceRepositoryAPI.getInventoryTaskProgress(jobContext.getJobId(), 0)).thenReturn(mockCheckpoints());
+        when(governanceRepositoryAPI.leaseInventoryTask(eq(jobContext.getJobId()), eq(0), eq("ds_0.t_order#1"), anyString())).thenReturn(true);
+        when(governanceRepositoryAPI.isInventoryTaskLeased(eq(jobContext.getJobId()), eq(0), eq("ds_0.t_order#1"), anyString())).thenReturn(true);
+        InventoryTask claimedTask = inventoryTaskCoordinator.claim().get(0);
+        ReflectionUtil.setFieldValue(claimedTask, "position", new PrimaryKeyPosition(180, 200));
+        inventoryTaskCoordinator.checkpoint();
+        verify(governanceRepositoryAPI).persistInventoryTaskProgress(eq(jobContext.getJobId()), eq(0), eq("ds_0.t_order#1"), any());
+    }
+    
+    @Test
+    public void assertCheckpointStopsTaskWithLostLease() throws ReflectiveOperationException {
+        when(governanceRepositoryAPI.getInventoryTaskProgress(jobContext.getJobId(), 0)).thenReturn(mockCheckpoints());
+        when(governanceRepositoryAPI.leaseInventoryTask(eq(jobContext.getJobId()), eq(0), eq("ds_0.t_order#1"), anyString())).thenReturn(true);
+        InventoryTask claimedTask = inventoryTaskCoordinator.claim().get(0);
+        ReflectionUtil.setFieldValue(claimedTask, "position", new PrimaryKeyPosition(180, 200));
+        inventoryTaskCoordinator.checkpoint();
+        verify(governanceRepositoryAPI, never()).persistInventoryTaskProgress(anyLong(), anyInt(), anyString(), any());
+        inventoryTaskCoordinator.release();
+        verify(governanceRepositoryAPI, never()).releaseInventoryTask(anyLong(), anyInt(), anyString());
+        assertThat(inventoryTaskCoordinator.claim().size(), is(1));
+    }
+    
+    @Test
+    public void assertCheckpointMovedPositionsOnly() {
+        jobContext.getJobConfig().getHandleConfig().setDistributeInventoryTasks(false);
+        when(governanceRepositoryAPI.getInventoryTaskProgress(jobContext.getJobId(), 0)).thenReturn(new HashMap<>());
+        inventoryTaskCoordinator.publish();
+        verify(governanceRepositoryAPI, times(3)).persistInventoryTaskProgress(anyLong(), anyInt(), anyString(), any());
+        inventoryTaskCoordinator.checkpoint();
+        verify(governanceRepositoryAPI, times(3)).persistInventoryTaskProgress(anyLong(), anyInt(), anyString(), any());
+    }
+    
+    @Test
+    public void assertIsAllFinished() {
+        Map<String, InventoryTaskProgress> checkpoints = mockCheckpoints();
+        when(governanceRepositoryAPI.getInventoryTaskProgress(jobContext.getJobId(), 0)).thenReturn(checkpoints);
+        assertFalse(inventoryTaskCoordinator.isAllFinished());
+        checkpoints.put("ds_0.t_order#1", new InventoryTaskProgress(new FinishedPosition()));
+        checkpoints.put("ds_0.t_order#2", new InventoryTaskProgress(new FinishedPosition()));
+        assertTrue(inventoryTaskCoordinator.isAllFinished());
+    }
+    
+    private InventoryTask mockInventoryTask(final TaskConfiguration taskConfig, final int shardingItem) {
+        InventoryDumperConfiguration dumperConfig = new InventoryDumperConfiguration(taskConfig.getDumperConfig());
+        dumperConfig.setPosition(new PrimaryKeyPosition(shardingItem * 100 + 1, shardingItem * 100 + 100));
+        dumperConfig.setTableName("t_order");
+        dumperConfig.setPrimaryKey("order_id");
+        dumperConfig.setShardingItem(shardingItem);
+        return ScalingTaskFactory.createInventoryTask(dumperConfig, taskConfig.getImporterConfig());
+    }
+    
+    private Map<String, InventoryTaskProgress> mockCheckpoints() {
+        Map<String, InventoryTaskProgress> result = new HashMap<>();
+        result.put("ds_0.t_order#0", new InventoryTaskProgress(new FinishedPosition()));
+        result.put("ds_0.t_order#1", new InventoryTaskProgress(new PrimaryKeyPosition(150, 200)));
+        result.put("ds_0.t_order#2", new InventoryTaskProgress(new PrimaryKeyPosition(201, 300)));
+        return result;
+    }
+}
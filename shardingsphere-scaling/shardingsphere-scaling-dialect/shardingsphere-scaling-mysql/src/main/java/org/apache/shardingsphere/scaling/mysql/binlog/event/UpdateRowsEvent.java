@@ -19,8 +19,8 @@ package org.apache.shardingsphere.scaling.mysql.binlog.event;
 
 import lombok.Getter;
 import lombok.Setter;
+import org.apache.shardingsphere.db.protocol.mysql.packet.binlog.row.MySQLBinlogRowImage;
 
-import java.io.Serializable;
 import java.util.List;
 
 /**
@@ -30,7 +30,7 @@ import java.util.List;
 @Setter
 public final class UpdateRowsEvent extends AbstractRowsEvent {
     
-    private List<Serializable[]> beforeRows;
+    private List<MySQLBinlogRowImage> beforeRows;
     
-    private List<Serializable[]> afterRows;
+    private List<MySQLBinlogRowImage> afterRows;
 }
@@ -128,29 +128,29 @@ public final class MySQLBinlogEventPacketDecoder extends ByteToMessageDecoder {
     
     private DeleteRowsEvent decodeDeleteRowsEventV2(final MySQLBinlogEventHeader binlogEventHeader, final MySQLPacketPayload payload) {
         MySQLBinlogRowsEventPacket rowsEventPacket = new MySQLBinlogRowsEventPacket(binlogEventHeader, payload);
-        rowsEventPacket.readRows(binlogContext.getTableMapEvent(rowsEventPacket.getTableId()), payload);
+        rowsEventPacket.readRowImages(binlogContext.getTableMapEvent(rowsEventPacket.getTableId()), payload);
         DeleteRowsEvent result = new DeleteRowsEvent();
         initRowsEvent(result, binlogEventHeader, rowsEventPacket.getTableId());
-        result.setBeforeRows(rowsEventPacket.getRows());
+        result.setBeforeRows(rowsEventPacket.getRowImages());
         return result;
     }
     
     private UpdateRowsEvent decodeUpdateRowsEventV2(final MySQLBinlogEventHeader binlogEventHeader, final MySQLPacketPayload payload) {
         MySQLBinlogRowsEventPacket rowsEventPacket = new MySQLBinlogRowsEventPacket(binlogEventHeader, payload);
-        rowsEventPacket.readRows(binlogContext.getTableMapEvent(rowsEventPacket.getTableId()), payload);
+        rowsEventPacket.readRowImages(binlogContext.getTableMapEvent(rowsEventPacket.getTableId()), payload);
         UpdateRowsEvent result = new UpdateRowsEvent();
         initRowsEvent(result, binlogEventHeader, rowsEventPacket.getTableId());
-        result.setBeforeRows(rowsEventPacket.getRows());
-        result.setAfterRows(rowsEventPacket.getRows2());
+        result.setBeforeRows(rowsEventPacket.getRowImages());
+        result.setAfterRows(rowsEventPacket.getRowImages2());
         return result;
     }
     
     private WriteRowsEvent decodeWriteRowsEventV2(final MySQLBinlogEventHeader binlogEventHeader, final MySQLPacketPayload payload) {
         MySQLBinlogRowsEventPacket rowsEventPacket = new MySQLBinlogRowsEventPacket(binlogEventHeader, payload);
-        rowsEventPacket.readRows(binlogContext.getTableMapEvent(rowsEventPacket.getTableId()), payload);
+        rowsEventPacket.readRowImages(binlogContext.getTableMapEvent(rowsEventPacket.getTableId()), payload);
         WriteRowsEvent result = new WriteRowsEvent();
         initRowsEvent(result, binlogEventHeader, rowsEventPacket.getTableId());
-        result.setAfterRows(rowsEventPacket.getRows());
+        result.setAfterRows(rowsEventPacket.getRowImages());
         return result;
     }
     
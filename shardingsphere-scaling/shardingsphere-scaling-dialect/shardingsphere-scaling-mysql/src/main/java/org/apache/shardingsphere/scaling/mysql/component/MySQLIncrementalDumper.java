@@ -21,6 +21,7 @@ import com.google.common.base.Preconditions;
 import com.zaxxer.hikari.HikariConfig;
 import lombok.Setter;
 import lombok.extern.slf4j.Slf4j;
+import org.apache.shardingsphere.db.protocol.mysql.packet.binlog.row.MySQLBinlogRowImage;
 import org.apache.shardingsphere.infra.spi.ShardingSphereServiceLoader;
 import org.apache.shardingsphere.scaling.core.common.channel.Channel;
 import org.apache.shardingsphere.scaling.core.common.constant.ScalingConstant;
@@ -54,7 +55,6 @@ import java.io.Serializable;
 import java.security.SecureRandom;
 import java.util.List;
 import java.util.Map;
-import java.util.Objects;
 import java.util.Random;
 import java.util.stream.Collectors;
 
@@ -131,11 +131,11 @@ public final class MySQLIncrementalDumper extends AbstractScalingExecutor implem
     
     private void handleWriteRowsEvent(final WriteRowsEvent event) {
         List<MySQLColumnMetaData> tableMetaData = columnMetaDataLoader.load(event.getTableName());
-        for (Serializable[] each : event.getAfterRows()) {
-            DataRecord record = createDataRecord(event, each.length);
+        for (MySQLBinlogRowImage each : event.getAfterRows()) {
+            DataRecord record = createDataRecord(event, each.getColumnCount());
             record.setType(ScalingConstant.INSERT);
-            for (int i = 0; i < each.length; i++) {
-                record.addColumn(new Column(tableMetaData.get(i).getName(), handleValue(tableMetaData.get(i), each[i]), true, tableMetaData.get(i).isPrimaryKey()));
+            for (int i = 0; i < each.getColumnCount(); i++) {
+                record.addColumn(createColumn(tableMetaData.get(i), null, each, i, true));
             }
             pushRecord(record);
         }
@@ -144,17 +144,14 @@ public final class MySQLIncrementalDumper extends AbstractScalingExecutor implem
     private void handleUpdateRowsEvent(final UpdateRowsEvent event) {
         List<MySQLColumnMetaData> tableMetaData = columnMetaDataLoader.load(event.getTableName());
         for (int i = 0; i < event.getBeforeRows().size(); i++) {
-            Serializable[] beforeValues = event.getBeforeRows().get(i);
-            Serializable[] afterValues = event.getAfterRows().get(i);
-            DataRecord record = createDataRecord(event, beforeValues.length);
+            MySQLBinlogRowImage beforeRow = event.getBeforeRows().get(i);
+            MySQLBinlogRowImage afterRow = event.getAfterRows().get(i);
+            DataRecord record = createDataRecord(event, beforeRow.getColumnCount());
             record.setType(ScalingConstant.UPDATE);
-            for (int j = 0; j < beforeValues.length; j++) {
-                Serializable oldValue = beforeValues[j];
-                Serializable newValue = afterValues[j];
-                boolean updated = !Objects.equals(newValue, oldValue);
-                record.addColumn(new Column(tableMetaData.get(j).getName(),
-                        (tableMetaData.get(j).isPrimaryKey() && updated) ? handleValue(tableMetaData.get(j), oldValue) : null,
-                        handleValue(tableMetaData.get(j), newValue), updated, tableMetaData.get(j).isPrimaryKey()));
+            for (int j = 0; j < beforeRow.getColumnCount(); j++) {
+                boolean updated = !beforeRow.isSameValue(afterRow, j);
+                Serializable oldValue = tableMetaData.get(j).isPrimaryKey() && updated ? handleValue(tableMetaData.get(j), beforeRow.getValue(j)) : null;
+                record.addColumn(createColumn(tableMetaData.get(j), oldValue, afterRow, j, updated));
             }
             pushRecord(record);
         }
@@ -162,16 +159,23 @@ public final class MySQLIncrementalDumper extends AbstractScalingExecutor implem
     
     private void handleDeleteRowsEvent(final DeleteRowsEvent event) {
         List<MySQLColumnMetaData> tableMetaData = columnMetaDataLoader.load(event.getTableName());
-        for (Serializable[] each : event.getBeforeRows()) {
-            DataRecord record = createDataRecord(event, each.length);
+        for (MySQLBinlogRowImage each : event.getBeforeRows()) {
+            DataRecord record = createDataRecord(event, each.getColumnCount());
             record.setType(ScalingConstant.DELETE);
-            for (int i = 0; i < each.length; i++) {
-                record.addColumn(new Column(tableMetaData.get(i).getName(), handleValue(tableMetaData.get(i), each[i]), true, tableMetaData.get(i).isPrimaryKey()));
+            for (int i = 0; i < each.getColumnCount(); i++) {
+                record.addColumn(createColumn(tableMetaData.get(i), null, each, i, true));
             }
             pushRecord(record);
         }
     }
     
+    private Column createColumn(final MySQLColumnMetaData columnMetaData, final Serializable oldValue, final MySQLBinlogRowImage rowImage, final int columnIndex, final boolean updated) {
+        if (columnMetaData.isPrimaryKey()) {
+            return new Column(columnMetaData.getName(), oldValue, handleValue(columnMetaData, rowImage.getValue(columnIndex)), updated, true);
+        }
+        return Column.newLazyColumn(columnMetaData.getName(), oldValue, () -> handleValue(columnMetaData, rowImage.getValue(columnIndex)), rowImage.getValueLength(columnIndex), updated, false);
+    }
+    
     private Serializable handleValue(final MySQLColumnMetaData columnMetaData, final Serializable value) {
         ValueHandler valueHandler = VALUE_HANDLER_MAP.get(columnMetaData.getDataTypeName());
         if (null != valueHandler) {
@@ -21,8 +21,10 @@ import org.apache.shardingsphere.scaling.core.common.record.Column;
 import org.apache.shardingsphere.scaling.core.common.record.DataRecord;
 import org.apache.shardingsphere.scaling.core.common.sqlbuilder.AbstractScalingSQLBuilder;
 
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.stream.Collectors;
 
 /**
  * MySQL SQL builder.
@@ -43,6 +45,13 @@ public final class MySQLScalingSQLBuilder extends AbstractScalingSQLBuilder {
         return "`";
     }
     
+    @Override
+    protected String buildRowHashSQL(final List<String> columns) {
+        String values = columns.stream().map(each -> quote(each).toString()).collect(Collectors.joining(","));
+        String nullFlags = columns.stream().map(each -> String.format("ISNULL(%s)", quote(each))).collect(Collectors.joining(","));
+        return String.format("CRC32(CONCAT_WS('#',%s,CONCAT(%s)))", values, nullFlags);
+    }
+    
     @Override
     public String buildInsertSQL(final DataRecord dataRecord) {
         return super.buildInsertSQL(dataRecord) + buildDuplicateUpdateSQL(dataRecord);
@@ -19,6 +19,7 @@ package org.apache.shardingsphere.scaling.mysql.component;
 
 import lombok.SneakyThrows;
 import org.apache.commons.collections4.map.HashedMap;
+import org.apache.shardingsphere.db.protocol.mysql.packet.binlog.row.MySQLBinlogRowImage;
 import org.apache.shardingsphere.scaling.core.common.channel.MemoryChannel;
 import org.apache.shardingsphere.scaling.core.common.constant.ScalingConstant;
 import org.apache.shardingsphere.scaling.core.common.datasource.DataSourceManager;
@@ -41,7 +42,6 @@ import org.junit.Before;
 import org.junit.Test;
 
 import javax.sql.DataSource;
-import java.io.Serializable;
 import java.sql.Connection;
 import java.sql.SQLException;
 import java.sql.Statement;
@@ -50,6 +50,7 @@ import java.util.List;
 import java.util.Map;
 
 import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertThat;
 import static org.junit.Assert.assertTrue;
 
@@ -97,8 +98,8 @@ public final class MySQLIncrementalDumperTest {
         WriteRowsEvent rowsEvent = new WriteRowsEvent();
         rowsEvent.setSchemaName("");
         rowsEvent.setTableName("t_order");
-        List<Serializable[]> rows = new ArrayList<>(1);
-        rows.add(new String[]{"1", "order"});
+        List<MySQLBinlogRowImage> rows = new ArrayList<>(1);
+        rows.add(new MySQLBinlogRowImage(new String[]{"1", "order"}));
         rowsEvent.setAfterRows(rows);
         invokeHandleEvent(new JdbcUri(URL), rowsEvent);
         List<Record> records = channel.fetchRecords(1, 0);
@@ -112,10 +113,10 @@ public final class MySQLIncrementalDumperTest {
         UpdateRowsEvent rowsEvent = new UpdateRowsEvent();
         rowsEvent.setSchemaName("");
         rowsEvent.setTableName("t_order");
-        List<Serializable[]> beforeRows = new ArrayList<>(1);
-        beforeRows.add(new String[]{"1", "order_old"});
-        List<Serializable[]> afterRows = new ArrayList<>(1);
-        afterRows.add(new String[]{"1", "order_new"});
+        List<MySQLBinlogRowImage> beforeRows = new ArrayList<>(1);
+        beforeRows.add(new MySQLBinlogRowImage(new String[]{"1", "order_old"}));
+        List<MySQLBinlogRowImage> afterRows = new ArrayList<>(1);
+        afterRows.add(new MySQLBinlogRowImage(new String[]{"1", "order_new"}));
         rowsEvent.setBeforeRows(beforeRows);
         rowsEvent.setAfterRows(afterRows);
         invokeHandleEvent(new JdbcUri(URL), rowsEvent);
@@ -123,6 +124,10 @@ public final class MySQLIncrementalDumperTest {
         assertThat(records.size(), is(1));
         assertTrue(records.get(0) instanceof DataRecord);
         assertThat(((DataRecord) records.get(0)).getType(), is(ScalingConstant.UPDATE));
+        DataRecord actual = (DataRecord) records.get(0);
+        assertFalse(actual.getColumn(0).isUpdated());
+        assertTrue(actual.getColumn(1).isUpdated());
+        assertThat(actual.getColumn(1).getValue(), is("order_new"));
     }
     
     @Test
@@ -130,8 +135,8 @@ public final class MySQLIncrementalDumperTest {
         DeleteRowsEvent rowsEvent = new DeleteRowsEvent();
         rowsEvent.setSchemaName("");
         rowsEvent.setTableName("t_order");
-        List<Serializable[]> rows = new ArrayList<>(1);
-        rows.add(new String[]{"1", "order"});
+        List<MySQLBinlogRowImage> rows = new ArrayList<>(1);
+        rows.add(new MySQLBinlogRowImage(new String[]{"1", "order"}));
         rowsEvent.setBeforeRows(rows);
         invokeHandleEvent(new JdbcUri(URL), rowsEvent);
         List<Record> records = channel.fetchRecords(1, 0);
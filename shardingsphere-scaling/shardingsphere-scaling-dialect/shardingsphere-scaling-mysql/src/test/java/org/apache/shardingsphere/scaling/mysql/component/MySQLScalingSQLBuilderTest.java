@@ -24,6 +24,8 @@ import org.apache.shardingsphere.scaling.core.common.record.DataRecord;
 import org.apache.shardingsphere.scaling.core.job.position.PlaceholderPosition;
 import org.junit.Test;
 
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.Set;
 
 import static org.hamcrest.CoreMatchers.is;
@@ -51,6 +53,12 @@ public final class MySQLScalingSQLBuilderTest {
         assertThat(actual, is("SELECT SUM(CRC32(`id`)) from `t2`"));
     }
     
+    @Test
+    public void assertBuildChunkChecksumSQL() {
+        String actual = sqlBuilder.buildChunkChecksumSQL("t2", Arrays.asList("id", "c1"), Collections.singletonList("id"), false, true);
+        assertThat(actual, is("SELECT COUNT(*), SUM(CRC32(CONCAT_WS('#',`id`,`c1`,CONCAT(ISNULL(`id`),ISNULL(`c1`))))) FROM `t2` WHERE (`id` <= ?)"));
+    }
+    
     private DataRecord mockDataRecord(final String tableName) {
         DataRecord result = new DataRecord(new PlaceholderPosition(), 4);
         result.setTableName(tableName);
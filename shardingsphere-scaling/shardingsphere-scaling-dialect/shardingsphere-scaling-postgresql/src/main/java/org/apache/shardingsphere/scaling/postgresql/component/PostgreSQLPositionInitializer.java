@@ -17,6 +17,7 @@
 
 package org.apache.shardingsphere.scaling.postgresql.component;
 
+import lombok.extern.slf4j.Slf4j;
 import org.apache.shardingsphere.scaling.core.job.position.PositionInitializer;
 import org.apache.shardingsphere.scaling.postgresql.wal.WalPosition;
 import org.postgresql.replication.LogSequenceNumber;
@@ -31,12 +32,17 @@ import java.sql.SQLException;
 /**
  * PostgreSQL wal position initializer.
  */
+@Slf4j
 public final class PostgreSQLPositionInitializer implements PositionInitializer {
     
     public static final String SLOT_NAME = "sharding_scaling";
     
     public static final String DECODE_PLUGIN = "test_decoding";
     
+    public static final String PGOUTPUT_DECODE_PLUGIN = "pgoutput";
+    
+    public static final String PUBLICATION_NAME = "sharding_scaling";
+    
     public static final String DUPLICATE_OBJECT_ERROR_CODE = "42710";
     
     @Override
@@ -53,7 +59,8 @@ public final class PostgreSQLPositionInitializer implements PositionInitializer
     }
     
     private void createIfNotExists(final Connection connection) throws SQLException {
-        try (PreparedStatement ps = connection.prepareStatement(String.format("SELECT * FROM pg_create_logical_replication_slot('%s', '%s')", SLOT_NAME, DECODE_PLUGIN))) {
+        String decodePlugin = 10 <= connection.getMetaData().getDatabaseMajorVersion() && createPublicationIfNotExists(connection) ? PGOUTPUT_DECODE_PLUGIN : DECODE_PLUGIN;
+        try (PreparedStatement ps = connection.prepareStatement(String.format("SELECT * FROM pg_create_logical_replication_slot('%s', '%s')", SLOT_NAME, decodePlugin))) {
             ps.execute();
         } catch (final PSQLException ex) {
             if (!DUPLICATE_OBJECT_ERROR_CODE.equals(ex.getSQLState())) {
@@ -62,6 +69,19 @@ public final class PostgreSQLPositionInitializer implements PositionInitializer
         }
     }
     
+    private boolean createPublicationIfNotExists(final Connection connection) throws SQLException {
+        try (PreparedStatement ps = connection.prepareStatement(String.format("CREATE PUBLICATION %s FOR ALL TABLES", PUBLICATION_NAME))) {
+            ps.execute();
+            return true;
+        } catch (final PSQLException ex) {
+            if (DUPLICATE_OBJECT_ERROR_CODE.equals(ex.getSQLState())) {
+                return true;
+            }
+            log.warn("Create publication {} failed, fall back to {} decoding plugin.", PUBLICATION_NAME, DECODE_PLUGIN, ex);
+            return false;
+        }
+    }
+    
     private WalPosition getWalPosition(final Connection connection) throws SQLException {
         try (PreparedStatement ps = connection.prepareStatement(getSql(connection));
              ResultSet rs = ps.executeQuery()) {
@@ -22,8 +22,12 @@ import org.apache.shardingsphere.scaling.core.common.record.DataRecord;
 import org.apache.shardingsphere.scaling.core.common.record.RecordUtil;
 import org.apache.shardingsphere.scaling.core.common.sqlbuilder.AbstractScalingSQLBuilder;
 
+import java.math.BigDecimal;
+import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 import java.util.Set;
+import java.util.stream.Collectors;
 
 /**
  * PostgreSQL SQL builder.
@@ -44,6 +48,24 @@ public final class PostgreSQLScalingSQLBuilder extends AbstractScalingSQLBuilder
         return "\"";
     }
     
+    @Override
+    protected String buildRowHashSQL(final List<String> columns) {
+        String values = columns.stream().map(each -> quote(each).toString()).collect(Collectors.joining(","));
+        String nullFlags = columns.stream().map(each -> String.format("%s IS NULL", quote(each))).collect(Collectors.joining(","));
+        return String.format("CAST(CAST('x' || SUBSTR(MD5(CONCAT_WS('#',%s,CONCAT(%s))), 1, 8) AS BIT(32)) AS INT)", values, nullFlags);
+    }
+    
+    @Override
+    public Optional<String> buildEstimateRowCountSQL(final String tableName) {
+        return Optional.of(String.format("SELECT reltuples FROM pg_class WHERE oid = '%s'::regclass", quote(tableName)));
+    }
+    
+    @Override
+    public Optional<String> buildSampleUniqueKeySQL(final String tableName, final List<String> uniqueKeys, final double percentage) {
+        return Optional.of(String.format("SELECT %s FROM %s TABLESAMPLE SYSTEM (%s) ORDER BY %s",
+                buildColumnsSQL(uniqueKeys), quote(tableName), BigDecimal.valueOf(percentage).toPlainString(), buildColumnsSQL(uniqueKeys)));
+    }
+    
     @Override
     public String buildInsertSQL(final DataRecord dataRecord) {
         return super.buildInsertSQL(dataRecord) + buildConflictSQL(dataRecord);
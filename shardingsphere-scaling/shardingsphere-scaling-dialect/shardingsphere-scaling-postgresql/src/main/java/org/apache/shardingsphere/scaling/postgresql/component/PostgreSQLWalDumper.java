@@ -31,9 +31,11 @@ import org.apache.shardingsphere.scaling.postgresql.wal.LogicalReplication;
 import org.apache.shardingsphere.scaling.postgresql.wal.WalEventConverter;
 import org.apache.shardingsphere.scaling.postgresql.wal.WalPosition;
 import org.apache.shardingsphere.scaling.postgresql.wal.decode.DecodingPlugin;
+import org.apache.shardingsphere.scaling.postgresql.wal.decode.PgOutputDecodingPlugin;
 import org.apache.shardingsphere.scaling.postgresql.wal.decode.TestDecodingPlugin;
 import org.apache.shardingsphere.scaling.postgresql.wal.event.AbstractWalEvent;
 import org.postgresql.jdbc.PgConnection;
+import org.postgresql.jdbc.TimestampUtils;
 import org.postgresql.replication.PGReplicationStream;
 
 import java.nio.ByteBuffer;
@@ -74,8 +76,17 @@ public final class PostgreSQLWalDumper extends AbstractScalingExecutor implement
     private void dump() {
         try {
             Connection pgConnection = logicalReplication.createPgConnection((StandardJDBCDataSourceConfiguration) dumperConfig.getDataSourceConfig());
-            DecodingPlugin decodingPlugin = new TestDecodingPlugin(pgConnection.unwrap(PgConnection.class).getTimestampUtils());
-            PGReplicationStream stream = logicalReplication.createReplicationStream(pgConnection, PostgreSQLPositionInitializer.SLOT_NAME, walPosition.getLogSequenceNumber());
+            TimestampUtils timestampUtils = pgConnection.unwrap(PgConnection.class).getTimestampUtils();
+            DecodingPlugin decodingPlugin;
+            PGReplicationStream stream;
+            if (PostgreSQLPositionInitializer.PGOUTPUT_DECODE_PLUGIN.equals(logicalReplication.getSlotPlugin(pgConnection, PostgreSQLPositionInitializer.SLOT_NAME))) {
+                decodingPlugin = new PgOutputDecodingPlugin(timestampUtils);
+                stream = logicalReplication.createPgOutputReplicationStream(
+                        pgConnection, PostgreSQLPositionInitializer.SLOT_NAME, PostgreSQLPositionInitializer.PUBLICATION_NAME, walPosition.getLogSequenceNumber());
+            } else {
+                decodingPlugin = new TestDecodingPlugin(timestampUtils);
+                stream = logicalReplication.createReplicationStream(pgConnection, PostgreSQLPositionInitializer.SLOT_NAME, walPosition.getLogSequenceNumber());
+            }
             while (isRunning()) {
                 ByteBuffer message = stream.readPending();
                 if (null == message) {
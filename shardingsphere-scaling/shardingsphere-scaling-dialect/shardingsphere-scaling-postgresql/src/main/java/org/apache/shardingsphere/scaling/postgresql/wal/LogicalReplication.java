@@ -25,6 +25,8 @@ import org.postgresql.replication.PGReplicationStream;
 
 import java.sql.Connection;
 import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.util.Properties;
 
@@ -73,4 +75,41 @@ public final class LogicalReplication {
                 .withSlotOption("skip-empty-xacts", true)
                 .start();
     }
+    
+    /**
+     * Create PostgreSQL replication stream with pgoutput protocol.
+     *
+     * @param pgConnection PostgreSQL connection
+     * @param slotName slot name
+     * @param publicationName publication name
+     * @param startPosition start position
+     * @return replication stream
+     * @throws SQLException sql exception
+     */
+    public PGReplicationStream createPgOutputReplicationStream(final Connection pgConnection, final String slotName, final String publicationName,
+                                                               final LogSequenceNumber startPosition) throws SQLException {
+        return pgConnection.unwrap(PGConnection.class).getReplicationAPI()
+                .replicationStream()
+                .logical()
+                .withStartPosition(startPosition)
+                .withSlotName(slotName)
+                .withSlotOption("proto_version", "1")
+                .withSlotOption("publication_names", publicationName)
+                .start();
+    }
+    
+    /**
+     * Get output plugin of replication slot.
+     *
+     * @param pgConnection PostgreSQL connection
+     * @param slotName slot name
+     * @return output plugin name, null if slot not exists
+     * @throws SQLException sql exception
+     */
+    public String getSlotPlugin(final Connection pgConnection, final String slotName) throws SQLException {
+        try (PreparedStatement ps = pgConnection.prepareStatement(String.format("SELECT plugin FROM pg_replication_slots WHERE slot_name = '%s'", slotName));
+             ResultSet rs = ps.executeQuery()) {
+            return rs.next() ? rs.getString(1) : null;
+        }
+    }
 }
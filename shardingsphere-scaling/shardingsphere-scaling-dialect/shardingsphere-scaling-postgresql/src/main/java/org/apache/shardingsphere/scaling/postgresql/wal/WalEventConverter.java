@@ -36,6 +36,7 @@ import org.apache.shardingsphere.scaling.postgresql.wal.event.WriteRowEvent;
 import org.apache.shardingsphere.infra.metadata.schema.model.TableMetaData;
 
 import java.util.List;
+import java.util.Objects;
 
 /**
  * Convert wal event to {@code Record}.
@@ -101,11 +102,25 @@ public final class WalEventConverter {
     private DataRecord handleUpdateRowsEvent(final UpdateRowEvent updateRowEvent) {
         DataRecord result = createDataRecord(updateRowEvent, updateRowEvent.getAfterRow().size());
         result.setType(ScalingConstant.UPDATE);
-        putColumnsIntoDataRecord(result, metaDataManager.getTableMetaData(updateRowEvent.getTableName()), updateRowEvent.getAfterRow());
+        TableMetaData tableMetaData = metaDataManager.getTableMetaData(updateRowEvent.getTableName());
+        List<Object> beforeRow = updateRowEvent.getBeforeRow();
+        List<Object> afterRow = updateRowEvent.getAfterRow();
+        for (int i = 0; i < afterRow.size(); i++) {
+            String columnName = tableMetaData.getColumnMetaData(i).getName();
+            if (!tableMetaData.isPrimaryKey(i)) {
+                result.addColumn(new Column(columnName, afterRow.get(i), true, false));
+                continue;
+            }
+            boolean updated = null != beforeRow && !Objects.deepEquals(beforeRow.get(i), afterRow.get(i));
+            result.addColumn(new Column(columnName, updated ? beforeRow.get(i) : null, afterRow.get(i), updated, true));
+        }
         return result;
     }
     
     private DataRecord handleDeleteRowsEvent(final DeleteRowEvent event) {
+        if (null != event.getBeforeRow()) {
+            return handleDeleteRowsEventWithBeforeRow(event);
+        }
         //TODO completion columns
         DataRecord result = createDataRecord(event, event.getPrimaryKeys().size());
         result.setType(ScalingConstant.DELETE);
@@ -116,6 +131,18 @@ public final class WalEventConverter {
         return result;
     }
     
+    private DataRecord handleDeleteRowsEventWithBeforeRow(final DeleteRowEvent event) {
+        TableMetaData tableMetaData = metaDataManager.getTableMetaData(event.getTableName());
+        DataRecord result = createDataRecord(event, tableMetaData.getPrimaryKeyColumns().size());
+        result.setType(ScalingConstant.DELETE);
+        for (int i = 0; i < event.getBeforeRow().size(); i++) {
+            if (tableMetaData.isPrimaryKey(i)) {
+                result.addColumn(new Column(tableMetaData.getColumnMetaData(i).getName(), event.getBeforeRow().get(i), true, true));
+            }
+        }
+        return result;
+    }
+    
     private DataRecord createDataRecord(final AbstractRowEvent rowsEvent, final int columnCount) {
         DataRecord result = new DataRecord(new WalPosition(rowsEvent.getLogSequenceNumber()), columnCount);
         result.setTableName(dumperConfig.getTableNameMap().get(rowsEvent.getTableName()));
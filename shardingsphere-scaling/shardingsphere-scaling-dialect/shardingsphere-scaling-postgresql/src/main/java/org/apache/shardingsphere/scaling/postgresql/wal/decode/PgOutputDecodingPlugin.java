@@ -0,0 +1,246 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.scaling.postgresql.wal.decode;
+
+import com.google.common.io.BaseEncoding;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.apache.shardingsphere.scaling.postgresql.wal.event.AbstractRowEvent;
+import org.apache.shardingsphere.scaling.postgresql.wal.event.AbstractWalEvent;
+import org.apache.shardingsphere.scaling.postgresql.wal.event.DeleteRowEvent;
+import org.apache.shardingsphere.scaling.postgresql.wal.event.PlaceholderEvent;
+import org.apache.shardingsphere.scaling.postgresql.wal.event.UpdateRowEvent;
+import org.apache.shardingsphere.scaling.postgresql.wal.event.WriteRowEvent;
+import org.postgresql.jdbc.TimestampUtils;
+import org.postgresql.replication.LogSequenceNumber;
+
+import java.math.BigDecimal;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.sql.Date;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Pgoutput decoding plugin.
+ *
+ * <p>
+ * Decode messages of logical replication protocol version 1, relation metadata is cached by relation id.
+ * </p>
+ */
+@RequiredArgsConstructor
+public final class PgOutputDecodingPlugin implements DecodingPlugin {
+    
+    private static final int BOOL_OID = 16;
+    
+    private static final int BYTEA_OID = 17;
+    
+    private static final int INT8_OID = 20;
+    
+    private static final int INT2_OID = 21;
+    
+    private static final int INT4_OID = 23;
+    
+    private static final int FLOAT4_OID = 700;
+    
+    private static final int FLOAT8_OID = 701;
+    
+    private static final int DATE_OID = 1082;
+    
+    private static final int TIME_OID = 1083;
+    
+    private static final int TIMESTAMP_OID = 1114;
+    
+    private static final int NUMERIC_OID = 1700;
+    
+    private final Map<Integer, Relation> relations = new HashMap<>();
+    
+    private final TimestampUtils timestampUtils;
+    
+    @Override
+    public AbstractWalEvent decode(final ByteBuffer data, final LogSequenceNumber logSequenceNumber) {
+        AbstractWalEvent result;
+        char messageType = (char) data.get();
+        switch (messageType) {
+            case 'R':
+                readRelation(data);
+                result = new PlaceholderEvent();
+                break;
+            case 'I':
+                result = readWriteRowEvent(data);
+                break;
+            case 'U':
+                result = readUpdateRowEvent(data);
+                break;
+            case 'D':
+                result = readDeleteRowEvent(data);
+                break;
+            default:
+                result = new PlaceholderEvent();
+                break;
+        }
+        result.setLogSequenceNumber(logSequenceNumber);
+        return result;
+    }
+    
+    private void readRelation(final ByteBuffer data) {
+        int relationId = data.getInt();
+        String schemaName = readString(data);
+        String tableName = readString(data);
+        data.get();
+        int columnCount = data.getShort();
+        int[] columnTypes = new int[columnCount];
+        for (int i = 0; i < columnCount; i++) {
+            data.get();
+            readString(data);
+            columnTypes[i] = data.getInt();
+            data.getInt();
+        }
+        relations.put(relationId, new Relation(schemaName, tableName, columnTypes));
+    }
+    
+    private AbstractRowEvent readWriteRowEvent(final ByteBuffer data) {
+        Relation relation = getRelation(data.getInt());
+        data.get();
+        WriteRowEvent result = new WriteRowEvent();
+        result.setAfterRow(readTupleData(data, relation, null));
+        return setTable(result, relation);
+    }
+    
+    private AbstractRowEvent readUpdateRowEvent(final ByteBuffer data) {
+        Relation relation = getRelation(data.getInt());
+        char tupleType = (char) data.get();
+        List<Object> beforeRow = null;
+        if ('K' == tupleType || 'O' == tupleType) {
+            beforeRow = readTupleData(data, relation, null);
+            data.get();
+        }
+        UpdateRowEvent result = new UpdateRowEvent();
+        result.setBeforeRow(beforeRow);
+        result.setAfterRow(readTupleData(data, relation, beforeRow));
+        return setTable(result, relation);
+    }
+    
+    private AbstractRowEvent readDeleteRowEvent(final ByteBuffer data) {
+        Relation relation = getRelation(data.getInt());
+        data.get();
+        DeleteRowEvent result = new DeleteRowEvent();
+        result.setBeforeRow(readTupleData(data, relation, null));
+        return setTable(result, relation);
+    }
+    
+    private Relation getRelation(final int relationId) {
+        Relation result = relations.get(relationId);
+        if (null == result) {
+            throw new DecodingException(String.format("Relation %d is not received before row message", relationId));
+        }
+        return result;
+    }
+    
+    private AbstractRowEvent setTable(final AbstractRowEvent rowEvent, final Relation relation) {
+        rowEvent.setSchemaName(relation.getSchemaName());
+        rowEvent.setTableName(relation.getTableName());
+        return rowEvent;
+    }
+    
+    private List<Object> readTupleData(final ByteBuffer data, final Relation relation, final List<Object> beforeRow) {
+        int columnCount = data.getShort();
+        List<Object> result = new ArrayList<>(columnCount);
+        for (int i = 0; i < columnCount; i++) {
+            char kind = (char) data.get();
+            switch (kind) {
+                case 'n':
+                    result.add(null);
+                    break;
+                case 'u':
+                    result.add(null == beforeRow ? null : beforeRow.get(i));
+                    break;
+                case 't':
+                    byte[] value = new byte[data.getInt()];
+                    data.get(value);
+                    result.add(readColumnData(new String(value, StandardCharsets.UTF_8), relation.getColumnTypes()[i]));
+                    break;
+                default:
+                    throw new DecodingException(String.format("Unsupported tuple data kind '%s'", kind));
+            }
+        }
+        return result;
+    }
+    
+    private Object readColumnData(final String value, final int columnType) {
+        switch (columnType) {
+            case BOOL_OID:
+                return "t".equals(value);
+            case BYTEA_OID:
+                return BaseEncoding.base16().lowerCase().decode(value.substring(2));
+            case INT2_OID:
+                return Short.parseShort(value);
+            case INT4_OID:
+                return Integer.parseInt(value);
+            case INT8_OID:
+                return Long.parseLong(value);
+            case FLOAT4_OID:
+                return Float.parseFloat(value);
+            case FLOAT8_OID:
+                return Double.parseDouble(value);
+            case NUMERIC_OID:
+                return new BigDecimal(value);
+            case DATE_OID:
+                return Date.valueOf(value);
+            case TIME_OID:
+                try {
+                    return timestampUtils.toTime(null, value);
+                } catch (final SQLException ex) {
+                    throw new DecodingException(ex);
+                }
+            case TIMESTAMP_OID:
+                try {
+                    return timestampUtils.toTimestamp(null, value);
+                } catch (final SQLException ex) {
+                    throw new DecodingException(ex);
+                }
+            default:
+                return value;
+        }
+    }
+    
+    private String readString(final ByteBuffer data) {
+        int end = data.position();
+        while (0 != data.get(end)) {
+            end++;
+        }
+        byte[] result = new byte[end - data.position()];
+        data.get(result);
+        data.get();
+        return new String(result, StandardCharsets.UTF_8);
+    }
+    
+    @RequiredArgsConstructor
+    @Getter
+    private static final class Relation {
+        
+        private final String schemaName;
+        
+        private final String tableName;
+        
+        private final int[] columnTypes;
+    }
+}
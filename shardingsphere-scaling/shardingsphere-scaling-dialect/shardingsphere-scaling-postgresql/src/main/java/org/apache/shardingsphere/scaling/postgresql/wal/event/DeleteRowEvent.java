@@ -30,4 +30,9 @@ import java.util.List;
 public final class DeleteRowEvent extends AbstractRowEvent {
     
     private List<Object> primaryKeys;
+    
+    /**
+     * Values of all columns, columns out of replica identity are null unless replica identity is full. Primary keys are taken from it if present.
+     */
+    private List<Object> beforeRow;
 }
@@ -29,5 +29,10 @@ import java.util.List;
 @Setter
 public final class UpdateRowEvent extends AbstractRowEvent {
     
+    /**
+     * Old values of all columns, only available when replica identity key is changed or replica identity is full.
+     */
+    private List<Object> beforeRow;
+    
     private List<Object> afterRow;
 }
@@ -70,7 +70,7 @@ public final class PostgreSQLJdbcDumperTest {
         DataSource dataSource = dataSourceManager.getDataSource(mockDumperConfiguration().getDataSourceConfig());
         try (Connection connection = dataSource.getConnection();
              PreparedStatement preparedStatement = jdbcDumper.createPreparedStatement(connection, "SELECT * FROM t_order")) {
-            assertThat(preparedStatement.getFetchSize(), is(1));
+            assertThat(preparedStatement.getFetchSize(), is(1000));
         }
     }
     
@@ -25,6 +25,8 @@ import org.junit.runner.RunWith;
 import org.mockito.Mock;
 import org.mockito.junit.MockitoJUnitRunner;
 import org.postgresql.replication.LogSequenceNumber;
+import org.postgresql.util.PSQLException;
+import org.postgresql.util.PSQLState;
 
 import javax.sql.DataSource;
 import java.sql.Connection;
@@ -36,6 +38,7 @@ import java.sql.SQLException;
 import static org.hamcrest.CoreMatchers.is;
 import static org.junit.Assert.assertThat;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 @RunWith(MockitoJUnitRunner.class)
@@ -76,8 +79,23 @@ public final class PostgreSQLPositionInitializerTest {
     @Test
     public void assertGetCurrentPositionOnPostgreSQL10() throws SQLException {
         when(databaseMetaData.getDatabaseMajorVersion()).thenReturn(10);
+        when(connection.prepareStatement("CREATE PUBLICATION sharding_scaling FOR ALL TABLES")).thenReturn(mock(PreparedStatement.class));
+        PreparedStatement pgOutputSlotPreparedStatement = mock(PreparedStatement.class);
+        when(connection.prepareStatement("SELECT * FROM pg_create_logical_replication_slot('sharding_scaling', 'pgoutput')")).thenReturn(pgOutputSlotPreparedStatement);
         WalPosition actual = new PostgreSQLPositionInitializer().init(dataSource);
         assertThat(actual.getLogSequenceNumber(), is(LogSequenceNumber.valueOf(POSTGRESQL_10_LSN)));
+        verify(pgOutputSlotPreparedStatement).execute();
+    }
+    
+    @Test
+    public void assertCreateTestDecodingSlotWhenCreatePublicationFailed() throws SQLException {
+        when(databaseMetaData.getDatabaseMajorVersion()).thenReturn(10);
+        PreparedStatement publicationPreparedStatement = mock(PreparedStatement.class);
+        when(publicationPreparedStatement.execute()).thenThrow(new PSQLException("permission denied", PSQLState.UNKNOWN_STATE));
+        when(connection.prepareStatement("CREATE PUBLICATION sharding_scaling FOR ALL TABLES")).thenReturn(publicationPreparedStatement);
+        WalPosition actual = new PostgreSQLPositionInitializer().init(dataSource);
+        assertThat(actual.getLogSequenceNumber(), is(LogSequenceNumber.valueOf(POSTGRESQL_10_LSN)));
+        verify(connection).prepareStatement("SELECT * FROM pg_create_logical_replication_slot('sharding_scaling', 'test_decoding')");
     }
     
     @Test(expected = RuntimeException.class)
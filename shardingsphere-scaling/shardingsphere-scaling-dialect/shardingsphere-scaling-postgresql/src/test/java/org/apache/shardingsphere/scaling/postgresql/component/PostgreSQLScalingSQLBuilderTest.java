@@ -24,6 +24,9 @@ import org.apache.shardingsphere.scaling.postgresql.wal.WalPosition;
 import org.junit.Test;
 import org.postgresql.replication.LogSequenceNumber;
 
+import java.util.Arrays;
+import java.util.Collections;
+
 import static org.hamcrest.CoreMatchers.is;
 import static org.junit.Assert.assertThat;
 
@@ -35,6 +38,24 @@ public final class PostgreSQLScalingSQLBuilderTest {
         assertThat(actual, is("INSERT INTO \"t_order\"(\"id\",\"name\") VALUES(?,?) ON CONFLICT (id) DO NOTHING"));
     }
     
+    @Test
+    public void assertBuildChunkChecksumSQL() {
+        String actual = new PostgreSQLScalingSQLBuilder(Maps.newHashMap()).buildChunkChecksumSQL("t_order", Arrays.asList("id", "name"), Collections.singletonList("id"), true, false);
+        assertThat(actual, is("SELECT COUNT(*), SUM(CAST("
+                + "CAST('x' || SUBSTR(MD5(CONCAT_WS('#',\"id\",\"name\",CONCAT(\"id\" IS NULL,\"name\" IS NULL))), 1, 8) AS BIT(32)) AS INT)) FROM \"t_order\" WHERE (\"id\" > ?)"));
+    }
+    
+    @Test
+    public void assertBuildEstimateRowCountSQL() {
+        assertThat(new PostgreSQLScalingSQLBuilder(Maps.newHashMap()).buildEstimateRowCountSQL("t_order").get(), is("SELECT reltuples FROM pg_class WHERE oid = '\"t_order\"'::regclass"));
+    }
+    
+    @Test
+    public void assertBuildSampleUniqueKeySQL() {
+        String actual = new PostgreSQLScalingSQLBuilder(Maps.newHashMap()).buildSampleUniqueKeySQL("t_order", Arrays.asList("id", "name"), 0.5).get();
+        assertThat(actual, is("SELECT \"id\",\"name\" FROM \"t_order\" TABLESAMPLE SYSTEM (0.5) ORDER BY \"id\",\"name\""));
+    }
+    
     private DataRecord mockDataRecord() {
         DataRecord result = new DataRecord(new WalPosition(LogSequenceNumber.valueOf(100L)), 2);
         result.setTableName("t_order");
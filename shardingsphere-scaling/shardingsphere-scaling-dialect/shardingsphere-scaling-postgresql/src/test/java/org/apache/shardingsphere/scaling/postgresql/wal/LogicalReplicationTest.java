@@ -32,11 +32,16 @@ import org.postgresql.replication.fluent.ChainedStreamBuilder;
 import org.postgresql.replication.fluent.logical.ChainedLogicalStreamBuilder;
 
 import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
 import java.sql.SQLException;
 
+import static org.hamcrest.CoreMatchers.is;
 import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThat;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -83,6 +88,32 @@ public final class LogicalReplicationTest {
         verify(chainedLogicalStreamBuilder).start();
     }
     
+    @Test
+    public void assertCreatePgOutputReplicationStreamSuccess() throws SQLException {
+        LogSequenceNumber startPosition = LogSequenceNumber.valueOf(100L);
+        when(pgConnection.unwrap(PGConnection.class)).thenReturn(pgConnection);
+        when(pgConnection.getReplicationAPI()).thenReturn(pgReplicationConnection);
+        when(pgReplicationConnection.replicationStream()).thenReturn(chainedStreamBuilder);
+        when(chainedStreamBuilder.logical()).thenReturn(chainedLogicalStreamBuilder);
+        when(chainedLogicalStreamBuilder.withStartPosition(startPosition)).thenReturn(chainedLogicalStreamBuilder);
+        when(chainedLogicalStreamBuilder.withSlotName("")).thenReturn(chainedLogicalStreamBuilder);
+        when(chainedLogicalStreamBuilder.withSlotOption("proto_version", "1")).thenReturn(chainedLogicalStreamBuilder);
+        when(chainedLogicalStreamBuilder.withSlotOption("publication_names", "test_publication")).thenReturn(chainedLogicalStreamBuilder);
+        logicalReplication.createPgOutputReplicationStream(pgConnection, "", "test_publication", startPosition);
+        verify(chainedLogicalStreamBuilder).start();
+    }
+    
+    @Test
+    public void assertGetSlotPlugin() throws SQLException {
+        PreparedStatement preparedStatement = mock(PreparedStatement.class);
+        ResultSet resultSet = mock(ResultSet.class);
+        when(pgConnection.prepareStatement("SELECT plugin FROM pg_replication_slots WHERE slot_name = 'test_slot'")).thenReturn(preparedStatement);
+        when(preparedStatement.executeQuery()).thenReturn(resultSet);
+        when(resultSet.next()).thenReturn(true);
+        when(resultSet.getString(1)).thenReturn("pgoutput");
+        assertThat(logicalReplication.getSlotPlugin(pgConnection, "test_slot"), is("pgoutput"));
+    }
+    
     @Test(expected = SQLException.class)
     @SneakyThrows(SQLException.class)
     public void assertCreateReplicationStreamFailure() {
@@ -42,6 +42,7 @@ import java.sql.Statement;
 import java.util.Map;
 
 import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertThat;
 import static org.junit.Assert.assertTrue;
 
@@ -90,6 +91,44 @@ public final class WalEventConverterTest {
         assertThat(((DataRecord) record).getType(), is(ScalingConstant.UPDATE));
     }
     
+    @Test
+    public void assertConvertUpdateRowEventWithChangedPrimaryKey() {
+        UpdateRowEvent event = new UpdateRowEvent();
+        event.setSchemaName("");
+        event.setTableName("t_order");
+        event.setBeforeRow(Lists.newArrayList(1, null));
+        event.setAfterRow(Lists.newArrayList(2, "xxx"));
+        DataRecord actual = (DataRecord) walEventConverter.convert(event);
+        assertTrue(actual.isPrimaryKeyChanged());
+        assertThat(actual.getColumn(0).getOldValue(), is(1));
+        assertThat(actual.getColumn(0).getValue(), is(2));
+    }
+    
+    @Test
+    public void assertConvertUpdateRowEventWithUnchangedPrimaryKey() {
+        UpdateRowEvent event = new UpdateRowEvent();
+        event.setSchemaName("");
+        event.setTableName("t_order");
+        event.setBeforeRow(Lists.newArrayList(1, "yyy"));
+        event.setAfterRow(Lists.newArrayList(1, "xxx"));
+        DataRecord actual = (DataRecord) walEventConverter.convert(event);
+        assertFalse(actual.isPrimaryKeyChanged());
+        assertFalse(actual.getColumn(0).isUpdated());
+        assertTrue(actual.getColumn(1).isUpdated());
+    }
+    
+    @Test
+    public void assertConvertDeleteRowEventWithFullBeforeRow() {
+        DeleteRowEvent event = new DeleteRowEvent();
+        event.setSchemaName("");
+        event.setTableName("t_order");
+        event.setBeforeRow(Lists.newArrayList(1, "xxx"));
+        DataRecord actual = (DataRecord) walEventConverter.convert(event);
+        assertThat(actual.getColumnCount(), is(1));
+        assertThat(actual.getColumn(0).getName(), is("id"));
+        assertThat(actual.getColumn(0).getValue(), is(1));
+    }
+    
     @Test
     public void assertConvertDeleteRowEvent() {
         Record record = walEventConverter.convert(mockDeleteRowEvent());
@@ -0,0 +1,177 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.scaling.postgresql.wal.decode;
+
+import org.apache.shardingsphere.scaling.postgresql.wal.event.AbstractWalEvent;
+import org.apache.shardingsphere.scaling.postgresql.wal.event.DeleteRowEvent;
+import org.apache.shardingsphere.scaling.postgresql.wal.event.PlaceholderEvent;
+import org.apache.shardingsphere.scaling.postgresql.wal.event.UpdateRowEvent;
+import org.apache.shardingsphere.scaling.postgresql.wal.event.WriteRowEvent;
+import org.junit.Before;
+import org.junit.Test;
+import org.postgresql.replication.LogSequenceNumber;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+
+public final class PgOutputDecodingPluginTest {
+    
+    private static final int RELATION_ID = 16384;
+    
+    private final LogSequenceNumber logSequenceNumber = LogSequenceNumber.valueOf("0/14EFDB8");
+    
+    private PgOutputDecodingPlugin decodingPlugin;
+    
+    @Before
+    public void setUp() {
+        decodingPlugin = new PgOutputDecodingPlugin(null);
+        assertTrue(decodingPlugin.decode(createRelationMessage(), logSequenceNumber) instanceof PlaceholderEvent);
+    }
+    
+    @Test
+    public void assertDecodeWriteRowEvent() {
+        ByteBuffer data = ByteBuffer.allocate(256);
+        data.put((byte) 'I').putInt(RELATION_ID).put((byte) 'N');
+        putTupleData(data, "1", "foo", "\\xff00ab");
+        data.flip();
+        WriteRowEvent actual = (WriteRowEvent) decodingPlugin.decode(data, logSequenceNumber);
+        assertThat(actual.getLogSequenceNumber(), is(logSequenceNumber));
+        assertThat(actual.getSchemaName(), is("public"));
+        assertThat(actual.getTableName(), is("t_order"));
+        assertThat(actual.getAfterRow().get(0), is(1));
+        assertThat(actual.getAfterRow().get(1), is("foo"));
+        assertThat(actual.getAfterRow().get(2), is(new byte[]{(byte) 0xff, (byte) 0, (byte) 0xab}));
+    }
+    
+    @Test
+    public void assertDecodeUpdateRowEventWithUnchangedToastValue() {
+        ByteBuffer data = ByteBuffer.allocate(256);
+        data.put((byte) 'U').putInt(RELATION_ID).put((byte) 'O');
+        putTupleData(data, "1", "foo", "\\x00");
+        data.put((byte) 'N').putShort((short) 3);
+        putTextValue(data, "1");
+        putTextValue(data, "bar");
+        data.put((byte) 'u');
+        data.flip();
+        UpdateRowEvent actual = (UpdateRowEvent) decodingPlugin.decode(data, logSequenceNumber);
+        assertThat(actual.getTableName(), is("t_order"));
+        assertThat(actual.getAfterRow().get(0), is(1));
+        assertThat(actual.getAfterRow().get(1), is("bar"));
+        assertThat(actual.getAfterRow().get(2), is(new byte[]{(byte) 0}));
+        assertThat(actual.getBeforeRow().get(1), is("foo"));
+    }
+    
+    @Test
+    public void assertDecodeUpdateRowEventWithNull() {
+        ByteBuffer data = ByteBuffer.allocate(256);
+        data.put((byte) 'U').putInt(RELATION_ID).put((byte) 'N').putShort((short) 3);
+        putTextValue(data, "1");
+        data.put((byte) 'n').put((byte) 'n');
+        data.flip();
+        UpdateRowEvent actual = (UpdateRowEvent) decodingPlugin.decode(data, logSequenceNumber);
+        assertThat(actual.getAfterRow().get(0), is(1));
+        assertThat(actual.getAfterRow().get(1), nullValue());
+        assertThat(actual.getAfterRow().get(2), nullValue());
+        assertThat(actual.getBeforeRow(), nullValue());
+    }
+    
+    @Test
+    public void assertDecodeDeleteRowEvent() {
+        ByteBuffer data = ByteBuffer.allocate(256);
+        data.put((byte) 'D').putInt(RELATION_ID).put((byte) 'K').putShort((short) 3);
+        putTextValue(data, "1");
+        data.put((byte) 'n').put((byte) 'n');
+        data.flip();
+        DeleteRowEvent actual = (DeleteRowEvent) decodingPlugin.decode(data, logSequenceNumber);
+        assertThat(actual.getTableName(), is("t_order"));
+        assertThat(actual.getBeforeRow(), is(Arrays.<Object>asList(1, null, null)));
+    }
+    
+    @Test
+    public void assertDecodeUpdateRowEventWithChangedKey() {
+        ByteBuffer data = ByteBuffer.allocate(256);
+        data.put((byte) 'U').putInt(RELATION_ID).put((byte) 'K').putShort((short) 3);
+        putTextValue(data, "1");
+        data.put((byte) 'n').put((byte) 'n');
+        data.put((byte) 'N');
+        putTupleData(data, "2", "foo", "\\x00");
+        data.flip();
+        UpdateRowEvent actual = (UpdateRowEvent) decodingPlugin.decode(data, logSequenceNumber);
+        assertThat(actual.getBeforeRow(), is(Arrays.<Object>asList(1, null, null)));
+        assertThat(actual.getAfterRow().get(0), is(2));
+    }
+    
+    @Test
+    public void assertDecodeBeginMessage() {
+        ByteBuffer data = ByteBuffer.allocate(32);
+        data.put((byte) 'B').putLong(1L).putLong(1L).putInt(1);
+        data.flip();
+        AbstractWalEvent actual = decodingPlugin.decode(data, logSequenceNumber);
+        assertTrue(actual instanceof PlaceholderEvent);
+        assertThat(actual.getLogSequenceNumber(), is(logSequenceNumber));
+    }
+    
+    @Test(expected = DecodingException.class)
+    public void assertDecodeRowEventWithUnknownRelation() {
+        ByteBuffer data = ByteBuffer.allocate(32);
+        data.put((byte) 'I').putInt(RELATION_ID + 1).put((byte) 'N').putShort((short) 0);
+        data.flip();
+        decodingPlugin.decode(data, logSequenceNumber);
+    }
+    
+    private ByteBuffer createRelationMessage() {
+        ByteBuffer result = ByteBuffer.allocate(256);
+        result.put((byte) 'R').putInt(RELATION_ID);
+        putString(result, "public");
+        putString(result, "t_order");
+        result.put((byte) 'd').putShort((short) 3);
+        putColumn(result, true, "id", 23);
+        putColumn(result, false, "data", 1043);
+        putColumn(result, false, "payload", 17);
+        result.flip();
+        return result;
+    }
+    
+    private void putColumn(final ByteBuffer data, final boolean key, final String name, final int typeOid) {
+        data.put((byte) (key ? 1 : 0));
+        putString(data, name);
+        data.putInt(typeOid).putInt(-1);
+    }
+    
+    private void putString(final ByteBuffer data, final String value) {
+        data.put(value.getBytes(StandardCharsets.UTF_8)).put((byte) 0);
+    }
+    
+    private void putTupleData(final ByteBuffer data, final String... values) {
+        data.putShort((short) values.length);
+        for (String each : values) {
+            putTextValue(data, each);
+        }
+    }
+    
+    private void putTextValue(final ByteBuffer data, final String value) {
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        data.put((byte) 't').putInt(bytes.length).put(bytes);
+    }
+}
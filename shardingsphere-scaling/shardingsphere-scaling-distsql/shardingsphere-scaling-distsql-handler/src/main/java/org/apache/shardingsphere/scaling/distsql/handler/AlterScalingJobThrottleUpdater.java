@@ -0,0 +1,84 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.scaling.distsql.handler;
+
+import org.apache.shardingsphere.infra.distsql.update.RALUpdater;
+import org.apache.shardingsphere.scaling.core.api.ScalingAPI;
+import org.apache.shardingsphere.scaling.core.api.ScalingAPIFactory;
+import org.apache.shardingsphere.scaling.core.config.ThrottleConfiguration;
+import org.apache.shardingsphere.scaling.distsql.exception.ScalingJobOperateException;
+import org.apache.shardingsphere.scaling.distsql.statement.AlterScalingJobThrottleStatement;
+
+import java.util.Map.Entry;
+
+/**
+ * Alter scaling job throttle updater.
+ */
+public final class AlterScalingJobThrottleUpdater implements RALUpdater<AlterScalingJobThrottleStatement> {
+    
+    private final ScalingAPI scalingAPI = ScalingAPIFactory.getScalingAPI();
+    
+    @Override
+    public void executeUpdate(final AlterScalingJobThrottleStatement sqlStatement) {
+        ThrottleConfiguration throttleConfig = scalingAPI.getJobConfig(sqlStatement.getJobId()).getHandleConfig().getThrottleConfig();
+        if (null == throttleConfig) {
+            throttleConfig = new ThrottleConfiguration();
+        }
+        for (Entry<Object, Object> entry : sqlStatement.getProps().entrySet()) {
+            setProperty(throttleConfig, entry.getKey().toString(), entry.getValue().toString());
+        }
+        scalingAPI.updateThrottle(sqlStatement.getJobId(), throttleConfig);
+    }
+    
+    private void setProperty(final ThrottleConfiguration throttleConfig, final String key, final String value) {
+        try {
+            switch (key.toLowerCase()) {
+                case "rows-per-second":
+                    throttleConfig.setRowsPerSecond(Integer.parseInt(value));
+                    break;
+                case "bytes-per-second":
+                    throttleConfig.setBytesPerSecond(Long.parseLong(value));
+                    break;
+                case "data-source-rows-per-second":
+                    throttleConfig.setDataSourceRowsPerSecond(Integer.parseInt(value));
+                    break;
+                case "data-source-bytes-per-second":
+                    throttleConfig.setDataSourceBytesPerSecond(Long.parseLong(value));
+                    break;
+                case "adaptive":
+                    throttleConfig.setAdaptive(Boolean.parseBoolean(value));
+                    break;
+                case "max-source-latency-milliseconds":
+                    throttleConfig.setMaxSourceLatencyMilliseconds(Long.parseLong(value));
+                    break;
+                case "max-incremental-delay-milliseconds":
+                    throttleConfig.setMaxIncrementalDelayMilliseconds(Long.parseLong(value));
+                    break;
+                default:
+                    throw new ScalingJobOperateException(String.format("Unsupported throttle property `%s`", key));
+            }
+        } catch (final NumberFormatException ex) {
+            throw new ScalingJobOperateException(String.format("Invalid value `%s` of throttle property `%s`", value, key));
+        }
+    }
+    
+    @Override
+    public String getType() {
+        return AlterScalingJobThrottleStatement.class.getCanonicalName();
+    }
+}
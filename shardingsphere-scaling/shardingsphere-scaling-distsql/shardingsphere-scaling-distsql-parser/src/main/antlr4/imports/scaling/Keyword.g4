@@ -62,3 +62,11 @@ LIST
 STATUS
     : S T A T U S
     ;
+
+ALTER
+    : A L T E R
+    ;
+
+THROTTLE
+    : T H R O T T L E
+    ;
@@ -47,6 +47,14 @@ checkScalingJob
     : CHECK SCALING JOB jobId
     ;
 
+alterScalingJobThrottle
+    : ALTER SCALING JOB jobId THROTTLE LP throttleProperty (COMMA throttleProperty)* RP
+    ;
+
 jobId
     : INT
     ;
+
+throttleProperty
+    : key=(IDENTIFIER | STRING) EQ value=(INT | IDENTIFIER | STRING)
+    ;
@@ -27,5 +27,6 @@ execute
     | dropScalingJob
     | resetScalingJob
     | checkScalingJob
-    ) SEMI?
+    | alterScalingJobThrottle
+    ) (SEMI EOF? | EOF)
     ;
@@ -18,6 +18,7 @@
 package org.apache.shardingsphere.scaling.distsql.parser.core;
 
 import org.apache.shardingsphere.distsql.parser.autogen.ScalingStatementBaseVisitor;
+import org.apache.shardingsphere.distsql.parser.autogen.ScalingStatementParser.AlterScalingJobThrottleContext;
 import org.apache.shardingsphere.distsql.parser.autogen.ScalingStatementParser.CheckScalingJobContext;
 import org.apache.shardingsphere.distsql.parser.autogen.ScalingStatementParser.DropScalingJobContext;
 import org.apache.shardingsphere.distsql.parser.autogen.ScalingStatementParser.ResetScalingJobContext;
@@ -25,6 +26,8 @@ import org.apache.shardingsphere.distsql.parser.autogen.ScalingStatementParser.S
 import org.apache.shardingsphere.distsql.parser.autogen.ScalingStatementParser.ShowScalingJobStatusContext;
 import org.apache.shardingsphere.distsql.parser.autogen.ScalingStatementParser.StartScalingJobContext;
 import org.apache.shardingsphere.distsql.parser.autogen.ScalingStatementParser.StopScalingJobContext;
+import org.apache.shardingsphere.distsql.parser.autogen.ScalingStatementParser.ThrottlePropertyContext;
+import org.apache.shardingsphere.scaling.distsql.statement.AlterScalingJobThrottleStatement;
 import org.apache.shardingsphere.scaling.distsql.statement.CheckScalingJobStatement;
 import org.apache.shardingsphere.scaling.distsql.statement.DropScalingJobStatement;
 import org.apache.shardingsphere.scaling.distsql.statement.ResetScalingJobStatement;
@@ -34,6 +37,9 @@ import org.apache.shardingsphere.scaling.distsql.statement.StartScalingJobStatem
 import org.apache.shardingsphere.scaling.distsql.statement.StopScalingJobStatement;
 import org.apache.shardingsphere.sql.parser.api.visitor.ASTNode;
 import org.apache.shardingsphere.sql.parser.api.visitor.SQLVisitor;
+import org.apache.shardingsphere.sql.parser.sql.common.value.identifier.IdentifierValue;
+
+import java.util.Properties;
 
 /**
  * SQL statement visitor for scaling.
@@ -74,4 +80,13 @@ public final class ScalingSQLStatementVisitor extends ScalingStatementBaseVisito
     public ASTNode visitCheckScalingJob(final CheckScalingJobContext ctx) {
         return new CheckScalingJobStatement(Long.parseLong(ctx.jobId().getText()));
     }
+    
+    @Override
+    public ASTNode visitAlterScalingJobThrottle(final AlterScalingJobThrottleContext ctx) {
+        Properties props = new Properties();
+        for (ThrottlePropertyContext each : ctx.throttleProperty()) {
+            props.setProperty(new IdentifierValue(each.key.getText()).getValue(), new IdentifierValue(each.value.getText()).getValue());
+        }
+        return new AlterScalingJobThrottleStatement(Long.parseLong(ctx.jobId().getText()), props);
+    }
 }
@@ -0,0 +1,560 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sql.parser.mysql.parser.fastpath;
+
+import org.antlr.v4.runtime.CharStreams;
+import org.antlr.v4.runtime.Lexer;
+import org.antlr.v4.runtime.Token;
+import org.apache.shardingsphere.sql.parser.mysql.parser.MySQLLexer;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.assignment.AssignmentSegment;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.assignment.InsertValuesSegment;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.assignment.SetAssignmentSegment;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.column.ColumnSegment;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.column.InsertColumnsSegment;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.expr.BinaryOperationExpression;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.expr.ExpressionSegment;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.expr.complex.CommonExpressionSegment;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.expr.simple.LiteralExpressionSegment;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.expr.simple.ParameterMarkerExpressionSegment;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.item.ColumnProjectionSegment;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.item.ProjectionsSegment;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.item.ShorthandProjectionSegment;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.predicate.WhereSegment;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.generic.OwnerSegment;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.generic.table.SimpleTableSegment;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.generic.table.TableNameSegment;
+import org.apache.shardingsphere.sql.parser.sql.common.statement.AbstractSQLStatement;
+import org.apache.shardingsphere.sql.parser.sql.common.statement.SQLStatement;
+import org.apache.shardingsphere.sql.parser.sql.common.value.identifier.IdentifierValue;
+import org.apache.shardingsphere.sql.parser.sql.common.value.literal.impl.NumberLiteralValue;
+import org.apache.shardingsphere.sql.parser.sql.common.value.literal.impl.StringLiteralValue;
+import org.apache.shardingsphere.sql.parser.sql.dialect.statement.mysql.dml.MySQLDeleteStatement;
+import org.apache.shardingsphere.sql.parser.sql.dialect.statement.mysql.dml.MySQLInsertStatement;
+import org.apache.shardingsphere.sql.parser.sql.dialect.statement.mysql.dml.MySQLSelectStatement;
+import org.apache.shardingsphere.sql.parser.sql.dialect.statement.mysql.dml.MySQLUpdateStatement;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Hand-written recursive descent recognizer for simple MySQL DML.
+ * 
+ * <p>
+ * Recognizes {@code SELECT columns FROM table WHERE ...}, {@code UPDATE table SET ... WHERE ...}, {@code DELETE FROM table WHERE ...}
+ * and {@code INSERT INTO table (columns) VALUES (...)}, where conditions are {@code column = value} joined by {@code AND},
+ * and values are parameter markers, integers, decimals, single quoted strings or {@code NULL}.
+ * Segments are built the same way as {@code MySQLStatementSQLVisitor} does, anything else is left to ANTLR.
+ * </p>
+ */
+public final class MySQLFastPathSQLRecognizer {
+    
+    private static final int MAX_CACHED_WORD_SIZE = 4096;
+    
+    private static final Map<String, Boolean> IDENTIFIER_WORDS = new ConcurrentHashMap<>();
+    
+    private final String sql;
+    
+    private final int length;
+    
+    private int position;
+    
+    private int parameterIndex;
+    
+    public MySQLFastPathSQLRecognizer(final String sql) {
+        this.sql = sql;
+        length = sql.length();
+    }
+    
+    /**
+     * Recognize SQL.
+     * 
+     * @return SQL statement, empty if SQL is out of fast path subset
+     */
+    public Optional<SQLStatement> recognize() {
+        AbstractSQLStatement result;
+        if (acceptKeyword("SELECT")) {
+            result = recognizeSelect();
+        } else if (acceptKeyword("UPDATE")) {
+            result = recognizeUpdate();
+        } else if (acceptKeyword("DELETE")) {
+            result = recognizeDelete();
+        } else if (acceptKeyword("INSERT")) {
+            result = recognizeInsert();
+        } else {
+            return Optional.empty();
+        }
+        if (null == result || !isEnd()) {
+            return Optional.empty();
+        }
+        result.setParameterCount(parameterIndex);
+        return Optional.of(result);
+    }
+    
+    private MySQLSelectStatement recognizeSelect() {
+        ProjectionsSegment projections = recognizeProjections();
+        if (null == projections || !acceptKeyword("FROM")) {
+            return null;
+        }
+        SimpleTableSegment table = recognizeTable();
+        if (null == table) {
+            return null;
+        }
+        MySQLSelectStatement result = new MySQLSelectStatement();
+        result.setProjections(projections);
+        result.setFrom(table);
+        if (isKeyword("WHERE")) {
+            WhereSegment where = recognizeWhere();
+            if (null == where) {
+                return null;
+            }
+            result.setWhere(where);
+        }
+        return result;
+    }
+    
+    private ProjectionsSegment recognizeProjections() {
+        skipWhitespaces();
+        int startIndex = position;
+        Collection<ColumnProjectionSegment> columnProjections = new LinkedList<>();
+        ShorthandProjectionSegment shorthandProjection = null;
+        int stopIndex;
+        if (acceptSymbol('*')) {
+            shorthandProjection = new ShorthandProjectionSegment(startIndex, startIndex);
+            stopIndex = startIndex;
+        } else {
+            ColumnSegment column = recognizeColumn();
+            if (null == column) {
+                return null;
+            }
+            columnProjections.add(new ColumnProjectionSegment(column));
+            stopIndex = column.getStopIndex();
+        }
+        while (acceptSymbol(',')) {
+            ColumnSegment column = recognizeColumn();
+            if (null == column) {
+                return null;
+            }
+            columnProjections.add(new ColumnProjectionSegment(column));
+            stopIndex = column.getStopIndex();
+        }
+        ProjectionsSegment result = new ProjectionsSegment(startIndex, stopIndex);
+        if (null != shorthandProjection) {
+            result.getProjections().add(shorthandProjection);
+        }
+        result.getProjections().addAll(columnProjections);
+        return result;
+    }
+    
+    private MySQLUpdateStatement recognizeUpdate() {
+        SimpleTableSegment table = recognizeTable();
+        if (null == table) {
+            return null;
+        }
+        skipWhitespaces();
+        final int setStartIndex = position;
+        if (!acceptKeyword("SET")) {
+            return null;
+        }
+        Collection<AssignmentSegment> assignments = new LinkedList<>();
+        do {
+            ColumnSegment column = recognizeColumn();
+            if (null == column || !acceptEqualOperator()) {
+                return null;
+            }
+            ExpressionSegment value = recognizeValue();
+            if (null == value) {
+                return null;
+            }
+            assignments.add(new AssignmentSegment(column.getStartIndex(), value.getStopIndex(), column, value));
+        } while (acceptSymbol(','));
+        MySQLUpdateStatement result = new MySQLUpdateStatement();
+        result.setTableSegment(table);
+        int setStopIndex = ((LinkedList<AssignmentSegment>) assignments).getLast().getStopIndex();
+        result.setSetAssignment(new SetAssignmentSegment(setStartIndex, setStopIndex, assignments));
+        if (isKeyword("WHERE")) {
+            WhereSegment where = recognizeWhere();
+            if (null == where) {
+                return null;
+            }
+            result.setWhere(where);
+        }
+        return result;
+    }
+    
+    private MySQLDeleteStatement recognizeDelete() {
+        if (!acceptKeyword("FROM")) {
+            return null;
+        }
+        SimpleTableSegment table = recognizeTable();
+        if (null == table) {
+            return null;
+        }
+        MySQLDeleteStatement result = new MySQLDeleteStatement();
+        result.setTableSegment(table);
+        if (isKeyword("WHERE")) {
+            WhereSegment where = recognizeWhere();
+            if (null == where) {
+                return null;
+            }
+            result.setWhere(where);
+        }
+        return result;
+    }
+    
+    private MySQLInsertStatement recognizeInsert() {
+        acceptKeyword("INTO");
+        SimpleTableSegment table = recognizeTable();
+        if (null == table) {
+            return null;
+        }
+        skipWhitespaces();
+        InsertColumnsSegment insertColumns = null;
+        if (isSymbol('(')) {
+            insertColumns = recognizeInsertColumns();
+            if (null == insertColumns) {
+                return null;
+            }
+        }
+        skipWhitespaces();
+        int valuesStartIndex = position;
+        if (!acceptKeyword("VALUES") && !acceptKeyword("VALUE")) {
+            return null;
+        }
+        MySQLInsertStatement result = new MySQLInsertStatement();
+        result.setInsertColumns(null == insertColumns ? new InsertColumnsSegment(valuesStartIndex - 1, valuesStartIndex - 1, Collections.emptyList()) : insertColumns);
+        do {
+            InsertValuesSegment insertValues = recognizeInsertValues();
+            if (null == insertValues) {
+                return null;
+            }
+            result.getValues().add(insertValues);
+        } while (acceptSymbol(','));
+        result.setTable(table);
+        return result;
+    }
+    
+    private InsertColumnsSegment recognizeInsertColumns() {
+        int startIndex = position;
+        acceptSymbol('(');
+        if (acceptSymbol(')')) {
+            return new InsertColumnsSegment(startIndex, position - 1, Collections.emptyList());
+        }
+        List<ColumnSegment> columns = new LinkedList<>();
+        do {
+            ColumnSegment column = recognizeColumn();
+            if (null == column) {
+                return null;
+            }
+            columns.add(column);
+        } while (acceptSymbol(','));
+        return acceptSymbol(')') ? new InsertColumnsSegment(startIndex, position - 1, columns) : null;
+    }
+    
+    private InsertValuesSegment recognizeInsertValues() {
+        skipWhitespaces();
+        int startIndex = position;
+        if (!acceptSymbol('(')) {
+            return null;
+        }
+        List<ExpressionSegment> values = new LinkedList<>();
+        if (acceptSymbol(')')) {
+            return new InsertValuesSegment(startIndex, position - 1, values);
+        }
+        do {
+            ExpressionSegment value = recognizeValue();
+            if (null == value) {
+                return null;
+            }
+            values.add(value);
+        } while (acceptSymbol(','));
+        return acceptSymbol(')') ? new InsertValuesSegment(startIndex, position - 1, values) : null;
+    }
+    
+    private WhereSegment recognizeWhere() {
+        skipWhitespaces();
+        final int startIndex = position;
+        acceptKeyword("WHERE");
+        ExpressionSegment expression = recognizeCondition();
+        if (null == expression) {
+            return null;
+        }
+        while (isKeyword("AND")) {
+            int operatorStartIndex = position;
+            acceptKeyword("AND");
+            String operator = sql.substring(operatorStartIndex, operatorStartIndex + "AND".length());
+            ExpressionSegment right = recognizeCondition();
+            if (null == right) {
+                return null;
+            }
+            expression = createBinaryOperationExpression(expression, right, operator);
+        }
+        return new WhereSegment(startIndex, expression.getStopIndex(), expression);
+    }
+    
+    private ExpressionSegment recognizeCondition() {
+        ColumnSegment column = recognizeColumn();
+        if (null == column || !acceptEqualOperator()) {
+            return null;
+        }
+        ExpressionSegment value = recognizeValue();
+        return null == value ? null : createBinaryOperationExpression(column, value, "=");
+    }
+    
+    private BinaryOperationExpression createBinaryOperationExpression(final ExpressionSegment left, final ExpressionSegment right, final String operator) {
+        String text = sql.substring(left.getStartIndex(), right.getStopIndex() + 1);
+        return new BinaryOperationExpression(left.getStartIndex(), right.getStopIndex(), left, right, operator, text);
+    }
+    
+    private ExpressionSegment recognizeValue() {
+        skipWhitespaces();
+        if (position >= length) {
+            return null;
+        }
+        int startIndex = position;
+        char current = sql.charAt(position);
+        if ('?' == current) {
+            position++;
+            return new ParameterMarkerExpressionSegment(startIndex, startIndex, parameterIndex++);
+        }
+        if ('\'' == current) {
+            int endIndex = scanString();
+            if (-1 == endIndex) {
+                return null;
+            }
+            position = endIndex;
+            return new LiteralExpressionSegment(startIndex, endIndex - 1, new StringLiteralValue(sql.substring(startIndex, endIndex)).getValue());
+        }
+        int endIndex = scanWord();
+        if (endIndex == startIndex) {
+            return null;
+        }
+        String text = sql.substring(startIndex, endIndex);
+        position = endIndex;
+        if (isDigits(text)) {
+            return recognizeNumber(startIndex);
+        }
+        return "NULL".equalsIgnoreCase(text) && !isSymbol('.') ? new CommonExpressionSegment(startIndex, endIndex - 1, text) : null;
+    }
+    
+    private ExpressionSegment recognizeNumber(final int startIndex) {
+        if (isSymbol('.')) {
+            position++;
+            int endIndex = scanWord();
+            if (endIndex == position || !isDigits(sql.substring(position, endIndex))) {
+                return null;
+            }
+            position = endIndex;
+        }
+        return new LiteralExpressionSegment(startIndex, position - 1, new NumberLiteralValue(sql.substring(startIndex, position)).getValue());
+    }
+    
+    private ColumnSegment recognizeColumn() {
+        skipWhitespaces();
+        int startIndex = position;
+        int endIndex = scanIdentifier();
+        if (-1 == endIndex) {
+            return null;
+        }
+        IdentifierValue identifier = new IdentifierValue(sql.substring(startIndex, endIndex));
+        position = endIndex;
+        if (!isSymbol('.')) {
+            return new ColumnSegment(startIndex, endIndex - 1, identifier);
+        }
+        position++;
+        final int columnStartIndex = position;
+        int columnEndIndex = scanQualifiedIdentifier();
+        if (-1 == columnEndIndex) {
+            return null;
+        }
+        position = columnEndIndex;
+        if (isSymbol('.')) {
+            return null;
+        }
+        ColumnSegment result = new ColumnSegment(startIndex, columnEndIndex - 1, new IdentifierValue(sql.substring(columnStartIndex, columnEndIndex)));
+        result.setOwner(new OwnerSegment(startIndex, endIndex - 1, identifier));
+        return result;
+    }
+    
+    private SimpleTableSegment recognizeTable() {
+        skipWhitespaces();
+        int startIndex = position;
+        int endIndex = scanIdentifier();
+        if (-1 == endIndex) {
+            return null;
+        }
+        position = endIndex;
+        if (!isSymbol('.')) {
+            return new SimpleTableSegment(new TableNameSegment(startIndex, endIndex - 1, new IdentifierValue(sql.substring(startIndex, endIndex))));
+        }
+        position++;
+        final int nameStartIndex = position;
+        int nameEndIndex = scanQualifiedIdentifier();
+        if (-1 == nameEndIndex) {
+            return null;
+        }
+        position = nameEndIndex;
+        if (isSymbol('.')) {
+            return null;
+        }
+        SimpleTableSegment result = new SimpleTableSegment(new TableNameSegment(nameStartIndex, nameEndIndex - 1, new IdentifierValue(sql.substring(nameStartIndex, nameEndIndex))));
+        result.setOwner(new OwnerSegment(startIndex, endIndex - 1, new IdentifierValue(sql.substring(startIndex, endIndex))));
+        return result;
+    }
+    
+    private int scanQualifiedIdentifier() {
+        if (position >= length) {
+            return -1;
+        }
+        char current = sql.charAt(position);
+        return '`' == current || isWordCharacter(current) && !Character.isDigit(current) ? scanIdentifier() : -1;
+    }
+    
+    private int scanIdentifier() {
+        if (position >= length) {
+            return -1;
+        }
+        if ('`' == sql.charAt(position)) {
+            int result = position + 1;
+            while (result < length && '`' != sql.charAt(result)) {
+                if (Character.isSurrogate(sql.charAt(result))) {
+                    return -1;
+                }
+                result++;
+            }
+            return result >= length || result == position + 1 ? -1 : result + 1;
+        }
+        int result = scanWord();
+        return result > position && isIdentifierWord(sql.substring(position, result)) ? result : -1;
+    }
+    
+    private int scanWord() {
+        int result = position;
+        while (result < length && isWordCharacter(sql.charAt(result))) {
+            result++;
+        }
+        return result;
+    }
+    
+    private int scanString() {
+        int result = position + 1;
+        while (result < length) {
+            char current = sql.charAt(result);
+            if (Character.isSurrogate(current)) {
+                return -1;
+            }
+            if ('\\' == current) {
+                result += 2;
+            } else if ('\'' == current) {
+                if (result + 1 < length && '\'' == sql.charAt(result + 1)) {
+                    result += 2;
+                } else {
+                    return result + 1;
+                }
+            } else {
+                result++;
+            }
+        }
+        return -1;
+    }
+    
+    private boolean acceptKeyword(final String keyword) {
+        if (!isKeyword(keyword)) {
+            return false;
+        }
+        position += keyword.length();
+        return true;
+    }
+    
+    private boolean isKeyword(final String keyword) {
+        skipWhitespaces();
+        int endIndex = position + keyword.length();
+        return endIndex <= length && sql.regionMatches(true, position, keyword, 0, keyword.length()) && (endIndex == length || !isWordCharacter(sql.charAt(endIndex)));
+    }
+    
+    private boolean acceptEqualOperator() {
+        if (!acceptSymbol('=')) {
+            return false;
+        }
+        return position >= length || -1 == "=<>!".indexOf(sql.charAt(position));
+    }
+    
+    private boolean acceptSymbol(final char symbol) {
+        skipWhitespaces();
+        if (!isSymbol(symbol)) {
+            return false;
+        }
+        position++;
+        return true;
+    }
+    
+    private boolean isSymbol(final char symbol) {
+        return position < length && symbol == sql.charAt(position);
+    }
+    
+    private boolean isEnd() {
+        acceptSymbol(';');
+        skipWhitespaces();
+        return position == length;
+    }
+    
+    private void skipWhitespaces() {
+        while (position < length && isWhitespace(sql.charAt(position))) {
+            position++;
+        }
+    }
+    
+    private static boolean isWhitespace(final char character) {
+        return ' ' == character || '\t' == character || '\r' == character || '\n' == character;
+    }
+    
+    private static boolean isWordCharacter(final char character) {
+        return character >= 'a' && character <= 'z' || character >= 'A' && character <= 'Z' || character >= '0' && character <= '9' || '_' == character || '$' == character;
+    }
+    
+    private static boolean isDigits(final String text) {
+        for (int i = 0; i < text.length(); i++) {
+            if (text.charAt(i) < '0' || text.charAt(i) > '9') {
+                return false;
+            }
+        }
+        return true;
+    }
+    
+    private static boolean isIdentifierWord(final String word) {
+        Boolean result = IDENTIFIER_WORDS.get(word);
+        if (null == result) {
+            result = lexIdentifierWord(word);
+            if (IDENTIFIER_WORDS.size() < MAX_CACHED_WORD_SIZE) {
+                IDENTIFIER_WORDS.put(word, result);
+            }
+        }
+        return result;
+    }
+    
+    private static boolean lexIdentifierWord(final String word) {
+        Lexer lexer = new MySQLLexer(CharStreams.fromString(word));
+        lexer.removeErrorListeners();
+        Token token = lexer.nextToken();
+        return MySQLLexer.IDENTIFIER_ == token.getType() && word.length() - 1 == token.getStopIndex() && Token.EOF == lexer.nextToken().getType();
+    }
+}
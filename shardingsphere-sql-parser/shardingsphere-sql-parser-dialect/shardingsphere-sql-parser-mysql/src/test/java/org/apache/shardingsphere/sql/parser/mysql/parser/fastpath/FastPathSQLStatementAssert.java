@@ -0,0 +1,105 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sql.parser.mysql.parser.fastpath;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+import lombok.SneakyThrows;
+import org.apache.shardingsphere.sql.parser.api.SQLParserEngine;
+import org.apache.shardingsphere.sql.parser.api.SQLVisitorEngine;
+import org.apache.shardingsphere.sql.parser.sql.common.statement.SQLStatement;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.Optional;
+import java.util.Properties;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+
+/**
+ * Assert for fast path SQL statement, which compares fast path result with ANTLR result field by field.
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class FastPathSQLStatementAssert {
+    
+    private static final SQLParserEngine PARSER_ENGINE = new SQLParserEngine("MySQL");
+    
+    private static final SQLVisitorEngine VISITOR_ENGINE = new SQLVisitorEngine("MySQL", "STATEMENT", new Properties());
+    
+    /**
+     * Assert fast path result is identical with ANTLR result if SQL is recognized.
+     *
+     * @param sql SQL to be asserted
+     * @return whether SQL is recognized by fast path
+     */
+    public static boolean assertIdenticalIfRecognized(final String sql) {
+        Optional<SQLStatement> actual = new MySQLFastPathSQLStatementParser().parse(sql);
+        if (!actual.isPresent()) {
+            return false;
+        }
+        SQLStatement expected = VISITOR_ENGINE.visit(PARSER_ENGINE.parse(sql, false));
+        assertIdentical(sql, "statement", actual.get(), expected);
+        return true;
+    }
+    
+    @SneakyThrows(IllegalAccessException.class)
+    private static void assertIdentical(final String sql, final String path, final Object actual, final Object expected) {
+        if (null == expected) {
+            assertNull(message(sql, path), actual);
+            return;
+        }
+        assertNotNull(message(sql, path), actual);
+        assertEquals(message(sql, path), expected.getClass(), actual.getClass());
+        if (isValueType(expected)) {
+            assertEquals(message(sql, path), expected, actual);
+            return;
+        }
+        if (expected instanceof Collection) {
+            assertEquals(message(sql, path + ".size"), ((Collection<?>) expected).size(), ((Collection<?>) actual).size());
+            Iterator<?> actualIterator = ((Collection<?>) actual).iterator();
+            int index = 0;
+            for (Object each : (Collection<?>) expected) {
+                assertIdentical(sql, path + "[" + index++ + "]", actualIterator.next(), each);
+            }
+            assertFalse(actualIterator.hasNext());
+            return;
+        }
+        for (Class<?> clazz = expected.getClass(); Object.class != clazz; clazz = clazz.getSuperclass()) {
+            for (Field each : clazz.getDeclaredFields()) {
+                if (Modifier.isStatic(each.getModifiers()) || each.isSynthetic()) {
+                    continue;
+                }
+                each.setAccessible(true);
+                assertIdentical(sql, path + "." + each.getName(), each.get(actual), each.get(expected));
+            }
+        }
+    }
+    
+    private static boolean isValueType(final Object value) {
+        return value instanceof CharSequence || value instanceof Number || value instanceof Boolean || value instanceof Character || value instanceof Enum;
+    }
+    
+    private static String message(final String sql, final String path) {
+        return String.format("%s of `%s`", path, sql);
+    }
+}
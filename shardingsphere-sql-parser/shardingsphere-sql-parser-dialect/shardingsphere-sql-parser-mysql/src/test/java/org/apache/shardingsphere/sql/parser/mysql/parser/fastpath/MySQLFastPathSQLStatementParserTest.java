@@ -0,0 +1,75 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sql.parser.mysql.parser.fastpath;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public final class MySQLFastPathSQLStatementParserTest {
+    
+    @Test
+    public void assertParseSelect() {
+        assertTrue(FastPathSQLStatementAssert.assertIdenticalIfRecognized("SELECT order_id, o.user_id FROM t_order WHERE order_id = ?"));
+        assertTrue(FastPathSQLStatementAssert.assertIdenticalIfRecognized("  select * , `status` from db.t_order where order_id = 1 and user_id = 'x''y';  "));
+        assertTrue(FastPathSQLStatementAssert.assertIdenticalIfRecognized("SELECT order_id FROM t_order"));
+    }
+    
+    @Test
+    public void assertParseUpdate() {
+        assertTrue(FastPathSQLStatementAssert.assertIdenticalIfRecognized("UPDATE t_order SET user_id = ?, remark = 'a\\'b', remark2 = NULL WHERE order_id = ? AND user_id = 10"));
+        assertTrue(FastPathSQLStatementAssert.assertIdenticalIfRecognized("UPDATE t_order SET t_order.user_id = 12345678901"));
+    }
+    
+    @Test
+    public void assertParseDelete() {
+        assertTrue(FastPathSQLStatementAssert.assertIdenticalIfRecognized("DELETE FROM t_order WHERE order_id = ?"));
+        assertTrue(FastPathSQLStatementAssert.assertIdenticalIfRecognized("delete from `t_order`"));
+    }
+    
+    @Test
+    public void assertParseInsert() {
+        assertTrue(FastPathSQLStatementAssert.assertIdenticalIfRecognized("INSERT INTO t_order (order_id, user_id, remark) VALUES (?, ?, ?), (1, 2, 'a'), (3, 4, NULL)"));
+        assertTrue(FastPathSQLStatementAssert.assertIdenticalIfRecognized("INSERT t_order VALUE (?, ?)"));
+        assertTrue(FastPathSQLStatementAssert.assertIdenticalIfRecognized("INSERT INTO t_order() VALUES ()"));
+    }
+    
+    @Test
+    public void assertParseMultipleRowsInsert() {
+        StringBuilder sql = new StringBuilder("INSERT INTO t_order (order_id, user_id, amount, remark) VALUES ");
+        for (int i = 0; i < 1000; i++) {
+            sql.append(0 == i ? "" : ", ").append('(').append(i).append(", ").append(i % 10).append(", ").append(i).append(".25, 'remark_").append(i).append("')");
+        }
+        assertTrue(FastPathSQLStatementAssert.assertIdenticalIfRecognized(sql.toString()));
+    }
+    
+    @Test
+    public void assertParseUnsupportedSQL() {
+        assertFalse(FastPathSQLStatementAssert.assertIdenticalIfRecognized("SELECT order_id AS id FROM t_order WHERE order_id = ?"));
+        assertFalse(FastPathSQLStatementAssert.assertIdenticalIfRecognized("SELECT order_id FROM t_order WHERE order_id = ? OR user_id = ?"));
+        assertFalse(FastPathSQLStatementAssert.assertIdenticalIfRecognized("SELECT order_id FROM t_order WHERE order_id <= ?"));
+        assertFalse(FastPathSQLStatementAssert.assertIdenticalIfRecognized("SELECT order_id FROM t_order WHERE order_id = 1.5e3"));
+        assertFalse(FastPathSQLStatementAssert.assertIdenticalIfRecognized("SELECT order_id FROM t_order WHERE order_id = 1."));
+        assertFalse(FastPathSQLStatementAssert.assertIdenticalIfRecognized("SELECT order_id FROM t_order ORDER BY order_id"));
+        assertFalse(FastPathSQLStatementAssert.assertIdenticalIfRecognized("SELECT order_id FROM t_order /* comment */"));
+        assertFalse(FastPathSQLStatementAssert.assertIdenticalIfRecognized("SELECT status FROM t_order"));
+        assertFalse(FastPathSQLStatementAssert.assertIdenticalIfRecognized("INSERT INTO t_order (order_id) VALUES (?) ON DUPLICATE KEY UPDATE order_id = ?"));
+        assertFalse(FastPathSQLStatementAssert.assertIdenticalIfRecognized("SHOW TABLES"));
+    }
+}
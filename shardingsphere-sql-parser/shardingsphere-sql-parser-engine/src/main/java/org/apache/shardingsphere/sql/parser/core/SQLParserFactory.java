@@ -31,7 +31,10 @@ import org.antlr.v4.runtime.TokenStream;
 import org.apache.shardingsphere.sql.parser.api.parser.SQLLexer;
 import org.apache.shardingsphere.sql.parser.api.parser.SQLParser;
 
+import java.lang.reflect.Constructor;
 import java.nio.CharBuffer;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * SQL parser factory.
@@ -39,6 +42,8 @@ import java.nio.CharBuffer;
 @NoArgsConstructor(access = AccessLevel.PRIVATE)
 public final class SQLParserFactory {
     
+    private static final Map<Class<?>, Constructor<?>> CONSTRUCTORS = new ConcurrentHashMap<>();
+    
     /**
      * New instance of SQL parser.
      * 
@@ -53,18 +58,31 @@ public final class SQLParserFactory {
     
     @SneakyThrows(ReflectiveOperationException.class)
     private static SQLParser createSQLParser(final TokenStream tokenStream, final Class<? extends SQLParser> parserClass) {
-        SQLParser result = parserClass.getConstructor(TokenStream.class).newInstance(tokenStream);
+        SQLParser result = (SQLParser) getConstructor(parserClass, TokenStream.class).newInstance(tokenStream);
         ((Parser) result).setErrorHandler(new BailErrorStrategy());
         return result;
     }
     
     @SneakyThrows(ReflectiveOperationException.class)
     private static TokenStream createTokenStream(final String sql, final Class<? extends SQLLexer> lexerClass) {
-        Lexer lexer = (Lexer) lexerClass.getConstructor(CharStream.class).newInstance(getSQLCharStream(sql));
+        Lexer lexer = (Lexer) getConstructor(lexerClass, CharStream.class).newInstance(getSQLCharStream(sql));
         return new CommonTokenStream(lexer);
     }
     
+    @SneakyThrows(NoSuchMethodException.class)
+    private static Constructor<?> getConstructor(final Class<?> clazz, final Class<?> parameterType) {
+        Constructor<?> result = CONSTRUCTORS.get(clazz);
+        if (null == result) {
+            result = clazz.getConstructor(parameterType);
+            CONSTRUCTORS.put(clazz, result);
+        }
+        return result;
+    }
+    
     private static CharStream getSQLCharStream(final String sql) {
+        if (StringCharStream.isSupported(sql)) {
+            return new StringCharStream(sql);
+        }
         CodePointBuffer buffer = CodePointBuffer.withChars(CharBuffer.wrap(sql.toCharArray()));
         return CodePointCharStream.fromBuffer(buffer);
     }
@@ -0,0 +1,120 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sql.parser.core;
+
+import org.antlr.v4.runtime.CharStream;
+import org.antlr.v4.runtime.IntStream;
+import org.antlr.v4.runtime.misc.Interval;
+
+/**
+ * Char stream reading SQL string directly.
+ * 
+ * <p>
+ * Unlike {@code CodePointCharStream}, SQL is not copied into a code point buffer,
+ * which matters for huge statements such as multi-row {@code INSERT ... VALUES}.
+ * SQL must not contain surrogate pairs, so that each char is a code point.
+ * </p>
+ */
+public final class StringCharStream implements CharStream {
+    
+    private final String sql;
+    
+    private final int size;
+    
+    private int position;
+    
+    public StringCharStream(final String sql) {
+        this.sql = sql;
+        size = sql.length();
+    }
+    
+    /**
+     * Judge whether SQL is supported by string char stream.
+     * 
+     * @param sql SQL
+     * @return is supported or not
+     */
+    public static boolean isSupported(final String sql) {
+        for (int i = 0; i < sql.length(); i++) {
+            if (Character.isSurrogate(sql.charAt(i))) {
+                return false;
+            }
+        }
+        return true;
+    }
+    
+    @Override
+    public String getText(final Interval interval) {
+        int startIndex = Math.min(interval.a, size);
+        int length = Math.min(interval.b - interval.a + 1, size - startIndex);
+        return sql.substring(startIndex, startIndex + length);
+    }
+    
+    @Override
+    public void consume() {
+        if (position >= size) {
+            throw new IllegalStateException("cannot consume EOF");
+        }
+        position++;
+    }
+    
+    // CHECKSTYLE:OFF
+    @Override
+    public int LA(final int i) {
+        // CHECKSTYLE:ON
+        if (0 == i) {
+            return 0;
+        }
+        int offset = i > 0 ? position + i - 1 : position + i;
+        return offset < 0 || offset >= size ? IntStream.EOF : sql.charAt(offset);
+    }
+    
+    @Override
+    public int mark() {
+        return -1;
+    }
+    
+    @Override
+    public void release(final int marker) {
+    }
+    
+    @Override
+    public int index() {
+        return position;
+    }
+    
+    @Override
+    public void seek(final int index) {
+        position = index;
+    }
+    
+    @Override
+    public int size() {
+        return size;
+    }
+    
+    @Override
+    public String getSourceName() {
+        return IntStream.UNKNOWN_SOURCE_NAME;
+    }
+    
+    @Override
+    public String toString() {
+        return sql;
+    }
+}
@@ -0,0 +1,51 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sql.parser.core.database.fastpath;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.ServiceLoader;
+
+/**
+ * Fast path SQL statement parser registry.
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class FastPathSQLStatementParserRegistry {
+    
+    private static final Map<String, FastPathSQLStatementParser> PARSERS = new HashMap<>();
+    
+    static {
+        for (FastPathSQLStatementParser each : ServiceLoader.load(FastPathSQLStatementParser.class)) {
+            PARSERS.put(each.getDatabaseType(), each);
+        }
+    }
+    
+    /**
+     * Find fast path SQL statement parser.
+     * 
+     * @param databaseType database type
+     * @return fast path SQL statement parser
+     */
+    public static Optional<FastPathSQLStatementParser> findParser(final String databaseType) {
+        return Optional.ofNullable(PARSERS.get(databaseType));
+    }
+}
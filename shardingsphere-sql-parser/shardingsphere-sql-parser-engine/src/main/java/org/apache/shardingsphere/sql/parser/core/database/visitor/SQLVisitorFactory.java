@@ -25,7 +25,10 @@ import org.apache.shardingsphere.sql.parser.exception.SQLParsingException;
 import org.apache.shardingsphere.sql.parser.spi.SQLVisitorFacade;
 import org.apache.shardingsphere.sql.parser.sql.common.statement.SQLStatementType;
 
+import java.lang.reflect.Constructor;
+import java.util.Map;
 import java.util.Properties;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * SQL visitor factory.
@@ -33,6 +36,8 @@ import java.util.Properties;
 @NoArgsConstructor(access = AccessLevel.PRIVATE)
 public final class SQLVisitorFactory {
     
+    private static final Map<Class<?>, Constructor<?>> CONSTRUCTORS = new ConcurrentHashMap<>();
+    
     /**
      * New instance of SQL visitor.
      * 
@@ -51,21 +56,35 @@ public final class SQLVisitorFactory {
     @SuppressWarnings("unchecked")
     @SneakyThrows(ReflectiveOperationException.class)
     private static <T> ParseTreeVisitor<T> createParseTreeVisitor(final SQLVisitorFacade visitorFacade, final SQLStatementType type, final Properties props) {
+        return (ParseTreeVisitor) getConstructor(getVisitorClass(visitorFacade, type)).newInstance(props);
+    }
+    
+    private static Class<?> getVisitorClass(final SQLVisitorFacade visitorFacade, final SQLStatementType type) {
         switch (type) {
             case DML:
-                return (ParseTreeVisitor) visitorFacade.getDMLVisitorClass().getConstructor(Properties.class).newInstance(props);
+                return visitorFacade.getDMLVisitorClass();
             case DDL:
-                return (ParseTreeVisitor) visitorFacade.getDDLVisitorClass().getConstructor(Properties.class).newInstance(props);
+                return visitorFacade.getDDLVisitorClass();
             case TCL:
-                return (ParseTreeVisitor) visitorFacade.getTCLVisitorClass().getConstructor(Properties.class).newInstance(props);
+                return visitorFacade.getTCLVisitorClass();
             case DCL:
-                return (ParseTreeVisitor) visitorFacade.getDCLVisitorClass().getConstructor(Properties.class).newInstance(props);
+                return visitorFacade.getDCLVisitorClass();
             case DAL:
-                return (ParseTreeVisitor) visitorFacade.getDALVisitorClass().getConstructor(Properties.class).newInstance(props);
+                return visitorFacade.getDALVisitorClass();
             case RL:
-                return (ParseTreeVisitor) visitorFacade.getRLVisitorClass().getConstructor(Properties.class).newInstance(props);
+                return visitorFacade.getRLVisitorClass();
             default:
                 throw new SQLParsingException("Can not support SQL statement type: `%s`", type);
         }
     }
+    
+    @SneakyThrows(NoSuchMethodException.class)
+    private static Constructor<?> getConstructor(final Class<?> visitorClass) {
+        Constructor<?> result = CONSTRUCTORS.get(visitorClass);
+        if (null == result) {
+            result = visitorClass.getConstructor(Properties.class);
+            CONSTRUCTORS.put(visitorClass, result);
+        }
+        return result;
+    }
 }
@@ -22,6 +22,9 @@ import lombok.RequiredArgsConstructor;
 import org.antlr.v4.runtime.tree.ParseTree;
 import org.apache.shardingsphere.sql.parser.sql.common.statement.SQLStatementType;
 
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
 /**
  * SQL Visitor rule.
  */
@@ -254,6 +257,8 @@ public enum SQLVisitorRule {
 
     XA("Xa", SQLStatementType.TCL);
 
+    private static final Map<Class<? extends ParseTree>, SQLVisitorRule> RULES = new ConcurrentHashMap<>();
+    
     private final String name;
     
     @Getter
@@ -270,6 +275,15 @@ public enum SQLVisitorRule {
      * @return visitor rule
      */
     public static SQLVisitorRule valueOf(final Class<? extends ParseTree> parseTreeClass) {
+        SQLVisitorRule result = RULES.get(parseTreeClass);
+        if (null == result) {
+            result = findVisitorRule(parseTreeClass);
+            RULES.put(parseTreeClass, result);
+        }
+        return result;
+    }
+    
+    private static SQLVisitorRule findVisitorRule(final Class<? extends ParseTree> parseTreeClass) {
         String parseTreeClassName = parseTreeClass.getSimpleName();
         for (SQLVisitorRule each : values()) {
             if (each.getContextName().equals(parseTreeClassName)) {
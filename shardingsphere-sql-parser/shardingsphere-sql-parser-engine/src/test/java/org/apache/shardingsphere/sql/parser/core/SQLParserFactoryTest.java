@@ -17,15 +17,22 @@
 
 package org.apache.shardingsphere.sql.parser.core;
 
+import lombok.SneakyThrows;
 import org.apache.shardingsphere.sql.parser.api.parser.SQLLexer;
 import org.apache.shardingsphere.sql.parser.api.parser.SQLParser;
 import org.apache.shardingsphere.sql.parser.fixture.LexerFixture;
 import org.apache.shardingsphere.sql.parser.fixture.ParserFixture;
 import org.junit.Test;
 
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
+import java.util.Map;
+
 import static org.mockito.Mockito.mock;
 import static org.junit.Assert.assertThat;
 import static org.hamcrest.CoreMatchers.instanceOf;
+import static org.hamcrest.CoreMatchers.not;
+import static org.hamcrest.CoreMatchers.sameInstance;
 
 public final class SQLParserFactoryTest {
     
@@ -38,4 +45,24 @@ public final class SQLParserFactoryTest {
         SQLParser result = SQLParserFactory.newInstance(SQL, sqlLexer.getClass(), sqlParser.getClass());
         assertThat(result, instanceOf(ParserFixture.class));
     }
+    
+    @Test
+    public void assertNewInstanceWithCachedConstructor() {
+        SQLParser first = SQLParserFactory.newInstance(SQL, LexerFixture.class, ParserFixture.class);
+        Constructor<?> cachedLexerConstructor = getCachedConstructors().get(LexerFixture.class);
+        Constructor<?> cachedParserConstructor = getCachedConstructors().get(ParserFixture.class);
+        SQLParser second = SQLParserFactory.newInstance(SQL, LexerFixture.class, ParserFixture.class);
+        assertThat(getCachedConstructors().get(LexerFixture.class), sameInstance(cachedLexerConstructor));
+        assertThat(getCachedConstructors().get(ParserFixture.class), sameInstance(cachedParserConstructor));
+        assertThat(second, not(sameInstance(first)));
+        assertThat(((ParserFixture) second).getInputStream(), not(sameInstance(((ParserFixture) first).getInputStream())));
+    }
+    
+    @SuppressWarnings("unchecked")
+    @SneakyThrows(ReflectiveOperationException.class)
+    private Map<Class<?>, Constructor<?>> getCachedConstructors() {
+        Field field = SQLParserFactory.class.getDeclaredField("CONSTRUCTORS");
+        field.setAccessible(true);
+        return (Map<Class<?>, Constructor<?>>) field.get(null);
+    }
 }
@@ -0,0 +1,67 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sql.parser.core;
+
+import org.antlr.v4.runtime.CharStream;
+import org.antlr.v4.runtime.CharStreams;
+import org.antlr.v4.runtime.IntStream;
+import org.antlr.v4.runtime.misc.Interval;
+import org.junit.Test;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+
+public final class StringCharStreamTest {
+    
+    private static final String SQL = "INSERT INTO t_order VALUES (1, '中文')";
+    
+    @Test
+    public void assertIsSupported() {
+        assertTrue(StringCharStream.isSupported(SQL));
+        assertFalse(StringCharStream.isSupported("SELECT '😀'"));
+    }
+    
+    @Test
+    public void assertSameAsCodePointCharStream() {
+        CharStream expected = CharStreams.fromString(SQL);
+        CharStream actual = new StringCharStream(SQL);
+        assertThat(actual.size(), is(expected.size()));
+        for (int i = 0; i <= SQL.length(); i++) {
+            assertThat(actual.index(), is(expected.index()));
+            assertThat(actual.LA(1), is(expected.LA(1)));
+            assertThat(actual.LA(-1), is(expected.LA(-1)));
+            if (i < SQL.length()) {
+                actual.consume();
+                expected.consume();
+            }
+        }
+        assertThat(actual.LA(1), is(IntStream.EOF));
+        actual.seek(7);
+        assertThat(actual.LA(1), is((int) 'I'));
+        assertThat(actual.getText(Interval.of(12, 18)), is(expected.getText(Interval.of(12, 18))));
+        assertThat(actual.getText(Interval.of(30, 100)), is(expected.getText(Interval.of(30, 100))));
+    }
+    
+    @Test(expected = IllegalStateException.class)
+    public void assertConsumeEOF() {
+        CharStream charStream = new StringCharStream("");
+        charStream.consume();
+    }
+}
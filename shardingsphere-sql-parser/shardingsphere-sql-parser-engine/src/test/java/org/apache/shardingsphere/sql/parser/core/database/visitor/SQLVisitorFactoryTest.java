@@ -0,0 +1,58 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sql.parser.core.database.visitor;
+
+import lombok.SneakyThrows;
+import org.antlr.v4.runtime.tree.ParseTreeVisitor;
+import org.apache.shardingsphere.sql.parser.fixture.SQLVisitorFixture;
+import org.junit.Test;
+
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
+import java.util.Map;
+import java.util.Properties;
+
+import static org.hamcrest.CoreMatchers.instanceOf;
+import static org.hamcrest.CoreMatchers.not;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.junit.Assert.assertThat;
+
+public final class SQLVisitorFactoryTest {
+    
+    @Test
+    public void assertNewInstanceWithCachedConstructor() {
+        Properties firstProps = new Properties();
+        Properties secondProps = new Properties();
+        ParseTreeVisitor<Object> first = SQLVisitorFactory.newInstance("Fixture", "STATEMENT", SQLVisitorRule.SELECT, firstProps);
+        Constructor<?> cachedConstructor = getCachedConstructors().get(SQLVisitorFixture.class);
+        ParseTreeVisitor<Object> second = SQLVisitorFactory.newInstance("Fixture", "STATEMENT", SQLVisitorRule.SELECT, secondProps);
+        assertThat(getCachedConstructors().get(SQLVisitorFixture.class), sameInstance(cachedConstructor));
+        assertThat(first, instanceOf(SQLVisitorFixture.class));
+        assertThat(second, not(sameInstance(first)));
+        assertThat(((SQLVisitorFixture) first).getProps(), sameInstance(firstProps));
+        assertThat(((SQLVisitorFixture) second).getProps(), sameInstance(secondProps));
+    }
+    
+    @SuppressWarnings("unchecked")
+    @SneakyThrows(ReflectiveOperationException.class)
+    private Map<Class<?>, Constructor<?>> getCachedConstructors() {
+        Field field = SQLVisitorFactory.class.getDeclaredField("CONSTRUCTORS");
+        field.setAccessible(true);
+        return (Map<Class<?>, Constructor<?>>) field.get(null);
+    }
+}
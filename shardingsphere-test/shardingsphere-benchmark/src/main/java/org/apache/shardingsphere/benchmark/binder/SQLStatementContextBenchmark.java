@@ -0,0 +1,70 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.benchmark.binder;
+
+import org.apache.shardingsphere.benchmark.fixture.BenchmarkContext;
+import org.apache.shardingsphere.benchmark.fixture.BenchmarkSQL;
+import org.apache.shardingsphere.infra.binder.SQLStatementContextFactory;
+import org.apache.shardingsphere.infra.binder.statement.SQLStatementContext;
+import org.apache.shardingsphere.infra.database.DefaultSchema;
+import org.apache.shardingsphere.sql.parser.sql.common.statement.SQLStatement;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark for binding parsed SQL statements to SQL statement contexts.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class SQLStatementContextBenchmark {
+    
+    @Param({"STANDARD_ROUTE", "BINDING_ROUTE", "ORDER_BY", "GROUP_BY", "PAGINATION", "INSERT"})
+    private BenchmarkSQL sql;
+    
+    private BenchmarkContext context;
+    
+    private SQLStatement sqlStatement;
+    
+    /**
+     * Set up SQL statement.
+     */
+    @Setup
+    public void setUp() {
+        context = BenchmarkContext.getInstance();
+        sqlStatement = context.getSqlParserEngine().parse(sql.getSql(), false);
+    }
+    
+    /**
+     * Create SQL statement context.
+     *
+     * @return SQL statement context
+     */
+    @Benchmark
+    public SQLStatementContext<?> newInstance() {
+        return SQLStatementContextFactory.newInstance(context.getMetaDataContexts().getMetaDataMap(), sql.getParameters(), sqlStatement, DefaultSchema.LOGIC_NAME);
+    }
+}
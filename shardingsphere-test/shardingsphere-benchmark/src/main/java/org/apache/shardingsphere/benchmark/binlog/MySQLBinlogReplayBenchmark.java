@@ -0,0 +1,242 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.benchmark.binlog;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+import org.apache.shardingsphere.db.protocol.mysql.constant.MySQLBinaryColumnType;
+import org.apache.shardingsphere.db.protocol.mysql.constant.MySQLBinlogEventType;
+import org.apache.shardingsphere.db.protocol.mysql.packet.binlog.MySQLBinlogEventHeader;
+import org.apache.shardingsphere.db.protocol.mysql.packet.binlog.row.MySQLBinlogRowImage;
+import org.apache.shardingsphere.db.protocol.mysql.packet.binlog.row.MySQLBinlogRowsEventPacket;
+import org.apache.shardingsphere.db.protocol.mysql.packet.binlog.row.MySQLBinlogTableMapEventPacket;
+import org.apache.shardingsphere.db.protocol.mysql.payload.MySQLPacketPayload;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+/**
+ * Benchmark for replaying synthetic MySQL binlog rows events of a table with key, numeric, string, time and text columns.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class MySQLBinlogReplayBenchmark {
+    
+    private static final int EVENT_COUNT = 100;
+    
+    private static final int ROWS_PER_EVENT = 100;
+    
+    private static final int TABLE_ID = 100;
+    
+    private static final MySQLBinaryColumnType[] COLUMN_TYPES = {MySQLBinaryColumnType.MYSQL_TYPE_LONGLONG, MySQLBinaryColumnType.MYSQL_TYPE_LONG, MySQLBinaryColumnType.MYSQL_TYPE_VARCHAR,
+        MySQLBinaryColumnType.MYSQL_TYPE_DOUBLE, MySQLBinaryColumnType.MYSQL_TYPE_DATETIME2, MySQLBinaryColumnType.MYSQL_TYPE_BLOB};
+    
+    private static final int VARCHAR_META = 1020;
+    
+    private static final byte[] TEXT = createText(512);
+    
+    @Param({"WRITE_ROWS_EVENTv2", "UPDATE_ROWS_EVENTv2"})
+    private MySQLBinlogEventType eventType;
+    
+    private MySQLBinlogTableMapEventPacket tableMapEventPacket;
+    
+    private List<byte[]> rowsEvents;
+    
+    /**
+     * Set up table map event and rows events.
+     */
+    @Setup
+    public void setUp() {
+        ByteBuf tableMapEvent = createEvent(MySQLBinlogEventType.TABLE_MAP_EVENT, this::writeTableMapEventBody);
+        MySQLPacketPayload tableMapPayload = new MySQLPacketPayload(tableMapEvent);
+        tableMapEventPacket = new MySQLBinlogTableMapEventPacket(new MySQLBinlogEventHeader(tableMapPayload), tableMapPayload);
+        rowsEvents = new ArrayList<>(EVENT_COUNT);
+        for (int i = 0; i < EVENT_COUNT; i++) {
+            int firstId = i * ROWS_PER_EVENT;
+            ByteBuf rowsEvent = createEvent(eventType, payload -> writeRowsEventBody(payload, firstId));
+            byte[] bytes = new byte[rowsEvent.readableBytes()];
+            rowsEvent.readBytes(bytes);
+            rowsEvents.add(bytes);
+        }
+    }
+    
+    /**
+     * Replay rows events and decode the columns which scaling imports, all columns of written rows and keys and changed columns of updated rows.
+     *
+     * @param blackhole blackhole
+     */
+    @Benchmark
+    public void replay(final Blackhole blackhole) {
+        for (byte[] each : rowsEvents) {
+            MySQLBinlogRowsEventPacket rowsEventPacket = readRowsEvent(each);
+            if (rowsEventPacket.getRowImages2().isEmpty()) {
+                rowsEventPacket.getRowImages().forEach(rowImage -> consumeAllColumns(rowImage, blackhole));
+                continue;
+            }
+            Iterator<MySQLBinlogRowImage> afterRowImages = rowsEventPacket.getRowImages2().iterator();
+            for (MySQLBinlogRowImage beforeRowImage : rowsEventPacket.getRowImages()) {
+                consumeKeyAndChangedColumns(beforeRowImage, afterRowImages.next(), blackhole);
+            }
+        }
+    }
+    
+    /**
+     * Replay rows events and decode every column of every row image, as rows were decoded before row images were located lazily.
+     *
+     * @param blackhole blackhole
+     */
+    @Benchmark
+    public void replayDecodingAllColumns(final Blackhole blackhole) {
+        for (byte[] each : rowsEvents) {
+            MySQLBinlogRowsEventPacket rowsEventPacket = readRowsEvent(each);
+            rowsEventPacket.getRowImages().forEach(rowImage -> consumeAllColumns(rowImage, blackhole));
+            rowsEventPacket.getRowImages2().forEach(rowImage -> consumeAllColumns(rowImage, blackhole));
+        }
+    }
+    
+    private MySQLBinlogRowsEventPacket readRowsEvent(final byte[] rowsEvent) {
+        MySQLPacketPayload payload = new MySQLPacketPayload(Unpooled.wrappedBuffer(rowsEvent));
+        MySQLBinlogRowsEventPacket result = new MySQLBinlogRowsEventPacket(new MySQLBinlogEventHeader(payload), payload);
+        result.readRowImages(tableMapEventPacket, payload);
+        return result;
+    }
+    
+    private void consumeAllColumns(final MySQLBinlogRowImage rowImage, final Blackhole blackhole) {
+        for (int i = 0; i < rowImage.getColumnCount(); i++) {
+            blackhole.consume(rowImage.getValue(i));
+        }
+    }
+    
+    private void consumeKeyAndChangedColumns(final MySQLBinlogRowImage beforeRowImage, final MySQLBinlogRowImage afterRowImage, final Blackhole blackhole) {
+        blackhole.consume(afterRowImage.getValue(0));
+        for (int i = 1; i < afterRowImage.getColumnCount(); i++) {
+            if (!beforeRowImage.isSameValue(afterRowImage, i)) {
+                blackhole.consume(afterRowImage.getValue(i));
+            }
+        }
+    }
+    
+    private ByteBuf createEvent(final MySQLBinlogEventType eventType, final Consumer<MySQLPacketPayload> eventBodyWriter) {
+        MySQLPacketPayload body = new MySQLPacketPayload(Unpooled.buffer());
+        eventBodyWriter.accept(body);
+        MySQLPacketPayload result = new MySQLPacketPayload(Unpooled.buffer());
+        result.writeInt4(0);
+        result.writeInt1(eventType.getValue());
+        result.writeInt4(1);
+        result.writeInt4(19 + body.getByteBuf().readableBytes());
+        result.writeInt4(0);
+        result.writeInt2(0);
+        result.getByteBuf().writeBytes(body.getByteBuf());
+        return result.getByteBuf();
+    }
+    
+    private void writeTableMapEventBody(final MySQLPacketPayload payload) {
+        writeTableId(payload);
+        payload.writeInt2(0);
+        writeName(payload, "benchmark_db");
+        writeName(payload, "t_order");
+        payload.writeIntLenenc(COLUMN_TYPES.length);
+        for (MySQLBinaryColumnType each : COLUMN_TYPES) {
+            payload.writeInt1(each.getValue());
+        }
+        payload.writeIntLenenc(5);
+        payload.writeInt2(VARCHAR_META);
+        payload.writeInt1(8);
+        payload.writeInt1(0);
+        payload.writeInt1(2);
+        payload.writeBytes(new byte[getBitmapLength()]);
+    }
+    
+    private void writeTableId(final MySQLPacketPayload payload) {
+        payload.writeInt4(TABLE_ID);
+        payload.writeInt2(0);
+    }
+    
+    private void writeName(final MySQLPacketPayload payload, final String name) {
+        payload.writeInt1(name.length());
+        payload.writeStringFix(name);
+        payload.writeInt1(0);
+    }
+    
+    private void writeRowsEventBody(final MySQLPacketPayload payload, final int firstId) {
+        writeTableId(payload);
+        payload.writeInt2(0);
+        payload.writeInt2(2);
+        payload.writeIntLenenc(COLUMN_TYPES.length);
+        byte[] allColumnsPresent = new byte[getBitmapLength()];
+        Arrays.fill(allColumnsPresent, (byte) 0xff);
+        payload.writeBytes(allColumnsPresent);
+        boolean update = MySQLBinlogEventType.UPDATE_ROWS_EVENTv2 == eventType;
+        if (update) {
+            payload.writeBytes(allColumnsPresent);
+        }
+        for (int i = 0; i < ROWS_PER_EVENT; i++) {
+            writeRow(payload, firstId + i, 0);
+            if (update) {
+                writeRow(payload, firstId + i, 1);
+            }
+        }
+    }
+    
+    private void writeRow(final MySQLPacketPayload payload, final long id, final int status) {
+        payload.writeBytes(new byte[getBitmapLength()]);
+        payload.writeInt8(id);
+        payload.writeInt4(status);
+        byte[] name = ("user_" + id).getBytes(StandardCharsets.UTF_8);
+        payload.writeInt2(name.length);
+        payload.writeBytes(name);
+        payload.getByteBuf().writeDoubleLE(id * 1.5D);
+        writeDatetime2(payload, 2021, 6, 1, 12, 30, 45);
+        payload.writeInt2(TEXT.length);
+        payload.writeBytes(TEXT);
+    }
+    
+    private void writeDatetime2(final MySQLPacketPayload payload, final int year, final int month, final int day, final int hour, final int minute, final int second) {
+        long date = (long) (year * 13 + month) << 5 | day;
+        long time = hour << 12 | minute << 6 | second;
+        long value = 0x8000000000L | date << 17 | time;
+        for (int i = 4; i >= 0; i--) {
+            payload.writeInt1((int) (value >> (8 * i)) & 0xff);
+        }
+    }
+    
+    private int getBitmapLength() {
+        return (COLUMN_TYPES.length + 7) / 8;
+    }
+    
+    private static byte[] createText(final int length) {
+        byte[] result = new byte[length];
+        Arrays.fill(result, (byte) 'x');
+        return result;
+    }
+}
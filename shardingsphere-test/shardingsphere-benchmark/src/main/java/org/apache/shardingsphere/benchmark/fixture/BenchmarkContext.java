@@ -0,0 +1,273 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.benchmark.fixture;
+
+import com.google.common.io.ByteStreams;
+import lombok.Getter;
+import lombok.SneakyThrows;
+import org.apache.shardingsphere.driver.api.ShardingSphereDataSourceFactory;
+import org.apache.shardingsphere.driver.jdbc.core.datasource.ShardingSphereDataSource;
+import org.apache.shardingsphere.infra.binder.LogicSQL;
+import org.apache.shardingsphere.infra.binder.SQLStatementContextFactory;
+import org.apache.shardingsphere.infra.binder.statement.SQLStatementContext;
+import org.apache.shardingsphere.infra.config.properties.ConfigurationProperties;
+import org.apache.shardingsphere.infra.context.metadata.MetaDataContexts;
+import org.apache.shardingsphere.infra.database.DefaultSchema;
+import org.apache.shardingsphere.infra.database.type.DatabaseTypeRegistry;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.impl.raw.metadata.RawQueryResultColumnMetaData;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.impl.raw.metadata.RawQueryResultMetaData;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.type.memory.row.MemoryQueryResultDataRow;
+import org.apache.shardingsphere.infra.merge.MergeEngine;
+import org.apache.shardingsphere.infra.metadata.ShardingSphereMetaData;
+import org.apache.shardingsphere.infra.parser.ShardingSphereSQLParserEngine;
+import org.apache.shardingsphere.infra.rewrite.SQLRewriteEntry;
+import org.apache.shardingsphere.infra.rewrite.engine.result.RouteSQLRewriteResult;
+import org.apache.shardingsphere.infra.rewrite.engine.result.SQLRewriteResult;
+import org.apache.shardingsphere.infra.rewrite.engine.result.SQLRewriteUnit;
+import org.apache.shardingsphere.infra.route.context.RouteContext;
+import org.apache.shardingsphere.infra.route.context.RouteUnit;
+import org.apache.shardingsphere.infra.route.engine.SQLRouteEngine;
+import org.apache.shardingsphere.infra.rule.ShardingSphereRule;
+import org.apache.shardingsphere.infra.yaml.config.YamlRootRuleConfigurations;
+import org.apache.shardingsphere.infra.yaml.engine.YamlEngine;
+import org.apache.shardingsphere.infra.yaml.swapper.YamlDataSourceConfigurationSwapper;
+import org.apache.shardingsphere.infra.yaml.swapper.YamlRuleConfigurationSwapperEngine;
+
+import javax.sql.DataSource;
+import java.io.IOException;
+import java.io.InputStream;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+
+/**
+ * Benchmark context, which holds sharding rules, fixture meta data and H2 data sources shared by all benchmarks.
+ */
+@Getter
+public final class BenchmarkContext {
+    
+    private static final String CONFIG_FILE = "/benchmark-sharding.yaml";
+    
+    private static final int ORDER_COUNT = 2000;
+    
+    private static final int USER_COUNT = 100;
+    
+    private static volatile BenchmarkContext instance;
+    
+    private final MetaDataContexts metaDataContexts;
+    
+    private final ShardingSphereMetaData metaData;
+    
+    private final Collection<ShardingSphereRule> rules;
+    
+    private final ConfigurationProperties props;
+    
+    private final ShardingSphereSQLParserEngine sqlParserEngine;
+    
+    private BenchmarkContext() throws Exception {
+        YamlRootRuleConfigurations configurations = YamlEngine.unmarshal(loadConfiguration(), YamlRootRuleConfigurations.class);
+        Map<String, DataSource> dataSourceMap = new YamlDataSourceConfigurationSwapper().swapToDataSources(configurations.getDataSources());
+        for (Entry<String, DataSource> entry : dataSourceMap.entrySet()) {
+            initData(entry.getValue(), Integer.parseInt(entry.getKey().substring(entry.getKey().lastIndexOf('_') + 1)));
+        }
+        DataSource dataSource = ShardingSphereDataSourceFactory.createDataSource(
+                dataSourceMap, new YamlRuleConfigurationSwapperEngine().swapToRuleConfigurations(configurations.getRules()), configurations.getProps());
+        metaDataContexts = ((ShardingSphereDataSource) dataSource).getMetaDataContexts();
+        metaData = metaDataContexts.getDefaultMetaData();
+        rules = metaData.getRuleMetaData().getRules();
+        props = metaDataContexts.getProps();
+        sqlParserEngine = new ShardingSphereSQLParserEngine(DatabaseTypeRegistry.getTrunkDatabaseTypeName(metaData.getResource().getDatabaseType()));
+    }
+    
+    private static byte[] loadConfiguration() throws IOException {
+        try (InputStream inputStream = BenchmarkContext.class.getResourceAsStream(CONFIG_FILE)) {
+            return ByteStreams.toByteArray(inputStream);
+        }
+    }
+    
+    /**
+     * Get benchmark context.
+     *
+     * @return benchmark context
+     */
+    @SneakyThrows(Exception.class)
+    public static BenchmarkContext getInstance() {
+        if (null == instance) {
+            synchronized (BenchmarkContext.class) {
+                if (null == instance) {
+                    instance = new BenchmarkContext();
+                }
+            }
+        }
+        return instance;
+    }
+    
+    private void initData(final DataSource dataSource, final int dataSourceIndex) throws SQLException {
+        try (Connection connection = dataSource.getConnection(); Statement statement = connection.createStatement()) {
+            for (int i = 0; i < 4; i++) {
+                statement.execute(String.format("CREATE TABLE IF NOT EXISTS t_order_%d (order_id INT PRIMARY KEY, user_id INT NOT NULL, status VARCHAR(45), amount DECIMAL(10, 2))", i));
+                statement.execute(String.format("CREATE TABLE IF NOT EXISTS t_order_item_%d (item_id INT PRIMARY KEY, order_id INT NOT NULL, user_id INT NOT NULL, status VARCHAR(45))", i));
+                statement.execute(String.format("TRUNCATE TABLE t_order_%d", i));
+                statement.execute(String.format("TRUNCATE TABLE t_order_item_%d", i));
+            }
+            for (int i = 0; i < 2; i++) {
+                statement.execute(String.format("CREATE TABLE IF NOT EXISTS t_user_%d (user_id INT NOT NULL, region_id INT NOT NULL, user_name VARCHAR(45), PRIMARY KEY (user_id, region_id))", i));
+                statement.execute(String.format("TRUNCATE TABLE t_user_%d", i));
+            }
+            statement.execute("CREATE TABLE IF NOT EXISTS t_config (config_key VARCHAR(45) PRIMARY KEY, config_value VARCHAR(45))");
+            statement.execute("TRUNCATE TABLE t_config");
+            for (int i = 0; i < 10; i++) {
+                statement.execute(String.format("INSERT INTO t_config VALUES ('key_%d', 'value_%d')", i, i));
+            }
+            insertOrders(connection, dataSourceIndex);
+        }
+    }
+    
+    private void insertOrders(final Connection connection, final int dataSourceIndex) throws SQLException {
+        for (int orderId = 0; orderId < ORDER_COUNT; orderId++) {
+            int userId = orderId % USER_COUNT;
+            if (userId % 2 != dataSourceIndex) {
+                continue;
+            }
+            int tableIndex = orderId % 4;
+            try (
+                    PreparedStatement orderStatement = connection.prepareStatement(String.format("INSERT INTO t_order_%d VALUES (?, ?, ?, ?)", tableIndex));
+                    PreparedStatement itemStatement = connection.prepareStatement(String.format("INSERT INTO t_order_item_%d VALUES (?, ?, ?, ?)", tableIndex))) {
+                orderStatement.setInt(1, orderId);
+                orderStatement.setInt(2, userId);
+                orderStatement.setString(3, "OK");
+                orderStatement.setInt(4, orderId % 50);
+                orderStatement.executeUpdate();
+                itemStatement.setInt(1, orderId);
+                itemStatement.setInt(2, orderId);
+                itemStatement.setInt(3, userId);
+                itemStatement.setString(4, "OK");
+                itemStatement.executeUpdate();
+            }
+        }
+    }
+    
+    /**
+     * Create logic SQL.
+     *
+     * @param sql benchmark SQL
+     * @return logic SQL
+     */
+    public LogicSQL createLogicSQL(final BenchmarkSQL sql) {
+        return new LogicSQL(createSQLStatementContext(sql), sql.getSql(), sql.getParameters());
+    }
+    
+    /**
+     * Create SQL statement context.
+     *
+     * @param sql benchmark SQL
+     * @return SQL statement context
+     */
+    public SQLStatementContext<?> createSQLStatementContext(final BenchmarkSQL sql) {
+        return SQLStatementContextFactory.newInstance(
+                metaDataContexts.getMetaDataMap(), sql.getParameters(), sqlParserEngine.parse(sql.getSql(), false), DefaultSchema.LOGIC_NAME);
+    }
+    
+    /**
+     * Route logic SQL.
+     *
+     * @param logicSQL logic SQL
+     * @return route context
+     */
+    public RouteContext route(final LogicSQL logicSQL) {
+        return new SQLRouteEngine(rules, props).route(logicSQL, metaData);
+    }
+    
+    /**
+     * Rewrite logic SQL.
+     *
+     * @param logicSQL logic SQL
+     * @param routeContext route context
+     * @return SQL rewrite result
+     */
+    public SQLRewriteResult rewrite(final LogicSQL logicSQL, final RouteContext routeContext) {
+        return new SQLRewriteEntry(metaData.getSchema(), props, rules).rewrite(logicSQL.getSql(), logicSQL.getParameters(), logicSQL.getSqlStatementContext(), routeContext);
+    }
+    
+    /**
+     * Create merge engine.
+     *
+     * @return merge engine
+     */
+    public MergeEngine createMergeEngine() {
+        return new MergeEngine(metaData.getResource().getDatabaseType(), metaData.getSchema(), props, rules);
+    }
+    
+    /**
+     * Execute query on H2 for each routed unit and load results into memory, so that they can be replayed for merging.
+     *
+     * @param logicSQL logic SQL
+     * @return query result snapshots
+     * @throws SQLException SQL exception
+     */
+    public List<QueryResultSnapshot> executeQuery(final LogicSQL logicSQL) throws SQLException {
+        RouteContext routeContext = route(logicSQL);
+        SQLRewriteResult rewriteResult = rewrite(logicSQL, routeContext);
+        if (!(rewriteResult instanceof RouteSQLRewriteResult)) {
+            return Collections.emptyList();
+        }
+        List<QueryResultSnapshot> result = new ArrayList<>();
+        for (Entry<RouteUnit, SQLRewriteUnit> entry : ((RouteSQLRewriteResult) rewriteResult).getSqlRewriteUnits().entrySet()) {
+            DataSource dataSource = metaData.getResource().getDataSources().get(entry.getKey().getDataSourceMapper().getActualName());
+            result.add(executeQuery(dataSource, entry.getValue()));
+        }
+        return result;
+    }
+    
+    private QueryResultSnapshot executeQuery(final DataSource dataSource, final SQLRewriteUnit sqlRewriteUnit) throws SQLException {
+        try (
+                Connection connection = dataSource.getConnection();
+                PreparedStatement preparedStatement = connection.prepareStatement(sqlRewriteUnit.getSql())) {
+            int index = 1;
+            for (Object each : sqlRewriteUnit.getParameters()) {
+                preparedStatement.setObject(index++, each);
+            }
+            try (ResultSet resultSet = preparedStatement.executeQuery()) {
+                ResultSetMetaData resultSetMetaData = resultSet.getMetaData();
+                List<RawQueryResultColumnMetaData> columns = new ArrayList<>(resultSetMetaData.getColumnCount());
+                for (int i = 1; i <= resultSetMetaData.getColumnCount(); i++) {
+                    columns.add(new RawQueryResultColumnMetaData(resultSetMetaData.getTableName(i), resultSetMetaData.getColumnName(i), resultSetMetaData.getColumnLabel(i),
+                            resultSetMetaData.getColumnType(i), resultSetMetaData.getColumnTypeName(i), resultSetMetaData.getColumnDisplaySize(i), resultSetMetaData.getScale(i)));
+                }
+                List<MemoryQueryResultDataRow> rows = new ArrayList<>();
+                while (resultSet.next()) {
+                    List<Object> values = new ArrayList<>(columns.size());
+                    for (int i = 1; i <= columns.size(); i++) {
+                        values.add(resultSet.getObject(i));
+                    }
+                    rows.add(new MemoryQueryResultDataRow(values));
+                }
+                return new QueryResultSnapshot(new RawQueryResultMetaData(columns), rows);
+            }
+        }
+    }
+}
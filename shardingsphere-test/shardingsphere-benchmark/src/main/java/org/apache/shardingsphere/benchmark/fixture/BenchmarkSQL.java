@@ -0,0 +1,55 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.benchmark.fixture;
+
+import lombok.Getter;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Benchmark SQL.
+ */
+@Getter
+public enum BenchmarkSQL {
+    
+    STANDARD_ROUTE("SELECT order_id, user_id, status FROM t_order WHERE user_id = ? AND order_id = ?", 1, 1),
+    
+    COMPLEX_ROUTE("SELECT user_id, region_id, user_name FROM t_user WHERE user_id = ? AND region_id = ?", 1, 2),
+    
+    BROADCAST_ROUTE("SELECT config_key, config_value FROM t_config WHERE config_key = ?", "key_1"),
+    
+    BINDING_ROUTE("SELECT o.order_id, i.item_id FROM t_order o JOIN t_order_item i ON o.order_id = i.order_id WHERE o.user_id = ? AND o.order_id = ?", 1, 1),
+    
+    ORDER_BY("SELECT order_id, user_id, status FROM t_order WHERE status = ? ORDER BY order_id DESC", "OK"),
+    
+    GROUP_BY("SELECT user_id, COUNT(order_id) AS order_count, SUM(amount) AS total_amount FROM t_order GROUP BY user_id ORDER BY user_id"),
+    
+    PAGINATION("SELECT order_id, user_id, status FROM t_order WHERE status = ? ORDER BY order_id LIMIT ? OFFSET ?", "OK", 20, 100),
+    
+    INSERT("INSERT INTO t_order (order_id, user_id, status, amount) VALUES (?, ?, ?, ?)", 1, 1, "OK", 10);
+    
+    private final String sql;
+    
+    private final List<Object> parameters;
+    
+    BenchmarkSQL(final String sql, final Object... parameters) {
+        this.sql = sql;
+        this.parameters = Arrays.asList(parameters);
+    }
+}
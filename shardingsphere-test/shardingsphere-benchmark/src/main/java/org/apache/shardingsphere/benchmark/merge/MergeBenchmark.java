@@ -0,0 +1,116 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.benchmark.merge;
+
+import lombok.Getter;
+import org.apache.shardingsphere.benchmark.fixture.BenchmarkContext;
+import org.apache.shardingsphere.benchmark.fixture.BenchmarkSQL;
+import org.apache.shardingsphere.benchmark.fixture.QueryResultSnapshot;
+import org.apache.shardingsphere.infra.binder.LogicSQL;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.QueryResult;
+import org.apache.shardingsphere.infra.merge.MergeEngine;
+import org.apache.shardingsphere.infra.merge.result.MergedResult;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark for merging order by, group by and pagination query results from H2 shards.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class MergeBenchmark {
+    
+    @Param({"ORDER_BY", "GROUP_BY", "PAGINATION"})
+    private BenchmarkSQL sql;
+    
+    private LogicSQL logicSQL;
+    
+    private MergeEngine mergeEngine;
+    
+    private List<QueryResultSnapshot> snapshots;
+    
+    private int columnCount;
+    
+    /**
+     * Set up query results of actual data sources.
+     *
+     * @throws SQLException SQL exception
+     */
+    @Setup
+    public void setUp() throws SQLException {
+        BenchmarkContext context = BenchmarkContext.getInstance();
+        logicSQL = context.createLogicSQL(sql);
+        mergeEngine = context.createMergeEngine();
+        snapshots = context.executeQuery(logicSQL);
+        columnCount = snapshots.get(0).getMetaData().getColumnCount();
+    }
+    
+    /**
+     * Merge query results.
+     *
+     * @param queryResults query results
+     * @param blackhole blackhole
+     * @throws SQLException SQL exception
+     */
+    @Benchmark
+    public void merge(final QueryResults queryResults, final Blackhole blackhole) throws SQLException {
+        MergedResult mergedResult = mergeEngine.merge(queryResults.getQueryResults(), logicSQL.getSqlStatementContext());
+        while (mergedResult.next()) {
+            for (int i = 1; i <= columnCount; i++) {
+                blackhole.consume(mergedResult.getValue(i, Object.class));
+            }
+        }
+    }
+    
+    /**
+     * Query results, which are recreated before each invocation because merged results can be iterated only once.
+     */
+    @State(Scope.Thread)
+    @Getter
+    public static class QueryResults {
+        
+        private List<QueryResult> queryResults;
+        
+        /**
+         * Reset query results.
+         *
+         * @param benchmark merge benchmark
+         */
+        @Setup(Level.Invocation)
+        public void reset(final MergeBenchmark benchmark) {
+            queryResults = new ArrayList<>(benchmark.snapshots.size());
+            for (QueryResultSnapshot each : benchmark.snapshots) {
+                queryResults.add(each.createQueryResult());
+            }
+        }
+    }
+}